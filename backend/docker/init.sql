@@ -3,6 +3,9 @@
 -- File Extension Blocker - 파일 확장자 차단 시스템
 -- ============================================
 
+-- 파일명 검색용 trigram 인덱스 (uploaded_file.original_name)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 -- =========================================================
 -- 1. Space (공간)
 -- =========================================================
@@ -74,13 +77,16 @@ CREATE INDEX idx_blocked_extension_fixed ON blocked_extension(space_id, is_fixed
 CREATE INDEX idx_blocked_extension_extension ON blocked_extension(extension) WHERE is_deleted = false;
 
 -- =========================================================
--- 4. Uploaded_File (업로드된 파일)
+-- 4. Uploaded_File (업로드된 파일) - created_at 월 단위 RANGE 파티션
 -- =========================================================
+-- PK / UNIQUE 는 파티션 키(created_at)를 포함해야 한다.
+-- 월 파티션(uploaded_file_yYYYYmMM)은 애플리케이션(UploadedFilePartitionService)이
+-- 기동 시/매일 앞 달까지 미리 만들고, 보존 기간이 지난 달은 DROP 한다.
 CREATE TABLE uploaded_file (
-  file_id        BIGSERIAL PRIMARY KEY,
+  file_id        BIGSERIAL,
   space_id       BIGINT NOT NULL REFERENCES space(space_id) ON DELETE CASCADE,
   original_name  VARCHAR(255) NOT NULL,
-  stored_name    VARCHAR(255) NOT NULL UNIQUE,
+  stored_name    VARCHAR(255) NOT NULL,
   extension      VARCHAR(20) NOT NULL,
   file_size      BIGINT NOT NULL CHECK (file_size >= 0),
   mime_type      VARCHAR(100),
@@ -89,8 +95,27 @@ CREATE TABLE uploaded_file (
   updated_at     TIMESTAMPTZ NOT NULL DEFAULT now(),
   created_by     BIGINT NOT NULL REFERENCES member(member_id),
   updated_by     BIGINT NOT NULL REFERENCES member(member_id),
-  is_deleted     BOOLEAN NOT NULL DEFAULT false
-);
+  is_deleted     BOOLEAN NOT NULL DEFAULT false,
+  PRIMARY KEY (file_id, created_at),
+  CONSTRAINT uq_uploaded_file_stored_name UNIQUE (stored_name, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 월 파티션 범위 밖 행 (파티션 생성 전 업로드 대비)
+CREATE TABLE uploaded_file_default PARTITION OF uploaded_file DEFAULT;
+
+-- 이번 달 ~ 3개월 뒤 파티션
+DO $$
+DECLARE
+  month_start DATE := date_trunc('month', now())::date;
+BEGIN
+  FOR i IN 0..3 LOOP
+    EXECUTE format(
+      'CREATE TABLE uploaded_file_%s PARTITION OF uploaded_file FOR VALUES FROM (%L) TO (%L)',
+      to_char(month_start + make_interval(months => i), '"y"YYYY"m"MM'),
+      month_start + make_interval(months => i),
+      month_start + make_interval(months => i + 1));
+  END LOOP;
+END $$;
 
 COMMENT ON TABLE uploaded_file IS '업로드된 파일 메타데이터';
 COMMENT ON COLUMN uploaded_file.original_name IS '사용자가 업로드한 원본 파일명';
@@ -99,10 +124,51 @@ COMMENT ON COLUMN uploaded_file.extension IS '파일 확장자 (점 제외, 소
 COMMENT ON COLUMN uploaded_file.mime_type IS 'Apache Tika가 감지한 MIME Type';
 COMMENT ON COLUMN uploaded_file.file_path IS '로컬 파일 시스템 저장 경로';
 
--- 인덱스
-CREATE INDEX idx_uploaded_file_space ON uploaded_file(space_id) WHERE is_deleted = false;
+-- 인덱스 (부모에 만들면 모든 파티션에 자동 생성)
+CREATE INDEX idx_uploaded_file_space ON uploaded_file(space_id, created_at DESC) WHERE is_deleted = false;
 CREATE INDEX idx_uploaded_file_uploader ON uploaded_file(created_by) WHERE is_deleted = false;
 CREATE INDEX idx_uploaded_file_extension ON uploaded_file(extension) WHERE is_deleted = false;
+-- 파일명 부분/접두 일치 검색 (lower(original_name) LIKE '%...%', pg_trgm)
+CREATE INDEX idx_uploaded_file_name_trgm ON uploaded_file USING gin (lower(original_name) gin_trgm_ops) WHERE is_deleted = false;
+-- 삭제 데이터 정리 (is_deleted = true AND updated_at < ?, 위 인덱스는 모두 is_deleted = false 대상)
+CREATE INDEX idx_uploaded_file_purge ON uploaded_file(updated_at) WHERE is_deleted = true;
+
+-- =========================================================
+-- 4-1. Extension_Popularity (전역 확장자 인기도 카운터)
+-- =========================================================
+CREATE TABLE extension_popularity (
+  extension      VARCHAR(20) PRIMARY KEY,
+  usage_count    BIGINT NOT NULL DEFAULT 0 CHECK (usage_count >= 0),
+  updated_at     TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+COMMENT ON TABLE extension_popularity IS '활성화된 커스텀 확장자의 전역 사용 빈도 (Top-N 추천용)';
+COMMENT ON COLUMN extension_popularity.usage_count IS '해당 확장자를 커스텀으로 차단 중인 공간 수 (추가 시 +1, 삭제 시 -1)';
+
+CREATE INDEX idx_extension_popularity_count ON extension_popularity(usage_count DESC);
+
+-- =========================================================
+-- 4-2. Audit_Log (감사 로그, 추가 전용)
+-- =========================================================
+CREATE TABLE audit_log (
+  audit_id       BIGSERIAL PRIMARY KEY,
+  occurred_at    TIMESTAMP NOT NULL,
+  space_id       BIGINT,
+  action         VARCHAR(30) NOT NULL,
+  actor_id       BIGINT,
+  target         VARCHAR(255),
+  reason         VARCHAR(40),
+  detail         VARCHAR(500)
+);
+
+COMMENT ON TABLE audit_log IS '업로드/거부, 확장자 변경, 공간 생성 이력 (수정/삭제 없음, 백그라운드 배치 INSERT)';
+COMMENT ON COLUMN audit_log.action IS 'FILE_UPLOADED, FILE_REJECTED, EXTENSION_ADDED, EXTENSION_REMOVED, EXTENSION_TOGGLED, EXTENSIONS_IMPORTED, SPACE_CREATED';
+COMMENT ON COLUMN audit_log.target IS '파일명 / 확장자 / 공간명';
+COMMENT ON COLUMN audit_log.reason IS '업로드 거부 사유 (blocked_extension, zip_bomb 등)';
+
+-- 공간 삭제 후에도 이력은 남기므로 space(space_id) FK 없음
+CREATE INDEX idx_audit_log_occurred_at ON audit_log(occurred_at);
+CREATE INDEX idx_audit_log_space_occurred ON audit_log(space_id, occurred_at);
 
 -- =========================================================
 -- 5. 확장자 정규화 함수
@@ -217,6 +283,22 @@ SELECT setval('space_space_id_seq', (SELECT MAX(space_id) FROM space));
 SELECT setval('member_member_id_seq', (SELECT MAX(member_id) FROM member));
 SELECT setval('blocked_extension_blocked_id_seq', (SELECT MAX(blocked_id) FROM blocked_extension));
 
+-- JPA pooled 시퀀스 할당 (allocationSize = 50) 과 증가폭 일치
+-- Hibernate는 nextval 1회로 ID 50개를 메모리에서 할당하므로 INSERT 배치가 가능해진다.
+-- 컬럼 DEFAULT nextval() 은 그대로 유지되어 SQL 직접 INSERT 와 충돌하지 않는다.
+ALTER SEQUENCE space_space_id_seq INCREMENT BY 50;
+ALTER SEQUENCE member_member_id_seq INCREMENT BY 50;
+ALTER SEQUENCE blocked_extension_blocked_id_seq INCREMENT BY 50;
+ALTER SEQUENCE uploaded_file_file_id_seq INCREMENT BY 50;
+ALTER SEQUENCE audit_log_audit_id_seq INCREMENT BY 50;
+
+-- 인기도 카운터 초기 집계 (활성화된 커스텀 확장자 기준)
+INSERT INTO extension_popularity (extension, usage_count)
+SELECT extension, COUNT(*)
+FROM blocked_extension
+WHERE is_fixed = false AND is_deleted = false
+GROUP BY extension;
+
 -- =========================================================
 -- 12. 초기 데이터 확인용 조회
 -- =========================================================
@@ -0,0 +1,175 @@
+package com.flow.jmh;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.util.FileSize;
+import com.woo.core.logging.loggingInterceptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * 요청당 접근 로그 비용 비교 (기존 System.out 출력 vs 구조화 JSON + AsyncAppender)
+ *
+ * <p>4개 스레드가 동시에 preHandle → afterCompletion 을 호출한다.
+ * *Contended 는 같은 작업을 8개 스레드로 호출한다. (PrintStream 잠금 / AsyncAppender 큐 경합 비교)
+ * legacy 는 기존 loggingInterceptor 와 같은 문자열을 autoflush PrintStream(파일)에 쓰고,
+ * structured 는 logback-spring.xml 의 ACCESS_LOG 설정(AsyncAppender → 64KB 버퍼 파일)을 그대로 구성한다.
+ * sampleRate 는 성공 요청 샘플링 비율 (access-log.success-sample-rate).
+ *
+ * <p>실행: {@code gradle jmhJar} 후
+ * {@code java -jar build/libs/*-jmh.jar AccessLogBenchmark -f 1 -wi 2 -i 3}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class AccessLogBenchmark {
+
+  private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  @Param({"1.0", "0.1"})
+  private double sampleRate;
+
+  private Path dir;
+  private PrintStream legacyOut;
+  private AsyncAppender asyncAppender;
+  private loggingInterceptor interceptor;
+  private HandlerMethod handler;
+
+  @Setup
+  public void setUp() throws Exception {
+    dir = Files.createTempDirectory("access-log-bench");
+    legacyOut = new PrintStream(new FileOutputStream(dir.resolve("legacy.log").toFile()), true);
+
+    LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    context.reset();
+    context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).setLevel(Level.WARN);
+
+    PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+    encoder.setContext(context);
+    encoder.setPattern("%msg%n");
+    encoder.start();
+    FileAppender<ILoggingEvent> file = new FileAppender<>();
+    file.setContext(context);
+    file.setFile(dir.resolve("access.log").toString());
+    file.setImmediateFlush(false);
+    file.setBufferSize(new FileSize(64 * 1024));
+    file.setEncoder(encoder);
+    file.start();
+    asyncAppender = new AsyncAppender();
+    asyncAppender.setContext(context);
+    asyncAppender.setQueueSize(8192);
+    asyncAppender.setDiscardingThreshold(0);
+    asyncAppender.setNeverBlock(true);
+    asyncAppender.addAppender(file);
+    asyncAppender.start();
+    Logger accessLog = context.getLogger("ACCESS_LOG");
+    accessLog.setLevel(Level.INFO);
+    accessLog.setAdditive(false);
+    accessLog.addAppender(asyncAppender);
+
+    interceptor = new loggingInterceptor();
+    ReflectionTestUtils.setField(interceptor, "successSampleRate", sampleRate);
+    ReflectionTestUtils.setField(interceptor, "slowThresholdMs", 1000L);
+    handler = new HandlerMethod(new SampleController(), "getFiles");
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    asyncAppender.stop();
+    legacyOut.close();
+    try (var files = Files.list(dir)) {
+      for (Path path : (Iterable<Path>) files::iterator) {
+        Files.delete(path);
+      }
+    }
+    Files.delete(dir);
+  }
+
+  /** 스레드별 요청/응답 (요청마다 새로 만들지 않고 속성만 초기화) */
+  @State(Scope.Thread)
+  public static class Exchange {
+
+    MockHttpServletRequest request;
+    MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+      request = new MockHttpServletRequest("GET", "/api/uploaded-files/list");
+      request.setQueryString("spaceId=1&page=0&size=20");
+      request.addHeader("User-Agent", "Mozilla/5.0 (X11; Linux x86_64)");
+      response = new MockHttpServletResponse();
+      response.setStatus(200);
+    }
+  }
+
+  @Benchmark
+  public void legacySystemOut(Exchange exchange) {
+    MockHttpServletRequest request = exchange.request;
+    request.setAttribute("startTime", System.currentTimeMillis());
+    legacyAfterCompletion(request, exchange.response);
+  }
+
+  @Benchmark
+  public void structuredAsync(Exchange exchange) {
+    MockHttpServletRequest request = exchange.request;
+    request.clearAttributes();
+    interceptor.preHandle(request, exchange.response, handler);
+    interceptor.afterCompletion(request, exchange.response, handler, null);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void legacySystemOutContended(Exchange exchange) {
+    legacySystemOut(exchange);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void structuredAsyncContended(Exchange exchange) {
+    structuredAsync(exchange);
+  }
+
+  /** 기존 loggingInterceptor.afterCompletion 과 같은 출력 */
+  private void legacyAfterCompletion(MockHttpServletRequest request, MockHttpServletResponse response) {
+    long duration = System.currentTimeMillis() - (Long) request.getAttribute("startTime");
+    String time = LocalDateTime.now().format(FORMATTER);
+    String query = request.getQueryString() != null ? "?" + request.getQueryString() : "";
+    String controllerInfo = handler.getBeanType().getSimpleName() + "#" + handler.getMethod().getName();
+    legacyOut.println("[" + time + "] [API 호출] " + request.getMethod() + " " + request.getRequestURI() + query
+        + " (처리시간: " + duration + "ms" + ", 상태코드: " + response.getStatus()
+        + ", 컨트롤러: " + controllerInfo + ", User-Agent: " + request.getHeader("User-Agent") + ")");
+  }
+
+  static class SampleController {
+
+    public void getFiles() {
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.flow.jmh;
+
+import com.flow.util.fileDefence.ZipValidator;
+import com.flow.util.fileDefence.corpus.ArchiveCorpus;
+import com.flow.util.fileDefence.corpus.ArchiveCorpus.Summary;
+import com.flow.util.fileDefence.corpus.CorpusCase;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+import org.apache.tika.Tika;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * 압축 파일 검사 처리량 (ZipValidator, 적대적 코퍼스 ArchiveCorpus)
+ *
+ * <p>scan 은 통과하는 케이스의 검사 처리량이며, 보조 카운터로 초당 엔트리 수(entries)와
+ * 초당 압축 해제 바이트(inflatedBytes)를 함께 보고한다. (가장 바깥 압축 파일 기준)
+ * reject 는 차단되는 케이스(폭탄, 개수 초과, 암호화)가 차단될 때까지 걸리는 시간이다.
+ * 폭탄 케이스의 시간 예산 검증은 ArchiveCorpusTests 에서 한다.
+ *
+ * <p>실행: {@code gradle jmhJar} 후
+ * {@code java -jar build/libs/*-jmh.jar ArchiveScanBenchmark -prof gc -f 1 -wi 2 -i 3}
+ */
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ArchiveScanBenchmark {
+
+  /** 통과하는 케이스 */
+  @State(Scope.Benchmark)
+  public static class PassArchive {
+
+    @Param({"many-entries", "streamed-entries", "nested", "mixed-formats", "recursive-fanout"})
+    private String name;
+
+    ZipValidator zipValidator;
+    MockMultipartFile upload;
+    Summary summary;
+
+    @Setup
+    public void setUp() throws Exception {
+      FileDefenceFixtures.quietLogging();
+      zipValidator = new ZipValidator(FileDefenceFixtures.policy(7), new Tika());
+      CorpusCase corpusCase = ArchiveCorpus.find(name).orElseThrow();
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      summary = ArchiveCorpus.generate(corpusCase, out);
+      upload = new MockMultipartFile("file", corpusCase.fileName(), "application/octet-stream", out.toByteArray());
+    }
+  }
+
+  /** 차단되는 케이스 */
+  @State(Scope.Benchmark)
+  public static class RejectArchive {
+
+    @Param({"overlap-bomb", "falsified-size", "too-many-entries", "encrypted"})
+    private String name;
+
+    ZipValidator zipValidator;
+    MockMultipartFile upload;
+
+    @Setup
+    public void setUp() throws Exception {
+      FileDefenceFixtures.quietLogging();
+      zipValidator = new ZipValidator(FileDefenceFixtures.policy(7), new Tika());
+      CorpusCase corpusCase = ArchiveCorpus.find(name).orElseThrow();
+      upload = new MockMultipartFile("file", corpusCase.fileName(), "application/octet-stream",
+          ArchiveCorpus.generate(corpusCase));
+    }
+  }
+
+  /** 반복(iteration)마다 초기화되는 보조 카운터 (JMH 가 초당 값으로 보고) */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class ScanCounters {
+
+    public long entries;
+    public long inflatedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      entries = 0;
+      inflatedBytes = 0;
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  public void scan(PassArchive archive, ScanCounters counters) {
+    archive.zipValidator.validateZipFile(archive.upload, 0);
+    counters.entries += archive.summary.entries();
+    counters.inflatedBytes += archive.summary.inflatedBytes();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public Object reject(RejectArchive archive) {
+    try {
+      archive.zipValidator.validateZipFile(archive.upload, 0);
+      throw new IllegalStateException(archive.name + " 가 차단되지 않았습니다.");
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.flow.jmh;
+
+import com.flow.api.domain.BlockedExtension;
+import com.flow.api.domain.UploadedFile;
+import com.flow.api.domain.data.BlockedExtensionDto;
+import com.flow.api.domain.data.UploadedFileDto;
+import com.flow.api.mapper.BlockedExtensionMapper;
+import com.flow.api.mapper.BlockedExtensionMapperImpl;
+import com.flow.api.mapper.UploadedFileMapper;
+import com.flow.api.mapper.UploadedFileMapperImpl;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Entity → DTO 목록 변환 비교 (기존 ModelMapper vs MapStruct 생성 코드)
+ *
+ * <p>ModelMapper 는 기존 ModelMapperConfig 와 같은 설정(STRICT, skipNull)을 사용한다.
+ * 실행: {@code gradle jmh} (결과: build/results/jmh/results.json)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+  @Param({"10", "200", "2000"})
+  private int size;
+
+  private ModelMapper modelMapper;
+  private BlockedExtensionMapper blockedExtensionMapper;
+  private UploadedFileMapper uploadedFileMapper;
+
+  private List<BlockedExtension> extensions;
+  private List<UploadedFile> files;
+
+  @Setup
+  public void setUp() {
+    modelMapper = new ModelMapper();
+    modelMapper.getConfiguration()
+        .setMatchingStrategy(MatchingStrategies.STRICT)
+        .setSkipNullEnabled(true);
+    blockedExtensionMapper = new BlockedExtensionMapperImpl();
+    uploadedFileMapper = new UploadedFileMapperImpl();
+
+    extensions = new ArrayList<>(size);
+    files = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      extensions.add(BlockedExtension.builder()
+          .blockedId((long) i)
+          .spaceId(1L)
+          .extension("ext" + i)
+          .isFixed(i % 2 == 0)
+          .isDeleted(false)
+          .build());
+      files.add(UploadedFile.builder()
+          .fileId((long) i)
+          .spaceId(1L)
+          .originalName("document-" + i + ".txt")
+          .storedName("stored-" + i + ".txt")
+          .extension("txt")
+          .fileSize(1024L)
+          .mimeType("text/plain")
+          .filePath("/uploads/1/stored-" + i + ".txt")
+          .createdAt(LocalDateTime.now())
+          .build());
+    }
+  }
+
+  @Benchmark
+  public List<BlockedExtensionDto> blockedExtensionModelMapper() {
+    List<BlockedExtensionDto> dtos = new ArrayList<>(extensions.size());
+    for (BlockedExtension extension : extensions) {
+      dtos.add(modelMapper.map(extension, BlockedExtensionDto.class));
+    }
+    return dtos;
+  }
+
+  @Benchmark
+  public List<BlockedExtensionDto> blockedExtensionMapStruct() {
+    return blockedExtensionMapper.toDtoList(extensions);
+  }
+
+  @Benchmark
+  public List<UploadedFileDto> uploadedFileModelMapper() {
+    List<UploadedFileDto> dtos = new ArrayList<>(files.size());
+    for (UploadedFile file : files) {
+      dtos.add(modelMapper.map(file, UploadedFileDto.class));
+    }
+    return dtos;
+  }
+
+  @Benchmark
+  public List<UploadedFileDto> uploadedFileMapStruct() {
+    return uploadedFileMapper.toDtoList(files);
+  }
+}
@@ -0,0 +1,83 @@
+package com.flow.jmh;
+
+import com.flow.api.domain.BlockedExtension;
+import com.flow.api.service.BlockedExtensionService;
+import com.flow.api.service.impl.UploadedFileServiceImpl;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 차단 정책 조회 비용 (UploadedFileServiceImpl.isExtensionBlocked)
+ *
+ * <p>BlockedExtensionService 는 메모리 목록을 그대로 돌려주는 스텁으로 대체해 DB / 캐시 비용은 제외하고,
+ * 요청마다 목록을 Set 으로 다시 만드는 비용만 측정한다. setLookup 은 미리 만든 Set 조회(하한 기준)이다.
+ * 정책 크기 7 은 고정 확장자만 있는 기본 공간, 200 / 2,000 은 커스텀 확장자를 많이 등록한 공간이다.
+ *
+ * <p>실행: {@code gradle jmhJar} 후
+ * {@code java -jar build/libs/*-jmh.jar ExtensionPolicyBenchmark -prof gc -f 1 -wi 2 -i 3}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExtensionPolicyBenchmark {
+
+  private static final Long SPACE_ID = 1L;
+
+  @Param({"7", "200", "2000"})
+  private int policySize;
+
+  /** exe: 차단(고정 확장자), TXT: 허용(대소문자 정규화 포함) */
+  @Param({"exe", "TXT"})
+  private String extension;
+
+  private UploadedFileServiceImpl uploadedFileService;
+  private Set<String> policySet;
+
+  @Setup
+  public void setUp() {
+    FileDefenceFixtures.quietLogging();
+    policySet = FileDefenceFixtures.policy(policySize);
+    List<BlockedExtension> policy = new ArrayList<>(policySet.size());
+    for (String blocked : policySet) {
+      policy.add(BlockedExtension.builder()
+          .spaceId(SPACE_ID)
+          .extension(blocked)
+          .isFixed(FileDefenceFixtures.FIXED_EXTENSIONS.contains(blocked))
+          .isDeleted(false)
+          .build());
+    }
+    BlockedExtensionService blockedExtensionService = (BlockedExtensionService) Proxy.newProxyInstance(
+        BlockedExtensionService.class.getClassLoader(),
+        new Class<?>[]{BlockedExtensionService.class},
+        (proxy, method, args) -> {
+          if (method.getName().equals("getBlockedExtensions")) {
+            return policy;
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+    // isExtensionBlocked 는 BlockedExtensionService 만 사용
+    uploadedFileService = new UploadedFileServiceImpl(
+        null, blockedExtensionService, null, null, null, null, null, null);
+  }
+
+  @Benchmark
+  public boolean isExtensionBlocked() {
+    return uploadedFileService.isExtensionBlocked(SPACE_ID, extension);
+  }
+
+  @Benchmark
+  public boolean setLookup() {
+    return policySet.contains(extension.toLowerCase().trim());
+  }
+}
@@ -0,0 +1,51 @@
+package com.flow.jmh;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * 방어 단계 벤치마크 공통 준비 (차단 정책, test-files 업로드 파일)
+ *
+ * <p>정책 크기 7 은 고정 확장자만 있는 기본 공간, 200 / 2,000 은 커스텀 확장자를 많이 등록한 공간이다.
+ */
+final class FileDefenceFixtures {
+
+  /** 공간 생성 시 기본으로 등록되는 고정 확장자 */
+  static final List<String> FIXED_EXTENSIONS = List.of("bat", "cmd", "com", "cpl", "exe", "js", "scr");
+
+  private FileDefenceFixtures() {
+  }
+
+  /** 고정 확장자 + 커스텀 확장자(c0007, c0008, ...) 로 size 개 */
+  static Set<String> policy(int size) {
+    Set<String> extensions = new LinkedHashSet<>(FIXED_EXTENSIONS.subList(0, Math.min(size, FIXED_EXTENSIONS.size())));
+    for (int i = extensions.size(); i < size; i++) {
+      extensions.add(String.format("c%04d", i));
+    }
+    return extensions;
+  }
+
+  /** src/main/resources/test-files 의 파일 (예: 4-archive/normal.zip) */
+  static MockMultipartFile testFile(String path) throws IOException {
+    try (InputStream in = FileDefenceFixtures.class.getResourceAsStream("/test-files/" + path)) {
+      if (in == null) {
+        throw new IllegalArgumentException("test-files 에 없는 파일: " + path);
+      }
+      String name = path.substring(path.lastIndexOf('/') + 1);
+      return new MockMultipartFile("file", name, "application/octet-stream", in.readAllBytes());
+    }
+  }
+
+  /** 검증기의 단계별 INFO/DEBUG 로그가 측정값을 덮지 않도록 WARN 이상만 출력 */
+  static void quietLogging() {
+    LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).setLevel(Level.WARN);
+  }
+}
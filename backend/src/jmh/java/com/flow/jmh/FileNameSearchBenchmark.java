@@ -0,0 +1,144 @@
+package com.flow.jmh;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 파일명 검색 쿼리 비교 (trigram GIN 인덱스 유무, 100만 행)
+ *
+ * <p>Embedded PostgreSQL 에 uploaded_file 과 같은 컬럼/인덱스를 만들고 10개 공간에 100만 행을 적재한 뒤,
+ * UploadedFileRepository.searchByName 과 같은 SQL (페이지 + 개수) 을 실행한다.
+ * 파일명 1000개 중 1개가 "quarterly-report-*" 이므로 검색 결과는 공간당 약 100건이다.
+ *
+ * <p>실행: {@code gradle jmhJar} 후
+ * {@code java -jar build/libs/*-jmh.jar FileNameSearchBenchmark -f 1 -wi 2 -i 3}
+ * (적재 + 인덱스 생성에 설정별 수십 초 소요)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileNameSearchBenchmark {
+
+  private static final int ROWS = 1_000_000;
+  private static final int SPACES = 10;
+  private static final long SPACE_ID = 3L;
+
+  private static final String WHERE = "WHERE space_id = ? AND is_deleted = false AND created_at >= ? "
+      + "AND lower(original_name) LIKE ? "
+      + "AND (CAST(? AS text) IS NULL OR extension = CAST(? AS text)) ";
+
+  private static final String SEARCH = "SELECT * FROM uploaded_file " + WHERE
+      + "ORDER BY lower(original_name) = ? DESC, lower(original_name) LIKE ? DESC, "
+      + "similarity(lower(original_name), ?) DESC, created_at DESC, file_id DESC LIMIT 20";
+
+  private static final String COUNT = "SELECT COUNT(*) FROM uploaded_file " + WHERE;
+
+  /** trigram: idx_uploaded_file_name_trgm 생성 / none: 공간 인덱스만 (기존 상태) */
+  @Param({"trigram", "none"})
+  private String index;
+
+  private EmbeddedPostgres postgres;
+  private Connection connection;
+  private PreparedStatement search;
+  private PreparedStatement count;
+  private Timestamp since;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    postgres = EmbeddedPostgres.builder().start();
+    connection = postgres.getPostgresDatabase().getConnection();
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+      statement.execute("CREATE TABLE uploaded_file ("
+          + "file_id BIGINT PRIMARY KEY, space_id BIGINT NOT NULL, original_name VARCHAR(255) NOT NULL, "
+          + "extension VARCHAR(20) NOT NULL, created_at TIMESTAMP NOT NULL, created_by BIGINT, "
+          + "is_deleted BOOLEAN NOT NULL DEFAULT false)");
+      statement.execute("INSERT INTO uploaded_file "
+          + "SELECT i, i % " + SPACES + ", "
+          + "CASE WHEN i % 1000 = 0 THEN 'Quarterly-Report-' || i ELSE 'file-' || substr(md5(i::text), 1, 12) END "
+          + "|| '.' || (ARRAY['txt', 'pdf', 'png', 'docx'])[i % 4 + 1], "
+          + "(ARRAY['txt', 'pdf', 'png', 'docx'])[i % 4 + 1], "
+          + "now() - make_interval(mins => i), 1, false "
+          + "FROM generate_series(1, " + ROWS + ") AS i");
+      statement.execute("CREATE INDEX idx_uploaded_file_space ON uploaded_file(space_id, created_at DESC) "
+          + "WHERE is_deleted = false");
+      if ("trigram".equals(index)) {
+        statement.execute("CREATE INDEX idx_uploaded_file_name_trgm ON uploaded_file "
+            + "USING gin (lower(original_name) gin_trgm_ops) WHERE is_deleted = false");
+      }
+      statement.execute("VACUUM ANALYZE uploaded_file");
+    }
+    search = connection.prepareStatement(SEARCH);
+    count = connection.prepareStatement(COUNT);
+    since = Timestamp.valueOf(LocalDateTime.now().minusYears(5));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    connection.close();
+    postgres.close();
+  }
+
+  @Benchmark
+  public void containsSearch(Blackhole blackhole) throws SQLException {
+    run("report", "%report%", null, blackhole);
+  }
+
+  @Benchmark
+  public void prefixSearch(Blackhole blackhole) throws SQLException {
+    run("quarterly-report-12", "quarterly-report-12%", null, blackhole);
+  }
+
+  @Benchmark
+  public void containsSearchWithExtension(Blackhole blackhole) throws SQLException {
+    run("report", "%report%", "pdf", blackhole);
+  }
+
+  @Benchmark
+  public void containsSearchNoMatch(Blackhole blackhole) throws SQLException {
+    run("invoice", "%invoice%", null, blackhole);
+  }
+
+  private void run(String term, String pattern, String extension, Blackhole blackhole) throws SQLException {
+    bindWhere(search, pattern, extension);
+    search.setString(6, term);
+    search.setString(7, term + "%");
+    search.setString(8, term);
+    try (ResultSet rs = search.executeQuery()) {
+      while (rs.next()) {
+        blackhole.consume(rs.getString("original_name"));
+      }
+    }
+    bindWhere(count, pattern, extension);
+    try (ResultSet rs = count.executeQuery()) {
+      rs.next();
+      blackhole.consume(rs.getLong(1));
+    }
+  }
+
+  private void bindWhere(PreparedStatement statement, String pattern, String extension) throws SQLException {
+    statement.setLong(1, SPACE_ID);
+    statement.setTimestamp(2, since);
+    statement.setString(3, pattern);
+    statement.setString(4, extension);
+    statement.setString(5, extension);
+  }
+}
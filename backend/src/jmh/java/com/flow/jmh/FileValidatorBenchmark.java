@@ -0,0 +1,65 @@
+package com.flow.jmh;
+
+import com.flow.util.fileDefence.FileValidator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.tika.Tika;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * 업로드 방어 단계 검증기 비용 (FileValidator 1·2단계, ZipValidator 3단계)
+ *
+ * <p>test-files 의 각 파일을 차단 정책 크기(7 / 200 / 2,000 확장자)별로 검증한다.
+ * 차단되는 파일은 예외 생성 비용까지 포함해 측정하며, 통과 / 차단 결과를 반환해 소거를 막는다.
+ * validateZipFile 은 압축 파일(4-archive)에서만 의미가 있으므로 {@link ZipValidatorBenchmark} 에서 측정한다.
+ *
+ * <p>처리량 / 평균 시간을 함께 측정하고, 할당률은 gc 프로파일러(build.gradle 의 jmh.profilers)로 기록된다.
+ * 실행: {@code gradle jmhJar} 후
+ * {@code java -jar build/libs/*-jmh.jar FileValidatorBenchmark -prof gc -f 1 -wi 2 -i 3}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FileValidatorBenchmark {
+
+  @Param({"7", "200", "2000"})
+  private int policySize;
+
+  @Param({
+      "1-normal/document.txt", "1-normal/data.json",
+      "2-blocked-ext/virus.bat", "2-blocked-ext/hack.php", "2-blocked-ext/script.sh",
+      "3-disguised/fake-image.jpg", "3-disguised/fake-image-bat.jpg",
+      "4-archive/normal.zip", "4-archive/nested.zip", "4-archive/malicious.zip", "4-archive/zipbomb.zip"
+  })
+  private String file;
+
+  private FileValidator fileValidator;
+  private MockMultipartFile upload;
+
+  @Setup
+  public void setUp() throws Exception {
+    FileDefenceFixtures.quietLogging();
+    Set<String> policy = FileDefenceFixtures.policy(policySize);
+    // 업로드 경로와 같이 php 는 커스텀 차단 확장자로 등록된 공간을 가정
+    policy.add("php");
+    fileValidator = new FileValidator(policy, new Tika(), 10 * 1024 * 1024);
+    upload = FileDefenceFixtures.testFile(file);
+  }
+
+  @Benchmark
+  public Object validateFile() {
+    try {
+      return fileValidator.validateFile(upload);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+}
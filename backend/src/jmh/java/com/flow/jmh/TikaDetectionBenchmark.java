@@ -0,0 +1,54 @@
+package com.flow.jmh;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.apache.tika.Tika;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * Tika MIME 감지 비용 (2단계 매직 넘버 검증과 같은 호출)
+ *
+ * <p>test-files 의 각 파일을 업로드 경로와 같이 스트림 + 파일명으로 감지한다.
+ * 검증기 전체 비용({@link FileValidatorBenchmark}) 중 Tika 가 차지하는 몫을 확인하는 용도다.
+ *
+ * <p>실행: {@code gradle jmhJar} 후
+ * {@code java -jar build/libs/*-jmh.jar TikaDetectionBenchmark -prof gc -f 1 -wi 2 -i 3}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TikaDetectionBenchmark {
+
+  @Param({
+      "1-normal/document.txt", "1-normal/data.json",
+      "2-blocked-ext/virus.bat", "2-blocked-ext/hack.php", "2-blocked-ext/script.sh",
+      "3-disguised/fake-image.jpg", "3-disguised/fake-image-bat.jpg",
+      "4-archive/normal.zip", "4-archive/nested.zip", "4-archive/malicious.zip", "4-archive/zipbomb.zip"
+  })
+  private String file;
+
+  private Tika tika;
+  private MockMultipartFile upload;
+
+  @Setup
+  public void setUp() throws Exception {
+    tika = new Tika();
+    upload = FileDefenceFixtures.testFile(file);
+  }
+
+  @Benchmark
+  public String detect() throws IOException {
+    try (InputStream inputStream = upload.getInputStream()) {
+      return tika.detect(inputStream, upload.getOriginalFilename());
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.flow.jmh;
+
+import com.flow.util.fileDefence.ZipValidator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.tika.Tika;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * 압축 파일 검증 비용 (ZipValidator 3단계: 포맷 감지, 엔트리 순회, 내부 파일 재검증, Zip Bomb 감지)
+ *
+ * <p>4-archive 의 각 압축 파일을 차단 정책 크기(7 / 200 / 2,000 확장자)별로 검증한다.
+ * malicious.zip 은 내부 bat, zipbomb.zip 은 압축률 초과로 차단되며 예외 생성 비용까지 포함된다.
+ *
+ * <p>실행: {@code gradle jmhJar} 후
+ * {@code java -jar build/libs/*-jmh.jar ZipValidatorBenchmark -prof gc -f 1 -wi 2 -i 3}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ZipValidatorBenchmark {
+
+  @Param({"7", "200", "2000"})
+  private int policySize;
+
+  @Param({"4-archive/normal.zip", "4-archive/nested.zip", "4-archive/malicious.zip", "4-archive/zipbomb.zip"})
+  private String file;
+
+  private ZipValidator zipValidator;
+  private MockMultipartFile upload;
+
+  @Setup
+  public void setUp() throws Exception {
+    FileDefenceFixtures.quietLogging();
+    Set<String> policy = FileDefenceFixtures.policy(policySize);
+    policy.add("php");
+    zipValidator = new ZipValidator(policy, new Tika());
+    upload = FileDefenceFixtures.testFile(file);
+  }
+
+  @Benchmark
+  public Object validateZipFile() {
+    try {
+      zipValidator.validateZipFile(upload, 0);
+      return upload;
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.flow.load;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.hibernate.stat.Statistics;
+
+/**
+ * DB 사용량 스냅샷 (애플리케이션 측 Hibernate 통계 + 서버 측 pg_stat_database)
+ *
+ * <p>두 값의 차이로 구간별 문장 수를 구한다. pg_stat_database 는 트랜잭션 종료 후 지연 반영되므로
+ * 요청이 모두 끝나고 잠시 기다린 뒤 읽어야 한다. (부하 테스트는 단계 사이 정지 구간에서 읽음)
+ */
+record DbCounters(Map<String, Long> values) {
+
+  private static final String PG_STAT = "SELECT xact_commit, xact_rollback, tup_returned, tup_fetched, "
+      + "tup_inserted, tup_updated, tup_deleted FROM pg_stat_database WHERE datname = current_database()";
+
+  static DbCounters read(Statistics statistics, DataSource dataSource) throws SQLException {
+    Map<String, Long> values = new LinkedHashMap<>();
+    values.put("preparedStatements", statistics.getPrepareStatementCount());
+    values.put("queries", statistics.getQueryExecutionCount());
+    values.put("entityLoads", statistics.getEntityLoadCount());
+    values.put("entityInserts", statistics.getEntityInsertCount());
+    values.put("entityUpdates", statistics.getEntityUpdateCount());
+    values.put("transactions", statistics.getTransactionCount());
+    values.put("connectionsObtained", statistics.getConnectCount());
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      // 같은 트랜잭션 안에서 캐시된 통계 스냅샷을 버리고 최신 값을 읽음
+      statement.execute("SELECT pg_stat_clear_snapshot()");
+      try (ResultSet rs = statement.executeQuery(PG_STAT)) {
+        rs.next();
+        values.put("pgCommits", rs.getLong("xact_commit"));
+        values.put("pgRollbacks", rs.getLong("xact_rollback"));
+        values.put("pgTuplesReturned", rs.getLong("tup_returned"));
+        values.put("pgTuplesFetched", rs.getLong("tup_fetched"));
+        values.put("pgTuplesInserted", rs.getLong("tup_inserted"));
+        values.put("pgTuplesUpdated", rs.getLong("tup_updated"));
+        values.put("pgTuplesDeleted", rs.getLong("tup_deleted"));
+      }
+    }
+    return new DbCounters(values);
+  }
+
+  DbCounters minus(DbCounters before) {
+    Map<String, Long> delta = new LinkedHashMap<>();
+    values.forEach((name, value) -> delta.put(name, value - before.values().getOrDefault(name, 0L)));
+    return new DbCounters(delta);
+  }
+}
@@ -0,0 +1,79 @@
+package com.flow.load;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * GC 중단 시간 수집 (GC 알림 → 수집기별 횟수 / 합계 / 최대)
+ *
+ * <p>GarbageCollectorMXBean 의 누적 시간만으로는 최대 중단 시간을 알 수 없으므로 GC 마다 알림을 받는다.
+ * 동시 수집 주기(G1 Concurrent GC, ZGC Cycles 등)는 애플리케이션을 멈추지 않으므로 제외한다.
+ */
+final class GcPauseMonitor implements AutoCloseable {
+
+  private final List<Registration> registrations = new ArrayList<>();
+  private Map<String, Pauses> pauses = new TreeMap<>();
+
+  GcPauseMonitor() {
+    NotificationListener listener = (notification, handback) -> {
+      if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+        GarbageCollectionNotificationInfo info =
+            GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        if (!info.getGcName().contains("Concurrent") && !info.getGcName().contains("Cycles")) {
+          record(info.getGcName(), info.getGcInfo().getDuration());
+        }
+      }
+    };
+    for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+      if (bean instanceof NotificationEmitter emitter) {
+        emitter.addNotificationListener(listener, null, null);
+        registrations.add(new Registration(emitter, listener));
+      }
+    }
+  }
+
+  /** 지금까지 모은 값을 돌려주고 새 구간 시작 */
+  synchronized Map<String, Pauses> window() {
+    Map<String, Pauses> result = pauses;
+    pauses = new TreeMap<>();
+    return result;
+  }
+
+  private synchronized void record(String collector, long durationMs) {
+    Pauses current = pauses.getOrDefault(collector, new Pauses(0, 0, 0));
+    pauses.put(collector, new Pauses(current.count() + 1, current.totalMs() + durationMs,
+        Math.max(current.maxMs(), durationMs)));
+  }
+
+  /** 알림 해제 (try-with-resources 에서 검사 예외가 없도록 ListenerNotFoundException 은 감싸서 던짐) */
+  @Override
+  public void close() {
+    for (Registration registration : registrations) {
+      try {
+        registration.emitter().removeNotificationListener(registration.listener());
+      } catch (ListenerNotFoundException e) {
+        throw new IllegalStateException("GC 알림 리스너 해제 실패: " + registration.emitter(), e);
+      }
+    }
+  }
+
+  record Pauses(long count, long totalMs, long maxMs) {
+
+    static Pauses sum(Map<String, Pauses> byCollector) {
+      return byCollector.values().stream().reduce(new Pauses(0, 0, 0), (a, b) ->
+          new Pauses(a.count() + b.count(), a.totalMs() + b.totalMs(), Math.max(a.maxMs(), b.maxMs())));
+    }
+  }
+
+  private record Registration(NotificationEmitter emitter, NotificationListener listener) {
+  }
+}
@@ -0,0 +1,72 @@
+package com.flow.load;
+
+import com.flow.load.GcPauseMonitor.Pauses;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (build/load-test/report.json)
+ *
+ * <p>버전 간 diff 를 위해 필드 순서는 선언 순서로 고정하고, 실행 시각 같은 매번 바뀌는 값은 넣지 않는다.
+ * 시간 단위: 지연시간 ms, 처리량 요청/초.
+ */
+record LoadReport(Map<String, Object> environment, Map<String, Object> config, List<Step> steps) {
+
+  /**
+   * 동시 요청 수 한 단계
+   *
+   * <p>operations / throughput / gc 는 측정 구간만, db 는 워밍업을 포함한 단계 전체 값이다.
+   * (pg_stat_database 가 지연 반영되어 요청이 멈춘 시점에만 정확히 읽을 수 있음)
+   * dbPerOperation 은 db 값을 단계 전체 요청 수(stepOperations)로 나눈 값.
+   */
+  record Step(
+      int concurrency,
+      double measuredSeconds,
+      double throughput,
+      double errorRate,
+      boolean saturated,
+      Map<String, Operation> operations,
+      long stepOperations,
+      Map<String, Long> db,
+      Map<String, Double> dbPerOperation,
+      Gc gc) {
+  }
+
+  /** 요청 종류별 결과 (rejected: 업로드 차단 응답 400, errors: 그 외 실패 / 연결 오류) */
+  record Operation(long count, long ok, long rejected, long errors, double throughput, Latency latencyMs) {
+  }
+
+  /** 정확한 백분위 (모든 표본을 정렬, nearest-rank) */
+  record Latency(double mean, double p50, double p90, double p95, double p99, double p999, double max) {
+
+    static Latency of(long[] nanos) {
+      if (nanos.length == 0) {
+        return new Latency(0, 0, 0, 0, 0, 0, 0);
+      }
+      long[] sorted = nanos.clone();
+      Arrays.sort(sorted);
+      double mean = Arrays.stream(sorted).average().orElse(0);
+      return new Latency(millis(mean), percentile(sorted, 0.50), percentile(sorted, 0.90),
+          percentile(sorted, 0.95), percentile(sorted, 0.99), percentile(sorted, 0.999),
+          millis(sorted[sorted.length - 1]));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+      int rank = (int) Math.ceil(quantile * sorted.length);
+      return millis(sorted[Math.max(rank, 1) - 1]);
+    }
+
+    private static double millis(double nanos) {
+      return round(nanos / 1_000_000.0);
+    }
+  }
+
+  record Gc(Pauses total, Map<String, Pauses> collectors) {
+  }
+
+  /** 소수점 3자리 (리포트 diff 잡음 줄이기) */
+  static double round(double value) {
+    return Math.round(value * 1000) / 1000.0;
+  }
+}
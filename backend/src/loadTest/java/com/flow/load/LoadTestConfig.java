@@ -0,0 +1,140 @@
+package com.flow.load;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 load.*)
+ *
+ * <p>gradle 에서는 {@code -Pload.concurrency=1,8,32} 처럼 넘기면 loadTest 태스크가 그대로 전달한다.
+ *
+ * <ul>
+ *   <li>load.concurrency - 단계별 동시 요청 수 (쉼표 구분, 단계마다 순서대로 실행)</li>
+ *   <li>load.warmup-seconds / load.duration-seconds - 단계별 워밍업 / 측정 시간</li>
+ *   <li>load.mix - 요청 비율 (upload / list / download 가중치)</li>
+ *   <li>load.files - 업로드 파일 비율 (test-files 하위 경로 가중치)</li>
+ *   <li>load.spaces - 요청을 나눌 공간 수, load.seed-files - 공간별 다운로드용 사전 업로드 수</li>
+ *   <li>load.fixed-extensions - 공간마다 체크(차단)할 고정 확장자 (생성 직후에는 모두 해제 상태)</li>
+ *   <li>load.seed - 요청 / 파일 / 공간 선택 난수 시드</li>
+ *   <li>load.max-error-rate - 단계 오류율이 이 값을 넘으면 이후 단계 중단 (한계 지점)</li>
+ *   <li>load.report - JSON 리포트 경로</li>
+ * </ul>
+ */
+record LoadTestConfig(
+    List<Integer> concurrency,
+    int warmupSeconds,
+    int durationSeconds,
+    Map<Operation, Integer> mix,
+    Map<String, Integer> files,
+    int spaces,
+    int seedFiles,
+    List<String> fixedExtensions,
+    long seed,
+    double maxErrorRate,
+    Path report) {
+
+  enum Operation {
+    UPLOAD, LIST, DOWNLOAD;
+
+    String tag() {
+      return name().toLowerCase();
+    }
+  }
+
+  static LoadTestConfig fromSystemProperties() {
+    LoadTestConfig config = new LoadTestConfig(
+        Arrays.stream(property("concurrency", "1,4,16,64").split(","))
+            .map(String::trim).map(Integer::valueOf).toList(),
+        Integer.parseInt(property("warmup-seconds", "5")),
+        Integer.parseInt(property("duration-seconds", "20")),
+        operations(weights(property("mix", "upload:50,list:30,download:20"))),
+        weights(property("files", "1-normal/document.txt:35,1-normal/data.json:35,"
+            + "2-blocked-ext/virus.bat:10,3-disguised/fake-image.jpg:10,4-archive/normal.zip:10")),
+        Integer.parseInt(property("spaces", "4")),
+        Integer.parseInt(property("seed-files", "5")),
+        Arrays.stream(property("fixed-extensions", "bat,cmd,com,cpl,exe,js,scr").split(","))
+            .map(String::trim).filter(extension -> !extension.isEmpty()).toList(),
+        Long.parseLong(property("seed", "42")),
+        Double.parseDouble(property("max-error-rate", "0.01")),
+        Path.of(property("report", "build/load-test/report.json")));
+    config.validate();
+    return config;
+  }
+
+  private void validate() {
+    if (concurrency.isEmpty() || concurrency.stream().anyMatch(c -> c < 1 || c > 1024)) {
+      throw new IllegalArgumentException("load.concurrency 는 1 ~ 1024 사이여야 합니다: " + concurrency);
+    }
+    if (warmupSeconds < 0 || durationSeconds < 1) {
+      throw new IllegalArgumentException("load.duration-seconds 는 1 이상, load.warmup-seconds 는 0 이상이어야 합니다.");
+    }
+    if (spaces < 1 || seedFiles < 1) {
+      throw new IllegalArgumentException("load.spaces / load.seed-files 는 1 이상이어야 합니다.");
+    }
+    if (maxErrorRate < 0 || maxErrorRate > 1) {
+      throw new IllegalArgumentException("load.max-error-rate 는 0 ~ 1 사이여야 합니다: " + maxErrorRate);
+    }
+  }
+
+  /** 설정값 (리포트에 그대로 기록해 버전 간 비교 시 조건이 같은지 확인) */
+  Map<String, Object> describe() {
+    Map<String, Object> values = new LinkedHashMap<>();
+    values.put("concurrency", concurrency);
+    values.put("warmupSeconds", warmupSeconds);
+    values.put("durationSeconds", durationSeconds);
+    Map<String, Integer> operations = new LinkedHashMap<>();
+    mix.forEach((operation, weight) -> operations.put(operation.tag(), weight));
+    values.put("mix", operations);
+    values.put("files", files);
+    values.put("spaces", spaces);
+    values.put("seedFiles", seedFiles);
+    values.put("fixedExtensions", fixedExtensions);
+    values.put("seed", seed);
+    values.put("maxErrorRate", maxErrorRate);
+    return values;
+  }
+
+  private static String property(String name, String defaultValue) {
+    return System.getProperty("load." + name, defaultValue);
+  }
+
+  /** "a:3,b:1" → {a=3, b=1} (입력 순서 유지) */
+  private static Map<String, Integer> weights(String value) {
+    Map<String, Integer> weights = new LinkedHashMap<>();
+    for (String item : value.split(",")) {
+      String[] pair = item.trim().split(":");
+      int weight = pair.length == 2 ? Integer.parseInt(pair[1].trim()) : -1;
+      if (pair.length != 2 || weight < 0) {
+        throw new IllegalArgumentException("가중치 형식은 이름:정수 입니다: " + item);
+      }
+      if (weight > 0) {
+        weights.put(pair[0].trim(), weight);
+      }
+    }
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("가중치가 모두 0 입니다: " + value);
+    }
+    return weights;
+  }
+
+  private static Map<Operation, Integer> operations(Map<String, Integer> weights) {
+    Map<Operation, Integer> operations = new LinkedHashMap<>();
+    weights.forEach((name, weight) -> operations.put(Operation.valueOf(name.toUpperCase()), weight));
+    return operations;
+  }
+
+  /** 가중치만큼 항목을 펼친 선택표 (난수 인덱스 하나로 선택, 가중치 합이 작으므로 충분) */
+  static <T> List<T> expand(Map<T, Integer> weights) {
+    List<T> table = new ArrayList<>();
+    weights.forEach((item, weight) -> {
+      for (int i = 0; i < weight; i++) {
+        table.add(item);
+      }
+    });
+    return table;
+  }
+}
@@ -0,0 +1,378 @@
+package com.flow.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.flow.FileBlockerApplication;
+import com.flow.api.domain.data.SpaceCreationRequest;
+import com.flow.api.service.BlockedExtensionService;
+import com.flow.api.service.SpaceService;
+import com.flow.load.LoadTestConfig.Operation;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * 업로드 / 목록 / 다운로드 종단 간 부하 테스트
+ *
+ * <p>Embedded PostgreSQL 과 임시 업로드 디렉토리로 애플리케이션을 실제 포트에 띄운 뒤,
+ * HTTP 클라이언트로 동시 요청 수를 단계별로 올리며 요청을 보낸다.
+ * 단계마다 지연시간 백분위, 처리량, DB 문장 수, GC 중단 시간을 모아 JSON 리포트로 남긴다.
+ * 오류율이 load.max-error-rate 를 넘는 단계에서 멈추므로 마지막 단계가 한계 지점이다.
+ *
+ * <p>실행: {@code gradle loadTest -Pload.concurrency=1,8,32 -Pload.duration-seconds=30}
+ * (설정 항목은 {@link LoadTestConfig})
+ *
+ * <p>애플리케이션, 클라이언트, PostgreSQL 이 한 머신에서 CPU 를 나눠 쓰므로 절대값보다는
+ * 같은 머신에서 버전 간 리포트를 비교하는 용도로 사용한다.
+ */
+public final class UploadLoadTest {
+
+  private static final String API = "/api/uploaded-files";
+  private static final String BOUNDARY = "----upload-load-test";
+  /** pg_stat_database 반영 대기 (통계는 트랜잭션 종료 후 최대 500ms 지연) */
+  private static final long STATS_SETTLE_MILLIS = 1_000;
+
+  private final LoadTestConfig config;
+  private final GcPauseMonitor gcMonitor;
+  private final Statistics statistics;
+  private final DataSource statsDataSource;
+  private final SpaceService spaceService;
+  private final BlockedExtensionService blockedExtensionService;
+  private final String baseUrl;
+  private final HttpClient client = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(10))
+      .build();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  /** 파일 경로 → multipart 요청 본문 (미리 만들어 두고 재사용) */
+  private final Map<String, byte[]> bodies = new LinkedHashMap<>();
+  private final List<Long> spaceIds = new ArrayList<>();
+  private final List<Long> seededFileIds = new ArrayList<>();
+
+  private UploadLoadTest(LoadTestConfig config, ConfigurableApplicationContext context,
+      DataSource statsDataSource, GcPauseMonitor gcMonitor) {
+    this.config = config;
+    this.gcMonitor = gcMonitor;
+    this.statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    this.statsDataSource = statsDataSource;
+    this.spaceService = context.getBean(SpaceService.class);
+    this.blockedExtensionService = context.getBean(BlockedExtensionService.class);
+    this.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + API;
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+    Path outputDir = config.report().toAbsolutePath().getParent();
+    Files.createDirectories(outputDir);
+    Path uploadDir = Files.createTempDirectory("upload-load-test-");
+    try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        GcPauseMonitor gcMonitor = new GcPauseMonitor()) {
+      ConfigurableApplicationContext context = new SpringApplicationBuilder(FileBlockerApplication.class)
+          // 명령행 인자로 넘겨 application.properties 보다 우선 적용
+          .run("--server.port=0",
+              "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+              "--spring.datasource.username=postgres",
+              "--spring.datasource.password=postgres",
+              "--file.upload.directory=" + uploadDir,
+              // DbCounters 가 Hibernate Statistics 를 읽으므로 부하 테스트에서만 활성화
+              "--spring.jpa.properties.hibernate.generate_statistics=true",
+              "--logging.file.name=" + outputDir.resolve("app.log"),
+              "--access-log.file=" + outputDir.resolve("access.log"),
+              "--logging.level.root=WARN",
+              "--logging.level.com.flow=WARN",
+              "--logging.level.com.flow.api.service.impl.UploadedFileServiceImpl=WARN",
+              "--logging.level.com.flow.util.fileDefence=WARN");
+      try {
+        LoadReport report = new UploadLoadTest(config, context, postgres.getPostgresDatabase(), gcMonitor).run();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(config.report().toFile(), report);
+        System.out.println("report: " + config.report().toAbsolutePath());
+      } finally {
+        context.close();
+      }
+    } finally {
+      FileSystemUtils.deleteRecursively(uploadDir);
+    }
+  }
+
+  private LoadReport run() throws Exception {
+    prepare();
+    List<LoadReport.Step> steps = new ArrayList<>();
+    for (int concurrency : config.concurrency()) {
+      LoadReport.Step step = runStep(concurrency);
+      steps.add(step);
+      System.out.printf("concurrency=%d throughput=%.1f/s errorRate=%.4f %s gcPauseMax=%dms%n",
+          concurrency, step.throughput(), step.errorRate(), latencySummary(step),
+          step.gc().total().maxMs());
+      if (step.saturated()) {
+        break;
+      }
+    }
+    return new LoadReport(environment(), config.describe(), steps);
+  }
+
+  /** 공간 생성 + 고정 확장자 차단, 요청 본문 준비, 다운로드 대상 파일 사전 업로드 */
+  private void prepare() throws Exception {
+    for (String file : config.files().keySet()) {
+      bodies.put(file, multipartBody(file));
+    }
+    for (int i = 0; i < config.spaces(); i++) {
+      Long spaceId = spaceService.createSpaceWithAdmin(SpaceCreationRequest.builder()
+          .spaceName("load-" + i)
+          .description("load test")
+          .adminUsername("load-admin-" + i)
+          .adminPassword("1234")
+          .build()).getSpace().getSpaceId();
+      for (String extension : config.fixedExtensions()) {
+        blockedExtensionService.toggleFixedExtension(spaceId, extension);
+      }
+      spaceIds.add(spaceId);
+    }
+    byte[] seedBody = multipartBody("1-normal/document.txt");
+    for (Long spaceId : spaceIds) {
+      for (int i = 0; i < config.seedFiles(); i++) {
+        HttpResponse<byte[]> response = client.send(upload(spaceId, seedBody), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+          throw new IllegalStateException("사전 업로드 실패: " + new String(response.body(), StandardCharsets.UTF_8));
+        }
+        seededFileIds.add(objectMapper.readTree(response.body()).path("data").path("fileId").asLong());
+      }
+    }
+  }
+
+  private LoadReport.Step runStep(int concurrency) throws Exception {
+    Thread.sleep(STATS_SETTLE_MILLIS);
+    DbCounters before = DbCounters.read(statistics, statsDataSource);
+
+    long start = System.nanoTime();
+    long measureStart = start + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+    long end = measureStart + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+    SplittableRandom random = new SplittableRandom(config.seed() + concurrency);
+    List<Worker> workers = new ArrayList<>();
+    for (int i = 0; i < concurrency; i++) {
+      Worker worker = new Worker(random.split(), measureStart, end);
+      workers.add(worker);
+      Thread thread = new Thread(worker, "load-worker-" + i);
+      worker.thread = thread;
+      thread.start();
+    }
+    sleepUntil(measureStart);
+    gcMonitor.window();
+    for (Worker worker : workers) {
+      worker.thread.join();
+    }
+    Map<String, GcPauseMonitor.Pauses> pauses = gcMonitor.window();
+
+    Thread.sleep(STATS_SETTLE_MILLIS);
+    DbCounters db = DbCounters.read(statistics, statsDataSource).minus(before);
+    return step(concurrency, workers, db, pauses);
+  }
+
+  private LoadReport.Step step(int concurrency, List<Worker> workers, DbCounters db,
+      Map<String, GcPauseMonitor.Pauses> pauses) {
+    double seconds = config.durationSeconds();
+    Map<String, LoadReport.Operation> operations = new LinkedHashMap<>();
+    long total = 0;
+    long errors = 0;
+    for (Operation operation : Operation.values()) {
+      long[] latencies = workers.stream().flatMapToLong(worker -> worker.samples(operation).latencies())
+          .toArray();
+      long ok = workers.stream().mapToLong(worker -> worker.samples(operation).ok).sum();
+      long rejected = workers.stream().mapToLong(worker -> worker.samples(operation).rejected).sum();
+      long failed = workers.stream().mapToLong(worker -> worker.samples(operation).errors).sum();
+      long count = ok + rejected + failed;
+      if (config.mix().containsKey(operation)) {
+        operations.put(operation.tag(), new LoadReport.Operation(count, ok, rejected, failed,
+            LoadReport.round(count / seconds), LoadReport.Latency.of(latencies)));
+      }
+      total += count;
+      errors += failed;
+    }
+    long stepOperations = workers.stream().mapToLong(worker -> worker.issued).sum();
+    Map<String, Double> perOperation = new LinkedHashMap<>();
+    db.values().forEach((name, value) ->
+        perOperation.put(name, LoadReport.round(stepOperations == 0 ? 0 : (double) value / stepOperations)));
+    double errorRate = total == 0 ? 1.0 : (double) errors / total;
+    return new LoadReport.Step(concurrency, seconds, LoadReport.round(total / seconds),
+        LoadReport.round(errorRate), errorRate > config.maxErrorRate(), operations, stepOperations,
+        db.values(), perOperation, new LoadReport.Gc(GcPauseMonitor.Pauses.sum(pauses), pauses));
+  }
+
+  /** 요청 하나 실행 후 HTTP 상태 코드 반환 (연결 오류 등은 예외) */
+  private int execute(Operation operation, SplittableRandom random, List<String> files) throws Exception {
+    Long spaceId = spaceIds.get(random.nextInt(spaceIds.size()));
+    HttpRequest request = switch (operation) {
+      case UPLOAD -> upload(spaceId, bodies.get(files.get(random.nextInt(files.size()))));
+      case LIST -> HttpRequest.newBuilder(URI.create(baseUrl + "/list?spaceId=" + spaceId))
+          .timeout(Duration.ofSeconds(30)).GET().build();
+      case DOWNLOAD -> HttpRequest.newBuilder(
+              URI.create(baseUrl + "/download/" + seededFileIds.get(random.nextInt(seededFileIds.size()))))
+          .timeout(Duration.ofSeconds(30)).GET().build();
+    };
+    // 응답 본문은 끝까지 읽고 버림 (전송 시간 포함)
+    return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+
+  private HttpRequest upload(Long spaceId, byte[] body) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + "/upload?spaceId=" + spaceId))
+        .timeout(Duration.ofSeconds(30))
+        .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+        .build();
+  }
+
+  private static byte[] multipartBody(String file) throws IOException {
+    byte[] content;
+    try (InputStream in = UploadLoadTest.class.getResourceAsStream("/test-files/" + file)) {
+      if (in == null) {
+        throw new IllegalArgumentException("test-files 에 없는 파일입니다: " + file);
+      }
+      content = in.readAllBytes();
+    }
+    String filename = file.substring(file.lastIndexOf('/') + 1);
+    ByteArrayOutputStream body = new ByteArrayOutputStream(content.length + 256);
+    body.writeBytes(("--" + BOUNDARY + "\r\n"
+        + "Content-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"\r\n"
+        + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+    body.writeBytes(content);
+    body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+    return body.toByteArray();
+  }
+
+  private Map<String, Object> environment() throws Exception {
+    Map<String, Object> environment = new LinkedHashMap<>();
+    environment.put("javaVersion", System.getProperty("java.version"));
+    environment.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+    environment.put("maxHeapMb", Runtime.getRuntime().maxMemory() / (1024 * 1024));
+    environment.put("garbageCollectors", ManagementFactory.getGarbageCollectorMXBeans().stream()
+        .map(bean -> bean.getName()).toList());
+    try (Connection connection = statsDataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery("SHOW server_version")) {
+      rs.next();
+      environment.put("postgresVersion", rs.getString(1));
+    }
+    return environment;
+  }
+
+  private static String latencySummary(LoadReport.Step step) {
+    StringBuilder summary = new StringBuilder();
+    step.operations().forEach((name, operation) -> summary.append(String.format("%s[p50=%.1fms p99=%.1fms] ",
+        name, operation.latencyMs().p50(), operation.latencyMs().p99())));
+    return summary.toString().trim();
+  }
+
+  private static void sleepUntil(long nanoTime) throws InterruptedException {
+    long remaining = nanoTime - System.nanoTime();
+    if (remaining > 0) {
+      TimeUnit.NANOSECONDS.sleep(remaining);
+    }
+  }
+
+  /** 동시 요청 하나 (요청 → 응답 → 다음 요청, 대기 시간 없음) */
+  private final class Worker implements Runnable {
+
+    private final SplittableRandom random;
+    private final long measureStart;
+    private final long end;
+    private final List<Operation> operations = LoadTestConfig.expand(config.mix());
+    private final List<String> files = LoadTestConfig.expand(config.files());
+    private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+    private Thread thread;
+    /** 워밍업 포함 보낸 요청 수 (DB 문장 수를 요청당 값으로 나눌 때 사용) */
+    private long issued;
+
+    private Worker(SplittableRandom random, long measureStart, long end) {
+      this.random = random;
+      this.measureStart = measureStart;
+      this.end = end;
+      for (Operation operation : Operation.values()) {
+        samples.put(operation, new Samples());
+      }
+    }
+
+    @Override
+    public void run() {
+      long now = System.nanoTime();
+      while (now < end) {
+        Operation operation = operations.get(random.nextInt(operations.size()));
+        long started = now;
+        int status;
+        try {
+          status = execute(operation, random, files);
+        } catch (Exception e) {
+          status = -1;
+        }
+        now = System.nanoTime();
+        issued++;
+        if (started >= measureStart) {
+          samples.get(operation).record(operation, status, now - started);
+        }
+      }
+    }
+
+    private Samples samples(Operation operation) {
+      return samples.get(operation);
+    }
+  }
+
+  /** 워커 하나의 요청 종류별 표본 (워커 스레드만 기록, 집계는 join 이후) */
+  private static final class Samples {
+
+    private long[] latencies = new long[1024];
+    private int size;
+    private long ok;
+    private long rejected;
+    private long errors;
+
+    private void record(Operation operation, int status, long nanos) {
+      if (status >= 200 && status < 300) {
+        ok++;
+      } else if (operation == Operation.UPLOAD && status == 400) {
+        rejected++;
+      } else {
+        errors++;
+      }
+      // 연결 오류는 응답이 없으므로 지연시간에서 제외
+      if (status > 0) {
+        if (size == latencies.length) {
+          latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = nanos;
+      }
+    }
+
+    private LongStream latencies() {
+      return Arrays.stream(latencies, 0, size);
+    }
+  }
+}
@@ -4,13 +4,16 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * File Extension Blocker 애플리케이션
  * JPA Auditing 활성화: created_at, updated_at, created_by, updated_by 자동 관리
+ * Scheduling 활성화: 인기 확장자 Top-N 스냅샷 주기 갱신
  */
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 @ComponentScan(basePackages = {"com.flow", "com.woo.core"})
 public class FileBlockerApplication {
 
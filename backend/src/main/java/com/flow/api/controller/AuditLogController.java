@@ -0,0 +1,68 @@
+package com.flow.api.controller;
+
+import com.flow.api.domain.data.AuditLogDto;
+import com.flow.api.service.AuditLogService;
+import com.woo.core.response.BaseResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 감사 로그 조회 컨트롤러
+ *
+ * <p>업로드/거부, 확장자 변경, 공간 생성 이력 조회 (조회 건수는 최대 500건)
+ */
+@RestController
+@RequestMapping("/api/audit-logs")
+public class AuditLogController {
+
+  private final AuditLogService auditLogService;
+
+  public AuditLogController(AuditLogService auditLogService) {
+    this.auditLogService = auditLogService;
+  }
+
+  // ══════════════════════════════════════
+  // 1. GET /recent?limit={n} - 최근 감사 로그 (메모리 링, 실시간 모니터용)
+  // 2. GET /space/{spaceId}?limit={n} - 공간별 감사 로그 (최신순)
+  // 3. GET /since?since={ISO 시각}&limit={n} - 특정 시각 이후 감사 로그 (오래된 순)
+  // ══════════════════════════════════════
+
+  @GetMapping("/recent")
+  public ResponseEntity<BaseResponse<List<AuditLogDto>>> getRecentLogs(
+      @RequestParam(defaultValue = "100") int limit) {
+    try {
+      return BaseResponse.successResponse(auditLogService.getRecentLogs(limit), "최근 감사 로그 조회 완료");
+
+    } catch (IllegalArgumentException e) {
+      return BaseResponse.errorResponse("AUDIT_LOG_QUERY_FAILED", e.getMessage());
+    }
+  }
+
+  @GetMapping("/space/{spaceId}")
+  public ResponseEntity<BaseResponse<List<AuditLogDto>>> getLogsBySpace(
+      @PathVariable Long spaceId,
+      @RequestParam(defaultValue = "100") int limit) {
+    try {
+      return BaseResponse.successResponse(auditLogService.getLogsBySpace(spaceId, limit), "공간 감사 로그 조회 완료");
+
+    } catch (IllegalArgumentException e) {
+      return BaseResponse.errorResponse("AUDIT_LOG_QUERY_FAILED", e.getMessage());
+    }
+  }
+
+  @GetMapping("/since")
+  public ResponseEntity<BaseResponse<List<AuditLogDto>>> getLogsSince(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+      @RequestParam(defaultValue = "100") int limit) {
+    try {
+      return BaseResponse.successResponse(auditLogService.getLogsSince(since, limit), "감사 로그 조회 완료");
+
+    } catch (IllegalArgumentException e) {
+      return BaseResponse.errorResponse("AUDIT_LOG_QUERY_FAILED", e.getMessage());
+    }
+  }
+}
@@ -1,32 +1,45 @@
 package com.flow.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flow.api.domain.BlockedExtension;
 import com.flow.api.domain.data.BlockedExtensionDto;
+import com.flow.api.domain.data.ExtensionImportResult;
+import com.flow.api.domain.data.ExtensionPopularityDto;
+import com.flow.api.mapper.BlockedExtensionMapper;
 import com.flow.api.service.BlockedExtensionService;
+import com.flow.api.service.ExtensionPopularityService;
 import com.woo.core.controller.BaseController;
 import com.woo.core.response.BaseResponse;
-import org.modelmapper.ModelMapper;
+import com.woo.core.util.export.StreamingExport;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.util.Arrays;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/blocked-extensions")
 public class BlockedExtensionController extends BaseController<BlockedExtension, BlockedExtensionDto> {
 
+  // 내보내기 CSV 헤더 (CSV 일괄 등록 시 첫 토큰이면 무시)
+  private static final String CSV_HEADER = "extension";
+
   private final BlockedExtensionService blockedExtensionService;
+  private final ExtensionPopularityService extensionPopularityService;
+  private final ObjectMapper objectMapper;
 
-  public BlockedExtensionController(BlockedExtensionService blockedExtensionService, ModelMapper modelMapper) {
-    super(blockedExtensionService, modelMapper);
+  public BlockedExtensionController(
+      BlockedExtensionService blockedExtensionService,
+      ExtensionPopularityService extensionPopularityService,
+      BlockedExtensionMapper blockedExtensionMapper,
+      ObjectMapper objectMapper) {
+    super(blockedExtensionService, blockedExtensionMapper);
     this.blockedExtensionService = blockedExtensionService;
+    this.extensionPopularityService = extensionPopularityService;
+    this.objectMapper = objectMapper;
   }
   
-  @Override
-  protected Class<BlockedExtensionDto> getDtoClass() { return BlockedExtensionDto.class; }
-
-  @Override
-  protected Class<BlockedExtension> getEntityClass() { return BlockedExtension.class; }
-  
   // ══════════════════════════════════════
   // ========== 비즈니스 로직 ==========
   // 1. GET /block-list - 활성화된 모든 차단 확장자 조회
@@ -35,6 +48,11 @@ public class BlockedExtensionController extends BaseController<BlockedExtension,
   // 4. PATCH /fixed-change-status - 고정 확장자 상태 변경 (체크박스)
   // 5. GET /count-custom-block-list - 커스텀 확장자 개수
   // 6. GET /count-active - 활성화된 전체 확장자 개수
+  // 7. GET /popular?limit={n} - 전역 인기 확장자 Top-N (추천용, 메모리 스냅샷, limit 최대 50)
+  // 8. POST /import - 커스텀 확장자 일괄 등록 (JSON 배열 또는 CSV)
+  // 9. GET /export?format={ndjson|csv} - 커스텀 확장자 내보내기 (스트리밍)
+  // 10. PATCH /bulk-soft-delete - 커스텀 확장자 일괄 Soft Delete (ID 목록)
+  // 11. PATCH /bulk-soft-delete/by-space - 공간의 커스텀 확장자 전체 Soft Delete
   // ══════════════════════════════════════
   
   @GetMapping("/block-list")
@@ -56,11 +74,11 @@ public class BlockedExtensionController extends BaseController<BlockedExtension,
   }
 
   @PatchMapping("/fixed-change-status")
-  public ResponseEntity<BaseResponse<Void>> changeFixedExtensionStatus(
+  public ResponseEntity<BaseResponse<Boolean>> changeFixedExtensionStatus(
       @RequestParam Long spaceId,
       @RequestParam String extension) {
-    blockedExtensionService.toggleFixedExtension(spaceId, extension);
-    return successResponse(null, "고정 확장자 상태 변경 완료");
+    Boolean isDeleted = blockedExtensionService.toggleFixedExtension(spaceId, extension);
+    return successResponse(isDeleted, "고정 확장자 상태 변경 완료");
   }
 
   @GetMapping("/count-custom-block-list")
@@ -74,5 +92,118 @@ public class BlockedExtensionController extends BaseController<BlockedExtension,
     Long count = blockedExtensionService.countActiveExtensions(spaceId);
     return successResponse(count, "활성화된 확장자 개수 조회 완료");
   }
-}
 
+  /**
+   * 전역 인기 확장자 Top-N
+   *
+   * @param limit 조회할 개수 (기본 6, 최대 extension.popularity.snapshot-size = 50, 넘으면 400)
+   */
+  @GetMapping("/popular")
+  public ResponseEntity<BaseResponse<List<ExtensionPopularityDto>>> getPopularExtensions(
+      @RequestParam(defaultValue = "6") int limit) {
+    try {
+      List<ExtensionPopularityDto> extensions = extensionPopularityService.getTopExtensions(limit);
+      return successResponse(extensions, "인기 확장자 목록 조회 완료");
+
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(BaseResponse.error("POPULAR_EXTENSION_QUERY_FAILED", e.getMessage()));
+    }
+  }
+
+  /**
+   * 커스텀 확장자 일괄 등록 (JSON)
+   *
+   * <p>요청 본문: {@code ["php", "sh", "ps1"]}
+   */
+  @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<BaseResponse<ExtensionImportResult>> importExtensions(
+      @RequestParam Long spaceId,
+      @RequestParam Long memberId,
+      @RequestBody List<String> extensions) {
+    try {
+      ExtensionImportResult result = blockedExtensionService.importCustomExtensions(spaceId, memberId, extensions);
+      return successResponse(result, "커스텀 확장자 일괄 등록 완료");
+
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(BaseResponse.error("BLOCKED_EXTENSION_IMPORT_FAILED", e.getMessage()));
+    }
+  }
+
+  /**
+   * 커스텀 확장자 일괄 등록 (CSV)
+   *
+   * <p>쉼표 또는 줄바꿈으로 구분, 첫 줄의 {@code extension} 헤더는 무시 (내보내기 CSV 그대로 사용 가능)
+   * 내보내기가 수식 방지로 붙인 {@code '} ({@code '-foo}, {@code '+bar}) 는 떼고 등록한다.
+   */
+  @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+  public ResponseEntity<BaseResponse<ExtensionImportResult>> importExtensionsCsv(
+      @RequestParam Long spaceId,
+      @RequestParam Long memberId,
+      @RequestBody String csv) {
+    return importExtensions(spaceId, memberId, parseCsv(csv));
+  }
+
+  /**
+   * 커스텀 확장자 내보내기
+   *
+   * <p>DB 커서로 읽은 행을 바로 응답에 기록하므로 전체 목록을 메모리에 올리지 않는다.
+   * CSV 는 {@code extension} 1열이라 그대로 CSV 일괄 등록(POST /import)에 사용할 수 있다.
+   *
+   * @param format ndjson (기본, 한 줄에 확장자 하나) 또는 csv
+   */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportExtensions(
+      @RequestParam Long spaceId,
+      @RequestParam(defaultValue = "ndjson") String format) {
+    return StreamingExport.<BlockedExtensionDto>response(
+        "blocked-extensions-" + spaceId,
+        format,
+        objectMapper,
+        new String[] {CSV_HEADER},
+        extension -> new Object[] {extension.getExtension()},
+        consumer -> blockedExtensionService.exportCustomExtensions(
+            spaceId, extension -> consumer.accept(toDto(extension))));
+  }
+
+  /**
+   * 커스텀 확장자 일괄 Soft Delete
+   *
+   * <p>요청 본문: {@code [11, 12, 13]} (고정 확장자 / 다른 공간의 ID 는 무시)
+   */
+  @PatchMapping("/bulk-soft-delete")
+  public ResponseEntity<BaseResponse<Integer>> softDeleteCustomExtensions(
+      @RequestParam Long spaceId,
+      @RequestBody List<Long> blockedIds) {
+    try {
+      int deleted = blockedExtensionService.softDeleteCustomExtensions(spaceId, blockedIds);
+      return successResponse(deleted, "커스텀 확장자 일괄 삭제 완료");
+
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(BaseResponse.error("BLOCKED_EXTENSION_DELETE_FAILED", e.getMessage()));
+    }
+  }
+
+  @PatchMapping("/bulk-soft-delete/by-space")
+  public ResponseEntity<BaseResponse<Integer>> softDeleteAllCustomExtensions(@RequestParam Long spaceId) {
+    int deleted = blockedExtensionService.softDeleteAllCustomExtensions(spaceId);
+    return successResponse(deleted, "커스텀 확장자 일괄 삭제 완료");
+  }
+
+  private static List<String> parseCsv(String csv) {
+    List<String> tokens = Arrays.stream(csv.split("[,\\r\\n]+"))
+        .map(token -> token.trim().replace("\"", ""))
+        .map(BlockedExtensionController::stripFormulaGuard)
+        .filter(token -> !token.isEmpty())
+        .toList();
+    // 내보내기 CSV 의 헤더는 첫 토큰일 때만 제외 (이후의 extension 은 확장자로 등록)
+    if (!tokens.isEmpty() && tokens.get(0).equalsIgnoreCase(CSV_HEADER)) {
+      return tokens.subList(1, tokens.size());
+    }
+    return tokens;
+  }
+
+  // StreamingExport 가 수식으로 시작하는 값 앞에 붙인 ' 제거 (확장자에는 ' 가 올 수 없음)
+  private static String stripFormulaGuard(String token) {
+    return token.length() > 1 && token.charAt(0) == '\'' ? token.substring(1) : token;
+  }
+}
@@ -0,0 +1,60 @@
+package com.flow.api.controller;
+
+import com.flow.api.domain.data.CacheRegionStatsDto;
+import com.woo.core.response.BaseResponse;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 캐시 통계 컨트롤러
+ *
+ * <p>Hibernate 2차 캐시(space, member)와 쿼리 캐시 영역별 적중률 제공
+ * (hibernate.generate_statistics=true 일 때만 집계되므로, 비활성이면 0 대신 409 CACHE_STATS_DISABLED)
+ */
+@RestController
+@RequestMapping("/api/cache")
+public class CacheStatsController {
+
+  private final Statistics statistics;
+
+  public CacheStatsController(EntityManagerFactory entityManagerFactory) {
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @GetMapping("/stats")
+  public ResponseEntity<BaseResponse<List<CacheRegionStatsDto>>> getCacheStats() {
+    if (!statistics.isStatisticsEnabled()) {
+      return BaseResponse.errorResponse(409, "CACHE_STATS_DISABLED",
+          "캐시 통계가 수집되지 않습니다. spring.jpa.properties.hibernate.generate_statistics=true 로 실행해야 합니다.");
+    }
+    List<CacheRegionStatsDto> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+        .sorted()
+        .map(region -> toDto(region, statistics.getCacheRegionStatistics(region)))
+        .toList();
+    return ResponseEntity.ok(BaseResponse.success(regions, "캐시 통계 조회 완료"));
+  }
+
+  @PostMapping("/stats/reset")
+  public ResponseEntity<BaseResponse<Void>> resetCacheStats() {
+    statistics.clear();
+    return ResponseEntity.ok(BaseResponse.success(null, "캐시 통계 초기화 완료"));
+  }
+
+  private CacheRegionStatsDto toDto(String region, CacheRegionStatistics regionStatistics) {
+    long hit = regionStatistics.getHitCount();
+    long miss = regionStatistics.getMissCount();
+    return CacheRegionStatsDto.builder()
+        .region(region)
+        .hitCount(hit)
+        .missCount(miss)
+        .putCount(regionStatistics.getPutCount())
+        .hitRatio(hit + miss == 0 ? 0.0 : (double) hit / (hit + miss))
+        .build();
+  }
+}
@@ -0,0 +1,96 @@
+package com.flow.api.controller;
+
+import com.flow.api.domain.data.SpanDto;
+import com.flow.api.domain.data.TraceDto;
+import com.woo.core.logging.trace.Span;
+import com.woo.core.logging.trace.TraceRecord;
+import com.woo.core.logging.trace.TraceRecorder;
+import com.woo.core.response.BaseResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 진단 컨트롤러
+ *
+ * <p>운영 중 느린 업로드 원인 분석용 (느린 요청 구간 트리, JFR 덤프는 {@link FlightRecordingController})
+ */
+@RestController
+@RequestMapping("/api/diagnostics")
+public class DiagnosticsController {
+
+  private final TraceRecorder traceRecorder;
+
+  public DiagnosticsController(TraceRecorder traceRecorder) {
+    this.traceRecorder = traceRecorder;
+  }
+
+  // ══════════════════════════════════════
+  // 1. GET /traces/slowest?endpoint= - 엔드포인트별 가장 느린 요청 구간 트리
+  // 2. GET /traces/recent?limit= - 표본 추출된 최근 요청 구간 트리
+  // 3. POST /traces/reset - 엔드포인트별 가장 느린 요청 기록 초기화
+  // ══════════════════════════════════════
+
+  /**
+   * 엔드포인트별 가장 느린 요청 (trace.top-k 개씩, 가장 느린 요청이 느린 엔드포인트 순)
+   *
+   * @param endpoint "메서드 URL패턴" (생략 시 전체)
+   */
+  @GetMapping("/traces/slowest")
+  public ResponseEntity<BaseResponse<Map<String, List<TraceDto>>>> getSlowestTraces(
+      @RequestParam(required = false) String endpoint) {
+    Map<String, List<TraceDto>> traces = new LinkedHashMap<>();
+    traceRecorder.getSlowest(endpoint)
+        .forEach((key, records) -> traces.put(key, records.stream().map(this::toDto).toList()));
+    return ResponseEntity.ok(BaseResponse.success(traces, "느린 요청 조회 완료"));
+  }
+
+  /**
+   * 표본 추출된 최근 요청 (최신순, trace.recent-sample-rate 비율만 기록됨)
+   */
+  @GetMapping("/traces/recent")
+  public ResponseEntity<BaseResponse<List<TraceDto>>> getRecentTraces(
+      @RequestParam(defaultValue = "50") int limit) {
+    if (limit < 1 || limit > traceRecorder.getRecentCapacity()) {
+      return BaseResponse.errorResponse("TRACE_QUERY_FAILED",
+          "limit 은 1 ~ " + traceRecorder.getRecentCapacity() + " 사이여야 합니다.");
+    }
+    List<TraceDto> traces = traceRecorder.getRecent(limit).stream().map(this::toDto).toList();
+    return ResponseEntity.ok(BaseResponse.success(traces, "최근 요청 조회 완료"));
+  }
+
+  @PostMapping("/traces/reset")
+  public ResponseEntity<BaseResponse<Void>> resetSlowestTraces() {
+    traceRecorder.resetSlowest();
+    return ResponseEntity.ok(BaseResponse.success(null, "느린 요청 기록 초기화 완료"));
+  }
+
+  private TraceDto toDto(TraceRecord record) {
+    return TraceDto.builder()
+        .endpoint(record.endpoint())
+        .uri(record.uri())
+        .status(record.status())
+        .startedAt(record.startedAt())
+        .durationMs(toMillis(record.durationNanos()))
+        .droppedSpans(record.droppedSpans())
+        .root(toDto(record.root(), record.root().getStartNanos()))
+        .build();
+  }
+
+  private SpanDto toDto(Span span, long requestStartNanos) {
+    return SpanDto.builder()
+        .name(span.getName())
+        .offsetMs(toMillis(span.getStartNanos() - requestStartNanos))
+        .durationMs(toMillis(span.getDurationNanos()))
+        .error(span.getError())
+        .children(span.getChildren().stream().map(child -> toDto(child, requestStartNanos)).toList())
+        .build();
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1000 / 1000.0;
+  }
+}
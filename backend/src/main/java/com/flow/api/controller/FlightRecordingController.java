@@ -0,0 +1,72 @@
+package com.flow.api.controller;
+
+import com.woo.core.logging.jfr.JfrRecorder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * JFR 녹화 덤프 다운로드
+ *
+ * <p>인증 없이 JVM 녹화 전체를 내려주므로 jfr.dump.enabled=true 일 때만 등록한다.
+ * (기본 비활성, 녹화 자체는 jfr.recording.enabled 로 켜 두고 평소에는 jcmd JFR.dump 로 꺼낸다)
+ */
+@RestController
+@RequestMapping("/api/diagnostics")
+@ConditionalOnProperty(name = "jfr.dump.enabled", havingValue = "true")
+public class FlightRecordingController {
+
+  private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+  private final JfrRecorder jfrRecorder;
+
+  public FlightRecordingController(JfrRecorder jfrRecorder) {
+    this.jfrRecorder = jfrRecorder;
+  }
+
+  // ══════════════════════════════════════
+  // 1. GET /jfr - 상시 JFR 녹화 덤프 다운로드 (최근 jfr.recording.max-age 구간)
+  // ══════════════════════════════════════
+
+  /**
+   * 상시 JFR 녹화 덤프
+   *
+   * <p>업로드 단계(com.flow.upload.Stage), Tika 감지, 압축 엔트리, 저장 이벤트와 JDK 기본 이벤트가 포함된다.
+   * 환경 변수 / 시스템 프로퍼티 / JVM 인자 이벤트는 upload.jfc 에서 끈다.
+   * JDK Mission Control 또는 {@code jfr print --events com.flow.upload.* file.jfr} 로 확인한다.
+   */
+  @GetMapping("/jfr")
+  public ResponseEntity<StreamingResponseBody> dumpFlightRecording() throws IOException {
+    Path file;
+    try {
+      file = jfrRecorder.dump();
+    } catch (IllegalStateException e) {
+      return ResponseEntity.status(409).build();
+    }
+
+    StreamingResponseBody body = outputStream -> {
+      try {
+        Files.copy(file, outputStream);
+      } finally {
+        Files.deleteIfExists(file);
+      }
+    };
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"file-blocker-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr\"")
+        .contentLength(Files.size(file))
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .body(body);
+  }
+}
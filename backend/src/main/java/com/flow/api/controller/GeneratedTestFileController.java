@@ -0,0 +1,102 @@
+package com.flow.api.controller;
+
+import com.flow.api.domain.data.GeneratedArchiveDto;
+import com.flow.util.fileDefence.corpus.ArchiveCorpus;
+import com.flow.util.fileDefence.corpus.CorpusCase;
+import com.woo.core.response.BaseResponse;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 생성형 압축 파일 코퍼스 다운로드 (요청 시 생성하는 적대적 압축 파일, ArchiveCorpus)
+ *
+ * <p>인증 없이 서버가 데이터를 생성하므로 test-files.generated.enabled=true 일 때만 등록한다.
+ * (기본 비활성, 개발 / 검증 환경에서만 사용)
+ * 한 요청이 생성하는 크기({@link CorpusCase#generatedBytes()})는 test-files.generated.max-bytes 로 제한하고,
+ * CorpusCase 의 큰 한도(엔트리 1GB 등)는 테스트 / 벤치마크에서 라이브러리로 직접 호출할 때만 쓴다.
+ */
+@RestController
+@RequestMapping("/api/test-files")
+@ConditionalOnProperty(name = "test-files.generated.enabled", havingValue = "true")
+public class GeneratedTestFileController {
+
+  private final long maxGeneratedBytes;
+
+  public GeneratedTestFileController(
+      @Value("${test-files.generated.max-bytes:16777216}") long maxGeneratedBytes) {
+    this.maxGeneratedBytes = maxGeneratedBytes;
+  }
+
+  /**
+   * 생성형 압축 파일 코퍼스 목록 (기본 파라미터)
+   */
+  @GetMapping("/generated")
+  public ResponseEntity<BaseResponse<List<GeneratedArchiveDto>>> getGeneratedArchives() {
+    List<GeneratedArchiveDto> cases = ArchiveCorpus.defaultCases().stream().map(this::toDto).toList();
+    return BaseResponse.successResponse(cases, "생성형 테스트 파일 목록 조회 완료");
+  }
+
+  /**
+   * 생성형 압축 파일 다운로드 (생성하면서 바로 응답으로 전송)
+   *
+   * @param name 케이스 이름 (many-entries, overlap-bomb 등)
+   * @param entries 엔트리 수 (생략 시 기본값)
+   * @param depth 중첩 단계 수 (생략 시 기본값)
+   * @param entryBytes 엔트리 압축 해제 크기 (생략 시 기본값)
+   * @param seed 내용 생성 시드 (같은 값이면 같은 파일)
+   * @return 파일 다운로드 ResponseEntity
+   *     (없는 케이스 404, 범위를 벗어나거나 생성 크기가 test-files.generated.max-bytes 를 넘는 파라미터 400)
+   */
+  @GetMapping("/generated/{name}")
+  public ResponseEntity<StreamingResponseBody> downloadGeneratedArchive(
+      @PathVariable String name,
+      @RequestParam(required = false) Integer entries,
+      @RequestParam(required = false) Integer depth,
+      @RequestParam(required = false) Long entryBytes,
+      @RequestParam(required = false) Long seed) {
+    Optional<CorpusCase> found = ArchiveCorpus.find(name);
+    if (found.isEmpty()) {
+      return ResponseEntity.notFound().build();
+    }
+    CorpusCase corpusCase;
+    try {
+      corpusCase = found.get().with(entries, depth, entryBytes, seed);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
+    if (corpusCase.generatedBytes() > maxGeneratedBytes) {
+      return ResponseEntity.badRequest().build();
+    }
+
+    StreamingResponseBody body = outputStream -> ArchiveCorpus.generate(corpusCase, outputStream);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"" + corpusCase.fileName() + "\"")
+        .body(body);
+  }
+
+  private GeneratedArchiveDto toDto(CorpusCase corpusCase) {
+    return GeneratedArchiveDto.builder()
+        .name(corpusCase.name())
+        .kind(corpusCase.kind().name())
+        .fileName(corpusCase.fileName())
+        .entries(corpusCase.entries())
+        .depth(corpusCase.depth())
+        .entryBytes(corpusCase.entryBytes())
+        .seed(corpusCase.seed())
+        .bomb(corpusCase.isBomb())
+        .build();
+  }
+}
@@ -1,6 +1,9 @@
 package com.flow.api.controller;
 
+import com.woo.core.logging.stream.LogStreamHub;
 import com.woo.core.response.BaseResponse;
+import com.woo.core.util.log.LogTailReader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -10,10 +13,6 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.stream.Collectors;
 
 /**
  * 로그 조회 컨트롤러
@@ -24,78 +23,96 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/logs")
 public class LogStreamController {
 
-  private final CopyOnWriteArrayList<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+  private static final int MAX_TAIL_LINES = 5000;
 
-  @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-  public SseEmitter streamLogs() {
-    SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
-    emitters.add(emitter);
+  private final LogStreamHub logStreamHub;
+
+  @Value("${logging.file.name:./logs/app.log}")
+  private String logFile;
 
-    emitter.onCompletion(() -> emitters.remove(emitter));
-    emitter.onTimeout(() -> emitters.remove(emitter));
-    emitter.onError(e -> emitters.remove(emitter));
+  public LogStreamController(LogStreamHub logStreamHub) {
+    this.logStreamHub = logStreamHub;
+  }
 
-    // 초기 연결 메시지
+  /**
+   * 실시간 로그 구독 (SSE)
+   *
+   * <p>이벤트: {@code connected} (연결 직후), {@code log} (로그 이벤트 JSON 배열, 최대 200건씩 묶음),
+   * {@code dropped} (전송이 밀려 버려진 건수).
+   *
+   * @param level 최소 레벨 (TRACE / DEBUG / INFO / WARN / ERROR, 기본 DEBUG)
+   * @param spaceId 공간 ID (지정하면 해당 공간 요청 처리 중 남긴 로그만)
+   */
+  @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<SseEmitter> streamLogs(
+      @RequestParam(required = false) String level,
+      @RequestParam(required = false) Long spaceId) {
     try {
-      emitter.send(SseEmitter.event()
-          .name("connected")
-          .data("Connected to log stream at " + LocalDateTime.now()));
-    } catch (IOException e) {
-      emitter.complete();
-    }
+      return ResponseEntity.ok(logStreamHub.subscribe(level, spaceId));
 
-    return emitter;
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
   }
 
-
   /**
    * 로그 파일 조회 (최근 N줄)
-   * 
-   * @param lines 조회할 라인 수 (기본 100줄)
+   *
+   * <p>파일 끝에서부터 블록 단위로 거슬러 올라가며 읽으므로 로그 크기와 관계없이 N줄만 읽는다.
+   *
+   * @param lines 조회할 라인 수 (기본 100줄, 최대 5000줄)
    * @return 로그 파일 내용
    */
   @GetMapping("/file")
   public ResponseEntity<BaseResponse<String>> getLogFile(@RequestParam(defaultValue = "100") int lines) {
+    if (lines < 1 || lines > MAX_TAIL_LINES) {
+      return BaseResponse.errorResponse(
+          "LOG_READ_FAILED", String.format("조회 라인 수는 1~%d 사이여야 합니다.", MAX_TAIL_LINES));
+    }
     try {
-      Path logPath = Paths.get("./logs/app.log");
+      Path logPath = Paths.get(logFile);
       if (!Files.exists(logPath)) {
         return BaseResponse.successResponse("로그 파일이 아직 생성되지 않았습니다.", "로그 조회 완료");
       }
 
-      // 전체 라인 수 계산
-      long totalLines = Files.lines(logPath).count();
-      long skipLines = Math.max(0, totalLines - lines);
-      
-      // 최근 N줄 읽기
-      String logContent = Files.lines(logPath)
-          .skip(skipLines)
-          .collect(Collectors.joining("\n"));
-
-      return BaseResponse.successResponse(logContent, 
-          String.format("로그 조회 완료 (총 %d줄 중 최근 %d줄)", totalLines, Math.min(lines, totalLines)));
+      LogTailReader.Chunk chunk = LogTailReader.tail(logPath, lines);
+      return BaseResponse.successResponse(chunk.getContent(),
+          String.format("로그 조회 완료 (최근 %d줄)", chunk.getLineCount()));
 
     } catch (IOException e) {
-      return BaseResponse.errorResponse("로그 파일 읽기 실패: " + e.getMessage(), "LOG_READ_FAILED");
+      return BaseResponse.errorResponse("LOG_READ_FAILED", "로그 파일 읽기 실패: " + e.getMessage());
     }
   }
 
   /**
-   * 외부에서 로그 이벤트를 브로드캐스트
+   * 로그 증분 조회 (폴링용)
+   *
+   * <p>offset 없이 호출하면 최근 N줄과 offset / fileKey 를 반환하고,
+   * 다음 요청부터 이전 응답의 offset / fileKey 를 넘기면 그 이후 추가된 줄만 반환한다.
+   * 그 사이 로그가 롤링되었으면 이전 파일의 나머지와 새 파일의 내용을 이어서 반환한다. (rotated = true)
+   *
+   * @param lines offset 이 없을 때 조회할 라인 수 (기본 100줄, 최대 5000줄)
+   * @param offset 이전 응답의 offset
+   * @param fileKey 이전 응답의 fileKey
    */
-  public void broadcastLog(String message) {
-    String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-    String logMessage = String.format("[%s] %s", timestamp, message);
-    
-    emitters.forEach(emitter -> {
-      try {
-        emitter.send(SseEmitter.event()
-            .name("log")
-            .data(logMessage));
-      } catch (IOException e) {
-        emitter.complete();
-        emitters.remove(emitter);
-      }
-    });
+  @GetMapping("/tail")
+  public ResponseEntity<BaseResponse<LogTailReader.Chunk>> tailLogFile(
+      @RequestParam(defaultValue = "100") int lines,
+      @RequestParam(required = false) Long offset,
+      @RequestParam(required = false) String fileKey) {
+    if (lines < 1 || lines > MAX_TAIL_LINES) {
+      return BaseResponse.errorResponse(
+          "LOG_READ_FAILED", String.format("조회 라인 수는 1~%d 사이여야 합니다.", MAX_TAIL_LINES));
+    }
+    try {
+      Path logPath = Paths.get(logFile);
+      LogTailReader.Chunk chunk = offset == null || fileKey == null
+          ? LogTailReader.tail(logPath, lines)
+          : LogTailReader.readFrom(logPath, offset, fileKey);
+      return BaseResponse.successResponse(chunk, String.format("로그 조회 완료 (%d줄)", chunk.getLineCount()));
+
+    } catch (IOException e) {
+      return BaseResponse.errorResponse("LOG_READ_FAILED", "로그 파일 읽기 실패: " + e.getMessage());
+    }
   }
 }
-
@@ -1,13 +1,16 @@
 package com.flow.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flow.api.domain.Member;
 import com.flow.api.domain.data.MemberDto;
+import com.flow.api.mapper.MemberMapper;
 import com.flow.api.service.MemberService;
 import com.woo.core.controller.BaseController;
 import com.woo.core.response.BaseResponse;
-import org.modelmapper.ModelMapper;
+import com.woo.core.util.export.StreamingExport;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -16,20 +19,17 @@ import java.util.List;
 public class MemberController extends BaseController<Member, MemberDto> {
 
   private final MemberService memberService;
+  private final ObjectMapper objectMapper;
 
-  public MemberController(MemberService memberService, ModelMapper modelMapper) {
-    super(memberService, modelMapper);
+  public MemberController(MemberService memberService, MemberMapper memberMapper, ObjectMapper objectMapper) {
+    super(memberService, memberMapper);
     this.memberService = memberService;
+    this.objectMapper = objectMapper;
   }
   
-  @Override
-  protected Class<MemberDto> getDtoClass() { return MemberDto.class; }
-
-  @Override
-  protected Class<Member> getEntityClass() { return Member.class; }
-  
   // ══════════비즈니스 로직═══════════════════
   // 1. GET /member-list?spaceId={spaceId} - 공간의 회원 목록 조회 (spaceId 필수)
+  // 2. GET /export?spaceId={spaceId}&format={ndjson|csv} - 공간의 회원 목록 내보내기 (스트리밍)
   // ══════════════════════════════════════
   
   @GetMapping("/member-list")
@@ -38,5 +38,22 @@ public class MemberController extends BaseController<Member, MemberDto> {
     List<Member> members = memberService.getMembersBySpace(spaceId);
     return successResponse(toDtoList(members), "멤버 목록 조회 완료");
   }
-}
 
+  /**
+   * 공간의 회원 목록 내보내기 (비밀번호 제외)
+   *
+   * @param format ndjson (기본, 한 줄에 회원 하나) 또는 csv
+   */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportMembers(
+      @RequestParam Long spaceId,
+      @RequestParam(defaultValue = "ndjson") String format) {
+    return StreamingExport.<MemberDto>response(
+        "members-" + spaceId,
+        format,
+        objectMapper,
+        new String[] {"memberId", "username", "role", "spaceId"},
+        member -> new Object[] {member.getMemberId(), member.getUsername(), member.getRole(), member.getSpaceId()},
+        consumer -> memberService.exportMembers(spaceId, member -> consumer.accept(toDto(member))));
+  }
+}
@@ -4,10 +4,11 @@ import com.flow.api.domain.Space;
 import com.flow.api.domain.data.SpaceCreationRequest;
 import com.flow.api.domain.data.SpaceCreationResponse;
 import com.flow.api.domain.data.SpaceDto;
+import com.flow.api.domain.data.SpaceProvisionResult;
+import com.flow.api.mapper.SpaceMapper;
 import com.flow.api.service.SpaceService;
 import com.woo.core.controller.BaseController;
 import com.woo.core.response.BaseResponse;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,21 +20,16 @@ public class SpaceController extends BaseController<Space, SpaceDto> {
 
   private final SpaceService spaceService;
 
-  public SpaceController(SpaceService spaceService, ModelMapper modelMapper) {
-    super(spaceService, modelMapper);
+  public SpaceController(SpaceService spaceService, SpaceMapper spaceMapper) {
+    super(spaceService, spaceMapper);
     this.spaceService = spaceService;
   }
   
-  @Override
-  protected Class<SpaceDto> getDtoClass() { return SpaceDto.class; }
-
-  @Override
-  protected Class<Space> getEntityClass() { return Space.class; }
-  
   // ══════════비즈니스 로직═══════════════════
   // 1. GET /space-list - 모든 공간 조회
   // 2. POST /create-with-admin - Space + Admin Member + 고정 확장자 동시 생성
-  // 3. POST /{spaceId}/top6 - Top-6 고정 확장자 자동 삽입 (레거시)
+  // 3. POST /{spaceId}/top6?limit={n} - 인기 Top-N 고정 확장자 자동 삽입 (레거시, 기본 6개)
+  // 4. POST /bulk-create-with-admin - Space + Admin Member + 고정 확장자 일괄 생성 (항목별 결과 반환)
   // ══════════════════════════════════════
   
   @GetMapping("/space-list")
@@ -59,10 +55,37 @@ public class SpaceController extends BaseController<Space, SpaceDto> {
     return successResponse(response, "Space 및 Admin Member 생성 완료");
   }
 
+  /**
+   * Space + Admin Member + 고정 확장자 일괄 생성 (테넌트 온보딩)
+   *
+   * <p>요청 본문: {@code [{"spaceName": "...", "description": "...", "adminUsername": "...", "adminPassword": "..."}, ...]}
+   * <p>중복/검증 실패 항목은 제외하고 나머지를 생성하며, 입력 순서대로 항목별 결과를 반환한다.
+   */
+  @PostMapping("/bulk-create-with-admin")
+  public ResponseEntity<BaseResponse<SpaceProvisionResult>> provisionSpaces(
+      @RequestBody List<SpaceCreationRequest> requests) {
+    try {
+      SpaceProvisionResult result = spaceService.provisionSpaces(requests);
+      return successResponse(result, "Space 일괄 생성 완료");
+
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(BaseResponse.error("SPACE_PROVISION_FAILED", e.getMessage()));
+    }
+  }
+
   @PostMapping("/{spaceId}/top6")
-  public ResponseEntity<BaseResponse<Void>> insertTop6Extensions(@PathVariable Long spaceId, @RequestParam Long memberId) {
-    spaceService.insertTop6Extensions(spaceId, memberId);
-    return successResponse(null, "Top-6 고정 확장자 삽입 완료");
+  public ResponseEntity<BaseResponse<Void>> insertTopExtensions(
+      @PathVariable Long spaceId,
+      @RequestParam Long memberId,
+      @RequestParam(defaultValue = "6") int limit) {
+    try {
+      spaceService.insertTopExtensions(spaceId, memberId, limit);
+      return successResponse(null, String.format("Top-%d 고정 확장자 삽입 완료", limit));
+
+    } catch (IllegalArgumentException e) {
+      // limit 이 인기도 스냅샷 크기(extension.popularity.snapshot-size)를 넘는 경우
+      return ResponseEntity.badRequest().body(BaseResponse.error("SPACE_TOP_EXTENSIONS_FAILED", e.getMessage()));
+    }
   }
 }
 
@@ -24,6 +24,8 @@ import java.util.Map;
  *   <li>3-disguised: 확장자 위장 (2단계 차단)</li>
  *   <li>4-archive: 압축 파일 (3단계 테스트)</li>
  * </ul>
+ *
+ * <p>요청 시 생성하는 적대적 압축 파일(/generated)은 {@link GeneratedTestFileController} 참고.
  */
 @RestController
 @RequestMapping("/api/test-files")
@@ -104,4 +106,3 @@ public class TestFileController {
     return BaseResponse.successResponse(categories, "카테고리 목록 조회 완료");
   }
 }
-
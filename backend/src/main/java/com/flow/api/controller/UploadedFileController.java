@@ -1,22 +1,31 @@
 package com.flow.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flow.api.domain.UploadedFile;
 import com.flow.api.domain.data.UploadedFileDto;
+import com.flow.api.mapper.UploadedFileMapper;
 import com.flow.api.service.UploadedFileService;
 import com.woo.core.controller.BaseController;
 import com.woo.core.response.BaseResponse;
-import org.modelmapper.ModelMapper;
+import com.woo.core.util.export.StreamingExport;
+import com.woo.core.util.timing.ServerTiming;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.MalformedURLException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -24,36 +33,50 @@ import java.util.List;
 public class UploadedFileController extends BaseController<UploadedFile, UploadedFileDto> {
 
   private final UploadedFileService uploadedFileService;
+  private final ObjectMapper objectMapper;
 
-  public UploadedFileController(UploadedFileService uploadedFileService, ModelMapper modelMapper) {
-    super(uploadedFileService, modelMapper);
+  public UploadedFileController(
+      UploadedFileService uploadedFileService,
+      UploadedFileMapper uploadedFileMapper,
+      ObjectMapper objectMapper) {
+    super(uploadedFileService, uploadedFileMapper);
     this.uploadedFileService = uploadedFileService;
+    this.objectMapper = objectMapper;
   }
   
-  @Override
-  protected Class<UploadedFileDto> getDtoClass() { return UploadedFileDto.class; }
-
-  @Override
-  protected Class<UploadedFile> getEntityClass() { return UploadedFile.class; }
-  
   // ══════════비즈니스 로직═══════════════════
   // 1. POST /upload - 파일 업로드 (차단 확장자 검증 포함)
-  // 2. GET /list - 공간의 모든 파일 조회
-  // 3. GET /count - 공간의 파일 개수
+  // 2. GET /list?since={yyyy-MM-dd} - 공간의 파일 조회 (since 생략 시 보존 기간 전체)
+  // 3. GET /count?since={yyyy-MM-dd} - 공간의 파일 개수
   // 4. GET /check-extension - 확장자 차단 여부 확인
   // 5. GET /download/{fileId} - 파일 다운로드
+  // 6. PATCH /bulk-soft-delete - 파일 일괄 Soft Delete (ID 목록)
+  // 7. PATCH /bulk-soft-delete/by-space?extension={ext}&before={yyyy-MM-dd} - 조건 일괄 Soft Delete
+  // 8. GET /export?since={yyyy-MM-dd}&format={ndjson|csv} - 공간의 파일 목록 내보내기 (스트리밍)
+  // 9. GET /search-by-name?q={검색어}&match={contains|prefix}&extension={ext}&uploaderId={id} - 파일명 검색 (페이지)
   // ══════════════════════════════════════
   
+  /**
+   * 파일 업로드
+   *
+   * <p>응답 헤더 Server-Timing 에 방어 단계별 처리 시간(policy, extension, mime, archive, store, persist, total)이 담긴다.
+   */
   @PostMapping("/upload")
   public ResponseEntity<BaseResponse<UploadedFileDto>> uploadFile(
       @RequestParam Long spaceId,
-      @RequestParam("file") MultipartFile file) {
+      @RequestParam("file") MultipartFile file,
+      HttpServletResponse response) {
+    ServerTiming timing = new ServerTiming();
     try {
-      UploadedFile uploadedFile = uploadedFileService.uploadFile(spaceId, file);
+      UploadedFile uploadedFile = uploadedFileService.uploadFile(spaceId, file, timing);
       return successResponse(toDto(uploadedFile), "파일 업로드 완료");
 
     } catch (IllegalArgumentException e) {
       return ResponseEntity.badRequest().body(BaseResponse.error("FILE_UPLOAD_FAILED", e.getMessage()));
+    } finally {
+      if (!timing.isEmpty()) {
+        response.setHeader(ServerTiming.HEADER, timing.toHeaderValue());
+      }
     }
   }
 
@@ -66,17 +89,103 @@ public class UploadedFileController extends BaseController<UploadedFile, Uploade
   }
 
   @GetMapping("/list")
-  public ResponseEntity<BaseResponse<List<UploadedFileDto>>> getFiles(@RequestParam Long spaceId) {
-    List<UploadedFileDto> files = uploadedFileService.getFilesBySpaceWithUploader(spaceId);
+  public ResponseEntity<BaseResponse<List<UploadedFileDto>>> getFiles(
+      @RequestParam Long spaceId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate since) {
+    List<UploadedFileDto> files = uploadedFileService.getFilesBySpaceWithUploader(spaceId, startOf(since));
     return successResponse(files, "파일 목록 조회 완료");
   }
 
   @GetMapping("/count")
-  public ResponseEntity<BaseResponse<Long>> countFiles(@RequestParam Long spaceId) {
-    Long count = uploadedFileService.countFilesBySpace(spaceId);
+  public ResponseEntity<BaseResponse<Long>> countFiles(
+      @RequestParam Long spaceId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate since) {
+    Long count = uploadedFileService.countFilesBySpace(spaceId, startOf(since));
     return successResponse(count, "파일 개수 조회 완료");
   }
 
+  /**
+   * 원본 파일명 검색
+   *
+   * <p>대소문자를 구분하지 않으며, 정확히 일치 → 접두 일치 → 유사도 → 최신순으로 정렬된다.
+   *
+   * @param match contains (기본, 부분 일치 - 검색어가 3자 미만이면 접두 일치) 또는 prefix (접두 일치)
+   */
+  @GetMapping("/search-by-name")
+  public ResponseEntity<BaseResponse<Page<UploadedFileDto>>> searchFiles(
+      @RequestParam Long spaceId,
+      @RequestParam("q") String query,
+      @RequestParam(defaultValue = "contains") String match,
+      @RequestParam(required = false) String extension,
+      @RequestParam(required = false) Long uploaderId,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "20") int size) {
+    try {
+      if (!"contains".equalsIgnoreCase(match) && !"prefix".equalsIgnoreCase(match)) {
+        throw new IllegalArgumentException("지원하지 않는 검색 방식입니다: " + match);
+      }
+      Page<UploadedFileDto> files = uploadedFileService.searchFiles(
+          spaceId, query, "prefix".equalsIgnoreCase(match), extension, uploaderId, page, size);
+      return successResponse(files, "파일 검색 완료");
+
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(BaseResponse.error("FILE_SEARCH_FAILED", e.getMessage()));
+    }
+  }
+
+  /**
+   * 공간의 파일 목록 내보내기
+   *
+   * <p>DB 커서로 읽은 행을 바로 응답에 기록하므로 파일 수와 관계없이 메모리 사용량이 일정하다.
+   *
+   * @param format ndjson (기본, 한 줄에 파일 하나) 또는 csv
+   */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportFiles(
+      @RequestParam Long spaceId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate since,
+      @RequestParam(defaultValue = "ndjson") String format) {
+    return StreamingExport.<UploadedFileDto>response(
+        "uploaded-files-" + spaceId,
+        format,
+        objectMapper,
+        new String[] {"fileId", "originalName", "extension", "fileSize", "mimeType", "createdAt", "uploaderName"},
+        file -> new Object[] {file.getFileId(), file.getOriginalName(), file.getExtension(), file.getFileSize(),
+            file.getMimeType(), file.getCreatedAt(), file.getUploaderName()},
+        consumer -> uploadedFileService.exportFiles(spaceId, startOf(since), consumer));
+  }
+
+  /**
+   * 파일 일괄 Soft Delete
+   *
+   * <p>요청 본문: {@code [101, 102, 103]} (다른 공간의 파일 ID 는 무시)
+   */
+  @PatchMapping("/bulk-soft-delete")
+  public ResponseEntity<BaseResponse<Integer>> softDeleteFiles(
+      @RequestParam Long spaceId,
+      @RequestBody List<Long> fileIds) {
+    try {
+      int deleted = uploadedFileService.softDeleteFiles(spaceId, fileIds);
+      return successResponse(deleted, "파일 일괄 삭제 완료");
+
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(BaseResponse.error("FILE_DELETE_FAILED", e.getMessage()));
+    }
+  }
+
+  @PatchMapping("/bulk-soft-delete/by-space")
+  public ResponseEntity<BaseResponse<Integer>> softDeleteFilesBySpace(
+      @RequestParam Long spaceId,
+      @RequestParam(required = false) String extension,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate before) {
+    int deleted = uploadedFileService.softDeleteFilesBySpace(spaceId, extension, startOf(before));
+    return successResponse(deleted, "파일 일괄 삭제 완료");
+  }
+
+  private static LocalDateTime startOf(LocalDate date) {
+    return date == null ? null : date.atStartOfDay();
+  }
+
   /**
    * 업로드된 파일 다운로드
    * 
@@ -0,0 +1,61 @@
+package com.flow.api.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 (추가 전용)
+ *
+ * <p>파일 업로드/거부, 확장자 변경, 공간 생성 이력을 기록한다.
+ * 한 번 기록된 행은 수정/삭제하지 않으므로 BaseEntity(수정자, 삭제 여부)를 상속하지 않는다.
+ * 기록은 {@code AuditLogWriter} 가 요청 스레드 밖에서 모아서 저장한다.
+ */
+@Entity
+@Table(name = "audit_log", indexes = {
+    @Index(name = "idx_audit_log_occurred_at", columnList = "occurred_at"),
+    @Index(name = "idx_audit_log_space_occurred", columnList = "space_id, occurred_at")
+})
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLog {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_log_audit_id_gen")
+  @SequenceGenerator(name = "audit_log_audit_id_gen", sequenceName = "audit_log_audit_id_seq", allocationSize = 50)
+  private Long auditId;
+
+  @Column(nullable = false)
+  private LocalDateTime occurredAt;
+
+  private Long spaceId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 30)
+  private Action action;
+
+  private Long actorId;
+
+  @Column(length = 255)
+  private String target;
+
+  @Column(length = 40)
+  private String reason;
+
+  @Column(length = 500)
+  private String detail;
+
+  public enum Action {
+    FILE_UPLOADED,        // 파일 업로드 성공
+    FILE_REJECTED,        // 파일 업로드 거부 (reason: 거부 사유)
+    EXTENSION_ADDED,      // 커스텀 확장자 추가/재활성화
+    EXTENSION_REMOVED,    // 커스텀 확장자 삭제
+    EXTENSION_TOGGLED,    // 고정 확장자 체크/언체크
+    EXTENSIONS_IMPORTED,  // 커스텀 확장자 일괄 등록
+    SPACE_CREATED         // 공간 생성
+  }
+}
@@ -20,7 +20,8 @@ import lombok.experimental.SuperBuilder;
 public class BlockedExtension extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "blocked_extension_blocked_id_gen")
+  @SequenceGenerator(name = "blocked_extension_blocked_id_gen", sequenceName = "blocked_extension_blocked_id_seq", allocationSize = 50)
   private Long blockedId;
 
   @Column(nullable = false)
@@ -0,0 +1,32 @@
+package com.flow.api.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 전역 확장자 인기도 카운터
+ *
+ * <p>커스텀 확장자 추가/삭제 시점에 증감되며, Top-N 추천 스냅샷의 원천 데이터로 사용된다.
+ * 공간(Space)에 속하지 않는 전역 집계 테이블이므로 BaseEntity를 상속하지 않는다.
+ */
+@Entity
+@Table(name = "extension_popularity")
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExtensionPopularity {
+
+  @Id
+  @Column(length = 20)
+  private String extension;
+
+  @Column(nullable = false)
+  private Long usageCount;
+
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+}
@@ -4,10 +4,14 @@ import com.woo.core.domain.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 
 @Entity
 @Table(name = "member")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
 @Getter
 @Setter
 @ToString(callSuper = true)
@@ -17,7 +21,8 @@ import lombok.experimental.SuperBuilder;
 public class Member extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_member_id_gen")
+  @SequenceGenerator(name = "member_member_id_gen", sequenceName = "member_member_id_seq", allocationSize = 50)
   private Long memberId;
 
   @Column(length = 100, nullable = false, unique = true)
@@ -4,10 +4,14 @@ import com.woo.core.domain.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 
 @Entity
 @Table(name = "space")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "space")
 @Getter
 @Setter
 @ToString(callSuper = true)
@@ -17,7 +21,8 @@ import lombok.experimental.SuperBuilder;
 public class Space extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "space_space_id_gen")
+  @SequenceGenerator(name = "space_space_id_gen", sequenceName = "space_space_id_seq", allocationSize = 50)
   private Long spaceId;
 
   @Column(length = 255, nullable = false)
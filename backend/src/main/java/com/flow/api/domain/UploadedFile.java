@@ -7,7 +7,11 @@ import lombok.experimental.SuperBuilder;
 
 
 @Entity
-@Table(name = "uploaded_file")
+@Table(
+  name = "uploaded_file",
+  // 파티션 테이블의 UNIQUE 는 파티션 키(created_at)를 포함해야 함 (stored_name 은 UUID 라 사실상 전역 유일)
+  uniqueConstraints = @UniqueConstraint(name = "uq_uploaded_file_stored_name", columnNames = {"stored_name", "created_at"})
+)
 @Getter
 @Setter
 @ToString(callSuper = true)
@@ -17,7 +21,8 @@ import lombok.experimental.SuperBuilder;
 public class UploadedFile extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "uploaded_file_file_id_gen")
+  @SequenceGenerator(name = "uploaded_file_file_id_gen", sequenceName = "uploaded_file_file_id_seq", allocationSize = 50)
   private Long fileId;
 
   @Column(nullable = false)
@@ -26,7 +31,7 @@ public class UploadedFile extends BaseEntity {
   @Column(length = 255, nullable = false)
   private String originalName;
 
-  @Column(length = 255, nullable = false, unique = true)
+  @Column(length = 255, nullable = false)
   private String storedName;
 
   @Column(length = 20, nullable = false)
@@ -0,0 +1,33 @@
+package com.flow.api.domain.data;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.flow.api.domain.AuditLog;
+import com.woo.core.util.common.Identifiable;
+import java.time.LocalDateTime;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditLogDto implements Identifiable {
+
+  // 메모리 링에서 바로 조회한 항목은 아직 저장 전이면 null
+  private Long auditId;
+  private LocalDateTime occurredAt;
+  private Long spaceId;
+  private AuditLog.Action action;
+  private Long actorId;
+  private String target;
+  private String reason;
+  private String detail;
+
+  @Override
+  @JsonIgnore
+  public Long getId() { return auditId; }
+
+  @Override
+  @JsonIgnore
+  public void setId(Long id) { this.auditId = id; }
+}
@@ -0,0 +1,20 @@
+package com.flow.api.domain.data;
+
+import lombok.*;
+
+/**
+ * 2차 캐시 / 쿼리 캐시 영역별 통계 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheRegionStatsDto {
+
+  private String region;
+  private Long hitCount;
+  private Long missCount;
+  private Long putCount;
+  private Double hitRatio;  // hit / (hit + miss), 조회 이력 없으면 0
+}
@@ -0,0 +1,50 @@
+package com.flow.api.domain.data;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * 커스텀 확장자 일괄 등록 결과 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExtensionImportResult {
+
+  private Integer requestedCount;
+  private Integer createdCount;
+  private Integer reactivatedCount;
+  private Integer skippedCount;
+  private Integer rejectedCount;
+  private List<Item> items;
+
+  /**
+   * 입력 항목별 처리 결과
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class Item {
+    private String input;
+    private String extension;
+    private Status status;
+    private String message;
+  }
+
+  /**
+   * 항목 처리 상태
+   */
+  public enum Status {
+    CREATED,          // 신규 등록
+    REACTIVATED,      // 삭제된 커스텀 확장자 재활성화
+    ALREADY_EXISTS,   // 이미 활성화된 커스텀 확장자 (건너뜀)
+    DUPLICATE,        // 요청 내 중복 (건너뜀)
+    FIXED_EXTENSION,  // 고정 확장자와 중복 (거부)
+    INVALID,          // 형식/길이 검증 실패 (거부)
+    LIMIT_EXCEEDED    // 커스텀 확장자 최대 개수 초과 (거부)
+  }
+}
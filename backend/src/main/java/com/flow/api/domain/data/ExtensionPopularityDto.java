@@ -0,0 +1,17 @@
+package com.flow.api.domain.data;
+
+import lombok.*;
+
+/**
+ * 확장자 인기도 DTO (Top-N 추천 응답)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExtensionPopularityDto {
+
+  private String extension;
+  private Long usageCount;
+}
@@ -0,0 +1,23 @@
+package com.flow.api.domain.data;
+
+import lombok.*;
+
+/**
+ * 생성형 압축 파일 코퍼스 케이스 DTO (/api/test-files/generated)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeneratedArchiveDto {
+
+  private String name;
+  private String kind;        // CorpusCase.Kind (MANY_ENTRIES, OVERLAP_BOMB 등)
+  private String fileName;
+  private Integer entries;
+  private Integer depth;
+  private Long entryBytes;
+  private Long seed;
+  private Boolean bomb;       // 작은 파일이 매우 크게 풀리도록 만든 케이스
+}
@@ -0,0 +1,48 @@
+package com.flow.api.domain.data;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * Space 일괄 생성 결과 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpaceProvisionResult {
+
+  private Integer requestedCount;
+  private Integer createdCount;
+  private Integer rejectedCount;
+  private List<Item> items;
+
+  /**
+   * 입력 항목별 처리 결과 (요청 순서)
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class Item {
+    private String spaceName;
+    private String adminUsername;
+    private Long spaceId;
+    private Long adminMemberId;
+    private Status status;
+    private String message;
+  }
+
+  /**
+   * 항목 처리 상태
+   */
+  public enum Status {
+    CREATED,              // Space + Admin + 고정 확장자 생성
+    DUPLICATE,            // 요청 내 Space명 / 사용자명 중복 (거부)
+    SPACE_NAME_EXISTS,    // 이미 존재하는 Space명 (거부)
+    USERNAME_EXISTS,      // 이미 존재하는 사용자명 (거부)
+    INVALID               // 필수값 누락 / 길이 초과 (거부)
+  }
+}
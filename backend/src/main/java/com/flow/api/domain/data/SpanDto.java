@@ -0,0 +1,21 @@
+package com.flow.api.domain.data;
+
+import java.util.List;
+import lombok.*;
+
+/**
+ * 요청 구간 DTO (구간 트리의 한 노드)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpanDto {
+
+  private String name;        // "계층 클래스#메서드" 또는 "stage 단계"
+  private Double offsetMs;    // 요청 시작 기준 시작 시각
+  private Double durationMs;
+  private String error;       // 예외로 끝났으면 예외 클래스 이름
+  private List<SpanDto> children;
+}
@@ -0,0 +1,23 @@
+package com.flow.api.domain.data;
+
+import java.time.Instant;
+import lombok.*;
+
+/**
+ * 요청 구간 트리 DTO (/api/diagnostics/traces)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TraceDto {
+
+  private String endpoint;      // "메서드 URL패턴" (예: POST /api/uploaded-files/upload)
+  private String uri;
+  private Integer status;
+  private Instant startedAt;
+  private Double durationMs;
+  private Integer droppedSpans; // trace.max-spans 초과로 기록하지 못한 구간 수
+  private SpanDto root;
+}
@@ -0,0 +1,14 @@
+package com.flow.api.mapper;
+
+import com.flow.api.domain.AuditLog;
+import com.flow.api.domain.data.AuditLogDto;
+import com.woo.core.mapper.BaseMapper;
+import com.woo.core.mapper.BaseMapperConfig;
+import org.mapstruct.Mapper;
+
+/**
+ * 감사 로그 Entity ↔ DTO 매퍼 (구현체는 컴파일 시 생성)
+ */
+@Mapper(config = BaseMapperConfig.class)
+public interface AuditLogMapper extends BaseMapper<AuditLog, AuditLogDto> {
+}
@@ -0,0 +1,14 @@
+package com.flow.api.mapper;
+
+import com.flow.api.domain.BlockedExtension;
+import com.flow.api.domain.data.BlockedExtensionDto;
+import com.woo.core.mapper.BaseMapper;
+import com.woo.core.mapper.BaseMapperConfig;
+import org.mapstruct.Mapper;
+
+/**
+ * 차단 확장자 Entity ↔ DTO 매퍼 (구현체는 컴파일 시 생성)
+ */
+@Mapper(config = BaseMapperConfig.class)
+public interface BlockedExtensionMapper extends BaseMapper<BlockedExtension, BlockedExtensionDto> {
+}
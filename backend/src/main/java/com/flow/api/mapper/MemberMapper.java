@@ -0,0 +1,14 @@
+package com.flow.api.mapper;
+
+import com.flow.api.domain.Member;
+import com.flow.api.domain.data.MemberDto;
+import com.woo.core.mapper.BaseMapper;
+import com.woo.core.mapper.BaseMapperConfig;
+import org.mapstruct.Mapper;
+
+/**
+ * Member Entity ↔ DTO 매퍼 (구현체는 컴파일 시 생성)
+ */
+@Mapper(config = BaseMapperConfig.class)
+public interface MemberMapper extends BaseMapper<Member, MemberDto> {
+}
@@ -0,0 +1,14 @@
+package com.flow.api.mapper;
+
+import com.flow.api.domain.Space;
+import com.flow.api.domain.data.SpaceDto;
+import com.woo.core.mapper.BaseMapper;
+import com.woo.core.mapper.BaseMapperConfig;
+import org.mapstruct.Mapper;
+
+/**
+ * Space Entity ↔ DTO 매퍼 (구현체는 컴파일 시 생성)
+ */
+@Mapper(config = BaseMapperConfig.class)
+public interface SpaceMapper extends BaseMapper<Space, SpaceDto> {
+}
@@ -0,0 +1,14 @@
+package com.flow.api.mapper;
+
+import com.flow.api.domain.UploadedFile;
+import com.flow.api.domain.data.UploadedFileDto;
+import com.woo.core.mapper.BaseMapper;
+import com.woo.core.mapper.BaseMapperConfig;
+import org.mapstruct.Mapper;
+
+/**
+ * 업로드 파일 Entity ↔ DTO 매퍼 (구현체는 컴파일 시 생성)
+ */
+@Mapper(config = BaseMapperConfig.class)
+public interface UploadedFileMapper extends BaseMapper<UploadedFile, UploadedFileDto> {
+}
@@ -0,0 +1,38 @@
+package com.flow.api.repository;
+
+import com.flow.api.domain.AuditLog;
+import com.woo.core.repository.BaseRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AuditLogRepository extends BaseRepository<AuditLog, Long> {
+
+  // ══════════════════════════════════════
+  // ========== 조회 메서드 ==========
+  // 1. 최근 N건 조회 - findRecent
+  // 2. 공간별 최근 N건 조회 - findRecentBySpaceId
+  // 3. 특정 시각 이후 N건 조회 (오래된 순) - findSince
+  // ══════════════════════════════════════
+
+  // 최근 N건 조회 (idx_audit_log_occurred_at 역방향 스캔)
+  // SELECT * FROM audit_log ORDER BY occurred_at DESC, audit_id DESC LIMIT ?
+  @Query(value = "SELECT * FROM audit_log ORDER BY occurred_at DESC, audit_id DESC LIMIT :limit",
+      nativeQuery = true)
+  List<AuditLog> findRecent(@Param("limit") int limit);
+
+  // 공간별 최근 N건 조회 (idx_audit_log_space_occurred 역방향 스캔)
+  // SELECT * FROM audit_log WHERE space_id = ? ORDER BY occurred_at DESC, audit_id DESC LIMIT ?
+  @Query(value = "SELECT * FROM audit_log WHERE space_id = :spaceId "
+      + "ORDER BY occurred_at DESC, audit_id DESC LIMIT :limit", nativeQuery = true)
+  List<AuditLog> findRecentBySpaceId(@Param("spaceId") Long spaceId, @Param("limit") int limit);
+
+  // 특정 시각 이후 N건 조회 (오래된 순, 마지막 occurred_at 으로 이어서 조회)
+  // SELECT * FROM audit_log WHERE occurred_at >= ? ORDER BY occurred_at ASC, audit_id ASC LIMIT ?
+  @Query(value = "SELECT * FROM audit_log WHERE occurred_at >= :since "
+      + "ORDER BY occurred_at ASC, audit_id ASC LIMIT :limit", nativeQuery = true)
+  List<AuditLog> findSince(@Param("since") LocalDateTime since, @Param("limit") int limit);
+}
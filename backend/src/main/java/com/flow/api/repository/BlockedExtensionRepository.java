@@ -2,10 +2,18 @@ package com.flow.api.repository;
 
 import com.flow.api.domain.BlockedExtension;
 import com.woo.core.repository.BaseRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
 @Repository
@@ -19,7 +27,16 @@ public interface BlockedExtensionRepository extends BaseRepository<BlockedExtens
   // 4. 특정 확장자 조회 (중복 확인용) - findBySpaceIdAndExtension
   // 5. 특정 확장자 조회 (활성화만) - findBySpaceIdAndExtensionAndIsDeletedFalse
   // 6. 커스텀 확장자 개수 - countBySpaceIdAndIsFixedAndIsDeletedFalse
-  // 7. Top-6 인기 확장자 조회 - findTop6CustomExtensions
+  // 7. 여러 확장자 일괄 조회 (일괄 등록 사전 분류용) - findBySpaceIdAndExtensionIn
+  // 8. 고정/커스텀 확장자 스트림 조회 (내보내기용) - streamBySpaceIdAndIsFixedAndIsDeletedFalseOrderByExtensionAsc
+  // (Top-N 인기 확장자는 ExtensionPopularityRepository 카운터 테이블에서 조회)
+  // ========== 변경 메서드 ==========
+  // 9. 공간의 커스텀 확장자 등록 잠금 (200개 제한 확인용, 트랜잭션 범위) - lockCustomExtensions
+  // 10. 커스텀 확장자 일괄 UPSERT - upsertCustomExtensions
+  // 11. 커스텀 확장자 단건 등록/재활성화 (200개 제한 포함) - insertOrReactivateCustomExtension
+  // 12. 고정 확장자 활성화 상태 반전 - toggleFixedExtension
+  // 13. 커스텀 확장자 일괄 Soft Delete (ID 목록 / 공간 전체) - softDeleteCustomExtensions, softDeleteAllCustomExtensions
+  // 14. 오래전 삭제된 커스텀 확장자 물리 삭제 (배치 단위) - purgeDeletedCustomExtensions
   // ══════════════════════════════════════
   
   // 공간의 모든 차단 확장자 조회 (삭제되지 않은 것만)
@@ -46,9 +63,102 @@ public interface BlockedExtensionRepository extends BaseRepository<BlockedExtens
   // SELECT COUNT(*) FROM blocked_extension WHERE space_id = ? AND is_fixed = ? AND is_deleted = false
   Long countBySpaceIdAndIsFixedAndIsDeletedFalse(Long spaceId, Boolean isFixed);
 
-  // Top-6 확장자 조회 (전역, 고정/커스텀 구분 없이 사용 빈도 기준)
-  // SELECT extension, COUNT(*) FROM blocked_extension WHERE is_deleted=false GROUP BY extension ORDER BY COUNT(*) DESC LIMIT 6
-  @Query(value = "SELECT extension, COUNT(*) as cnt FROM blocked_extension WHERE is_deleted = false GROUP BY extension ORDER BY cnt DESC LIMIT 6", nativeQuery = true)
-  List<Object[]> findTop6CustomExtensions();
-}
+  // 공간의 여러 확장자 조회 (삭제 여부 무관)
+  // SELECT * FROM blocked_extension WHERE space_id = ? AND extension IN (?, ?, ...)
+  List<BlockedExtension> findBySpaceIdAndExtensionIn(Long spaceId, Collection<String> extensions);
+
+  // 공간의 고정/커스텀 확장자 스트림 조회 (서버 커서, fetch size 단위로 전송)
+  // SELECT * FROM blocked_extension WHERE space_id = ? AND is_fixed = ? AND is_deleted = false ORDER BY extension ASC
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  Stream<BlockedExtension> streamBySpaceIdAndIsFixedAndIsDeletedFalseOrderByExtensionAsc(Long spaceId, Boolean isFixed);
+
+  // 공간의 커스텀 확장자 등록 잠금 (트랜잭션 종료 시 해제)
+  // - 개수 확인 후 INSERT 하는 단건 / 일괄 등록이 같은 공간에서 동시에 실행되어 200개를 넘지 않도록 직렬화
+  // - 키: (hashtext('blocked_extension'), space_id) - Space 생성 잠금(hashtext('space'))과 classid 가 다름
+  //   (space_id 가 int 범위를 넘으면 나머지로 접어서 사용, 겹치면 두 공간이 함께 직렬화될 뿐)
+  // SELECT 1 FROM pg_advisory_xact_lock(hashtext('blocked_extension'), CAST(? % 2147483647 AS int))
+  @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('blocked_extension'), "
+      + "CAST(:spaceId % 2147483647 AS int))", nativeQuery = true)
+  Integer lockCustomExtensions(@Param("spaceId") Long spaceId);
+
+  // 커스텀 확장자 일괄 UPSERT (단일 문장)
+  // - 없는 확장자: INSERT (커스텀, 활성화)
+  // - 삭제된 커스텀 확장자: is_deleted = false 로 재활성화
+  // - 고정 확장자 / 활성화된 커스텀 확장자: 변경 없음 (RETURNING 결과에서 제외됨)
+  // RETURNING extension, inserted (xmax = 0 이면 신규 INSERT, 아니면 UPDATE)
+  @Query(value = "INSERT INTO blocked_extension "
+      + "(blocked_id, space_id, extension, is_fixed, created_at, updated_at, created_by, updated_by, is_deleted) "
+      + "SELECT nextval('blocked_extension_blocked_id_seq'), :spaceId, ext, false, now(), now(), :memberId, :memberId, false "
+      + "FROM unnest(CAST(:extensions AS text[])) AS ext "
+      + "ON CONFLICT (space_id, extension) DO UPDATE "
+      + "SET is_deleted = false, updated_at = now(), updated_by = EXCLUDED.updated_by "
+      + "WHERE blocked_extension.is_fixed = false AND blocked_extension.is_deleted = true "
+      + "RETURNING extension, (xmax = 0) AS inserted", nativeQuery = true)
+  List<Object[]> upsertCustomExtensions(
+      @Param("spaceId") Long spaceId,
+      @Param("memberId") Long memberId,
+      @Param("extensions") String[] extensions);
 
+  // 커스텀 확장자 단건 등록/재활성화 (단일 문장)
+  // - 활성 커스텀 확장자가 maxCount 개 이상이면 INSERT 대상 행이 없어 아무것도 변경하지 않음
+  // - 없는 확장자: INSERT / 삭제된 커스텀 확장자: 재활성화
+  // - 고정 확장자 / 활성화된 커스텀 확장자: 변경 없음 (빈 결과)
+  // 동시 등록 시에도 유니크 제약 예외 대신 ON CONFLICT 로 처리됨
+  // (개수는 문장 시작 시점 스냅샷이므로 호출 전에 lockCustomExtensions 로 잠가야 제한이 지켜짐)
+  @Query(value = "WITH active AS ("
+      + "SELECT count(*) AS cnt FROM blocked_extension "
+      + "WHERE space_id = :spaceId AND is_fixed = false AND is_deleted = false) "
+      + "INSERT INTO blocked_extension "
+      + "(blocked_id, space_id, extension, is_fixed, created_at, updated_at, created_by, updated_by, is_deleted) "
+      + "SELECT nextval('blocked_extension_blocked_id_seq'), :spaceId, :extension, false, now(), now(), :memberId, :memberId, false "
+      + "FROM active WHERE active.cnt < :maxCount "
+      + "ON CONFLICT (space_id, extension) DO UPDATE "
+      + "SET is_deleted = false, updated_at = now(), updated_by = EXCLUDED.updated_by "
+      + "WHERE blocked_extension.is_fixed = false AND blocked_extension.is_deleted = true "
+      + "RETURNING *", nativeQuery = true)
+  Optional<BlockedExtension> insertOrReactivateCustomExtension(
+      @Param("spaceId") Long spaceId,
+      @Param("extension") String extension,
+      @Param("memberId") Long memberId,
+      @Param("maxCount") int maxCount);
+
+  // 고정 확장자 활성화 상태 반전 (행 잠금으로 동시 토글이 순서대로 적용됨)
+  // UPDATE blocked_extension SET is_deleted = NOT is_deleted, updated_at = now()
+  // WHERE space_id = ? AND extension = ? AND is_fixed = true RETURNING is_deleted
+  @Query(value = "UPDATE blocked_extension SET is_deleted = NOT is_deleted, updated_at = now() "
+      + "WHERE space_id = :spaceId AND extension = :extension AND is_fixed = true "
+      + "RETURNING is_deleted", nativeQuery = true)
+  Optional<Boolean> toggleFixedExtension(
+      @Param("spaceId") Long spaceId,
+      @Param("extension") String extension);
+
+  // 커스텀 확장자 ID 목록 일괄 Soft Delete (고정 확장자 / 다른 공간은 제외), 인기도 카운터 감소용으로 확장자명 반환
+  // UPDATE blocked_extension SET is_deleted = true, updated_at = now()
+  // WHERE space_id = ? AND blocked_id = ANY(?) AND is_fixed = false AND is_deleted = false RETURNING extension
+  @Query(value = "UPDATE blocked_extension SET is_deleted = true, updated_at = now() "
+      + "WHERE space_id = :spaceId AND blocked_id = ANY(CAST(:blockedIds AS bigint[])) "
+      + "AND is_fixed = false AND is_deleted = false "
+      + "RETURNING extension", nativeQuery = true)
+  List<String> softDeleteCustomExtensions(
+      @Param("spaceId") Long spaceId,
+      @Param("blockedIds") Long[] blockedIds);
+
+  // 공간의 활성 커스텀 확장자 전체 Soft Delete
+  // UPDATE blocked_extension SET is_deleted = true, updated_at = now()
+  // WHERE space_id = ? AND is_fixed = false AND is_deleted = false RETURNING extension
+  @Query(value = "UPDATE blocked_extension SET is_deleted = true, updated_at = now() "
+      + "WHERE space_id = :spaceId AND is_fixed = false AND is_deleted = false "
+      + "RETURNING extension", nativeQuery = true)
+  List<String> softDeleteAllCustomExtensions(@Param("spaceId") Long spaceId);
+
+  // deletedBefore 이전에 삭제된 커스텀 확장자를 최대 limit 건 물리 삭제
+  // (고정 확장자의 is_deleted 는 "비활성화" 상태이므로 대상 아님)
+  // native.spaces 힌트로 blocked_extension 관련 캐시만 무효화 (없으면 Space / Member 등 2차 캐시 전체를 비움)
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "blocked_extension"))
+  @Query(value = "DELETE FROM blocked_extension WHERE blocked_id IN ("
+      + "SELECT blocked_id FROM blocked_extension "
+      + "WHERE is_fixed = false AND is_deleted = true AND updated_at < :deletedBefore LIMIT :limit)",
+      nativeQuery = true)
+  int purgeDeletedCustomExtensions(@Param("deletedBefore") LocalDateTime deletedBefore, @Param("limit") int limit);
+}
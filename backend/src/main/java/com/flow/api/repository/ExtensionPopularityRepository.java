@@ -0,0 +1,70 @@
+package com.flow.api.repository;
+
+import com.flow.api.domain.ExtensionPopularity;
+import com.woo.core.repository.BaseRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface ExtensionPopularityRepository extends BaseRepository<ExtensionPopularity, String> {
+
+  // ══════════════════════════════════════
+  // ========== 조회 메서드 ==========
+  // 1. 사용 빈도 상위 N개 조회 - findTopByUsageCount
+  // ========== 변경 메서드 ==========
+  // 2. 카운터 증가 (없으면 생성) - increment
+  // 3. 카운터 감소 (0 미만 방지) - decrement
+  // 3-1. 여러 확장자 카운터 일괄 증가 - incrementAll
+  // 4. blocked_extension 기준 전체 재집계 - rebuildFromBlockedExtensions
+  // (변경 메서드는 native.spaces 힌트로 extension_popularity 만 지정 - 없으면 Space / Member 등 2차 캐시 전체를 비움)
+  // ══════════════════════════════════════
+
+  // 사용 빈도 상위 N개 조회 (PK 인덱스 + 소규모 테이블, 전역 GROUP BY 없음)
+  // SELECT * FROM extension_popularity WHERE usage_count > 0 ORDER BY usage_count DESC, extension ASC LIMIT ?
+  @Query(value = "SELECT * FROM extension_popularity WHERE usage_count > 0 "
+      + "ORDER BY usage_count DESC, extension ASC LIMIT :limit", nativeQuery = true)
+  List<ExtensionPopularity> findTopByUsageCount(@Param("limit") int limit);
+
+  // 카운터 증가 (행이 없으면 1로 생성)
+  // INSERT ... ON CONFLICT (extension) DO UPDATE SET usage_count = usage_count + 1
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "extension_popularity"))
+  @Query(value = "INSERT INTO extension_popularity (extension, usage_count, updated_at) VALUES (:extension, 1, now()) "
+      + "ON CONFLICT (extension) DO UPDATE SET usage_count = extension_popularity.usage_count + 1, updated_at = now()",
+      nativeQuery = true)
+  int increment(@Param("extension") String extension);
+
+  // 여러 확장자 카운터 일괄 증가 (입력 배열에 중복이 없어야 함)
+  // INSERT ... SELECT unnest(?) ON CONFLICT (extension) DO UPDATE SET usage_count = usage_count + 1
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "extension_popularity"))
+  @Query(value = "INSERT INTO extension_popularity (extension, usage_count, updated_at) "
+      + "SELECT ext, 1, now() FROM unnest(CAST(:extensions AS text[])) AS ext "
+      + "ON CONFLICT (extension) DO UPDATE SET usage_count = extension_popularity.usage_count + 1, updated_at = now()",
+      nativeQuery = true)
+  int incrementAll(@Param("extensions") String[] extensions);
+
+  // 카운터 감소 (0 미만으로 내려가지 않음)
+  // UPDATE extension_popularity SET usage_count = usage_count - 1 WHERE extension = ? AND usage_count > 0
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "extension_popularity"))
+  @Query(value = "UPDATE extension_popularity SET usage_count = usage_count - 1, updated_at = now() "
+      + "WHERE extension = :extension AND usage_count > 0", nativeQuery = true)
+  int decrement(@Param("extension") String extension);
+
+  // 활성화된 커스텀 확장자 기준으로 카운터 재집계 (카운터 테이블이 비어 있을 때 1회 사용)
+  // INSERT INTO extension_popularity SELECT extension, COUNT(*) FROM blocked_extension WHERE is_fixed = false AND is_deleted = false GROUP BY extension
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "extension_popularity"))
+  @Query(value = "INSERT INTO extension_popularity (extension, usage_count, updated_at) "
+      + "SELECT extension, COUNT(*), now() FROM blocked_extension WHERE is_fixed = false AND is_deleted = false "
+      + "GROUP BY extension ON CONFLICT (extension) DO UPDATE SET usage_count = EXCLUDED.usage_count, updated_at = now()",
+      nativeQuery = true)
+  int rebuildFromBlockedExtensions();
+}
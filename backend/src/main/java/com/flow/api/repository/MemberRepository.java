@@ -2,9 +2,13 @@ package com.flow.api.repository;
 
 import com.flow.api.domain.Member;
 import com.woo.core.repository.BaseRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MemberRepository extends BaseRepository<Member, Long> {
@@ -14,6 +18,7 @@ public interface MemberRepository extends BaseRepository<Member, Long> {
   // 1. 사용자명으로 조회 - findByUsernameAndIsDeletedFalse
   // 2. 사용자명 중복 확인 - existsByUsernameAndIsDeletedFalse
   // 3. Space별 멤버 목록 조회 - findBySpaceIdAndIsDeletedFalse
+  // 4. Space별 멤버 스트림 조회 (내보내기용) - streamBySpaceIdAndIsDeletedFalseOrderByMemberIdAsc
   // ══════════════════════════════════════
   
   // 사용자명으로 조회 (삭제되지 않은 것만)
@@ -24,8 +29,19 @@ public interface MemberRepository extends BaseRepository<Member, Long> {
   // SELECT COUNT(*) > 0 FROM member WHERE username = ? AND is_deleted = false
   boolean existsByUsernameAndIsDeletedFalse(String username);
 
-  // 공간의 모든 회원 조회 (삭제되지 않은 것만)
+  // 공간의 모든 회원 조회 (삭제되지 않은 것만, 쿼리 캐시 - member 테이블 변경 시 무효화)
   // SELECT * FROM member WHERE space_id = ? AND is_deleted = false
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.member")
+  })
   List<Member> findBySpaceIdAndIsDeletedFalse(Long spaceId);
-}
 
+  // 공간의 회원 스트림 조회 (내보내기용, 500행 단위 커서 + 2차 캐시 적재 안 함 - 트랜잭션 안에서만 사용)
+  // SELECT * FROM member WHERE space_id = ? AND is_deleted = false ORDER BY member_id
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+  })
+  Stream<Member> streamBySpaceIdAndIsDeletedFalseOrderByMemberIdAsc(Long spaceId);
+}
@@ -2,6 +2,12 @@ package com.flow.api.repository;
 
 import com.flow.api.domain.Space;
 import com.woo.core.repository.BaseRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,14 +19,84 @@ public interface SpaceRepository extends BaseRepository<Space, Long> {
   // ========== 조회 메서드 ==========
   // 1. 모든 Space 목록 조회 - findByIsDeletedFalse
   // 2. Space명 중복 확인 - existsBySpaceNameAndIsDeletedFalse
+  // 3. 일괄 생성 대상 Space명 / 사용자명 중복 조회 - findExistingNames
+  // ========== 생성 ==========
+  // 4. Space명 / 사용자명 선점 잠금 (트랜잭션 범위) - lockNames
+  // 5. Space / Member ID 일괄 할당 - allocateIds
+  // 6. Space + Admin + 고정 확장자 일괄 INSERT - insertSpacesWithAdmins
   // ══════════════════════════════════════
   
-  // 모든 공간 조회 (삭제되지 않은 것만)
+  // 모든 공간 조회 (삭제되지 않은 것만, 쿼리 캐시 - space 테이블 변경 시 무효화)
   // SELECT * FROM space WHERE is_deleted = false
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.space")
+  })
   List<Space> findByIsDeletedFalse();
 
   // 공간명 중복 확인 (삭제되지 않은 것만)
   // SELECT EXISTS(SELECT 1 FROM space WHERE space_name = ? AND is_deleted = false)
   boolean existsBySpaceNameAndIsDeletedFalse(String spaceName);
-}
 
+  // 일괄 생성 대상 중 이미 사용 중인 이름 조회 (한 문장)
+  // - SPACE: 삭제되지 않은 Space명
+  // - MEMBER: 사용자명 (member.username UNIQUE 제약은 삭제 여부와 무관하므로 전체 대상)
+  // RETURNING kind('SPACE' | 'MEMBER'), name
+  @Query(value = "SELECT 'SPACE' AS kind, space_name AS name FROM space "
+      + "WHERE is_deleted = false AND space_name = ANY(CAST(:spaceNames AS text[])) "
+      + "UNION ALL "
+      + "SELECT 'MEMBER' AS kind, username AS name FROM member "
+      + "WHERE username = ANY(CAST(:usernames AS text[]))", nativeQuery = true)
+  List<Object[]> findExistingNames(
+      @Param("spaceNames") String[] spaceNames,
+      @Param("usernames") String[] usernames);
+
+  // Space명 / 사용자명 선점 잠금 (트랜잭션 종료 시 해제)
+  // - space_name 은 UNIQUE 제약이 없으므로 중복 확인 → INSERT 사이에 다른 요청이 끼어들지 못하게 직렬화
+  // - 단건 생성 / 일괄 생성 모두 중복 확인 전에 호출 (Member 를 만드는 경로는 이 둘뿐)
+  // - 두 키 형식(classid, objid)을 써서 단일 bigint 키를 쓰는 다른 잠금과 겹치지 않음
+  // SELECT 1 FROM pg_advisory_xact_lock(hashtext('space'), 0)
+  @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('space'), 0)", nativeQuery = true)
+  Integer lockNames();
+
+  // Space / Member ID 를 count 개씩 할당 (nextval 값 자체를 ID 로 사용, Hibernate pooled 블록과 겹치지 않음)
+  // SELECT nextval('space_space_id_seq'), nextval('member_member_id_seq') FROM generate_series(1, ?)
+  @Query(value = "SELECT nextval('space_space_id_seq'), nextval('member_member_id_seq') "
+      + "FROM generate_series(1, :count)", nativeQuery = true)
+  List<Object[]> allocateIds(@Param("count") int count);
+
+  // Space + Admin Member + 고정 확장자 일괄 INSERT (단일 문장, 배열 인덱스끼리 한 세트)
+  // - space.created_by / updated_by 는 같은 세트의 Admin ID
+  // - 고정 확장자는 기본 비활성화 (is_deleted = true)
+  // native.spaces 힌트로 space/member/blocked_extension 관련 2차 캐시 / 쿼리 캐시만 무효화
+  @Modifying
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "space"),
+      @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "member"),
+      @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "blocked_extension")
+  })
+  @Query(value = "WITH input AS ("
+      + "SELECT * FROM unnest(CAST(:spaceIds AS bigint[]), CAST(:memberIds AS bigint[]), "
+      + "CAST(:spaceNames AS text[]), CAST(:descriptions AS text[]), "
+      + "CAST(:usernames AS text[]), CAST(:passwords AS text[])) "
+      + "AS t(space_id, member_id, space_name, description, username, password)), "
+      + "new_space AS ("
+      + "INSERT INTO space (space_id, space_name, description, created_at, updated_at, created_by, updated_by, is_deleted) "
+      + "SELECT space_id, space_name, description, now(), now(), member_id, member_id, false FROM input), "
+      + "new_member AS ("
+      + "INSERT INTO member (member_id, username, password, space_id, role, created_at, updated_at, created_by, updated_by, is_deleted) "
+      + "SELECT member_id, username, password, space_id, 'ADMIN', now(), now(), member_id, member_id, false FROM input) "
+      + "INSERT INTO blocked_extension "
+      + "(blocked_id, space_id, extension, is_fixed, created_at, updated_at, created_by, updated_by, is_deleted) "
+      + "SELECT nextval('blocked_extension_blocked_id_seq'), input.space_id, ext, true, now(), now(), "
+      + "input.member_id, input.member_id, true "
+      + "FROM input CROSS JOIN unnest(CAST(:fixedExtensions AS text[])) AS ext", nativeQuery = true)
+  int insertSpacesWithAdmins(
+      @Param("spaceIds") Long[] spaceIds,
+      @Param("memberIds") Long[] memberIds,
+      @Param("spaceNames") String[] spaceNames,
+      @Param("descriptions") String[] descriptions,
+      @Param("usernames") String[] usernames,
+      @Param("passwords") String[] passwords,
+      @Param("fixedExtensions") String[] fixedExtensions);
+}
@@ -2,29 +2,125 @@ package com.flow.api.repository;
 
 import com.flow.api.domain.UploadedFile;
 import com.woo.core.repository.BaseRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface UploadedFileRepository extends BaseRepository<UploadedFile, Long> {
   
   // ══════════════════════════════════════
+  // uploaded_file 은 created_at 월 단위 RANGE 파티션 테이블 (docker/init.sql)
+  // 모든 조회에 created_at 하한을 넣어 범위 밖 월 파티션은 실행 계획에서 제외(프루닝)되도록 한다.
+  // 단, 기본 키가 (file_id, created_at) 이므로 ID 만으로 찾는 findById / deleteById 는 프루닝되지 않고
+  // 파티션마다 PK 인덱스를 한 번씩 탐색한다. (탐색 횟수 = 파티션 수 = 보존 개월 수 + 미리 만든 달)
   // ========== 조회 메서드 ==========
-  // 1. Space별 파일 목록 조회 - findBySpaceIdAndIsDeletedFalse
-  // 2. 사용자별 업로드 파일 조회 - findByCreatedByAndIsDeletedFalse
-  // 3. Space별 파일 개수 - countBySpaceIdAndIsDeletedFalse
+  // 1. Space별 파일 목록 조회 (최신순) - findBySpaceIdAndIsDeletedFalseAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc
+  // 2. 사용자별 업로드 파일 조회 - findByCreatedByAndIsDeletedFalseAndCreatedAtGreaterThanEqual
+  // 3. Space별 파일 개수 - countBySpaceIdAndIsDeletedFalseAndCreatedAtGreaterThanEqual
+  // 4. Space별 파일 스트림 조회 (내보내기용) - streamBySpaceIdAndIsDeletedFalseAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc
+  // 5. 파일명 검색 (pg_trgm GIN 인덱스, 관련도순 페이지) - searchByName
+  // ========== 변경 메서드 ==========
+  // 6. ID 목록 일괄 Soft Delete - softDeleteByIds
+  // 7. Space + 조건 일괄 Soft Delete - softDeleteBySpace
+  // 8. 오래전 삭제된 행 물리 삭제 (배치 단위) - purgeDeleted
   // ══════════════════════════════════════
   
-  // 공간의 모든 파일 조회 (삭제되지 않은 것만)
-  // SELECT * FROM uploaded_file WHERE space_id = ? AND is_deleted = false
-  List<UploadedFile> findBySpaceIdAndIsDeletedFalse(Long spaceId);
+  // 공간의 파일 조회 (삭제되지 않은 것만, since 이후 파티션만 스캔)
+  // SELECT * FROM uploaded_file WHERE space_id = ? AND is_deleted = false AND created_at >= ? ORDER BY created_at DESC
+  List<UploadedFile> findBySpaceIdAndIsDeletedFalseAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+      Long spaceId, LocalDateTime since);
 
-  // 특정 사용자가 업로드한 파일 조회
-  // SELECT * FROM uploaded_file WHERE created_by = ? AND is_deleted = false
-  List<UploadedFile> findByCreatedByAndIsDeletedFalse(Long createdBy);
+  // 특정 사용자가 업로드한 파일 조회 (since 이후 파티션만 스캔)
+  // SELECT * FROM uploaded_file WHERE created_by = ? AND is_deleted = false AND created_at >= ?
+  List<UploadedFile> findByCreatedByAndIsDeletedFalseAndCreatedAtGreaterThanEqual(Long createdBy, LocalDateTime since);
 
-  // 공간의 파일 개수
-  // SELECT COUNT(*) FROM uploaded_file WHERE space_id = ? AND is_deleted = false
-  Long countBySpaceIdAndIsDeletedFalse(Long spaceId);
-}
+  // 공간의 파일 개수 (since 이후 파티션만 스캔)
+  // SELECT COUNT(*) FROM uploaded_file WHERE space_id = ? AND is_deleted = false AND created_at >= ?
+  Long countBySpaceIdAndIsDeletedFalseAndCreatedAtGreaterThanEqual(Long spaceId, LocalDateTime since);
+
+  // 공간의 파일 스트림 조회 (내보내기용, 500행 단위로 커서에서 읽음 - 트랜잭션 안에서만 사용)
+  // SELECT * FROM uploaded_file WHERE space_id = ? AND is_deleted = false AND created_at >= ? ORDER BY created_at DESC
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  Stream<UploadedFile> streamBySpaceIdAndIsDeletedFalseAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+      Long spaceId, LocalDateTime since);
+
+  // 파일명 검색 (pattern: 부분 일치 '%term%' 또는 접두 일치 'term%', LIKE 특수문자는 이스케이프된 값)
+  // lower(original_name) LIKE 는 idx_uploaded_file_name_trgm (GIN, gin_trgm_ops) 로 후보를 찾고,
+  // 정확히 일치 → 접두 일치 → 유사도(similarity) → 최신순으로 정렬한다. (extension / uploaderId 는 null 이면 조건 없음)
+  // SELECT * FROM uploaded_file
+  // WHERE space_id = ? AND is_deleted = false AND created_at >= ? AND lower(original_name) LIKE ?
+  //   [AND extension = ?] [AND created_by = ?]
+  // ORDER BY lower(original_name) = ? DESC, lower(original_name) LIKE ? DESC,
+  //   similarity(lower(original_name), ?) DESC, created_at DESC, file_id DESC
+  // LIMIT ? OFFSET ?
+  @Query(value = "SELECT * FROM uploaded_file "
+      + "WHERE space_id = :spaceId AND is_deleted = false AND created_at >= :since "
+      + "AND lower(original_name) LIKE :pattern "
+      + "AND (CAST(:extension AS text) IS NULL OR extension = CAST(:extension AS text)) "
+      + "AND (CAST(:uploaderId AS bigint) IS NULL OR created_by = CAST(:uploaderId AS bigint)) "
+      + "ORDER BY lower(original_name) = :term DESC, lower(original_name) LIKE :prefix DESC, "
+      + "similarity(lower(original_name), :term) DESC, created_at DESC, file_id DESC",
+      countQuery = "SELECT COUNT(*) FROM uploaded_file "
+          + "WHERE space_id = :spaceId AND is_deleted = false AND created_at >= :since "
+          + "AND lower(original_name) LIKE :pattern "
+          + "AND (CAST(:extension AS text) IS NULL OR extension = CAST(:extension AS text)) "
+          + "AND (CAST(:uploaderId AS bigint) IS NULL OR created_by = CAST(:uploaderId AS bigint))",
+      nativeQuery = true)
+  Page<UploadedFile> searchByName(
+      @Param("spaceId") Long spaceId,
+      @Param("since") LocalDateTime since,
+      @Param("term") String term,
+      @Param("pattern") String pattern,
+      @Param("prefix") String prefix,
+      @Param("extension") String extension,
+      @Param("uploaderId") Long uploaderId,
+      Pageable pageable);
 
+  // ID 목록 일괄 Soft Delete (단일 문장, 다른 공간의 파일은 제외)
+  // UPDATE uploaded_file SET is_deleted = true, updated_at = now()
+  // WHERE space_id = ? AND file_id = ANY(?) AND is_deleted = false
+  // native.spaces 힌트로 uploaded_file 관련 캐시만 무효화 (없으면 Space / Member 등 2차 캐시 전체를 비움)
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "uploaded_file"))
+  @Query(value = "UPDATE uploaded_file SET is_deleted = true, updated_at = now() "
+      + "WHERE space_id = :spaceId AND file_id = ANY(CAST(:fileIds AS bigint[])) AND is_deleted = false",
+      nativeQuery = true)
+  int softDeleteByIds(@Param("spaceId") Long spaceId, @Param("fileIds") Long[] fileIds);
+
+  // Space + 조건 일괄 Soft Delete (extension / before 는 null 이면 조건 없음)
+  // UPDATE uploaded_file SET is_deleted = true, updated_at = now()
+  // WHERE space_id = ? AND is_deleted = false [AND extension = ?] [AND created_at < ?]
+  // native.spaces 힌트로 uploaded_file 관련 캐시만 무효화 (없으면 Space / Member 등 2차 캐시 전체를 비움)
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "uploaded_file"))
+  @Query(value = "UPDATE uploaded_file SET is_deleted = true, updated_at = now() "
+      + "WHERE space_id = :spaceId AND is_deleted = false "
+      + "AND (CAST(:extension AS text) IS NULL OR extension = CAST(:extension AS text)) "
+      + "AND (CAST(:before AS timestamp) IS NULL OR created_at < CAST(:before AS timestamp))",
+      nativeQuery = true)
+  int softDeleteBySpace(
+      @Param("spaceId") Long spaceId,
+      @Param("extension") String extension,
+      @Param("before") LocalDateTime before);
+
+  // deletedBefore 이전에 삭제된 행을 최대 limit 건 물리 삭제, 저장 파일 정리용으로 경로 반환
+  // - 후보는 idx_uploaded_file_purge (updated_at, WHERE is_deleted = true) 로 파티션마다 범위 조회
+  // DELETE FROM uploaded_file WHERE (file_id, created_at) IN (
+  //   SELECT file_id, created_at FROM uploaded_file WHERE is_deleted = true AND updated_at < ? LIMIT ?)
+  // RETURNING file_path
+  @Query(value = "DELETE FROM uploaded_file WHERE (file_id, created_at) IN ("
+      + "SELECT file_id, created_at FROM uploaded_file "
+      + "WHERE is_deleted = true AND updated_at < :deletedBefore LIMIT :limit) "
+      + "RETURNING file_path", nativeQuery = true)
+  List<String> purgeDeleted(@Param("deletedBefore") LocalDateTime deletedBefore, @Param("limit") int limit);
+}
@@ -0,0 +1,61 @@
+package com.flow.api.service;
+
+import com.flow.api.domain.AuditLog;
+import com.flow.api.domain.data.AuditLogDto;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AuditLogService {
+
+  /** 조회 건수 상한 (recent / space / since 공통) */
+  int MAX_LIMIT = 500;
+
+  /**
+   * 파일 업로드 성공 기록 (현재 트랜잭션 커밋 후 기록)
+   * @param fileName 원본 파일명
+   * @param detail 크기, MIME Type 등 부가 정보
+   */
+  void recordFileUploaded(Long spaceId, String fileName, String detail);
+
+  /**
+   * 파일 업로드 거부 기록 (트랜잭션 결과와 관계없이 즉시 기록)
+   * @param reason 거부 사유 태그 (blocked_extension, zip_bomb 등)
+   * @param message 사용자에게 반환된 거부 메시지
+   */
+  void recordFileRejected(Long spaceId, String fileName, String reason, String message);
+
+  /**
+   * 확장자 변경 기록 (현재 트랜잭션 커밋 후 기록)
+   * @param action EXTENSION_ADDED / EXTENSION_REMOVED / EXTENSION_TOGGLED / EXTENSIONS_IMPORTED
+   * @param target 확장자 (일괄 처리는 쉼표로 연결)
+   */
+  void recordExtensionChange(Long spaceId, AuditLog.Action action, String target, String detail);
+
+  /**
+   * 공간 생성 기록 (현재 트랜잭션 커밋 후 기록)
+   * @param adminMemberId 함께 생성된 관리자 ID
+   */
+  void recordSpaceCreated(Long spaceId, Long adminMemberId, String spaceName);
+
+  /**
+   * 최근 감사 로그 조회 (메모리 링, DB 조회 없음)
+   * @param limit 1 ~ {@link #MAX_LIMIT}
+   * @return 최신순 목록
+   */
+  List<AuditLogDto> getRecentLogs(int limit);
+
+  /**
+   * 공간별 감사 로그 조회 (저장 완료된 로그만)
+   * @param limit 1 ~ {@link #MAX_LIMIT}
+   * @return 최신순 목록
+   */
+  List<AuditLogDto> getLogsBySpace(Long spaceId, int limit);
+
+  /**
+   * 특정 시각 이후 감사 로그 조회 (저장 완료된 로그만)
+   * @param since 조회 시작 시각 (포함)
+   * @param limit 1 ~ {@link #MAX_LIMIT}
+   * @return 오래된 순 목록 (마지막 항목의 occurredAt 으로 이어서 조회)
+   */
+  List<AuditLogDto> getLogsSince(LocalDateTime since, int limit);
+}
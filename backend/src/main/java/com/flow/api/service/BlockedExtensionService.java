@@ -1,8 +1,10 @@
 package com.flow.api.service;
 
 import com.flow.api.domain.BlockedExtension;
+import com.flow.api.domain.data.ExtensionImportResult;
 import com.woo.core.service.BaseService;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface BlockedExtensionService extends BaseService<BlockedExtension> {
   
@@ -12,10 +14,40 @@ public interface BlockedExtensionService extends BaseService<BlockedExtension> {
   
   List<BlockedExtension> getCustomExtensions(Long spaceId);
   
-  void toggleFixedExtension(Long spaceId, String extension);
+  /**
+   * 고정 확장자 활성화 상태 반전
+   * @return 반전 후 isDeleted 값 (true = 비활성화)
+   */
+  Boolean toggleFixedExtension(Long spaceId, String extension);
 
   Long countCustomExtensions(Long spaceId);
 
   Long countActiveExtensions(Long spaceId);
+
+  /**
+   * 커스텀 확장자 일괄 등록 (검증 후 단일 UPSERT 문장으로 반영)
+   * @param memberId 등록자 (created_by, updated_by)
+   * @param extensions 등록할 확장자 목록
+   * @return 입력 순서대로 항목별 처리 결과
+   */
+  ExtensionImportResult importCustomExtensions(Long spaceId, Long memberId, List<String> extensions);
+
+  /**
+   * 활성화된 커스텀 확장자를 확장자명 순으로 하나씩 전달 (내보내기용, 전체 목록을 메모리에 올리지 않음)
+   */
+  void exportCustomExtensions(Long spaceId, Consumer<BlockedExtension> consumer);
+
+  /**
+   * 커스텀 확장자 일괄 Soft Delete (단일 UPDATE, 고정 확장자는 제외)
+   * @param blockedIds 삭제할 확장자 ID 목록
+   * @return 삭제 처리된 확장자 수
+   */
+  int softDeleteCustomExtensions(Long spaceId, List<Long> blockedIds);
+
+  /**
+   * 공간의 활성 커스텀 확장자 전체 Soft Delete
+   * @return 삭제 처리된 확장자 수
+   */
+  int softDeleteAllCustomExtensions(Long spaceId);
 }
 
@@ -0,0 +1,27 @@
+package com.flow.api.service;
+
+import com.flow.api.domain.data.ExtensionPopularityDto;
+import java.util.Collection;
+import java.util.List;
+
+public interface ExtensionPopularityService {
+
+  /**
+   * 인기 확장자 Top-N 조회 (메모리 스냅샷, DB 조회 없음)
+   * @param limit 조회할 개수 (최대 extension.popularity.snapshot-size)
+   * @return 사용 빈도 내림차순 확장자 목록
+   * @throws IllegalArgumentException limit 이 스냅샷 크기를 넘는 경우
+   */
+  List<ExtensionPopularityDto> getTopExtensions(int limit);
+
+  void increment(String extension);
+
+  void incrementAll(Collection<String> extensions);
+
+  void decrement(String extension);
+
+  /**
+   * 카운터 테이블에서 Top-N 스냅샷을 다시 읽어 교체
+   */
+  void refreshSnapshot();
+}
@@ -3,11 +3,16 @@ package com.flow.api.service;
 import com.flow.api.domain.Member;
 import com.woo.core.service.BaseService;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface MemberService extends BaseService<Member> {
   
   Member findByUsername(String username);
   
   List<Member> getMembersBySpace(Long spaceId);
-}
 
+  /**
+   * 공간의 회원을 ID 순으로 하나씩 전달 (내보내기용, 전체 목록을 메모리에 올리지 않음)
+   */
+  void exportMembers(Long spaceId, Consumer<Member> consumer);
+}
@@ -0,0 +1,21 @@
+package com.flow.api.service;
+
+/**
+ * Soft Delete 된 데이터 물리 삭제 (purge)
+ *
+ * <p>is_deleted = true 가 된 뒤 보관 기간이 지난 행을 배치 단위로 삭제한다.
+ */
+public interface SoftDeletePurgeService {
+
+  /**
+   * 오래전 삭제된 업로드 파일 행과 저장 파일 삭제
+   * @return 삭제된 행 수
+   */
+  int purgeUploadedFiles();
+
+  /**
+   * 오래전 삭제된 커스텀 확장자 행 삭제 (고정 확장자는 대상 아님)
+   * @return 삭제된 행 수
+   */
+  int purgeCustomExtensions();
+}
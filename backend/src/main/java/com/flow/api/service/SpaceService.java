@@ -3,6 +3,7 @@ package com.flow.api.service;
 import com.flow.api.domain.Space;
 import com.flow.api.domain.data.SpaceCreationRequest;
 import com.flow.api.domain.data.SpaceCreationResponse;
+import com.flow.api.domain.data.SpaceProvisionResult;
 import com.woo.core.service.BaseService;
 
 import java.util.List;
@@ -13,7 +14,11 @@ public interface SpaceService extends BaseService<Space> {
   
   boolean existsBySpaceName(String spaceName);
 
-  void insertTop6Extensions(Long spaceId, Long memberId);
+  /**
+   * 전역 인기 확장자 Top-N을 고정 확장자로 삽입 (기본 비활성화)
+   * @param limit 삽입할 확장자 개수
+   */
+  void insertTopExtensions(Long spaceId, Long memberId, int limit);
   
   /**
    * Space와 Admin Member를 동시에 생성하고 고정 확장자 자동 삽입
@@ -21,5 +26,16 @@ public interface SpaceService extends BaseService<Space> {
    * @return 생성된 Space, Member, 확장자 개수
    */
   SpaceCreationResponse createSpaceWithAdmin(SpaceCreationRequest request);
+
+  /**
+   * Space + Admin Member + 고정 확장자 일괄 생성 (테넌트 온보딩)
+   *
+   * <p>이름 선점 잠금 1문장 + 중복 확인 1문장 + ID 할당 1문장 + INSERT 1문장으로 처리한다.
+   * 잠금은 단건 생성과 공유하므로 동시 요청과 겹친 이름도 항목별 거부로 보고된다.
+   * 검증에 실패한 항목만 제외하고 나머지는 생성한다.
+   * @param requests Space 및 Admin 정보 목록
+   * @return 입력 순서대로 항목별 처리 결과
+   */
+  SpaceProvisionResult provisionSpaces(List<SpaceCreationRequest> requests);
 }
 
@@ -0,0 +1,33 @@
+package com.flow.api.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UploadedFilePartitionService {
+
+  /**
+   * uploaded_file 이 월 단위 RANGE 파티션 테이블인지 여부
+   * (Hibernate 가 만든 일반 테이블이면 파티션 관리는 모두 건너뜀)
+   */
+  boolean isPartitioned();
+
+  /**
+   * 이번 달부터 {@code file.partition.premake-months} 개월 뒤까지 월 파티션 생성 (이미 있으면 건너뜀)
+   * @return 새로 만든 파티션 이름
+   */
+  List<String> ensurePartitions();
+
+  /**
+   * 보존 기간({@code file.partition.retention-months})이 지난 월 파티션을 분리 후 삭제
+   * (행 단위 DELETE 없이 DROP, 해당 월에 저장된 파일도 함께 삭제)
+   * 이전 실행에서 분리만 되고 남은 월 파티션 테이블도 이어서 정리한다.
+   * @return 삭제한 파티션 이름
+   */
+  List<String> dropExpiredPartitions();
+
+  /**
+   * 보존 기간 내 가장 오래된 시각 (조회 쿼리의 created_at 하한, 파티션 프루닝용)
+   * 보존 기간 미설정 시 전체 기간
+   */
+  LocalDateTime retainedSince();
+}
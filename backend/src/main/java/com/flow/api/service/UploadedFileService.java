@@ -3,20 +3,71 @@ package com.flow.api.service;
 import com.flow.api.domain.UploadedFile;
 import com.flow.api.domain.data.UploadedFileDto;
 import com.woo.core.service.BaseService;
+import com.woo.core.util.timing.ServerTiming;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface UploadedFileService extends BaseService<UploadedFile> {
   
   List<UploadedFile> getFilesBySpace(Long spaceId);
   
-  List<UploadedFileDto> getFilesBySpaceWithUploader(Long spaceId);
+  /**
+   * 공간의 파일 목록 (업로더 이름 포함, 최신순)
+   * @param since 조회 시작 시각 (null 이면 보존 기간 전체)
+   */
+  List<UploadedFileDto> getFilesBySpaceWithUploader(Long spaceId, LocalDateTime since);
   
   List<UploadedFile> getFilesByUploader(Long memberId);
   
-  Long countFilesBySpace(Long spaceId);
+  /**
+   * 공간의 파일 개수
+   * @param since 조회 시작 시각 (null 이면 보존 기간 전체)
+   */
+  Long countFilesBySpace(Long spaceId, LocalDateTime since);
+  
+  /**
+   * 공간의 파일을 최신순으로 하나씩 전달 (내보내기용, 업로더 이름 포함, 전체 목록을 메모리에 올리지 않음)
+   * @param since 조회 시작 시각 (null 이면 보존 기간 전체)
+   */
+  void exportFiles(Long spaceId, LocalDateTime since, Consumer<UploadedFileDto> consumer);
+  
+  /**
+   * 공간의 파일을 원본 파일명으로 검색 (대소문자 무시, 관련도순)
+   * @param query 검색어 (1~100자)
+   * @param prefixOnly true 면 파일명이 검색어로 시작하는 것만, false 면 부분 일치 (검색어가 3자 미만이면 접두 일치)
+   * @param extension 확장자 (null 이면 전체)
+   * @param uploaderId 업로더 멤버 ID (null 이면 전체)
+   * @param page 0부터 시작
+   * @param size 페이지 크기 (최대 100)
+   */
+  Page<UploadedFileDto> searchFiles(Long spaceId, String query, boolean prefixOnly,
+      String extension, Long uploaderId, int page, int size);
   
   UploadedFile uploadFile(Long spaceId, MultipartFile file);
+
+  /**
+   * 파일 업로드 (단계별 처리 시간을 Server-Timing 으로 수집)
+   * @param timing 방어 단계별 처리 시간이 추가됨 (차단되어 예외가 발생해도 그때까지의 단계 포함)
+   */
+  UploadedFile uploadFile(Long spaceId, MultipartFile file, ServerTiming timing);
+
+  /**
+   * 파일 일괄 Soft Delete (단일 UPDATE, 저장 파일은 purge 작업에서 삭제)
+   * @param fileIds 삭제할 파일 ID 목록 (다른 공간의 파일은 무시)
+   * @return 삭제 처리된 파일 수
+   */
+  int softDeleteFiles(Long spaceId, List<Long> fileIds);
+
+  /**
+   * 공간의 파일을 조건으로 일괄 Soft Delete
+   * @param extension 확장자 (null 이면 전체)
+   * @param before 이 시각 이전 업로드만 (null 이면 전체)
+   * @return 삭제 처리된 파일 수
+   */
+  int softDeleteFilesBySpace(Long spaceId, String extension, LocalDateTime before);
   
   UploadedFile getFileById(Long fileId);
   
@@ -0,0 +1,190 @@
+package com.flow.api.service.impl;
+
+import com.flow.api.domain.AuditLog;
+import com.flow.api.domain.AuditLog.Action;
+import com.flow.api.domain.data.AuditLogDto;
+import com.flow.api.mapper.AuditLogMapper;
+import com.flow.api.repository.AuditLogRepository;
+import com.flow.api.service.AuditLogService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 감사 로그 기록/조회
+ *
+ * <p>기록 경로 (요청 스레드에서 DB 접근 없음):
+ * <ul>
+ *   <li>업로드/확장자 변경/공간 생성: 호출한 트랜잭션이 커밋된 뒤에 기록 (롤백되면 기록하지 않음)</li>
+ *   <li>업로드 거부: 거부 예외로 트랜잭션이 롤백되므로 즉시 기록</li>
+ *   <li>기록 = 최근 로그 링에 추가 + {@link AuditLogWriter} 큐에 추가 (저장은 백그라운드 배치)</li>
+ * </ul>
+ *
+ * <p>조회 경로:
+ * <ul>
+ *   <li>recent: 메모리 링 (실시간 모니터용, 저장 대기 중인 로그 포함)</li>
+ *   <li>space / since: audit_log 테이블 (인덱스 범위 조회 + LIMIT, 저장 지연만큼 늦게 보임)</li>
+ * </ul>
+ */
+@Service
+public class AuditLogServiceImpl implements AuditLogService {
+
+  private static final int MAX_TARGET_LENGTH = 255;
+  private static final int MAX_REASON_LENGTH = 40;
+  private static final int MAX_DETAIL_LENGTH = 500;
+
+  private final AuditLogRepository auditLogRepository;
+  private final AuditLogWriter auditLogWriter;
+  private final AuditLogMapper auditLogMapper;
+  private final AuditorAware<Long> auditorAware;
+
+  // 최신 로그가 앞에 오는 고정 크기 링 (가득 차면 가장 오래된 로그부터 밀려남)
+  private final int recentCapacity;
+  private final ArrayDeque<AuditLogDto> recent;
+
+  public AuditLogServiceImpl(
+      AuditLogRepository auditLogRepository,
+      AuditLogWriter auditLogWriter,
+      AuditLogMapper auditLogMapper,
+      AuditorAware<Long> auditorAware,
+      @Value("${audit-log.recent-capacity:1000}") int recentCapacity) {
+    this.auditLogRepository = auditLogRepository;
+    this.auditLogWriter = auditLogWriter;
+    this.auditLogMapper = auditLogMapper;
+    this.auditorAware = auditorAware;
+    this.recentCapacity = Math.max(recentCapacity, MAX_LIMIT);
+    this.recent = new ArrayDeque<>(this.recentCapacity);
+  }
+
+  @Override
+  public void recordFileUploaded(Long spaceId, String fileName, String detail) {
+    record(Action.FILE_UPLOADED, spaceId, currentAuditor(), fileName, null, detail, true);
+  }
+
+  @Override
+  public void recordFileRejected(Long spaceId, String fileName, String reason, String message) {
+    record(Action.FILE_REJECTED, spaceId, currentAuditor(), fileName, reason, message, false);
+  }
+
+  @Override
+  public void recordExtensionChange(Long spaceId, Action action, String target, String detail) {
+    record(action, spaceId, currentAuditor(), target, null, detail, true);
+  }
+
+  @Override
+  public void recordSpaceCreated(Long spaceId, Long adminMemberId, String spaceName) {
+    record(Action.SPACE_CREATED, spaceId, adminMemberId, spaceName, null, null, true);
+  }
+
+  @Override
+  public List<AuditLogDto> getRecentLogs(int limit) {
+    validateLimit(limit);
+    List<AuditLogDto> result = new ArrayList<>(limit);
+    synchronized (recent) {
+      Iterator<AuditLogDto> iterator = recent.iterator();
+      while (iterator.hasNext() && result.size() < limit) {
+        result.add(iterator.next());
+      }
+    }
+    return result;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<AuditLogDto> getLogsBySpace(Long spaceId, int limit) {
+    if (spaceId == null) {
+      throw new IllegalArgumentException("공간 ID를 입력해주세요.");
+    }
+    validateLimit(limit);
+    return auditLogMapper.toDtoList(auditLogRepository.findRecentBySpaceId(spaceId, limit));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<AuditLogDto> getLogsSince(LocalDateTime since, int limit) {
+    if (since == null) {
+      throw new IllegalArgumentException("조회 시작 시각을 입력해주세요.");
+    }
+    validateLimit(limit);
+    return auditLogMapper.toDtoList(auditLogRepository.findSince(since, limit));
+  }
+
+  /**
+   * 기동 시 최근 로그 링 적재 (재기동 직후에도 실시간 모니터에 이전 로그 표시)
+   *
+   * <p>적재 전에 기록된 로그가 있으면 그 뒤(더 오래된 쪽)에 채운다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void initialize() {
+    List<AuditLogDto> persisted = auditLogMapper.toDtoList(auditLogRepository.findRecent(recentCapacity));
+    synchronized (recent) {
+      for (AuditLogDto dto : persisted) {
+        if (recent.size() >= recentCapacity) {
+          break;
+        }
+        recent.addLast(dto);
+      }
+    }
+  }
+
+  private void record(Action action, Long spaceId, Long actorId, String target, String reason, String detail,
+      boolean afterCommit) {
+    AuditLog auditLog = AuditLog.builder()
+        .occurredAt(LocalDateTime.now())
+        .spaceId(spaceId)
+        .action(action)
+        .actorId(actorId)
+        .target(truncate(target, MAX_TARGET_LENGTH))
+        .reason(truncate(reason, MAX_REASON_LENGTH))
+        .detail(truncate(detail, MAX_DETAIL_LENGTH))
+        .build();
+
+    if (afterCommit && TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          append(auditLog);
+        }
+      });
+    } else {
+      append(auditLog);
+    }
+  }
+
+  private void append(AuditLog auditLog) {
+    AuditLogDto dto = auditLogMapper.toDto(auditLog);
+    synchronized (recent) {
+      if (recent.size() >= recentCapacity) {
+        recent.removeLast();
+      }
+      recent.addFirst(dto);
+    }
+    auditLogWriter.offer(auditLog);
+  }
+
+  private Long currentAuditor() {
+    return auditorAware.getCurrentAuditor().orElse(null);
+  }
+
+  private void validateLimit(int limit) {
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new IllegalArgumentException(String.format("조회 건수는 1~%d 사이여야 합니다.", MAX_LIMIT));
+    }
+  }
+
+  private static String truncate(String value, int maxLength) {
+    return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+  }
+}
@@ -0,0 +1,155 @@
+package com.flow.api.service.impl;
+
+import com.flow.api.domain.AuditLog;
+import com.flow.api.repository.AuditLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 로그 비동기 저장기
+ *
+ * <p>요청 스레드는 {@link #offer} 로 큐에 넣기만 하고 바로 반환한다. (커밋을 기다리지 않음)
+ * 전용 스레드가 최대 {@code audit-log.max-delay-ms} 동안 또는 {@code audit-log.max-batch-size} 건까지 모아
+ * 한 트랜잭션(JDBC 배치)으로 저장한다.
+ *
+ * <p>큐가 가득 차면 요청을 막지 않고 버리며 {@code audit.log.dropped} 카운터에 집계한다.
+ * 배치 저장이 실패하면 건별로 다시 저장하고, 그래도 실패한 행만 버린다.
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+  public static final String DROPPED_COUNTER_NAME = "audit.log.dropped";
+
+  private final AuditLogRepository auditLogRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter droppedCounter;
+
+  private final int maxBatchSize;
+  private final long maxDelayNanos;
+  private final BlockingQueue<AuditLog> queue;
+
+  private volatile boolean running;
+  private Thread flusher;
+
+  public AuditLogWriter(
+      AuditLogRepository auditLogRepository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${audit-log.max-batch-size:200}") int maxBatchSize,
+      @Value("${audit-log.max-delay-ms:200}") long maxDelayMs,
+      @Value("${audit-log.queue-capacity:10000}") int queueCapacity) {
+    this.auditLogRepository = auditLogRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.droppedCounter = Counter.builder(DROPPED_COUNTER_NAME)
+        .description("큐 초과 또는 저장 실패로 버려진 감사 로그 수")
+        .register(meterRegistry);
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+  }
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    flusher = new Thread(this::runFlusher, "audit-log-flusher");
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    // 큐에 남은 로그는 모두 저장한 뒤 종료
+    running = false;
+    flusher.join(10_000);
+  }
+
+  /**
+   * 감사 로그 저장 요청 (대기 없음)
+   *
+   * @param auditLog 저장할 감사 로그
+   * @return 큐에 들어갔으면 true, 가득 차서 버렸으면 false
+   */
+  public boolean offer(AuditLog auditLog) {
+    if (queue.offer(auditLog)) {
+      return true;
+    }
+    droppedCounter.increment();
+    return false;
+  }
+
+  /**
+   * 아직 저장되지 않은 감사 로그 수
+   */
+  public int getPendingCount() {
+    return queue.size();
+  }
+
+  private void runFlusher() {
+    List<AuditLog> batch = new ArrayList<>(maxBatchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        AuditLog first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+
+        // 첫 로그 도착 후 max-delay 동안 또는 max-batch-size 까지 모음
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatchSize) {
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            break;
+          }
+          AuditLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+        queue.drainTo(batch, maxBatchSize - batch.size());
+
+        flush(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      } catch (RuntimeException e) {
+        log.error("감사 로그 배치 처리 실패 ({}건 버림)", batch.size(), e);
+        droppedCounter.increment(batch.size());
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void flush(List<AuditLog> batch) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> auditLogRepository.saveAll(batch));
+    } catch (RuntimeException e) {
+      log.warn("감사 로그 배치 저장 실패, 건별 재시도 ({}건): {}", batch.size(), e.getMessage());
+      for (AuditLog auditLog : batch) {
+        try {
+          auditLog.setAuditId(null); // 실패한 배치에서 할당된 ID 제거 (신규 INSERT 로 재시도)
+          transactionTemplate.executeWithoutResult(status -> auditLogRepository.save(auditLog));
+        } catch (RuntimeException rowFailure) {
+          log.error("감사 로그 저장 실패: {}", auditLog, rowFailure);
+          droppedCounter.increment();
+        }
+      }
+    }
+  }
+}
@@ -1,60 +1,125 @@
 package com.flow.api.service.impl;
 
+import com.flow.api.domain.AuditLog.Action;
 import com.flow.api.domain.BlockedExtension;
+import com.flow.api.domain.data.ExtensionImportResult;
+import com.flow.api.domain.data.ExtensionImportResult.Item;
+import com.flow.api.domain.data.ExtensionImportResult.Status;
 import com.flow.api.repository.BlockedExtensionRepository;
+import com.flow.api.service.AuditLogService;
 import com.flow.api.service.BlockedExtensionService;
+import com.flow.api.service.ExtensionPopularityService;
 import com.woo.core.service.BaseServiceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class BlockedExtensionServiceImpl extends BaseServiceImpl<BlockedExtension> implements BlockedExtensionService {
 
   private final BlockedExtensionRepository blockedExtensionRepository;
+  private final ExtensionPopularityService extensionPopularityService;
+  private final AuditLogService auditLogService;
 
   // 영문자, 숫자, 하이픈(-), 마침표(.), 플러스(+) 허용
   private static final Pattern VALID_EXTENSION_PATTERN = Pattern.compile("^[a-zA-Z0-9.+\\-]+$");
   private static final int MAX_EXTENSION_LENGTH = 20;
+  private static final int MAX_CUSTOM_EXTENSIONS = 200;
+  private static final int MAX_IMPORT_SIZE = 1000;
 
-  public BlockedExtensionServiceImpl(BlockedExtensionRepository blockedExtensionRepository) {
+  public BlockedExtensionServiceImpl(
+      BlockedExtensionRepository blockedExtensionRepository,
+      ExtensionPopularityService extensionPopularityService,
+      AuditLogService auditLogService) {
     super(blockedExtensionRepository);
     this.blockedExtensionRepository = blockedExtensionRepository;
+    this.extensionPopularityService = extensionPopularityService;
+    this.auditLogService = auditLogService;
   }
 
+  /**
+   * 커스텀 확장자 등록
+   *
+   * <p>신규 INSERT, 삭제된 커스텀 확장자 재활성화, 200개 제한 확인을
+   * {@code INSERT ... ON CONFLICT} 한 문장으로 처리한다. (조회 후 저장 사이의 경쟁 조건 없음)
+   * 문장 안의 개수는 시작 시점 스냅샷이므로, 다른 확장자를 동시에 등록하는 요청과 함께 200개를 넘지 않도록
+   * 공간 단위 잠금(lockCustomExtensions)을 먼저 잡는다.
+   * 반영된 행이 없을 때만 실패 사유 확인용 조회를 한 번 더 한다.
+   */
   @Override
   public BlockedExtension create(BlockedExtension entity) {
     validateExtension(entity.getExtension());
-    
-    // 중복 확인 (삭제 여부 무관하게 확인)
+
     String normalizedExtension = entity.getExtension().toLowerCase().trim();
-    return blockedExtensionRepository.findBySpaceIdAndExtension(entity.getSpaceId(), normalizedExtension)
-        .map(existing -> {
-          if (existing.getIsFixed()) {
-            // 고정 확장자와 중복 → 에러
-            throw new IllegalArgumentException(
-                String.format("'%s' 는 이미 고정 확장자로 등록되어 있습니다. 고정 확장자는 체크박스로 활성화/비활성화할 수 있습니다.", 
-                    normalizedExtension));
-          } else {
-            // 커스텀 확장자와 중복
-            if (existing.getIsDeleted()) {
-              // 삭제된 커스텀 확장자 → isDeleted를 false로 UPDATE (재활성화)
-              existing.setIsDeleted(false);
-              existing.setUpdatedBy(entity.getCreatedBy()); // 수정자 업데이트
-              return blockedExtensionRepository.save(existing);
-            } else {
-              // 이미 활성화된 커스텀 확장자 → 에러
-              throw new IllegalArgumentException(
-                  String.format("'%s' 는 이미 추가된 확장자입니다.", normalizedExtension));
-            }
-          }
-        })
-        .orElseGet(() -> {
-          // 존재하지 않음 → 새로 CREATE
-          return super.create(entity);
-        });
+    blockedExtensionRepository.lockCustomExtensions(entity.getSpaceId());
+    BlockedExtension created = blockedExtensionRepository
+        .insertOrReactivateCustomExtension(
+            entity.getSpaceId(), normalizedExtension, entity.getCreatedBy(), MAX_CUSTOM_EXTENSIONS)
+        .orElseThrow(() -> rejectCreate(entity.getSpaceId(), normalizedExtension));
+
+    extensionPopularityService.increment(normalizedExtension);
+    auditLogService.recordExtensionChange(created.getSpaceId(), Action.EXTENSION_ADDED, normalizedExtension, null);
+    return created;
+  }
+
+  private IllegalArgumentException rejectCreate(Long spaceId, String extension) {
+    return blockedExtensionRepository.findBySpaceIdAndExtension(spaceId, extension)
+        .filter(existing -> existing.getIsFixed() || !existing.getIsDeleted())
+        .map(existing -> existing.getIsFixed()
+            // 고정 확장자와 중복
+            ? new IllegalArgumentException(
+                String.format("'%s' 는 이미 고정 확장자로 등록되어 있습니다. 고정 확장자는 체크박스로 활성화/비활성화할 수 있습니다.",
+                    extension))
+            // 이미 활성화된 커스텀 확장자
+            : new IllegalArgumentException(
+                String.format("'%s' 는 이미 추가된 확장자입니다.", extension)))
+        // 신규/삭제된 확장자인데 반영되지 않음 → 개수 제한
+        .orElseGet(() -> new IllegalArgumentException(
+            String.format("커스텀 확장자는 최대 %d개까지만 등록 가능합니다.", MAX_CUSTOM_EXTENSIONS)));
+  }
+
+  @Override
+  public void delete(Long id) {
+    blockedExtensionRepository.findById(id).ifPresent(this::recordRemoval);
+    super.delete(id);
+  }
+
+  /**
+   * 단건 Soft Delete (PATCH /soft-delete/{id})
+   *
+   * <p>삭제(delete)와 같이 인기도 카운터 감소 / 감사 기록을 남긴다.
+   * 고정 확장자는 체크박스 상태 변경으로만 비활성화하므로 거부한다.
+   */
+  @Override
+  public void softDelete(BlockedExtension entity) {
+    if (entity != null && Boolean.TRUE.equals(entity.getIsFixed())) {
+      throw new IllegalArgumentException(
+          String.format("'%s' 는 고정 확장자입니다. 고정 확장자는 체크박스로 활성화/비활성화할 수 있습니다.",
+              entity.getExtension()));
+    }
+    if (entity != null) {
+      recordRemoval(entity);
+    }
+    super.softDelete(entity);
+  }
+
+  // 활성화된 커스텀 확장자 삭제 시 인기도 카운터 감소 + 감사 기록
+  private void recordRemoval(BlockedExtension existing) {
+    if (existing.getIsFixed() || existing.getIsDeleted()) {
+      return;
+    }
+    extensionPopularityService.decrement(existing.getExtension());
+    auditLogService.recordExtensionChange(
+        existing.getSpaceId(), Action.EXTENSION_REMOVED, existing.getExtension(), null);
   }
 
   @Override
@@ -78,14 +143,14 @@ public class BlockedExtensionServiceImpl extends BaseServiceImpl<BlockedExtensio
   }
 
   @Override
-  public void toggleFixedExtension(Long spaceId, String extension) {
-    BlockedExtension blockedExtension = blockedExtensionRepository
-        .findBySpaceIdAndExtension(spaceId, extension.toLowerCase())
+  public Boolean toggleFixedExtension(Long spaceId, String extension) {
+    // 현재 상태 반전 (isDeleted 토글) - DB에서 한 문장으로 반전하므로 동시 클릭에도 토글이 유실되지 않음
+    Boolean isDeleted = blockedExtensionRepository
+        .toggleFixedExtension(spaceId, extension.toLowerCase())
         .orElseThrow(() -> new IllegalArgumentException("고정 확장자를 찾을 수 없습니다: " + extension));
-    
-    // 현재 상태 반전 (isDeleted 토글)
-    blockedExtension.setIsDeleted(!blockedExtension.getIsDeleted());
-    blockedExtensionRepository.save(blockedExtension);
+    auditLogService.recordExtensionChange(spaceId, Action.EXTENSION_TOGGLED, extension.toLowerCase(),
+        isDeleted ? "blocked=false" : "blocked=true");
+    return isDeleted;
   }
 
   @Override
@@ -102,6 +167,182 @@ public class BlockedExtensionServiceImpl extends BaseServiceImpl<BlockedExtensio
     return (long) allExtensions.size();
   }
 
+  /**
+   * 커스텀 확장자 일괄 등록
+   *
+   * <p>처리 흐름 (항목 수와 무관하게 DB 왕복 4회):
+   * <ol>
+   *   <li>형식/길이 검증 + 요청 내 중복 제거 (메모리)</li>
+   *   <li>공간 단위 잠금 후 기존 행 일괄 조회 + 커스텀 개수 조회로 항목 분류 (고정 / 활성 / 삭제됨 / 신규)</li>
+   *   <li>{@code INSERT ... ON CONFLICT (space_id, extension) DO UPDATE} 단일 문장으로 신규 등록 + 재활성화</li>
+   * </ol>
+   *
+   * <p>2단계 조회 이후 다른 요청이 먼저 등록한 확장자는 UPSERT의 RETURNING 결과에서 빠지므로
+   * ALREADY_EXISTS 로 보고된다.
+   * 개수 조회부터 UPSERT 까지는 잠금으로 같은 공간의 단건 / 일괄 등록과 직렬화되므로 200개 제한을 넘지 않는다.
+   */
+  @Override
+  public ExtensionImportResult importCustomExtensions(Long spaceId, Long memberId, List<String> inputs) {
+    if (inputs == null || inputs.isEmpty()) {
+      throw new IllegalArgumentException("등록할 확장자가 없습니다.");
+    }
+    if (inputs.size() > MAX_IMPORT_SIZE) {
+      throw new IllegalArgumentException(
+          String.format("한 번에 최대 %d개까지 등록할 수 있습니다.", MAX_IMPORT_SIZE));
+    }
+
+    // 1. 형식 검증 + 요청 내 중복 제거 (입력 순서 유지)
+    List<Item> items = new ArrayList<>(inputs.size());
+    Map<String, Item> candidates = new LinkedHashMap<>();
+    for (String input : inputs) {
+      String normalized = normalizeExtension(input);
+      Item item = Item.builder().input(input).extension(normalized).build();
+      items.add(item);
+
+      try {
+        validateExtension(normalized);
+      } catch (IllegalArgumentException e) {
+        reject(item, Status.INVALID, e.getMessage());
+        continue;
+      }
+
+      if (candidates.putIfAbsent(normalized, item) != null) {
+        reject(item, Status.DUPLICATE, "요청 내 중복된 확장자입니다.");
+      }
+    }
+
+    // 2. 공간 잠금 (개수 확인 ~ UPSERT 직렬화) 후 기존 행 1회 조회로 분류
+    if (!candidates.isEmpty()) {
+      blockedExtensionRepository.lockCustomExtensions(spaceId);
+    }
+    Map<String, BlockedExtension> existing = candidates.isEmpty()
+        ? Map.of()
+        : blockedExtensionRepository.findBySpaceIdAndExtensionIn(spaceId, candidates.keySet()).stream()
+            .collect(Collectors.toMap(BlockedExtension::getExtension, Function.identity()));
+    long activeCustomCount = blockedExtensionRepository.countBySpaceIdAndIsFixedAndIsDeletedFalse(spaceId, false);
+
+    List<String> toApply = new ArrayList<>();
+    for (Item item : candidates.values()) {
+      BlockedExtension row = existing.get(item.getExtension());
+      if (row != null && row.getIsFixed()) {
+        reject(item, Status.FIXED_EXTENSION,
+            String.format("'%s' 는 이미 고정 확장자로 등록되어 있습니다.", item.getExtension()));
+      } else if (row != null && !row.getIsDeleted()) {
+        reject(item, Status.ALREADY_EXISTS,
+            String.format("'%s' 는 이미 추가된 확장자입니다.", item.getExtension()));
+      } else if (activeCustomCount + toApply.size() >= MAX_CUSTOM_EXTENSIONS) {
+        reject(item, Status.LIMIT_EXCEEDED,
+            String.format("커스텀 확장자는 최대 %d개까지만 등록 가능합니다.", MAX_CUSTOM_EXTENSIONS));
+      } else {
+        toApply.add(item.getExtension());
+      }
+    }
+
+    // 3. 단일 UPSERT (신규 INSERT + 삭제된 커스텀 재활성화)
+    if (!toApply.isEmpty()) {
+      List<Object[]> applied = blockedExtensionRepository.upsertCustomExtensions(
+          spaceId, memberId, toApply.toArray(String[]::new));
+
+      List<String> appliedExtensions = new ArrayList<>(applied.size());
+      for (Object[] row : applied) {
+        String extension = (String) row[0];
+        boolean inserted = (Boolean) row[1];
+        candidates.get(extension).setStatus(inserted ? Status.CREATED : Status.REACTIVATED);
+        appliedExtensions.add(extension);
+      }
+
+      for (String extension : toApply) {
+        Item item = candidates.get(extension);
+        if (item.getStatus() == null) {
+          reject(item, Status.ALREADY_EXISTS,
+              String.format("'%s' 는 다른 요청에서 먼저 등록되었습니다.", extension));
+        }
+      }
+
+      extensionPopularityService.incrementAll(appliedExtensions);
+      if (!appliedExtensions.isEmpty()) {
+        auditLogService.recordExtensionChange(spaceId, Action.EXTENSIONS_IMPORTED,
+            String.join(",", appliedExtensions), String.format("requested=%d, applied=%d",
+                inputs.size(), appliedExtensions.size()));
+      }
+    }
+
+    Map<Status, Long> counts = items.stream()
+        .collect(Collectors.groupingBy(Item::getStatus, Collectors.counting()));
+    return ExtensionImportResult.builder()
+        .requestedCount(inputs.size())
+        .createdCount(count(counts, Status.CREATED))
+        .reactivatedCount(count(counts, Status.REACTIVATED))
+        .skippedCount(count(counts, Status.ALREADY_EXISTS, Status.DUPLICATE))
+        .rejectedCount(count(counts, Status.FIXED_EXTENSION, Status.INVALID, Status.LIMIT_EXCEEDED))
+        .items(items)
+        .build();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportCustomExtensions(Long spaceId, Consumer<BlockedExtension> consumer) {
+    try (Stream<BlockedExtension> extensions = blockedExtensionRepository
+        .streamBySpaceIdAndIsFixedAndIsDeletedFalseOrderByExtensionAsc(spaceId, false)) {
+      extensions.forEach(consumer);
+    }
+  }
+
+  @Override
+  public int softDeleteCustomExtensions(Long spaceId, List<Long> blockedIds) {
+    if (blockedIds == null || blockedIds.isEmpty()) {
+      throw new IllegalArgumentException("삭제할 확장자를 입력해주세요.");
+    }
+    if (blockedIds.size() > MAX_IMPORT_SIZE) {
+      throw new IllegalArgumentException(
+          String.format("한 번에 최대 %d개까지 삭제 가능합니다.", MAX_IMPORT_SIZE));
+    }
+    // 실제로 비활성화된 확장자만 반환되므로 인기도 카운터는 그만큼만 감소
+    List<String> deleted = blockedExtensionRepository
+        .softDeleteCustomExtensions(spaceId, blockedIds.toArray(Long[]::new));
+    deleted.forEach(extensionPopularityService::decrement);
+    recordRemoved(spaceId, deleted);
+    return deleted.size();
+  }
+
+  @Override
+  public int softDeleteAllCustomExtensions(Long spaceId) {
+    List<String> deleted = blockedExtensionRepository.softDeleteAllCustomExtensions(spaceId);
+    deleted.forEach(extensionPopularityService::decrement);
+    recordRemoved(spaceId, deleted);
+    return deleted.size();
+  }
+
+  private void recordRemoved(Long spaceId, List<String> deleted) {
+    if (!deleted.isEmpty()) {
+      auditLogService.recordExtensionChange(spaceId, Action.EXTENSION_REMOVED, String.join(",", deleted),
+          String.format("count=%d", deleted.size()));
+    }
+  }
+
+  private void reject(Item item, Status status, String message) {
+    item.setStatus(status);
+    item.setMessage(message);
+  }
+
+  private int count(Map<Status, Long> counts, Status... statuses) {
+    long total = 0;
+    for (Status status : statuses) {
+      total += counts.getOrDefault(status, 0L);
+    }
+    return (int) total;
+  }
+
+  /**
+   * 확장자 정규화 (DB normalize_extension 함수와 동일: 공백 제거 + 소문자 + 앞의 점 제거)
+   */
+  private String normalizeExtension(String extension) {
+    if (extension == null) {
+      return null;
+    }
+    return extension.trim().toLowerCase().replaceFirst("^\\.+", "");
+  }
+
   /**
    * 확장자 유효성 검증
    *
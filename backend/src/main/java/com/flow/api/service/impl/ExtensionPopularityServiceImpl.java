@@ -0,0 +1,110 @@
+package com.flow.api.service.impl;
+
+import com.flow.api.domain.data.ExtensionPopularityDto;
+import com.flow.api.repository.ExtensionPopularityRepository;
+import com.flow.api.service.ExtensionPopularityService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 확장자 인기도 카운터 + Top-N 메모리 스냅샷
+ *
+ * <p>기존 방식은 Top-6 조회마다 blocked_extension 전체를 GROUP BY 하여 공간 수에 비례해 느려졌다.
+ * 이 서비스는 커스텀 확장자 추가/삭제 시점에 extension_popularity 카운터만 증감하고,
+ * 주기적으로 상위 N개를 읽어 불변 리스트로 교체한다.
+ *
+ * <p>조회 비용:
+ * <ul>
+ *   <li>카운터 증감: PK 기준 단건 UPSERT/UPDATE (확장자 추가/삭제 트랜잭션에 포함)</li>
+ *   <li>스냅샷 갱신: extension_popularity 상위 N개 조회 (백그라운드)</li>
+ *   <li>Top-N 조회: volatile 참조 읽기 (DB 조회 없음)</li>
+ * </ul>
+ *
+ * <p>스냅샷은 최대 {@code extension.popularity.snapshot-size}개까지 보관하며,
+ * 갱신 주기 동안의 변경은 다음 갱신 때 반영된다 (추천 용도이므로 약간의 지연 허용).
+ */
+@Slf4j
+@Service
+@Transactional
+public class ExtensionPopularityServiceImpl implements ExtensionPopularityService {
+
+  private final ExtensionPopularityRepository extensionPopularityRepository;
+
+  @Value("${extension.popularity.snapshot-size:50}")
+  private int snapshotSize;
+
+  // 불변 리스트로 통째로 교체 (읽기 측 락 없음)
+  private volatile List<ExtensionPopularityDto> snapshot = List.of();
+
+  public ExtensionPopularityServiceImpl(ExtensionPopularityRepository extensionPopularityRepository) {
+    this.extensionPopularityRepository = extensionPopularityRepository;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<ExtensionPopularityDto> getTopExtensions(int limit) {
+    if (limit > snapshotSize) {
+      // 스냅샷보다 많이 요청하면 잘린 목록을 전체로 오해하지 않도록 거부
+      throw new IllegalArgumentException(
+          String.format("limit 은 %d 이하여야 합니다. (extension.popularity.snapshot-size)", snapshotSize));
+    }
+    List<ExtensionPopularityDto> current = snapshot;
+    if (limit <= 0) {
+      return List.of();
+    }
+    return current.size() <= limit ? current : current.subList(0, limit);
+  }
+
+  @Override
+  public void increment(String extension) {
+    extensionPopularityRepository.increment(extension);
+  }
+
+  @Override
+  public void incrementAll(Collection<String> extensions) {
+    if (extensions.isEmpty()) {
+      return;
+    }
+    extensionPopularityRepository.incrementAll(extensions.toArray(String[]::new));
+  }
+
+  @Override
+  public void decrement(String extension) {
+    extensionPopularityRepository.decrement(extension);
+  }
+
+  @Override
+  @Scheduled(
+      fixedDelayString = "${extension.popularity.refresh-interval-ms:30000}",
+      initialDelayString = "${extension.popularity.refresh-interval-ms:30000}")
+  public void refreshSnapshot() {
+    snapshot = extensionPopularityRepository.findTopByUsageCount(snapshotSize).stream()
+        .map(p -> ExtensionPopularityDto.builder()
+            .extension(p.getExtension())
+            .usageCount(p.getUsageCount())
+            .build())
+        .toList();
+  }
+
+  /**
+   * 기동 시 스냅샷 적재
+   *
+   * <p>카운터 테이블이 비어 있으면 (신규 배포 직후) blocked_extension 기준으로 1회 재집계한다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    if (extensionPopularityRepository.count() == 0) {
+      int rows = extensionPopularityRepository.rebuildFromBlockedExtensions();
+      log.info("확장자 인기도 카운터 재집계 완료: {}개", rows);
+    }
+    refreshSnapshot();
+  }
+}
@@ -4,19 +4,24 @@ import com.flow.api.domain.Member;
 import com.flow.api.repository.MemberRepository;
 import com.flow.api.service.MemberService;
 import com.woo.core.service.BaseServiceImpl;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class MemberServiceImpl extends BaseServiceImpl<Member> implements MemberService {
 
   private final MemberRepository memberRepository;
+  private final EntityManager entityManager;
 
-  public MemberServiceImpl(MemberRepository memberRepository) {
+  public MemberServiceImpl(MemberRepository memberRepository, EntityManager entityManager) {
     super(memberRepository);
     this.memberRepository = memberRepository;
+    this.entityManager = entityManager;
   }
 
   @Override
@@ -31,5 +36,15 @@ public class MemberServiceImpl extends BaseServiceImpl<Member> implements Member
   public List<Member> getMembersBySpace(Long spaceId) {
     return memberRepository.findBySpaceIdAndIsDeletedFalse(spaceId);
   }
-}
 
+  @Override
+  @Transactional(readOnly = true)
+  public void exportMembers(Long spaceId, Consumer<Member> consumer) {
+    try (Stream<Member> members = memberRepository.streamBySpaceIdAndIsDeletedFalseOrderByMemberIdAsc(spaceId)) {
+      members.forEach(member -> {
+        consumer.accept(member);
+        entityManager.detach(member); // 영속성 컨텍스트에 쌓이지 않도록 전달 후 분리
+      });
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package com.flow.api.service.impl;
+
+import com.flow.api.repository.BlockedExtensionRepository;
+import com.flow.api.repository.UploadedFileRepository;
+import com.flow.api.service.SoftDeletePurgeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Soft Delete 데이터 정리 작업
+ *
+ * <p>{@code purge.deleted-retention-days} 보다 오래전에 삭제된 행을
+ * {@code purge.batch-size} 건씩 별도 트랜잭션으로 삭제한다. (긴 잠금 / 큰 WAL 방지)
+ * 한 번 실행에 최대 {@code purge.max-batches-per-run} 배치까지만 처리하고 나머지는 다음 실행으로 넘긴다.
+ *
+ * <p>업로드 파일은 행 삭제가 커밋된 뒤 저장 파일을 지운다.
+ * 파일 삭제가 실패해도 행은 이미 없으므로 다시 조회되지 않는다. (로그로만 남김)
+ */
+@Slf4j
+@Service
+public class SoftDeletePurgeServiceImpl implements SoftDeletePurgeService {
+
+  private final UploadedFileRepository uploadedFileRepository;
+  private final BlockedExtensionRepository blockedExtensionRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${purge.deleted-retention-days:30}")
+  private int retentionDays;
+
+  @Value("${purge.batch-size:500}")
+  private int batchSize;
+
+  @Value("${purge.max-batches-per-run:100}")
+  private int maxBatchesPerRun;
+
+  public SoftDeletePurgeServiceImpl(
+      UploadedFileRepository uploadedFileRepository,
+      BlockedExtensionRepository blockedExtensionRepository,
+      PlatformTransactionManager transactionManager) {
+    this.uploadedFileRepository = uploadedFileRepository;
+    this.blockedExtensionRepository = blockedExtensionRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * 매일 정리 작업 실행
+   */
+  @Scheduled(cron = "${purge.cron:0 40 3 * * *}")
+  public void purge() {
+    try {
+      int files = purgeUploadedFiles();
+      int extensions = purgeCustomExtensions();
+      if (files > 0 || extensions > 0) {
+        log.info("삭제 데이터 정리 완료 - 업로드 파일: {}건, 커스텀 확장자: {}건", files, extensions);
+      }
+    } catch (DataAccessException e) {
+      log.error("삭제 데이터 정리 실패", e);
+    }
+  }
+
+  @Override
+  public int purgeUploadedFiles() {
+    LocalDateTime deletedBefore = deletedBefore();
+    int total = 0;
+    for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+      List<String> filePaths = transactionTemplate.execute(
+          status -> uploadedFileRepository.purgeDeleted(deletedBefore, batchSize));
+      filePaths.forEach(this::deleteStoredFile);
+      total += filePaths.size();
+      if (filePaths.size() < batchSize) {
+        break;
+      }
+    }
+    return total;
+  }
+
+  @Override
+  public int purgeCustomExtensions() {
+    LocalDateTime deletedBefore = deletedBefore();
+    int total = 0;
+    for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+      Integer deleted = transactionTemplate.execute(
+          status -> blockedExtensionRepository.purgeDeletedCustomExtensions(deletedBefore, batchSize));
+      total += deleted;
+      if (deleted < batchSize) {
+        break;
+      }
+    }
+    return total;
+  }
+
+  private LocalDateTime deletedBefore() {
+    return LocalDateTime.now().minusDays(retentionDays);
+  }
+
+  private void deleteStoredFile(String filePath) {
+    try {
+      Files.deleteIfExists(Paths.get(filePath));
+    } catch (IOException e) {
+      log.warn("저장 파일 삭제 실패: {} ({})", filePath, e.getMessage());
+    }
+  }
+}
@@ -3,21 +3,29 @@ package com.flow.api.service.impl;
 import com.flow.api.domain.BlockedExtension;
 import com.flow.api.domain.Member;
 import com.flow.api.domain.Space;
-import com.flow.api.domain.data.MemberDto;
+import com.flow.api.domain.data.ExtensionPopularityDto;
 import com.flow.api.domain.data.SpaceCreationRequest;
 import com.flow.api.domain.data.SpaceCreationResponse;
-import com.flow.api.domain.data.SpaceDto;
+import com.flow.api.domain.data.SpaceProvisionResult;
+import com.flow.api.domain.data.SpaceProvisionResult.Item;
+import com.flow.api.domain.data.SpaceProvisionResult.Status;
+import com.flow.api.mapper.MemberMapper;
+import com.flow.api.mapper.SpaceMapper;
 import com.flow.api.repository.BlockedExtensionRepository;
 import com.flow.api.repository.MemberRepository;
 import com.flow.api.repository.SpaceRepository;
+import com.flow.api.service.AuditLogService;
+import com.flow.api.service.ExtensionPopularityService;
 import com.flow.api.service.SpaceService;
 import com.woo.core.service.BaseServiceImpl;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,23 +35,35 @@ public class SpaceServiceImpl extends BaseServiceImpl<Space> implements SpaceSer
   private final SpaceRepository spaceRepository;
   private final BlockedExtensionRepository blockedExtensionRepository;
   private final MemberRepository memberRepository;
-  private final ModelMapper modelMapper;
+  private final ExtensionPopularityService extensionPopularityService;
+  private final SpaceMapper spaceMapper;
+  private final MemberMapper memberMapper;
+  private final AuditLogService auditLogService;
 
   // 고정 확장자 7개 (알파벳 순)
   private static final List<String> FIXED_EXTENSIONS = Arrays.asList(
       "bat", "cmd", "com", "cpl", "exe", "js", "scr"
   );
+  private static final int MAX_PROVISION_SIZE = 5000;
+  private static final int MAX_SPACE_NAME_LENGTH = 255;
+  private static final int MAX_USERNAME_LENGTH = 100;
 
   public SpaceServiceImpl(
       SpaceRepository spaceRepository, 
       BlockedExtensionRepository blockedExtensionRepository,
       MemberRepository memberRepository,
-      ModelMapper modelMapper) {
+      ExtensionPopularityService extensionPopularityService,
+      SpaceMapper spaceMapper,
+      MemberMapper memberMapper,
+      AuditLogService auditLogService) {
     super(spaceRepository);
     this.spaceRepository = spaceRepository;
     this.blockedExtensionRepository = blockedExtensionRepository;
     this.memberRepository = memberRepository;
-    this.modelMapper = modelMapper;
+    this.extensionPopularityService = extensionPopularityService;
+    this.spaceMapper = spaceMapper;
+    this.memberMapper = memberMapper;
+    this.auditLogService = auditLogService;
   }
 
   @Override
@@ -59,14 +79,14 @@ public class SpaceServiceImpl extends BaseServiceImpl<Space> implements SpaceSer
   }
 
   @Override
-  public void insertTop6Extensions(Long spaceId, Long memberId) {
-    // 전역 커스텀 확장자에서 Top-6 조회
-    List<Object[]> top6 = blockedExtensionRepository.findTop6CustomExtensions();
+  public void insertTopExtensions(Long spaceId, Long memberId, int limit) {
+    // 전역 커스텀 확장자 Top-N 조회 (메모리 스냅샷)
+    List<ExtensionPopularityDto> topExtensions = extensionPopularityService.getTopExtensions(limit);
     
-    // Top-6 고정 확장자 삽입 (기본 unCheck = is_deleted true)
-    List<BlockedExtension> extensions = top6.stream()
-        .map(row -> {
-          String extension = (String) row[0];
+    // Top-N 고정 확장자 삽입 (기본 unCheck = is_deleted true)
+    List<BlockedExtension> extensions = topExtensions.stream()
+        .map(popularity -> {
+          String extension = popularity.getExtension();
           BlockedExtension be = new BlockedExtension();
           be.setSpaceId(spaceId);
           be.setExtension(extension);
@@ -83,7 +103,8 @@ public class SpaceServiceImpl extends BaseServiceImpl<Space> implements SpaceSer
 
   @Override
   public SpaceCreationResponse createSpaceWithAdmin(SpaceCreationRequest request) {
-    // 1. 유효성 검증
+    // 1. 유효성 검증 (이름 선점 잠금 후 확인, 동시 요청의 같은 이름 생성 방지)
+    spaceRepository.lockNames();
     if (existsBySpaceName(request.getSpaceName())) {
       throw new IllegalArgumentException("이미 존재하는 Space 이름입니다: " + request.getSpaceName());
     }
@@ -128,13 +149,135 @@ public class SpaceServiceImpl extends BaseServiceImpl<Space> implements SpaceSer
             .build())
         .collect(Collectors.toList());
     blockedExtensionRepository.saveAll(fixedExtensions);
+    auditLogService.recordSpaceCreated(finalSpace.getSpaceId(), finalAdmin.getMemberId(), finalSpace.getSpaceName());
     
     // 6. 응답 생성
     return SpaceCreationResponse.builder()
-        .space(modelMapper.map(finalSpace, SpaceDto.class))
-        .adminMember(modelMapper.map(finalAdmin, MemberDto.class))
+        .space(spaceMapper.toDto(finalSpace))
+        .adminMember(memberMapper.toDto(finalAdmin))
         .fixedExtensionsCount(fixedExtensions.size())
         .build();
   }
-}
 
+  /**
+   * Space + Admin Member + 고정 확장자 일괄 생성
+   *
+   * <ol>
+   *   <li>입력 검증 / 요청 내 중복 확인 (메모리)</li>
+   *   <li>Space명 / 사용자명 선점 잠금 (1문장, 트랜잭션 종료 시 해제)</li>
+   *   <li>이미 사용 중인 Space명 / 사용자명 조회 (1문장)</li>
+   *   <li>통과한 항목 수만큼 Space / Member ID 할당 (1문장)</li>
+   *   <li>Space, Admin, 고정 확장자 INSERT (1문장)</li>
+   * </ol>
+   * 단건 생성(항목당 약 12문장)과 달리 요청 크기와 무관하게 4문장으로 끝난다.
+   * 잠금은 단건 생성과 공유하므로 동시 요청이 같은 이름을 확인 → INSERT 사이에 선점하지 못하고,
+   * 중복은 member.username UNIQUE 위반(요청 전체 실패)이 아닌 항목별 거부로 보고된다.
+   */
+  @Override
+  public SpaceProvisionResult provisionSpaces(List<SpaceCreationRequest> requests) {
+    if (requests == null || requests.isEmpty()) {
+      throw new IllegalArgumentException("생성할 Space를 입력해주세요.");
+    }
+    if (requests.size() > MAX_PROVISION_SIZE) {
+      throw new IllegalArgumentException(
+          String.format("한 번에 최대 %d개까지 생성 가능합니다.", MAX_PROVISION_SIZE));
+    }
+
+    // 1. 입력 검증 + 요청 내 중복 확인
+    List<Item> items = new ArrayList<>(requests.size());
+    Set<String> requestedSpaceNames = new HashSet<>();
+    Set<String> requestedUsernames = new HashSet<>();
+    for (SpaceCreationRequest request : requests) {
+      Item item = Item.builder()
+          .spaceName(request.getSpaceName())
+          .adminUsername(request.getAdminUsername())
+          .build();
+      items.add(item);
+
+      if (isBlank(request.getSpaceName()) || isBlank(request.getAdminUsername()) || isBlank(request.getAdminPassword())) {
+        reject(item, Status.INVALID, "Space 이름, 관리자 사용자명, 비밀번호는 필수입니다.");
+      } else if (request.getSpaceName().length() > MAX_SPACE_NAME_LENGTH
+          || request.getAdminUsername().length() > MAX_USERNAME_LENGTH) {
+        reject(item, Status.INVALID, "Space 이름 또는 사용자명이 너무 깁니다.");
+      } else if (!requestedSpaceNames.add(request.getSpaceName())) {
+        reject(item, Status.DUPLICATE, "요청 내 중복된 Space 이름입니다: " + request.getSpaceName());
+      } else if (!requestedUsernames.add(request.getAdminUsername())) {
+        reject(item, Status.DUPLICATE, "요청 내 중복된 사용자 이름입니다: " + request.getAdminUsername());
+      }
+    }
+
+    // 2. 선점 잠금 + 기존 이름 중복 확인 (각 한 문장)
+    Set<String> existingSpaceNames = new HashSet<>();
+    Set<String> existingUsernames = new HashSet<>();
+    if (!requestedSpaceNames.isEmpty()) {
+      spaceRepository.lockNames();
+      for (Object[] row : spaceRepository.findExistingNames(
+          requestedSpaceNames.toArray(String[]::new), requestedUsernames.toArray(String[]::new))) {
+        ("SPACE".equals(row[0]) ? existingSpaceNames : existingUsernames).add((String) row[1]);
+      }
+    }
+
+    List<Integer> accepted = new ArrayList<>();
+    for (int i = 0; i < items.size(); i++) {
+      Item item = items.get(i);
+      if (item.getStatus() != null) {
+        continue;
+      }
+      if (existingSpaceNames.contains(item.getSpaceName())) {
+        reject(item, Status.SPACE_NAME_EXISTS, "이미 존재하는 Space 이름입니다: " + item.getSpaceName());
+      } else if (existingUsernames.contains(item.getAdminUsername())) {
+        reject(item, Status.USERNAME_EXISTS, "이미 존재하는 사용자 이름입니다: " + item.getAdminUsername());
+      } else {
+        accepted.add(i);
+      }
+    }
+
+    // 3. ID 할당 + 4. 일괄 INSERT
+    if (!accepted.isEmpty()) {
+      List<Object[]> ids = spaceRepository.allocateIds(accepted.size());
+      int size = accepted.size();
+      Long[] spaceIds = new Long[size];
+      Long[] memberIds = new Long[size];
+      String[] spaceNames = new String[size];
+      String[] descriptions = new String[size];
+      String[] usernames = new String[size];
+      String[] passwords = new String[size];
+      for (int i = 0; i < size; i++) {
+        SpaceCreationRequest request = requests.get(accepted.get(i));
+        spaceIds[i] = ((Number) ids.get(i)[0]).longValue();
+        memberIds[i] = ((Number) ids.get(i)[1]).longValue();
+        spaceNames[i] = request.getSpaceName();
+        descriptions[i] = request.getDescription();
+        usernames[i] = request.getAdminUsername();
+        passwords[i] = request.getAdminPassword();
+      }
+
+      spaceRepository.insertSpacesWithAdmins(spaceIds, memberIds, spaceNames, descriptions, usernames, passwords,
+          FIXED_EXTENSIONS.toArray(String[]::new));
+
+      for (int i = 0; i < size; i++) {
+        Item item = items.get(accepted.get(i));
+        item.setSpaceId(spaceIds[i]);
+        item.setAdminMemberId(memberIds[i]);
+        item.setStatus(Status.CREATED);
+        auditLogService.recordSpaceCreated(spaceIds[i], memberIds[i], spaceNames[i]);
+      }
+    }
+
+    return SpaceProvisionResult.builder()
+        .requestedCount(requests.size())
+        .createdCount(accepted.size())
+        .rejectedCount(requests.size() - accepted.size())
+        .items(items)
+        .build();
+  }
+
+  private void reject(Item item, Status status, String message) {
+    item.setStatus(status);
+    item.setMessage(message);
+  }
+
+  private boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+}
@@ -0,0 +1,159 @@
+package com.flow.api.service.impl;
+
+import com.flow.util.fileDefence.UploadRejectedException;
+import com.flow.util.fileDefence.jfr.UploadStageEvent;
+import com.sun.management.ThreadMXBean;
+import com.woo.core.logging.trace.Span;
+import com.woo.core.logging.trace.TraceRecorder;
+import com.woo.core.util.timing.ServerTiming;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 방어 단계별 메트릭
+ *
+ * <ul>
+ *   <li>upload.stage (Timer, stage / outcome=pass|reject|error) - 단계별 처리 시간 히스토그램</li>
+ *   <li>upload.stage.bytes (Counter, stage) - 단계가 읽은 파일 바이트 수</li>
+ *   <li>upload.rejects (Counter, stage / reason / space) - 차단 사유별 거부 횟수</li>
+ *   <li>upload.stage.allocated (DistributionSummary, stage) - 단계 실행 중 요청 스레드가 할당한 바이트</li>
+ *   <li>upload.stage.cpu (Timer, stage) - 단계 실행 중 요청 스레드 CPU 시간</li>
+ * </ul>
+ *
+ * <p>할당 / CPU 는 file.upload.stage-resources.enabled=true 일 때만 기록한다. (ThreadMXBean 스레드별 카운터,
+ * 단계마다 호출 4번) 단계 안에서 다른 스레드로 넘긴 작업(그룹 커밋 등)은 포함되지 않는다.
+ *
+ * <p>공간 ID 는 거부 Counter 에만 태그로 붙인다. (Timer 히스토그램은 공간 수만큼 늘어나지 않도록 단계별로만 집계)
+ * 단계별 Meter 는 (단계, 결과) 조합마다 한 번만 만들어 두고 재사용하며, 거부 Counter 는 드물므로 발생 시 조회한다.
+ *
+ * <p>단계마다 JFR {@link UploadStageEvent} 와 요청 구간 트리(TraceRecorder)의 구간도 함께 남긴다.
+ */
+@Component
+public class UploadPipelineMetrics {
+
+  public static final String STAGE_TIMER = "upload.stage";
+  public static final String STAGE_BYTES = "upload.stage.bytes";
+  public static final String REJECTS = "upload.rejects";
+  public static final String STAGE_ALLOCATED = "upload.stage.allocated";
+  public static final String STAGE_CPU = "upload.stage.cpu";
+
+  private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  // 단계 이름 (Server-Timing 이름으로도 사용)
+  public static final String POLICY = "policy";       // 차단 확장자 정책 조회 (DB)
+  public static final String EXTENSION = "extension"; // 1단계: 확장자 / 크기
+  public static final String MIME = "mime";           // 2단계: Tika 매직 넘버, 위장 검증
+  public static final String ARCHIVE = "archive";     // 3단계: 압축 내부 검증
+  public static final String STORE = "store";         // 4단계: 디스크 저장 + chmod 644
+  public static final String PERSIST = "persist";     // 메타데이터 저장 (그룹 커밋)
+
+  private final MeterRegistry meterRegistry;
+  private final TraceRecorder traceRecorder;
+  private final boolean resourceAccounting;
+
+  private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+  private final Map<String, Counter> stageBytes = new ConcurrentHashMap<>();
+  private final Map<String, ResourceMeters> stageResources = new ConcurrentHashMap<>();
+
+  public UploadPipelineMetrics(MeterRegistry meterRegistry, TraceRecorder traceRecorder,
+      @Value("${file.upload.stage-resources.enabled:false}") boolean resourceAccounting) {
+    this.meterRegistry = meterRegistry;
+    this.traceRecorder = traceRecorder;
+    this.resourceAccounting = resourceAccounting
+        && THREADS.isThreadAllocatedMemorySupported() && THREADS.isCurrentThreadCpuTimeSupported();
+    if (this.resourceAccounting) {
+      THREADS.setThreadAllocatedMemoryEnabled(true);
+      THREADS.setThreadCpuTimeEnabled(true);
+    }
+  }
+
+  /**
+   * 단계 실행 시간을 기록하고 Server-Timing 에 추가
+   *
+   * @param bytes 단계가 읽는 파일 바이트 수 (0 이면 기록하지 않음)
+   */
+  public <T> T time(String stage, Long spaceId, long bytes, ServerTiming timing, Supplier<T> body) {
+    UploadStageEvent event = UploadStageEvent.start();
+    Span span = traceRecorder.enter("stage " + stage);
+    long start = System.nanoTime();
+    String outcome = "error";
+    String reason = null;
+    Throwable error = null;
+    long cpuStart = resourceAccounting ? THREADS.getCurrentThreadCpuTime() : 0;
+    long allocatedStart = resourceAccounting ? THREADS.getCurrentThreadAllocatedBytes() : 0;
+    try {
+      T result = body.get();
+      outcome = "pass";
+      return result;
+    } catch (UploadRejectedException e) {
+      outcome = "reject";
+      reason = e.getReason().tag();
+      Counter.builder(REJECTS)
+          .description("업로드 차단 사유별 거부 횟수")
+          .tags("stage", stage, "reason", reason, "space", String.valueOf(spaceId))
+          .register(meterRegistry)
+          .increment();
+      error = e;
+      throw e;
+    } catch (RuntimeException e) {
+      error = e;
+      throw e;
+    } finally {
+      long nanos = System.nanoTime() - start;
+      if (resourceAccounting) {
+        recordResources(stage, THREADS.getCurrentThreadAllocatedBytes() - allocatedStart,
+            THREADS.getCurrentThreadCpuTime() - cpuStart);
+      }
+      traceRecorder.exit(span, error);
+      stageTimer(stage, outcome).record(nanos, TimeUnit.NANOSECONDS);
+      if (bytes > 0) {
+        stageBytes.computeIfAbsent(stage, key -> Counter.builder(STAGE_BYTES)
+                .description("업로드 방어 단계별 처리 바이트")
+                .baseUnit("bytes")
+                .tags("stage", key)
+                .register(meterRegistry))
+            .increment(bytes);
+      }
+      timing.add(stage, nanos);
+      event.finish(stage, spaceId, bytes, outcome, reason);
+    }
+  }
+
+  private Timer stageTimer(String stage, String outcome) {
+    return stageTimers.computeIfAbsent(stage + ":" + outcome, key -> Timer.builder(STAGE_TIMER)
+        .description("업로드 방어 단계별 처리 시간")
+        .tags("stage", stage, "outcome", outcome)
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofNanos(100_000))
+        .maximumExpectedValue(Duration.ofSeconds(30))
+        .register(meterRegistry));
+  }
+
+  private void recordResources(String stage, long allocatedBytes, long cpuNanos) {
+    ResourceMeters meters = stageResources.computeIfAbsent(stage, key -> new ResourceMeters(
+        DistributionSummary.builder(STAGE_ALLOCATED)
+            .description("업로드 방어 단계별 스레드 할당 바이트")
+            .baseUnit("bytes")
+            .tags("stage", key)
+            .register(meterRegistry),
+        Timer.builder(STAGE_CPU)
+            .description("업로드 방어 단계별 스레드 CPU 시간")
+            .tags("stage", key)
+            .register(meterRegistry)));
+    meters.allocated().record(allocatedBytes);
+    meters.cpu().record(cpuNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private record ResourceMeters(DistributionSummary allocated, Timer cpu) {
+  }
+}
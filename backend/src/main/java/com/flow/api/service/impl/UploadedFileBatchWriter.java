@@ -0,0 +1,223 @@
+package com.flow.api.service.impl;
+
+import com.flow.api.domain.UploadedFile;
+import com.flow.api.repository.UploadedFileRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 업로드 파일 메타데이터 저장기 (그룹 커밋)
+ *
+ * <p>기본(비활성화)은 업로드마다 {@code uploadedFileRepository.save} 로 커밋한다.
+ * {@code file.upload.group-commit.enabled=true} 이면 메타데이터를 큐에 넣고,
+ * 전용 스레드가 최대 {@code max-delay-ms} 동안 또는 {@code max-batch-size} 건까지 모아
+ * 한 트랜잭션(JDBC 배치 → reWriteBatchedInserts 로 다중 행 INSERT)으로 저장한다.
+ *
+ * <p>요청 스레드는 자신이 포함된 배치가 커밋될 때까지 기다린 뒤 응답하므로,
+ * 응답 시점에는 기존과 동일하게 DB 에 반영되어 있다. (지연 상한: max-delay-ms + 배치 커밋 시간)
+ *
+ * <p>배치 저장이 실패하면 건별 트랜잭션으로 다시 저장하여 실패한 행만 해당 요청에 예외로 전달한다.
+ *
+ * <p>대기 시간(timeout-ms)이 지나면 아직 배치에 들어가지 않은 요청은 취소하고 예외를 던진다.
+ * 이미 저장 중인 배치에 들어간 요청은 결과를 끝까지 기다린다.
+ * (예외를 받은 요청은 UploadedFileServiceImpl 에서 저장 파일을 지우므로, 그 뒤 메타데이터만 뒤늦게 커밋되는 일이 없도록)
+ */
+@Slf4j
+@Component
+public class UploadedFileBatchWriter {
+
+  private final UploadedFileRepository uploadedFileRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  private final boolean enabled;
+  private final int maxBatchSize;
+  private final long maxDelayNanos;
+  private final long timeoutMs;
+  private final BlockingQueue<PendingInsert> queue;
+
+  private volatile boolean running;
+  private Thread flusher;
+
+  public UploadedFileBatchWriter(
+      UploadedFileRepository uploadedFileRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${file.upload.group-commit.enabled:false}") boolean enabled,
+      @Value("${file.upload.group-commit.max-batch-size:100}") int maxBatchSize,
+      @Value("${file.upload.group-commit.max-delay-ms:5}") long maxDelayMs,
+      @Value("${file.upload.group-commit.queue-capacity:10000}") int queueCapacity,
+      @Value("${file.upload.group-commit.timeout-ms:10000}") long timeoutMs) {
+    this.uploadedFileRepository = uploadedFileRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.enabled = enabled;
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+    this.timeoutMs = timeoutMs;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    running = true;
+    flusher = new Thread(this::runFlusher, "uploaded-file-flusher");
+    flusher.setDaemon(true);
+    flusher.start();
+    log.info("업로드 메타데이터 그룹 커밋 활성화 (batch={}, delay={}ms)",
+        maxBatchSize, TimeUnit.NANOSECONDS.toMillis(maxDelayNanos));
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    if (flusher == null) {
+      return;
+    }
+    // 큐에 남은 요청은 모두 저장한 뒤 종료
+    running = false;
+    flusher.join(timeoutMs);
+  }
+
+  /**
+   * 메타데이터 저장 (커밋 완료 후 반환)
+   *
+   * @param uploadedFile 저장할 메타데이터
+   * @return ID 가 할당된 저장 결과
+   */
+  public UploadedFile save(UploadedFile uploadedFile) {
+    if (!enabled) {
+      return uploadedFileRepository.save(uploadedFile);
+    }
+
+    PendingInsert pending = new PendingInsert(uploadedFile);
+    if (!running || !queue.offer(pending)) {
+      // 종료 중이거나 큐가 가득 찬 경우 → 직접 저장
+      return uploadedFileRepository.save(uploadedFile);
+    }
+
+    try {
+      return pending.result.get(timeoutMs, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("파일 메타데이터 저장 실패", e.getCause());
+    } catch (TimeoutException e) {
+      if (pending.take()) {
+        queue.remove(pending);
+        throw new IllegalStateException("파일 메타데이터 저장 대기 시간 초과", e);
+      }
+      // 이미 저장 중인 배치에 포함됨 → 커밋 / 롤백 결과를 기다림
+      return awaitFlushing(pending);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("파일 메타데이터 저장 중 인터럽트", e);
+    }
+  }
+
+  private UploadedFile awaitFlushing(PendingInsert pending) {
+    try {
+      return pending.result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("파일 메타데이터 저장 실패", e.getCause());
+    }
+  }
+
+  private void runFlusher() {
+    List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        PendingInsert first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+
+        // 첫 요청 도착 후 max-delay 동안 또는 max-batch-size 까지 모음
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatchSize) {
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            break;
+          }
+          PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+        queue.drainTo(batch, maxBatchSize - batch.size());
+
+        // 대기 시간 초과로 취소된 요청은 제외 (남은 요청은 이후 취소 불가)
+        batch.removeIf(pending -> !pending.take());
+        if (!batch.isEmpty()) {
+          flush(batch);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      } catch (RuntimeException e) {
+        log.error("업로드 메타데이터 배치 처리 실패", e);
+        batch.forEach(pending -> pending.result.completeExceptionally(e));
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void flush(List<PendingInsert> batch) {
+    List<UploadedFile> files = batch.stream().map(pending -> pending.file).toList();
+    try {
+      List<UploadedFile> saved = transactionTemplate.execute(status -> uploadedFileRepository.saveAll(files));
+      for (int i = 0; i < batch.size(); i++) {
+        batch.get(i).result.complete(saved.get(i));
+      }
+    } catch (RuntimeException e) {
+      log.warn("업로드 메타데이터 배치 저장 실패, 건별 재시도 ({}건): {}", batch.size(), e.getMessage());
+      for (PendingInsert pending : batch) {
+        try {
+          pending.file.setFileId(null); // 실패한 배치에서 할당된 ID 제거 (신규 INSERT 로 재시도)
+          pending.result.complete(transactionTemplate.execute(status -> uploadedFileRepository.save(pending.file)));
+        } catch (RuntimeException rowFailure) {
+          pending.result.completeExceptionally(rowFailure);
+        }
+      }
+    }
+  }
+
+  private static final class PendingInsert {
+    private final UploadedFile file;
+    private final CompletableFuture<UploadedFile> result = new CompletableFuture<>();
+    private final AtomicBoolean taken = new AtomicBoolean();
+
+    private PendingInsert(UploadedFile file) {
+      this.file = file;
+    }
+
+    /**
+     * 저장 스레드(배치에 포함) / 요청 스레드(대기 시간 초과로 취소) 중 먼저 호출한 쪽만 true
+     */
+    private boolean take() {
+      return taken.compareAndSet(false, true);
+    }
+  }
+}
@@ -0,0 +1,195 @@
+package com.flow.api.service.impl;
+
+import com.flow.api.service.UploadedFilePartitionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * uploaded_file 월 파티션 관리
+ *
+ * <p>uploaded_file 은 created_at 기준 월 단위 RANGE 파티션 테이블이다. (docker/init.sql)
+ * <ul>
+ *   <li>파티션 이름: uploaded_file_yYYYYmMM, 범위: [해당 월 1일, 다음 달 1일)</li>
+ *   <li>범위 밖 행은 uploaded_file_default 로 들어가므로, 미리 앞 달 파티션을 만들어 default 를 비워둔다.</li>
+ *   <li>보존 기간이 지난 달은 DETACH → 저장 파일 삭제 → DROP (행 단위 DELETE / VACUUM 부담 없음)</li>
+ *   <li>세 단계는 각각 커밋되므로, 중간에 실패해 분리된 채 남은 uploaded_file_yYYYYmMM 테이블도
+ *       다음 실행에서 찾아 파일 삭제 → DROP 을 이어서 한다.</li>
+ *   <li>기본 키가 (file_id, created_at) 이라 ID 만으로 찾는 경로(단건 조회 / 다운로드 / 단건 삭제)는
+ *       파티션마다 PK 인덱스를 한 번씩 탐색한다. (비용은 보존 개월 수에 비례, 목록 / 검색은 created_at 하한으로 프루닝)</li>
+ * </ul>
+ *
+ * <p>기동 시 1회, 이후 {@code file.partition.maintenance-cron} 주기로 실행된다.
+ */
+@Slf4j
+@Service
+public class UploadedFilePartitionServiceImpl implements UploadedFilePartitionService {
+
+  private static final String PARENT_TABLE = "uploaded_file";
+  private static final Pattern PARTITION_NAME = Pattern.compile("^uploaded_file_y(\\d{4})m(\\d{2})$");
+  private static final LocalDateTime UNBOUNDED_SINCE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("${file.partition.premake-months:3}")
+  private int premakeMonths;
+
+  // 0 이하면 보존 기간 제한 없음 (파티션 삭제 안 함)
+  @Value("${file.partition.retention-months:0}")
+  private int retentionMonths;
+
+  public UploadedFilePartitionServiceImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public boolean isPartitioned() {
+    Boolean partitioned = jdbcTemplate.queryForObject(
+        "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))",
+        Boolean.class, PARENT_TABLE);
+    return Boolean.TRUE.equals(partitioned);
+  }
+
+  @Override
+  public List<String> ensurePartitions() {
+    List<String> created = new ArrayList<>();
+    if (!isPartitioned()) {
+      return created;
+    }
+
+    List<String> existing = findPartitions();
+    YearMonth current = YearMonth.now();
+    for (int i = 0; i <= premakeMonths; i++) {
+      YearMonth month = current.plusMonths(i);
+      String name = partitionName(month);
+      if (existing.contains(name)) {
+        continue;
+      }
+      try {
+        jdbcTemplate.execute(String.format(
+            "CREATE TABLE %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+            name, PARENT_TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+        created.add(name);
+      } catch (DataAccessException e) {
+        // default 파티션에 해당 월 행이 이미 있으면 생성 불가 → 수동 이관 필요
+        log.warn("업로드 파일 파티션 생성 실패: {} ({})", name, e.getMostSpecificCause().getMessage());
+      }
+    }
+    return created;
+  }
+
+  @Override
+  public List<String> dropExpiredPartitions() {
+    List<String> dropped = new ArrayList<>();
+    if (retentionMonths <= 0 || !isPartitioned()) {
+      return dropped;
+    }
+
+    YearMonth oldestRetained = YearMonth.now().minusMonths(retentionMonths - 1L);
+    List<String> attached = findPartitions();
+    List<String> candidates = new ArrayList<>(attached);
+    candidates.addAll(findDetachedPartitions());
+    for (String name : candidates) {
+      Matcher matcher = PARTITION_NAME.matcher(name);
+      if (!matcher.matches()) {
+        continue;
+      }
+      YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+      if (!month.isBefore(oldestRetained)) {
+        continue;
+      }
+
+      // 분리 후에는 조회/업로드 대상에서 즉시 빠지므로, 파일 삭제는 분리된 테이블 기준으로 진행
+      // (실패하면 분리된 테이블로 남고 다음 실행의 findDetachedPartitions 가 이어서 처리)
+      try {
+        if (attached.contains(name)) {
+          jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s", PARENT_TABLE, name));
+        }
+        int deletedFiles = deleteStoredFiles(name);
+        jdbcTemplate.execute("DROP TABLE " + name);
+        dropped.add(name);
+        log.info("만료 파티션 삭제: {} (저장 파일 {}개 삭제)", name, deletedFiles);
+      } catch (DataAccessException e) {
+        log.warn("만료 파티션 삭제 실패, 다음 실행에서 재시도: {} ({})", name, e.getMostSpecificCause().getMessage());
+      }
+    }
+    return dropped;
+  }
+
+  @Override
+  public LocalDateTime retainedSince() {
+    if (retentionMonths <= 0) {
+      return UNBOUNDED_SINCE;
+    }
+    LocalDate firstDay = YearMonth.now().minusMonths(retentionMonths - 1L).atDay(1);
+    return firstDay.atStartOfDay();
+  }
+
+  /**
+   * 기동 시 / 매일 파티션 정비 (앞 달 생성 + 만료 파티션 삭제)
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${file.partition.maintenance-cron:0 10 3 * * *}")
+  public void maintain() {
+    try {
+      List<String> created = ensurePartitions();
+      List<String> dropped = dropExpiredPartitions();
+      if (!created.isEmpty() || !dropped.isEmpty()) {
+        log.info("업로드 파일 파티션 정비 완료 - 생성: {}, 삭제: {}", created, dropped);
+      }
+    } catch (DataAccessException e) {
+      log.error("업로드 파일 파티션 정비 실패", e);
+    }
+  }
+
+  private List<String> findPartitions() {
+    return jdbcTemplate.queryForList(
+        "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+            + "WHERE i.inhparent = to_regclass(?) ORDER BY c.relname",
+        String.class, PARENT_TABLE);
+  }
+
+  // 이전 실행에서 DETACH 후 DROP 전에 실패해 남은 월 파티션 테이블
+  private List<String> findDetachedPartitions() {
+    return jdbcTemplate.queryForList(
+        "SELECT c.relname FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+            + "WHERE n.nspname = current_schema() AND c.relkind = 'r' AND NOT c.relispartition "
+            + "AND c.relname ~ ? ORDER BY c.relname",
+        String.class, PARTITION_NAME.pattern());
+  }
+
+  private int deleteStoredFiles(String partition) {
+    int[] deleted = {0};
+    jdbcTemplate.query("SELECT file_path FROM " + partition, rs -> {
+      String filePath = rs.getString(1);
+      try {
+        if (Files.deleteIfExists(Paths.get(filePath))) {
+          deleted[0]++;
+        }
+      } catch (IOException e) {
+        log.warn("저장 파일 삭제 실패: {} ({})", filePath, e.getMessage());
+      }
+    });
+    return deleted[0];
+  }
+
+  private static String partitionName(YearMonth month) {
+    return String.format("%s_y%04dm%02d", PARENT_TABLE, month.getYear(), month.getMonthValue());
+  }
+}
@@ -6,13 +6,24 @@ import com.flow.api.domain.UploadedFile;
 import com.flow.api.domain.data.UploadedFileDto;
 import com.flow.api.repository.MemberRepository;
 import com.flow.api.repository.UploadedFileRepository;
+import com.flow.api.service.AuditLogService;
 import com.flow.api.service.BlockedExtensionService;
+import com.flow.api.service.UploadedFilePartitionService;
 import com.flow.api.service.UploadedFileService;
+import com.flow.util.fileDefence.UploadRejectedException;
+import com.flow.util.fileDefence.UploadRejectedException.Reason;
 import com.flow.util.fileDefence.ZipValidator;
+import com.flow.util.fileDefence.jfr.MimeDetectionEvent;
+import com.flow.util.fileDefence.jfr.StorageWriteEvent;
 import com.woo.core.service.BaseServiceImpl;
+import com.woo.core.util.timing.ServerTiming;
+import jakarta.persistence.EntityManager;
 import org.apache.tika.Tika;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -22,11 +33,18 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.PosixFilePermission;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -35,8 +53,30 @@ public class UploadedFileServiceImpl extends BaseServiceImpl<UploadedFile> imple
   private final UploadedFileRepository uploadedFileRepository;
   private final BlockedExtensionService blockedExtensionService;
   private final MemberRepository memberRepository;
+  private final UploadedFileBatchWriter uploadedFileBatchWriter;
+  private final UploadedFilePartitionService uploadedFilePartitionService;
+  private final EntityManager entityManager;
+  private final UploadPipelineMetrics uploadPipelineMetrics;
+  private final AuditLogService auditLogService;
   private final Tika tika;
 
+  private static final int MAX_BULK_DELETE_SIZE = 1000;
+  private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+  /** 부분 일치 검색 최소 길이 (pg_trgm 은 3글자 미만 '%검색어%' 에서 trigram 을 뽑지 못해 인덱스 전체를 읽음) */
+  private static final int MIN_CONTAINS_QUERY_LENGTH = 3;
+  private static final int MAX_SEARCH_PAGE_SIZE = 100;
+  private static final Set<String> ARCHIVE_EXTENSIONS = Set.of("zip", "tar", "gz", "tgz", "7z");
+
+  // 실행 파일 MIME 타입 목록
+  private static final Set<String> EXECUTABLE_MIME_TYPES = Set.of(
+      "application/x-msdownload",      // Windows .exe, .dll
+      "application/x-executable",      // Linux ELF
+      "application/x-dosexec",         // DOS executable
+      "application/x-mach-binary",     // macOS Mach-O
+      "application/x-sharedlib",       // Shared libraries (.so, .dylib)
+      "application/vnd.microsoft.portable-executable"  // PE format
+  );
+
   //10MB TJFWJD
   @Value("${file.upload.max-size:10485760}")
   private long maxFileSize;
@@ -48,24 +88,36 @@ public class UploadedFileServiceImpl extends BaseServiceImpl<UploadedFile> imple
   public UploadedFileServiceImpl(
       UploadedFileRepository uploadedFileRepository,
       BlockedExtensionService blockedExtensionService,
-      MemberRepository memberRepository) {
+      MemberRepository memberRepository,
+      UploadedFileBatchWriter uploadedFileBatchWriter,
+      UploadedFilePartitionService uploadedFilePartitionService,
+      EntityManager entityManager,
+      UploadPipelineMetrics uploadPipelineMetrics,
+      AuditLogService auditLogService) {
     super(uploadedFileRepository);
     this.uploadedFileRepository = uploadedFileRepository;
     this.blockedExtensionService = blockedExtensionService;
     this.memberRepository = memberRepository;
+    this.uploadedFileBatchWriter = uploadedFileBatchWriter;
+    this.uploadedFilePartitionService = uploadedFilePartitionService;
+    this.entityManager = entityManager;
+    this.uploadPipelineMetrics = uploadPipelineMetrics;
+    this.auditLogService = auditLogService;
     this.tika = new Tika();
   }
 
   @Override
   @Transactional(readOnly = true)
   public List<UploadedFile> getFilesBySpace(Long spaceId) {
-    return uploadedFileRepository.findBySpaceIdAndIsDeletedFalse(spaceId);
+    return uploadedFileRepository.findBySpaceIdAndIsDeletedFalseAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+        spaceId, resolveSince(null));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<UploadedFileDto> getFilesBySpaceWithUploader(Long spaceId) {
-    List<UploadedFile> files = uploadedFileRepository.findBySpaceIdAndIsDeletedFalse(spaceId);
+  public List<UploadedFileDto> getFilesBySpaceWithUploader(Long spaceId, LocalDateTime since) {
+    List<UploadedFile> files = uploadedFileRepository
+        .findBySpaceIdAndIsDeletedFalseAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(spaceId, resolveSince(since));
     
     return files.stream()
         .map(file -> {
@@ -94,10 +146,90 @@ public class UploadedFileServiceImpl extends BaseServiceImpl<UploadedFile> imple
         .collect(Collectors.toList());
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public void exportFiles(Long spaceId, LocalDateTime since, Consumer<UploadedFileDto> consumer) {
+    // 업로더 이름은 내보내기 동안만 캐시 (공간 멤버 수만큼만 증가)
+    Map<Long, String> uploaderNames = new HashMap<>();
+    try (Stream<UploadedFile> files = uploadedFileRepository
+        .streamBySpaceIdAndIsDeletedFalseAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(spaceId, resolveSince(since))) {
+      files.forEach(file -> {
+        String uploaderName = file.getCreatedBy() == null ? "알 수 없음"
+            : uploaderNames.computeIfAbsent(file.getCreatedBy(), memberId -> memberRepository.findById(memberId)
+                .map(Member::getUsername)
+                .orElse("알 수 없음"));
+        consumer.accept(UploadedFileDto.builder()
+            .fileId(file.getFileId())
+            .spaceId(file.getSpaceId())
+            .originalName(file.getOriginalName())
+            .storedName(file.getStoredName())
+            .extension(file.getExtension())
+            .fileSize(file.getFileSize())
+            .mimeType(file.getMimeType())
+            .filePath(file.getFilePath())
+            .createdAt(file.getCreatedAt())
+            .uploaderName(uploaderName)
+            .build());
+        entityManager.detach(file); // 영속성 컨텍스트에 쌓이지 않도록 전달 후 분리
+      });
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<UploadedFileDto> searchFiles(Long spaceId, String query, boolean prefixOnly,
+      String extension, Long uploaderId, int page, int size) {
+    if (query == null || query.isBlank()) {
+      throw new IllegalArgumentException("검색어를 입력해주세요.");
+    }
+    String term = query.trim().toLowerCase(Locale.ROOT);
+    if (term.length() > MAX_SEARCH_QUERY_LENGTH) {
+      throw new IllegalArgumentException(
+          String.format("검색어는 최대 %d자까지 입력 가능합니다.", MAX_SEARCH_QUERY_LENGTH));
+    }
+    if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+      throw new IllegalArgumentException(
+          String.format("페이지 크기는 1~%d 사이여야 합니다.", MAX_SEARCH_PAGE_SIZE));
+    }
+    String normalizedExtension =
+        extension == null || extension.isBlank() ? null : extension.trim().toLowerCase(Locale.ROOT);
+    // 짧은 검색어는 접두 일치로 검색 ('ab%' 는 공백 패딩 trigram 으로 인덱스 사용 가능)
+    boolean prefixSearch = prefixOnly || term.length() < MIN_CONTAINS_QUERY_LENGTH;
+
+    // 검색어의 %, _ 는 문자 그대로 비교 (PostgreSQL LIKE 기본 이스케이프 문자: \)
+    String escaped = term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    String prefix = escaped + "%";
+    Page<UploadedFile> files = uploadedFileRepository.searchByName(
+        spaceId, resolveSince(null), term, prefixSearch ? prefix : "%" + prefix, prefix,
+        normalizedExtension, uploaderId, PageRequest.of(page, size));
+
+    // 페이지의 업로더 이름은 한 번에 조회
+    Set<Long> uploaderIds = files.stream()
+        .map(UploadedFile::getCreatedBy)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    Map<Long, String> uploaderNames = memberRepository.findAllById(uploaderIds).stream()
+        .collect(Collectors.toMap(Member::getMemberId, Member::getUsername));
+
+    return files.map(file -> UploadedFileDto.builder()
+        .fileId(file.getFileId())
+        .spaceId(file.getSpaceId())
+        .originalName(file.getOriginalName())
+        .storedName(file.getStoredName())
+        .extension(file.getExtension())
+        .fileSize(file.getFileSize())
+        .mimeType(file.getMimeType())
+        .filePath(file.getFilePath())
+        .createdAt(file.getCreatedAt())
+        .uploaderName(uploaderNames.getOrDefault(file.getCreatedBy(), "알 수 없음"))
+        .build());
+  }
+
   @Override
   @Transactional(readOnly = true)
   public List<UploadedFile> getFilesByUploader(Long memberId) {
-    return uploadedFileRepository.findByCreatedByAndIsDeletedFalse(memberId);
+    return uploadedFileRepository.findByCreatedByAndIsDeletedFalseAndCreatedAtGreaterThanEqual(
+        memberId, resolveSince(null));
   }
 
   @Override
@@ -109,8 +241,37 @@ public class UploadedFileServiceImpl extends BaseServiceImpl<UploadedFile> imple
 
   @Override
   @Transactional(readOnly = true)
-  public Long countFilesBySpace(Long spaceId) {
-    return uploadedFileRepository.countBySpaceIdAndIsDeletedFalse(spaceId);
+  public Long countFilesBySpace(Long spaceId, LocalDateTime since) {
+    return uploadedFileRepository.countBySpaceIdAndIsDeletedFalseAndCreatedAtGreaterThanEqual(
+        spaceId, resolveSince(since));
+  }
+
+  @Override
+  public int softDeleteFiles(Long spaceId, List<Long> fileIds) {
+    if (fileIds == null || fileIds.isEmpty()) {
+      throw new IllegalArgumentException("삭제할 파일을 입력해주세요.");
+    }
+    if (fileIds.size() > MAX_BULK_DELETE_SIZE) {
+      throw new IllegalArgumentException(
+          String.format("한 번에 최대 %d개까지 삭제 가능합니다.", MAX_BULK_DELETE_SIZE));
+    }
+    return uploadedFileRepository.softDeleteByIds(spaceId, fileIds.toArray(Long[]::new));
+  }
+
+  @Override
+  public int softDeleteFilesBySpace(Long spaceId, String extension, LocalDateTime before) {
+    String normalizedExtension = extension == null || extension.isBlank() ? null : extension.trim().toLowerCase();
+    return uploadedFileRepository.softDeleteBySpace(spaceId, normalizedExtension, before);
+  }
+
+  /**
+   * 조회 하한 결정 (요청값과 보존 기간 시작 중 늦은 시각)
+   *
+   * <p>created_at 하한이 있어야 uploaded_file 월 파티션 중 범위 밖 파티션이 스캔에서 제외된다.
+   */
+  private LocalDateTime resolveSince(LocalDateTime since) {
+    LocalDateTime retainedSince = uploadedFilePartitionService.retainedSince();
+    return since == null || since.isBefore(retainedSince) ? retainedSince : since;
   }
 
 
@@ -133,15 +294,58 @@ public class UploadedFileServiceImpl extends BaseServiceImpl<UploadedFile> imple
    *   <li>3단계: 압축 파일 내부 재귀 검증, Zip Bomb 차단</li>
    *   <li>4단계: chmod 644로 실행 권한 제거 (최종 방어선)</li>
    * </ul>
+   *
+   * <p>트랜잭션: 검증(Tika, 압축 해제) 동안 쓰기 트랜잭션/커넥션을 잡지 않는다.
+   * 차단 정책은 업로드당 한 번 readOnly 트랜잭션(replica 라우팅 대상)으로 조회해 모든 단계에서 사용하고,
+   * 메타데이터 저장은 UploadedFileBatchWriter 의 쓰기 트랜잭션(primary)으로 수행된다.
+   *
+   * <p>단계별 처리 시간/바이트/차단 사유는 UploadPipelineMetrics 로 기록된다.
    */
   @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public UploadedFile uploadFile(Long spaceId, MultipartFile file) {
-    String extension = validate1stDefense(spaceId, file);
-    validate2ndDefense(spaceId, file, extension);
-    validate3rdDefense(spaceId, file, extension);
-    
-    UploadedFile result = validate4thDefense(spaceId, file, extension);
-    
+    return uploadFile(spaceId, file, new ServerTiming());
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public UploadedFile uploadFile(Long spaceId, MultipartFile file, ServerTiming timing) {
+    long start = System.nanoTime();
+    long size = file == null ? 0 : file.getSize();
+
+    UploadedFile result;
+    try {
+      List<BlockedExtension> blockedExtensions = uploadPipelineMetrics.time(
+          UploadPipelineMetrics.POLICY, spaceId, 0, timing,
+          () -> blockedExtensionService.getBlockedExtensions(spaceId));
+      Set<String> blockedSet = blockedExtensions.stream()
+          .map(be -> be.getExtension().toLowerCase())
+          .collect(Collectors.toSet());
+
+      String extension = uploadPipelineMetrics.time(UploadPipelineMetrics.EXTENSION, spaceId, 0, timing,
+          () -> validate1stDefense(file, blockedSet));
+      uploadPipelineMetrics.time(UploadPipelineMetrics.MIME, spaceId, size, timing, () -> {
+        validate2ndDefense(file, extension, blockedExtensions);
+        return null;
+      });
+      if (ARCHIVE_EXTENSIONS.contains(extension)) {
+        uploadPipelineMetrics.time(UploadPipelineMetrics.ARCHIVE, spaceId, size, timing, () -> {
+          validate3rdDefense(file, blockedSet);
+          return null;
+        });
+      }
+
+      result = validate4thDefense(spaceId, file, extension, timing);
+
+    } catch (UploadRejectedException e) {
+      auditLogService.recordFileRejected(
+          spaceId, file == null ? null : file.getOriginalFilename(), e.getReason().tag(), e.getMessage());
+      throw e;
+    }
+
+    auditLogService.recordFileUploaded(spaceId, result.getOriginalName(),
+        String.format("size=%d, mime=%s", result.getFileSize(), result.getMimeType()));
+    timing.add("total", System.nanoTime() - start);
     return result;
   }
 
@@ -204,24 +408,26 @@ public class UploadedFileServiceImpl extends BaseServiceImpl<UploadedFile> imple
    * 보완: 1단계 확장자 Blacklist가 주 방어선 역할
    * </pre>
    *
-   * @param spaceId 공간 ID
    * @param file 업로드 파일
    * @param extension 1단계에서 검증된 확장자
-   * @throws IllegalArgumentException 실행 파일 감지 시
+   * @param blockedExtensions 공간의 차단 확장자 목록
+   * @throws UploadRejectedException 실행 파일 또는 위장 파일 감지 시
    * @throws RuntimeException Tika 분석 실패 시
    */
-  private void validate2ndDefense(Long spaceId, MultipartFile file, String extension) {
+  private void validate2ndDefense(MultipartFile file, String extension, List<BlockedExtension> blockedExtensions) {
     try (InputStream inputStream = file.getInputStream()) {
+      MimeDetectionEvent detection = MimeDetectionEvent.start();
       String detectedMimeType = tika.detect(inputStream, file.getOriginalFilename());
+      detection.finish(MimeDetectionEvent.UPLOAD, file.getOriginalFilename(), file.getSize(), detectedMimeType);
 
       // 2-1. 실행 파일 감지 (바이너리 실행 파일 차단)
       if (isExecutableFile(detectedMimeType)) {
-        throw new IllegalArgumentException(
+        throw new UploadRejectedException(Reason.EXECUTABLE_MIME,
             String.format("실행 파일은 업로드할 수 없습니다. 감지된 타입: %s", detectedMimeType));
       }
 
       // 2-2. 확장자 위장 검증 (감지된 MIME 타입이 차단 대상인지 확인)
-      validateDisguisedExtension(spaceId, extension, detectedMimeType, file.getOriginalFilename());
+      validateDisguisedExtension(blockedExtensions, extension, detectedMimeType);
 
     } catch (IOException e) {
       throw new RuntimeException("파일 형식 검증 중 오류가 발생했습니다.", e);
@@ -246,35 +452,35 @@ public class UploadedFileServiceImpl extends BaseServiceImpl<UploadedFile> imple
    * 한계: 파일명만 보고 판단하므로 실제 내용은 검증 불가
    * </pre>
    *
-   * @param spaceId 공간 ID
    * @param file 업로드 파일
+   * @param blockedSet 공간의 차단 확장자 (소문자)
    * @return 추출된 확장자
-   * @throws IllegalArgumentException 차단된 확장자인 경우
+   * @throws UploadRejectedException 차단된 확장자인 경우
    */
-  private String validate1stDefense(Long spaceId, MultipartFile file) {
+  private String validate1stDefense(MultipartFile file, Set<String> blockedSet) {
     // 파일 기본 검증
     if (file == null || file.isEmpty()) {
-      throw new IllegalArgumentException("파일이 비어있습니다.");
+      throw new UploadRejectedException(Reason.INVALID_FILE, "파일이 비어있습니다.");
     }
     
     String originalFilename = file.getOriginalFilename();
     if (originalFilename == null || originalFilename.isEmpty()) {
-      throw new IllegalArgumentException("파일명이 없습니다.");
+      throw new UploadRejectedException(Reason.INVALID_FILE, "파일명이 없습니다.");
     }
     
     // 확장자 추출
     int lastDotIndex = originalFilename.lastIndexOf('.');
     String extension = (lastDotIndex == -1) ? "" : originalFilename.substring(lastDotIndex + 1).toLowerCase();
     
-    // 확장자 Blacklist 검증
-    if (isExtensionBlocked(spaceId, extension)) {
-      throw new IllegalArgumentException(
+    // 확장자 Blacklist 검증 (확장자가 없으면 차단)
+    if (extension.isEmpty() || blockedSet.contains(extension.trim())) {
+      throw new UploadRejectedException(Reason.BLOCKED_EXTENSION,
           String.format("'%s' 확장자는 차단되어 업로드할 수 없습니다.", extension));
     }
     
     // 파일 크기 검증
     if (file.getSize() > maxFileSize) {
-      throw new IllegalArgumentException(
+      throw new UploadRejectedException(Reason.TOO_LARGE,
           String.format("파일 크기가 너무 큽니다. 최대 크기: %dMB", maxFileSize / (1024 * 1024)));
     }
     
@@ -303,17 +509,7 @@ public class UploadedFileServiceImpl extends BaseServiceImpl<UploadedFile> imple
       return false;
     }
 
-    // 실행 파일 MIME 타입 목록
-    Set<String> executableMimeTypes = Set.of(
-        "application/x-msdownload",      // Windows .exe, .dll
-        "application/x-executable",      // Linux ELF
-        "application/x-dosexec",         // DOS executable
-        "application/x-mach-binary",     // macOS Mach-O
-        "application/x-sharedlib",       // Shared libraries (.so, .dylib)
-        "application/vnd.microsoft.portable-executable"  // PE format
-    );
-
-    return executableMimeTypes.contains(mimeType.toLowerCase());
+    return EXECUTABLE_MIME_TYPES.contains(mimeType.toLowerCase());
   }
 
   /**
@@ -337,21 +533,17 @@ public class UploadedFileServiceImpl extends BaseServiceImpl<UploadedFile> imple
    *   <li>Space B (php만 차단): fake.jpg(실제 sh) → 통과 (sh는 차단 목록에 없음)</li>
    * </ul>
    *
-   * @param spaceId 공간 ID
+   * @param blockedExtensions 해당 Space의 차단 확장자 목록 (isDeleted = false만)
    * @param declaredExtension 파일명에서 추출한 확장자
    * @param detectedMimeType Tika가 감지한 실제 MIME 타입
-   * @param filename 원본 파일명
-   * @throws IllegalArgumentException 차단 대상 확장자로 위장한 경우
+   * @throws UploadRejectedException 차단 대상 확장자로 위장한 경우
    */
-  private void validateDisguisedExtension(Long spaceId, String declaredExtension, 
-                                          String detectedMimeType, String filename) {
+  private void validateDisguisedExtension(List<BlockedExtension> blockedExtensions,
+                                          String declaredExtension, String detectedMimeType) {
     if (detectedMimeType == null) {
       return;
     }
     
-    // 해당 Space의 차단 확장자 목록 조회 (isDeleted = false만)
-    List<BlockedExtension> blockedExtensions = blockedExtensionService.getBlockedExtensions(spaceId);
-    
     // 각 차단 확장자의 예상 MIME 타입과 비교
     for (BlockedExtension blocked : blockedExtensions) {
       String blockedExt = blocked.getExtension().toLowerCase();
@@ -362,7 +554,7 @@ public class UploadedFileServiceImpl extends BaseServiceImpl<UploadedFile> imple
       
       // 감지된 MIME 타입이 차단 확장자의 MIME 타입과 일치하는지 확인
       if (isMimeTypeMatch(detectedMimeType, expectedMimeForBlockedExt)) {
-        throw new IllegalArgumentException(
+        throw new UploadRejectedException(Reason.DISGUISE,
             String.format("확장자 위장 파일이 감지되었습니다. (파일명: .%s, 실제: .%s - 차단 대상)", 
                 declaredExtension, blockedExt));
       }
@@ -427,26 +619,16 @@ public class UploadedFileServiceImpl extends BaseServiceImpl<UploadedFile> imple
    *   <li>암호화된 압축 파일 차단</li>
    * </ul>
    * 
-   * @param spaceId 공간 ID
+   * <p>압축 파일 확장자(ARCHIVE_EXTENSIONS)인 경우에만 호출된다.
+   *
    * @param file 업로드 파일
-   * @param extension 파일 확장자
-   * @throws IllegalArgumentException 압축 파일 검증 실패 시
+   * @param blockedSet 공간의 차단 확장자 (소문자)
+   * @throws UploadRejectedException 압축 파일 검증 실패 시
    */
-  private void validate3rdDefense(Long spaceId, MultipartFile file, String extension) {
-    // 압축 파일 확장자 확인
-    Set<String> archiveExtensions = Set.of("zip", "tar", "gz", "tgz", "7z");
-    
-    if (archiveExtensions.contains(extension.toLowerCase())) {
-      // 차단된 확장자 목록 조회
-      List<BlockedExtension> blockedExtensions = blockedExtensionService.getBlockedExtensions(spaceId);
-      Set<String> blockedSet = blockedExtensions.stream()
-          .map(be -> be.getExtension().toLowerCase())
-          .collect(Collectors.toSet());
-      
-      // ZipValidator를 사용한 압축 파일 내부 재귀 검증
-      ZipValidator zipValidator = new ZipValidator(blockedSet, tika);
-      zipValidator.validateZipFile(file, 0);
-    }
+  private void validate3rdDefense(MultipartFile file, Set<String> blockedSet) {
+    // ZipValidator를 사용한 압축 파일 내부 재귀 검증
+    ZipValidator zipValidator = new ZipValidator(blockedSet, tika);
+    zipValidator.validateZipFile(file, 0);
   }
 
   /**
@@ -473,18 +655,54 @@ public class UploadedFileServiceImpl extends BaseServiceImpl<UploadedFile> imple
    * @param spaceId 공간 ID
    * @param file 업로드 파일
    * @param extension 파일 확장자
+   * @param timing 단계별 처리 시간 (store, persist 추가)
    * @return 저장된 파일 정보
-   * @throws RuntimeException 파일 저장 또는 권한 설정 실패 시
+   * @throws RuntimeException 파일 저장 또는 권한 설정 실패 시, 메타데이터 저장 실패 시 (저장한 파일은 삭제)
    */
-  private UploadedFile validate4thDefense(Long spaceId, MultipartFile file, String extension) {
-    
+  private UploadedFile validate4thDefense(Long spaceId, MultipartFile file, String extension, ServerTiming timing) {
+    // 고유한 파일명 생성
+    String storedName = UUID.randomUUID().toString() + "." + extension;
+    Path targetPath = uploadPipelineMetrics.time(UploadPipelineMetrics.STORE, spaceId, file.getSize(), timing,
+        () -> storeFile(spaceId, file, storedName));
+      
+    // 메타데이터 저장
+    UploadedFile uploadedFile = UploadedFile.builder()
+        .spaceId(spaceId)
+        .originalName(file.getOriginalFilename())
+        .storedName(storedName)
+        .extension(extension)
+        .fileSize(file.getSize())
+        .mimeType(file.getContentType())
+        .filePath(targetPath.toString())
+        .build();
+      
+    // 그룹 커밋 활성화 시 다른 업로드와 한 트랜잭션으로 저장 (커밋 완료 후 반환)
+    try {
+      return uploadPipelineMetrics.time(UploadPipelineMetrics.PERSIST, spaceId, 0, timing,
+          () -> uploadedFileBatchWriter.save(uploadedFile));
+    } catch (RuntimeException e) {
+      // 메타데이터가 저장되지 않았으므로 디스크에 남은 파일도 삭제 (조회/다운로드할 수 없는 고아 파일 방지)
+      try {
+        Files.deleteIfExists(targetPath);
+      } catch (IOException deleteError) {
+        e.addSuppressed(deleteError);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 파일을 공간 디렉토리에 저장하고 chmod 644 적용
+   *
+   * @return 저장된 파일 경로
+   */
+  private Path storeFile(Long spaceId, MultipartFile file, String storedName) {
+    StorageWriteEvent event = StorageWriteEvent.start();
+    boolean success = false;
     try {
       // 업로드 디렉토리 생성
       Path spacePath = Paths.get(uploadDirectory, spaceId.toString());
       Files.createDirectories(spacePath);
-      
-      // 고유한 파일명 생성
-      String storedName = UUID.randomUUID().toString() + "." + extension;
       Path targetPath = spacePath.resolve(storedName);
       
       // 파일 저장
@@ -498,23 +716,13 @@ public class UploadedFileServiceImpl extends BaseServiceImpl<UploadedFile> imple
       perms.add(PosixFilePermission.OTHERS_READ);
       Files.setPosixFilePermissions(targetPath, perms);  // chmod 644
       
-      // 메타데이터 저장
-      UploadedFile uploadedFile = UploadedFile.builder()
-          .spaceId(spaceId)
-          .originalName(file.getOriginalFilename())
-          .storedName(storedName)
-          .extension(extension)
-          .fileSize(file.getSize())
-          .mimeType(file.getContentType())
-          .filePath(targetPath.toString())
-          .build();
-      
-      UploadedFile saved = uploadedFileRepository.save(uploadedFile);
-      
-      return saved;
+      success = true;
+      return targetPath;
       
     } catch (IOException e) {
       throw new RuntimeException("파일 저장 실패: " + e.getMessage(), e);
+    } finally {
+      event.finish(spaceId, storedName, file.getSize(), success);
     }
   }
 }
@@ -0,0 +1,52 @@
+package com.flow.util.fileDefence;
+
+import lombok.Getter;
+
+/**
+ * 업로드 방어 단계에서 파일을 차단할 때 발생하는 예외
+ *
+ * <p>기존 검증 실패와 같이 {@link IllegalArgumentException} 으로 처리되며,
+ * 차단 사유({@link Reason})는 거부 메트릭(upload.rejects)의 reason 태그로 사용된다.
+ */
+@Getter
+public class UploadRejectedException extends IllegalArgumentException {
+
+  private final Reason reason;
+
+  public UploadRejectedException(Reason reason, String message) {
+    super(message);
+    this.reason = reason;
+  }
+
+  public UploadRejectedException(Reason reason, String message, Throwable cause) {
+    super(message, cause);
+    this.reason = reason;
+  }
+
+  /** 차단 사유 */
+  public enum Reason {
+    /** 빈 파일, 파일명 없음 */
+    INVALID_FILE,
+    /** 최대 크기 초과 */
+    TOO_LARGE,
+    /** 차단 확장자 (압축 내부 포함) */
+    BLOCKED_EXTENSION,
+    /** 실행 파일 MIME 타입 (압축 내부 포함) */
+    EXECUTABLE_MIME,
+    /** 차단 확장자의 MIME 타입을 다른 확장자로 위장 */
+    DISGUISE,
+    /** 압축 해제 크기 / 압축률 초과 */
+    ZIP_BOMB,
+    /** 중첩 압축 깊이 초과 */
+    DEPTH,
+    /** 압축 내부 파일 개수 초과 */
+    COUNT,
+    /** 압축 파일을 읽을 수 없음 */
+    ARCHIVE_UNREADABLE;
+
+    /** 메트릭 태그 값 (예: zip_bomb) */
+    public String tag() {
+      return name().toLowerCase();
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package com.flow.util.fileDefence;
 
+import com.flow.util.fileDefence.UploadRejectedException.Reason;
+import com.flow.util.fileDefence.jfr.ArchiveEntryEvent;
+import com.flow.util.fileDefence.jfr.MimeDetectionEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.ArchiveInputStream;
@@ -49,12 +52,14 @@ import java.util.Set;
  *
  * <p>Zip Bomb 방어 기준:
  * <ul>
- *   <li>최대 압축 해제 크기: 10MB</li>
+ *   <li>최대 압축 해제 크기: 10MB (헤더 선언 크기와 실제로 풀린 크기 모두)</li>
  *   <li>최대 압축률: 100배</li>
  *   <li>최대 파일 개수: 1,000개</li>
  *   <li>최대 중첩 깊이: 1단계</li>
  * </ul>
  *
+ * <p>엔트리마다 JFR {@link ArchiveEntryEvent}, Tika 호출마다 {@link MimeDetectionEvent} 를 남긴다.
+ *
  * @see FileValidator
  * @see org.apache.commons.compress.archivers.ArchiveInputStream
  * @see org.apache.tika.Tika
@@ -67,6 +72,7 @@ public class ZipValidator {
   private static final int MAX_COMPRESSION_RATIO = 100; // 100배
   private static final int MAX_FILE_COUNT = 1000; // 최대 1,000개 파일
   private static final int MAX_NESTING_DEPTH = 1; // 최대 중첩 깊이
+  private static final int MAX_INSPECT_SIZE = 1024 * 1024; // 내부 파일 검사 시 읽는 앞부분 (1MB)
 
   // 압축 파일 MIME Types
   private static final Set<String> ARCHIVE_MIME_TYPES = Set.of(
@@ -99,7 +105,7 @@ public class ZipValidator {
    *
    * @param file 업로드된 압축 파일
    * @param currentDepth 현재 중첩 깊이 (최초 호출 시 0)
-   * @throws IllegalArgumentException 검증 실패 시
+   * @throws UploadRejectedException 검증 실패 시 (차단 사유 포함)
    */
   public void validateZipFile(MultipartFile file, int currentDepth) {
     log.info("[3단계-ZIP] 압축 파일 검증 시작 - 파일: {}, 깊이: {}", file.getOriginalFilename(), currentDepth);
@@ -107,14 +113,16 @@ public class ZipValidator {
     // 1. 중첩 깊이 확인
     if (currentDepth > MAX_NESTING_DEPTH) {
       log.warn("[3단계-ZIP] 차단! - 중첩 깊이 초과: {} > {}", currentDepth, MAX_NESTING_DEPTH);
-      throw new IllegalArgumentException(
+      throw new UploadRejectedException(Reason.DEPTH,
           String.format("압축 파일 중첩 깊이가 %d단계를 초과했습니다.", MAX_NESTING_DEPTH)
       );
     }
 
     try (InputStream inputStream = new BufferedInputStream(file.getInputStream())) {
       // 2. MIME Type으로 압축 포맷 감지
+      MimeDetectionEvent detection = MimeDetectionEvent.start();
       String mimeType = tika.detect(inputStream);
+      detection.finish(MimeDetectionEvent.ARCHIVE, file.getOriginalFilename(), file.getSize(), mimeType);
       log.info("[3단계-ZIP] 감지된 MIME 타입: {}", mimeType);
 
       // 3. 압축 포맷에 맞는 스트림 생성
@@ -131,7 +139,7 @@ public class ZipValidator {
 
     } catch (IOException e) {
       log.error("[3단계-ZIP] 오류 발생: {}", e.getMessage());
-      throw new IllegalArgumentException("압축 파일 검증 중 오류 발생: " + e.getMessage(), e);
+      throw new UploadRejectedException(Reason.ARCHIVE_UNREADABLE, "압축 파일 검증 중 오류 발생: " + e.getMessage(), e);
     }
     
     log.info("[3단계-ZIP] 압축 파일 검증 완료!");
@@ -150,15 +158,16 @@ public class ZipValidator {
     
     BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
     
-    if (mimeType.contains("zip")) {
-      return new ZipArchiveInputStream(bufferedInputStream);
-    } else if (mimeType.contains("tar")) {
-      return new TarArchiveInputStream(bufferedInputStream);
-    } else if (mimeType.contains("gzip")) {
+    // gzip 은 "zip" 도 포함하므로 먼저 확인
+    if (mimeType.contains("gzip")) {
       // GZIP은 단일 파일 압축 또는 TAR.GZ
       GzipCompressorInputStream gzipStream = new GzipCompressorInputStream(bufferedInputStream);
       // TAR.GZ인지 확인
       return new TarArchiveInputStream(gzipStream);
+    } else if (mimeType.contains("zip")) {
+      return new ZipArchiveInputStream(bufferedInputStream);
+    } else if (mimeType.contains("tar")) {
+      return new TarArchiveInputStream(bufferedInputStream);
     }
     
     return null; // 지원하지 않는 포맷
@@ -181,7 +190,9 @@ public class ZipValidator {
     log.info("[3단계-ZIP] 압축 엔트리 검증 시작 - 압축 크기: {} bytes", compressedSize);
     
     long totalUncompressedSize = 0;
+    long totalInflatedSize = 0;
     int fileCount = 0;
+    byte[] drainBuffer = new byte[8192];
 
     ArchiveEntry entry;
     while ((entry = archiveInputStream.getNextEntry()) != null) {
@@ -199,7 +210,7 @@ public class ZipValidator {
       fileCount++;
       if (fileCount > MAX_FILE_COUNT) {
         log.warn("[3단계-ZIP] 차단! - 파일 개수 초과: {} > {}", fileCount, MAX_FILE_COUNT);
-        throw new IllegalArgumentException(
+        throw new UploadRejectedException(Reason.COUNT,
             String.format("압축 파일 내부 파일 개수가 %d개를 초과했습니다.", MAX_FILE_COUNT)
         );
       }
@@ -210,24 +221,47 @@ public class ZipValidator {
         if (totalUncompressedSize > MAX_UNCOMPRESSED_SIZE) {
           log.warn("[3단계-ZIP] 차단! - 압축 해제 크기 초과: {} > {}", 
               totalUncompressedSize, MAX_UNCOMPRESSED_SIZE);
-          throw new IllegalArgumentException(
+          throw new UploadRejectedException(Reason.ZIP_BOMB,
               String.format("압축 해제 크기가 %dMB를 초과했습니다. (Zip Bomb 의심)",
                   MAX_UNCOMPRESSED_SIZE / (1024 * 1024))
           );
         }
       }
 
-      // 3. 내부 파일 읽기 (최대 1MB만 읽음)
-      byte[] fileContent = readEntryContent(archiveInputStream, Math.min(entrySize, 1024 * 1024));
+      ArchiveEntryEvent event = ArchiveEntryEvent.start();
+      long inflatedBytes = 0;
+      try {
+        // 3. 내부 파일 앞부분 읽기 (최대 1MB, 크기 미기재(-1) 엔트리 포함)
+        byte[] fileContent = readEntryContent(archiveInputStream,
+            entrySize >= 0 ? Math.min(entrySize, MAX_INSPECT_SIZE) : MAX_INSPECT_SIZE);
+        inflatedBytes = fileContent.length;
+
+        // 4. 내부 파일 검증 (확장자 + 매직바이트 + 재귀 압축)
+        validateInnerFile(fileName, fileContent, currentDepth);
 
-      // 4. 내부 파일 검증 (확장자 + 매직바이트 + 재귀 압축)
-      validateInnerFile(fileName, fileContent, currentDepth);
+        // 5. 나머지를 풀어 실제 압축 해제 크기 확인 (헤더 크기 조작 대비, 한도 초과 즉시 중단)
+        long remaining = MAX_UNCOMPRESSED_SIZE - totalInflatedSize - inflatedBytes;
+        if (remaining >= 0) {
+          inflatedBytes += drainEntry(archiveInputStream, drainBuffer, remaining);
+        }
+        totalInflatedSize += inflatedBytes;
+        if (totalInflatedSize > MAX_UNCOMPRESSED_SIZE) {
+          log.warn("[3단계-ZIP] 차단! - 실제 압축 해제 크기 초과: {} 엔트리 (선언 크기: {} bytes)", fileName, entrySize);
+          throw new UploadRejectedException(Reason.ZIP_BOMB,
+              String.format("실제 압축 해제 크기가 %dMB를 초과했습니다. (Zip Bomb 의심)",
+                  MAX_UNCOMPRESSED_SIZE / (1024 * 1024))
+          );
+        }
+      } finally {
+        event.finish(fileName, currentDepth, entrySize, inflatedBytes);
+      }
     }
 
-    log.info("[3단계-ZIP] 총 파일 개수: {}, 총 압축 해제 크기: {} bytes", fileCount, totalUncompressedSize);
+    log.info("[3단계-ZIP] 총 파일 개수: {}, 총 압축 해제 크기: {} bytes (실제: {} bytes)",
+        fileCount, totalUncompressedSize, totalInflatedSize);
 
-    // 5. Zip Bomb 최종 확인
-    checkZipBomb(compressedSize, totalUncompressedSize);
+    // 6. Zip Bomb 최종 확인 (선언 크기와 실제 크기 중 큰 값)
+    checkZipBomb(compressedSize, Math.max(totalUncompressedSize, totalInflatedSize));
   }
 
   /**
@@ -240,18 +274,27 @@ public class ZipValidator {
    */
   private byte[] readEntryContent(ArchiveInputStream<?> archiveInputStream, long maxSize)
       throws IOException {
-    
-    byte[] buffer = new byte[(int) maxSize];
-    int bytesRead = archiveInputStream.read(buffer, 0, buffer.length);
-    
-    if (bytesRead == -1) {
-      return new byte[0];
+    // 한 번의 read 는 일부만 채울 수 있으므로 maxSize 또는 엔트리 끝까지 읽음 (실제 읽은 크기만큼만 반환)
+    return archiveInputStream.readNBytes((int) maxSize);
+  }
+
+  /**
+   * 엔트리의 남은 내용을 풀어서 버리고 크기 반환
+   *
+   * <p>스트림은 다음 엔트리로 넘어갈 때 남은 압축 데이터를 풀지 않고 건너뛰므로,
+   * 헤더 크기를 작게 조작한 엔트리도 실제 크기를 알려면 직접 풀어야 한다.
+   *
+   * @param limit 허용 크기 (넘으면 더 읽지 않음)
+   * @return 읽은 바이트 수 (limit 초과 시 limit 보다 큼)
+   */
+  private long drainEntry(ArchiveInputStream<?> archiveInputStream, byte[] buffer, long limit)
+      throws IOException {
+    long total = 0;
+    int read;
+    while (total <= limit && (read = archiveInputStream.read(buffer)) != -1) {
+      total += read;
     }
-    
-    // 실제 읽은 크기만큼만 반환
-    byte[] result = new byte[bytesRead];
-    System.arraycopy(buffer, 0, result, 0, bytesRead);
-    return result;
+    return total;
   }
 
   /**
@@ -279,14 +322,16 @@ public class ZipValidator {
     // 2. 확장자 Blacklist 확인 (1단계 방어)
     if (blockedExtensions.contains(extension.toLowerCase())) {
       log.warn("[3단계-ZIP] 차단! - 압축 내부에 차단된 확장자: {} ({})", fileName, extension);
-      throw new IllegalArgumentException(
+      throw new UploadRejectedException(Reason.BLOCKED_EXTENSION,
           String.format("압축 파일 내부에 차단된 확장자 파일이 있습니다: %s (%s)", fileName, extension)
       );
     }
     log.debug("[3단계-ZIP]   확장자 검증 통과");
 
     // 3. 매직바이트 검증 (2단계 방어)
+    MimeDetectionEvent detection = MimeDetectionEvent.start();
     String detectedMimeType = tika.detect(fileContent, fileName);
+    detection.finish(MimeDetectionEvent.ARCHIVE_ENTRY, fileName, fileContent.length, detectedMimeType);
     log.debug("[3단계-ZIP]   감지된 MIME: {}", detectedMimeType);
 
     // 실행 파일 감지
@@ -294,7 +339,7 @@ public class ZipValidator {
         detectedMimeType.contains("application/x-executable") ||  // Linux ELF
         detectedMimeType.contains("application/x-mach-binary")) { // macOS Mach-O
       log.warn("[3단계-ZIP] 차단! - 압축 내부에 실행 파일: {} ({})", fileName, detectedMimeType);
-      throw new IllegalArgumentException(
+      throw new UploadRejectedException(Reason.EXECUTABLE_MIME,
           String.format("압축 파일 내부에 실행 파일이 있습니다: %s (%s)", fileName, detectedMimeType)
       );
     }
@@ -305,7 +350,7 @@ public class ZipValidator {
       log.info("[3단계-ZIP] 중첩 압축 파일 감지: {} (깊이: {})", fileName, currentDepth + 1);
       if (currentDepth + 1 > MAX_NESTING_DEPTH) {
         log.warn("[3단계-ZIP] 차단! - 중첩 깊이 초과: {} > {}", currentDepth + 1, MAX_NESTING_DEPTH);
-        throw new IllegalArgumentException(
+        throw new UploadRejectedException(Reason.DEPTH,
             String.format("중첩 압축 파일 깊이가 %d단계를 초과했습니다: %s", 
                 MAX_NESTING_DEPTH, fileName)
         );
@@ -338,7 +383,7 @@ public class ZipValidator {
     
     if (compressionRatio > MAX_COMPRESSION_RATIO) {
       log.warn("[3단계-ZIP] 차단! - Zip Bomb 감지: 압축률 {}배 초과", compressionRatio);
-      throw new IllegalArgumentException(
+      throw new UploadRejectedException(Reason.ZIP_BOMB,
           String.format("비정상적인 압축률 감지: %d배 (최대: %d배). Zip Bomb 의심!",
               compressionRatio, MAX_COMPRESSION_RATIO)
       );
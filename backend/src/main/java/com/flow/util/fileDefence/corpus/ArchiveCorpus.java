@@ -0,0 +1,423 @@
+package com.flow.util.fileDefence.corpus;
+
+import com.flow.util.fileDefence.corpus.CorpusCase.Kind;
+import com.flow.util.fileDefence.corpus.RawZipWriter.Header;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+
+/**
+ * 적대적 압축 파일 코퍼스 생성기 (ZipValidator 처리량 / 폭탄 차단 시간 측정용)
+ *
+ * <p>test-files/4-archive 의 고정 파일 4개로는 엔트리 수, 중첩, 폭탄 크기를 바꿔 볼 수 없어
+ * {@link CorpusCase} 규칙으로 압축 파일을 만든다. 같은 케이스는 항상 같은 바이트를 만들며
+ * (시드 고정 난수, 고정 시각), 결과를 출력 스트림에 바로 쓰므로 다운로드 응답에 그대로 사용할 수 있다.
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * CorpusCase bomb = ArchiveCorpus.find("falsified-size").orElseThrow();
+ * byte[] zip = ArchiveCorpus.generate(bomb.with(4, null, 16L << 20, null));
+ * }</pre>
+ *
+ * <p>폭탄 케이스의 커널(0 으로 채운 데이터)은 한 번만 압축해 모든 엔트리가 공유한다.
+ *
+ * @see com.flow.api.controller.TestFileController
+ */
+public final class ArchiveCorpus {
+
+  /** FALSIFIED_SIZE 엔트리가 헤더에 기재하는 크기 */
+  public static final long FALSIFIED_DECLARED_SIZE = 1024;
+
+  private static final List<CorpusCase> DEFAULT_CASES = List.of(
+      new CorpusCase("many-entries", Kind.MANY_ENTRIES, 500, 0, 2 * 1024, 1),
+      new CorpusCase("too-many-entries", Kind.MANY_ENTRIES, 1001, 0, 64, 2),
+      new CorpusCase("streamed-entries", Kind.STREAMED, 200, 0, 4 * 1024, 3),
+      new CorpusCase("nested", Kind.NESTED, 4, 3, 1024, 4),
+      new CorpusCase("mixed-formats", Kind.MIXED_FORMAT, 4, 3, 1024, 5),
+      new CorpusCase("recursive-fanout", Kind.RECURSIVE_FANOUT, 16, 2, 1024 * 1024, 6),
+      new CorpusCase("overlap-bomb", Kind.OVERLAP_BOMB, 64, 0, 8 * 1024 * 1024, 7),
+      new CorpusCase("falsified-size", Kind.FALSIFIED_SIZE, 16, 0, 16 * 1024 * 1024, 8),
+      new CorpusCase("encrypted", Kind.ENCRYPTED, 8, 0, 1024, 9)
+  );
+
+  private static final byte[] TEXT_ALPHABET =
+      "abcdefghijklmnopqrstuvwxyz      \n".getBytes(StandardCharsets.US_ASCII);
+
+  private ArchiveCorpus() {
+  }
+
+  /**
+   * 가장 바깥 압축 파일 요약
+   *
+   * @param entries 엔트리 수 (겹친 엔트리 폭탄은 중앙 디렉토리 기준)
+   * @param inflatedBytes 엔트리 압축 해제 크기 합 (실제 풀리는 크기, 중첩 내부는 풀지 않은 크기)
+   */
+  public record Summary(int entries, long inflatedBytes) {
+  }
+
+  /** 기본 코퍼스 (케이스마다 규칙 하나) */
+  public static List<CorpusCase> defaultCases() {
+    return DEFAULT_CASES;
+  }
+
+  public static Optional<CorpusCase> find(String name) {
+    return DEFAULT_CASES.stream().filter(corpusCase -> corpusCase.name().equals(name)).findFirst();
+  }
+
+  public static byte[] generate(CorpusCase corpusCase) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    generate(corpusCase, out);
+    return out.toByteArray();
+  }
+
+  /**
+   * 압축 파일을 out 에 기록 (out 은 닫지 않음)
+   *
+   * @return 가장 바깥 압축 파일 요약
+   */
+  public static Summary generate(CorpusCase corpusCase, OutputStream out) throws IOException {
+    Random random = new Random(corpusCase.seed());
+    return switch (corpusCase.kind()) {
+      case MANY_ENTRIES -> writeTextZip(corpusCase, random, 0, out);
+      case STREAMED -> writeTextZip(corpusCase, random, RawZipWriter.FLAG_DATA_DESCRIPTOR, out);
+      case NESTED, MIXED_FORMAT -> writeNested(corpusCase, random, out);
+      case RECURSIVE_FANOUT -> writeFanout(corpusCase, out);
+      case OVERLAP_BOMB -> writeOverlapBomb(corpusCase, out);
+      case FALSIFIED_SIZE -> writeFalsifiedSize(corpusCase, out);
+      case ENCRYPTED -> writeEncrypted(corpusCase, random, out);
+    };
+  }
+
+  // ═══════════════════════════════════════════════════════════
+  // 규칙별 생성
+  // ═══════════════════════════════════════════════════════════
+
+  private static Summary writeTextZip(CorpusCase corpusCase, Random random, int flags, OutputStream out)
+      throws IOException {
+    RawZipWriter zip = new RawZipWriter(out);
+    for (int i = 0; i < corpusCase.entries(); i++) {
+      addDeflated(zip, String.format("entry-%05d.txt", i), text(random, corpusCase.entryBytes()), flags);
+    }
+    zip.finish();
+    return new Summary(corpusCase.entries(), corpusCase.entries() * corpusCase.entryBytes());
+  }
+
+  /** 가장 안쪽 단계부터 만들어 바깥 단계에 엔트리로 넣음 */
+  private static Summary writeNested(CorpusCase corpusCase, Random random, OutputStream out) throws IOException {
+    boolean mixed = corpusCase.kind() == Kind.MIXED_FORMAT;
+    // 단계별 텍스트는 바깥 단계부터 같은 순서로 만들어 depth 를 바꿔도 앞 단계 내용이 유지되도록 함
+    List<List<byte[]>> texts = new ArrayList<>();
+    for (int level = 0; level <= corpusCase.depth(); level++) {
+      List<byte[]> levelTexts = new ArrayList<>(corpusCase.entries());
+      for (int i = 0; i < corpusCase.entries(); i++) {
+        levelTexts.add(text(random, corpusCase.entryBytes()));
+      }
+      texts.add(levelTexts);
+    }
+
+    byte[] inner = null;
+    String innerName = null;
+    Summary summary = null;
+    for (int level = corpusCase.depth(); level >= 0; level--) {
+      List<String> names = new ArrayList<>();
+      List<byte[]> contents = new ArrayList<>();
+      for (int i = 0; i < corpusCase.entries(); i++) {
+        names.add(String.format("level-%d/file-%03d.txt", level, i));
+        contents.add(texts.get(level).get(i));
+      }
+      if (inner != null) {
+        names.add(innerName);
+        contents.add(inner);
+      }
+      long inflated = contents.stream().mapToLong(content -> content.length).sum();
+      summary = new Summary(contents.size(), inflated);
+
+      String format = mixed ? mixedFormat(level) : "zip";
+      if (level == 0) {
+        writeArchive(format, names, contents, out);
+      } else {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        writeArchive(format, names, contents, buffer);
+        inner = buffer.toByteArray();
+        innerName = "level-" + level + "." + format;
+      }
+    }
+    return summary;
+  }
+
+  /** 42.zip 형태 (단계마다 아래 단계 압축 파일 entries 개) */
+  private static Summary writeFanout(CorpusCase corpusCase, OutputStream out) throws IOException {
+    Deflated kernel = deflateZeros(corpusCase.entryBytes());
+    byte[] level = null;
+    for (int depth = corpusCase.depth(); depth >= 0; depth--) {
+      OutputStream target = depth == 0 ? out : new ByteArrayOutputStream();
+      RawZipWriter zip = new RawZipWriter(target);
+      Deflated content = level == null ? kernel : deflate(level);
+      for (int i = 0; i < corpusCase.entries(); i++) {
+        String name = level == null ? String.format("%02d.dat", i) : String.format("%02d.zip", i);
+        zip.addEntry(new Header(name, RawZipWriter.DEFLATED, 0, content.crc(), content.data().length, content.size()),
+            content.data());
+      }
+      zip.finish();
+      if (depth == 0) {
+        return new Summary(corpusCase.entries(), corpusCase.entries() * content.size());
+      }
+      level = ((ByteArrayOutputStream) target).toByteArray();
+    }
+    throw new IllegalStateException("unreachable");
+  }
+
+  /**
+   * 겹친 엔트리 폭탄 (Fifield, "A better zip bomb" 의 quoted overlap)
+   *
+   * <p>엔트리 i 의 데이터는 [엔트리 i+1 로컬 헤더를 담은 stored 블록] + 엔트리 i+1 의 데이터이고,
+   * 마지막 엔트리 데이터가 커널이다. 중앙 디렉토리로 읽으면 엔트리마다 커널이 다시 풀리고,
+   * 로컬 헤더를 순서대로 읽는 스트리밍 리더에는 첫 엔트리 하나(헤더 + 커널)로 보인다.
+   */
+  private static Summary writeOverlapBomb(CorpusCase corpusCase, OutputStream out) throws IOException {
+    int count = corpusCase.entries();
+    Deflated kernel = deflateZeros(corpusCase.entryBytes());
+
+    // 뒤에서부터 CRC / 크기 계산 (엔트리 i 의 원본 = 헤더 i+1 .. 헤더 n-1 + 커널)
+    Header[] headers = new Header[count];
+    byte[][] localHeaders = new byte[count][];
+    long crc = kernel.crc();
+    long size = kernel.size();
+    long compressedSize = kernel.data().length;
+    for (int i = count - 1; i >= 0; i--) {
+      if (i < count - 1) {
+        byte[] quoted = localHeaders[i + 1];
+        crc = crc32Combine(crc32(quoted), crc, size);
+        size += quoted.length;
+        compressedSize += 5 + quoted.length;
+      }
+      headers[i] = new Header(String.format("%04d.dat", i), RawZipWriter.DEFLATED, 0, crc, compressedSize, size);
+      localHeaders[i] = RawZipWriter.localHeader(headers[i]);
+    }
+
+    RawZipWriter zip = new RawZipWriter(out);
+    long inflated = 0;
+    for (int i = 0; i < count; i++) {
+      zip.addCentralEntry(headers[i], zip.offset());
+      zip.write(localHeaders[i]);
+      if (i < count - 1) {
+        zip.write(storedBlockHeader(localHeaders[i + 1].length));
+      }
+      inflated += headers[i].size();
+    }
+    zip.write(kernel.data());
+    zip.finish();
+    return new Summary(count, inflated);
+  }
+
+  /** 헤더 크기는 FALSIFIED_DECLARED_SIZE, 실제로는 entryBytes 만큼 풀림 (CRC 는 실제 내용 기준) */
+  private static Summary writeFalsifiedSize(CorpusCase corpusCase, OutputStream out) throws IOException {
+    Deflated kernel = deflateZeros(corpusCase.entryBytes());
+    RawZipWriter zip = new RawZipWriter(out);
+    for (int i = 0; i < corpusCase.entries(); i++) {
+      zip.addEntry(new Header(String.format("%04d.txt", i), RawZipWriter.DEFLATED, 0, kernel.crc(),
+          kernel.data().length, Math.min(FALSIFIED_DECLARED_SIZE, corpusCase.entryBytes())), kernel.data());
+    }
+    zip.finish();
+    return new Summary(corpusCase.entries(), corpusCase.entries() * corpusCase.entryBytes());
+  }
+
+  /** 암호화 플래그 + ZipCrypto 헤더(12바이트) 형태의 난수 데이터 */
+  private static Summary writeEncrypted(CorpusCase corpusCase, Random random, OutputStream out) throws IOException {
+    RawZipWriter zip = new RawZipWriter(out);
+    for (int i = 0; i < corpusCase.entries(); i++) {
+      byte[] plain = text(random, corpusCase.entryBytes());
+      byte[] encrypted = new byte[12 + plain.length];
+      random.nextBytes(encrypted);
+      zip.addEntry(new Header(String.format("secret-%03d.txt", i), RawZipWriter.STORED, RawZipWriter.FLAG_ENCRYPTED,
+          crc32(plain), encrypted.length, plain.length), encrypted);
+    }
+    zip.finish();
+    return new Summary(corpusCase.entries(), corpusCase.entries() * corpusCase.entryBytes());
+  }
+
+  // ═══════════════════════════════════════════════════════════
+  // 포맷 / 압축 도구
+  // ═══════════════════════════════════════════════════════════
+
+  /** MIXED_FORMAT 단계별 포맷 (가장 바깥 tar.gz) */
+  private static String mixedFormat(int level) {
+    return switch (level % 3) {
+      case 0 -> "tar.gz";
+      case 1 -> "zip";
+      default -> "tar";
+    };
+  }
+
+  private static void writeArchive(String format, List<String> names, List<byte[]> contents, OutputStream out)
+      throws IOException {
+    if (format.equals("zip")) {
+      RawZipWriter zip = new RawZipWriter(out);
+      for (int i = 0; i < names.size(); i++) {
+        addDeflated(zip, names.get(i), contents.get(i), 0);
+      }
+      zip.finish();
+      return;
+    }
+    if (format.equals("tar.gz")) {
+      GzipCompressorOutputStream gzip = new GzipCompressorOutputStream(out);
+      writeTar(names, contents, gzip);
+      gzip.finish();
+      return;
+    }
+    writeTar(names, contents, out);
+  }
+
+  private static void writeTar(List<String> names, List<byte[]> contents, OutputStream out) throws IOException {
+    TarArchiveOutputStream tar = new TarArchiveOutputStream(out);
+    tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+    for (int i = 0; i < names.size(); i++) {
+      TarArchiveEntry entry = new TarArchiveEntry(names.get(i));
+      entry.setSize(contents.get(i).length);
+      entry.setModTime(FileTime.fromMillis(0));
+      entry.setUserName("");
+      entry.setGroupName("");
+      tar.putArchiveEntry(entry);
+      tar.write(contents.get(i));
+      tar.closeArchiveEntry();
+    }
+    tar.finish();
+  }
+
+  private static void addDeflated(RawZipWriter zip, String name, byte[] content, int flags) throws IOException {
+    Deflated deflated = deflate(content);
+    zip.addEntry(new Header(name, RawZipWriter.DEFLATED, flags, deflated.crc(), deflated.data().length,
+        deflated.size()), deflated.data());
+  }
+
+  /** raw deflate 결과 (ZIP 엔트리 데이터) */
+  private record Deflated(byte[] data, long size, long crc) {
+  }
+
+  private static Deflated deflate(byte[] content) {
+    Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+    try {
+      deflater.setInput(content);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2 + 64);
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return new Deflated(out.toByteArray(), content.length, crc32(content));
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /** 0 으로 채운 length 바이트를 나눠서 압축 (전체를 메모리에 만들지 않음) */
+  private static Deflated deflateZeros(long length) {
+    Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+    try {
+      byte[] zeros = new byte[64 * 1024];
+      byte[] buffer = new byte[8192];
+      ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(length / 512 + 64, Integer.MAX_VALUE));
+      CRC32 crc = new CRC32();
+      for (long remaining = length; remaining > 0; ) {
+        int chunk = (int) Math.min(zeros.length, remaining);
+        crc.update(zeros, 0, chunk);
+        deflater.setInput(zeros, 0, chunk);
+        while (!deflater.needsInput()) {
+          out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        remaining -= chunk;
+      }
+      deflater.finish();
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return new Deflated(out.toByteArray(), length, crc.getValue());
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /** 마지막이 아닌 stored 블록 헤더 (BFINAL=0, BTYPE=00, LEN, NLEN) */
+  private static byte[] storedBlockHeader(int length) {
+    return new byte[]{
+        0,
+        (byte) length, (byte) (length >>> 8),
+        (byte) ~length, (byte) (~length >>> 8)
+    };
+  }
+
+  /** 시드 고정 영문 소문자 / 공백 / 줄바꿈 텍스트 (Tika 에서 text/plain) */
+  private static byte[] text(Random random, long length) {
+    byte[] text = new byte[(int) length];
+    for (int i = 0; i < text.length; i++) {
+      text[i] = TEXT_ALPHABET[random.nextInt(TEXT_ALPHABET.length)];
+    }
+    return text;
+  }
+
+  private static long crc32(byte[] bytes) {
+    CRC32 crc = new CRC32();
+    crc.update(bytes);
+    return crc.getValue();
+  }
+
+  /** crc(A + B) = crc32Combine(crc(A), crc(B), len(B)) (zlib crc32_combine, GF(2) 행렬 거듭제곱) */
+  static long crc32Combine(long crc1, long crc2, long length2) {
+    if (length2 <= 0) {
+      return crc1;
+    }
+    long[] even = new long[32];
+    long[] odd = new long[32];
+    odd[0] = 0xedb88320L;
+    long row = 1;
+    for (int n = 1; n < 32; n++) {
+      odd[n] = row;
+      row <<= 1;
+    }
+    gf2MatrixSquare(even, odd);
+    gf2MatrixSquare(odd, even);
+    do {
+      gf2MatrixSquare(even, odd);
+      if ((length2 & 1) != 0) {
+        crc1 = gf2MatrixTimes(even, crc1);
+      }
+      length2 >>= 1;
+      if (length2 == 0) {
+        break;
+      }
+      gf2MatrixSquare(odd, even);
+      if ((length2 & 1) != 0) {
+        crc1 = gf2MatrixTimes(odd, crc1);
+      }
+      length2 >>= 1;
+    } while (length2 != 0);
+    return crc1 ^ crc2;
+  }
+
+  private static long gf2MatrixTimes(long[] matrix, long vector) {
+    long sum = 0;
+    for (int i = 0; vector != 0; i++, vector >>>= 1) {
+      if ((vector & 1) != 0) {
+        sum ^= matrix[i];
+      }
+    }
+    return sum;
+  }
+
+  private static void gf2MatrixSquare(long[] square, long[] matrix) {
+    for (int n = 0; n < 32; n++) {
+      square[n] = gf2MatrixTimes(matrix, matrix[n]);
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package com.flow.util.fileDefence.corpus;
+
+/**
+ * 적대적 압축 파일 코퍼스의 한 케이스 (생성 규칙 + 크기 파라미터)
+ *
+ * <p>같은 케이스(같은 seed)는 항상 같은 바이트를 만든다.
+ *
+ * @param name 케이스 이름 (다운로드 파일명)
+ * @param kind 생성 규칙
+ * @param entries 압축 파일(각 단계)의 엔트리 수
+ * @param depth 중첩 단계 수 (NESTED, MIXED_FORMAT, RECURSIVE_FANOUT 만 사용, 0 이면 중첩 없음)
+ * @param entryBytes 엔트리 하나의 압축 해제 크기 (폭탄 케이스는 커널 / 실제 해제 크기)
+ * @param seed 내용 생성 시드
+ */
+public record CorpusCase(String name, Kind kind, int entries, int depth, long entryBytes, long seed) {
+
+  public static final int MAX_ENTRIES = 65_535;                 // ZIP 중앙 디렉토리 엔트리 수 (16bit)
+  public static final int MAX_DEPTH = 16;
+  public static final long MAX_ENTRY_BYTES = 1024L * 1024 * 1024; // 1GB (ZIP 32bit 크기 필드 이내)
+  // 위 한도는 라이브러리(테스트 / 벤치마크) 용, HTTP 로 받을 때는 generatedBytes() 로 다시 제한
+
+  /** 0 으로 채운 데이터의 deflate 압축률 상한 (zlib 최대 약 1032:1) */
+  private static final long ZERO_DEFLATE_RATIO = 1024;
+  /** 엔트리당 헤더 여유분 (zip 로컬 헤더 + 중앙 디렉토리, tar 헤더 512 + 블록 패딩) */
+  private static final long ENTRY_OVERHEAD = 1024;
+
+  public CorpusCase {
+    if (name == null || !name.matches("[a-z0-9-]+")) {
+      throw new IllegalArgumentException("케이스 이름은 영문 소문자, 숫자, - 만 사용할 수 있습니다: " + name);
+    }
+    if (kind == null) {
+      throw new IllegalArgumentException("생성 규칙이 없습니다.");
+    }
+    if (entries < 1 || entries > MAX_ENTRIES) {
+      throw new IllegalArgumentException("entries 는 1 ~ " + MAX_ENTRIES + " 사이여야 합니다.");
+    }
+    if (depth < 0 || depth > MAX_DEPTH) {
+      throw new IllegalArgumentException("depth 는 0 ~ " + MAX_DEPTH + " 사이여야 합니다.");
+    }
+    if (entryBytes < 0 || entryBytes > MAX_ENTRY_BYTES) {
+      throw new IllegalArgumentException("entryBytes 는 0 ~ " + MAX_ENTRY_BYTES + " 사이여야 합니다.");
+    }
+  }
+
+  /** 같은 규칙으로 크기 / 시드만 바꾼 케이스 (null 이면 기존 값) */
+  public CorpusCase with(Integer entries, Integer depth, Long entryBytes, Long seed) {
+    return new CorpusCase(name, kind,
+        entries != null ? entries : this.entries,
+        depth != null ? depth : this.depth,
+        entryBytes != null ? entryBytes : this.entryBytes,
+        seed != null ? seed : this.seed);
+  }
+
+  /** 다운로드 파일명 (MIXED_FORMAT 은 가장 바깥이 tar.gz) */
+  public String fileName() {
+    return name + (kind == Kind.MIXED_FORMAT ? ".tar.gz" : ".zip");
+  }
+
+  /**
+   * 생성할 때 만들어 내는 데이터 크기 상한 (메모리 / CPU 비용 기준, 포화 연산)
+   *
+   * <ul>
+   *   <li>텍스트 케이스: 엔트리 수 × (엔트리 크기 + 헤더) × 단계 수 (NESTED / MIXED_FORMAT 은 depth + 1 단계)</li>
+   *   <li>OVERLAP_BOMB / FALSIFIED_SIZE: 커널 하나 (모든 엔트리가 공유)</li>
+   *   <li>RECURSIVE_FANOUT: 커널 + 단계마다 엔트리 수 배로 늘어나는 압축된 단계 버퍼</li>
+   * </ul>
+   *
+   * <p>폭탄 케이스는 풀린 크기(entries × entryBytes)가 아니라 실제로 만드는 커널 / 버퍼 크기다.
+   * 어느 케이스든 생성되는 압축 파일 크기도 이 값을 넘지 않는다.
+   */
+  public long generatedBytes() {
+    return switch (kind) {
+      case MANY_ENTRIES, STREAMED, ENCRYPTED -> multiply(entries, entryBytes + ENTRY_OVERHEAD);
+      case NESTED, MIXED_FORMAT -> multiply(multiply(entries + 1L, entryBytes + ENTRY_OVERHEAD), depth + 1L);
+      case OVERLAP_BOMB, FALSIFIED_SIZE -> entryBytes;
+      case RECURSIVE_FANOUT -> {
+        long level = entryBytes / ZERO_DEFLATE_RATIO + ENTRY_OVERHEAD;
+        long total = entryBytes;
+        for (int i = 0; i <= depth; i++) {
+          level = multiply(level + ENTRY_OVERHEAD, entries);
+          total = saturatedAdd(total, level);
+        }
+        yield total;
+      }
+    };
+  }
+
+  private static long multiply(long a, long b) {
+    return b != 0 && a > Long.MAX_VALUE / b ? Long.MAX_VALUE : a * b;
+  }
+
+  private static long saturatedAdd(long a, long b) {
+    return a > Long.MAX_VALUE - b ? Long.MAX_VALUE : a + b;
+  }
+
+  /** 작은 파일이 매우 크게 풀리도록 만든 케이스 */
+  public boolean isBomb() {
+    return kind == Kind.OVERLAP_BOMB || kind == Kind.FALSIFIED_SIZE || kind == Kind.RECURSIVE_FANOUT;
+  }
+
+  /** 생성 규칙 */
+  public enum Kind {
+    /** 작은 텍스트 엔트리 N 개 (로컬 헤더에 크기 기재) */
+    MANY_ENTRIES,
+    /** MANY_ENTRIES 와 같지만 크기를 데이터 디스크립터에 기재 (스트리밍 압축 도구 / java.util.zip 출력) */
+    STREAMED,
+    /** 단계마다 텍스트 엔트리 N 개 + 다음 단계 zip */
+    NESTED,
+    /** NESTED 와 같지만 단계마다 tar.gz → zip → tar 순으로 포맷을 바꿈 */
+    MIXED_FORMAT,
+    /** 42.zip 형태: 단계마다 아래 단계 압축 파일 N 개 복사, 가장 아래는 0 으로 채운 엔트리 N 개 */
+    RECURSIVE_FANOUT,
+    /** 겹친 엔트리 폭탄: 모든 엔트리가 하나의 압축 커널을 공유 (로컬 헤더를 stored 블록으로 인용) */
+    OVERLAP_BOMB,
+    /** 헤더에는 1KB 로 기재하고 실제로는 entryBytes 만큼 풀리는 엔트리 */
+    FALSIFIED_SIZE,
+    /** 암호화 플래그가 설정된 엔트리 (ZipCrypto 형식만 흉내, 복호화 불가) */
+    ENCRYPTED
+  }
+}
@@ -0,0 +1,145 @@
+package com.flow.util.fileDefence.corpus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 헤더 값을 그대로 기록하는 최소 ZIP 작성기 (코퍼스 생성 전용)
+ *
+ * <p>ZipArchiveOutputStream 은 크기 / CRC 를 직접 계산하므로 조작된 크기, 겹친 엔트리,
+ * 암호화 플래그를 만들 수 없다. 여기서는 호출자가 준 헤더 값과 데이터를 검증 없이 기록한다.
+ * 시각은 1980-01-01 00:00 으로 고정한다. (같은 입력이면 같은 바이트)
+ */
+final class RawZipWriter {
+
+  static final int STORED = 0;
+  static final int DEFLATED = 8;
+
+  static final int FLAG_ENCRYPTED = 1;
+  static final int FLAG_DATA_DESCRIPTOR = 1 << 3;
+
+  private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+  private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+  private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+  private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+  private static final int VERSION = 20;
+  private static final int DOS_TIME = 0;
+  private static final int DOS_DATE = (1 << 5) | 1;
+
+  private final OutputStream out;
+  private final ByteArrayOutputStream central = new ByteArrayOutputStream();
+  private long offset;
+  private int centralEntries;
+
+  RawZipWriter(OutputStream out) {
+    this.out = out;
+  }
+
+  /**
+   * 엔트리 헤더 값
+   *
+   * @param size 헤더에 기재할 압축 해제 크기 (실제와 다를 수 있음)
+   */
+  record Header(String name, int method, int flags, long crc, long compressedSize, long size) {
+  }
+
+  /** 로컬 헤더 + 데이터 (+ 데이터 디스크립터) 기록 후 중앙 디렉토리 항목 추가 */
+  void addEntry(Header header, byte[] data) throws IOException {
+    long headerOffset = offset;
+    write(localHeader(header));
+    write(data);
+    if ((header.flags() & FLAG_DATA_DESCRIPTOR) != 0) {
+      ByteArrayOutputStream descriptor = new ByteArrayOutputStream(16);
+      int32(descriptor, DATA_DESCRIPTOR_SIGNATURE);
+      int32(descriptor, header.crc());
+      int32(descriptor, header.compressedSize());
+      int32(descriptor, header.size());
+      write(descriptor.toByteArray());
+    }
+    addCentralEntry(header, headerOffset);
+  }
+
+  /** 헤더 구조 없이 바이트만 기록 (겹친 엔트리 폭탄) */
+  void write(byte[] bytes) throws IOException {
+    out.write(bytes);
+    offset += bytes.length;
+  }
+
+  /** 중앙 디렉토리 항목만 추가 (로컬 헤더 위치를 직접 지정) */
+  void addCentralEntry(Header header, long localHeaderOffset) {
+    byte[] name = header.name().getBytes(StandardCharsets.UTF_8);
+    int32(central, CENTRAL_HEADER_SIGNATURE);
+    int16(central, VERSION);
+    int16(central, VERSION);
+    int16(central, header.flags());
+    int16(central, header.method());
+    int16(central, DOS_TIME);
+    int16(central, DOS_DATE);
+    int32(central, header.crc());
+    int32(central, header.compressedSize());
+    int32(central, header.size());
+    int16(central, name.length);
+    int16(central, 0); // extra
+    int16(central, 0); // comment
+    int16(central, 0); // disk
+    int16(central, 0); // internal attributes
+    int32(central, 0); // external attributes
+    int32(central, localHeaderOffset);
+    central.writeBytes(name);
+    centralEntries++;
+  }
+
+  long offset() {
+    return offset;
+  }
+
+  /** 중앙 디렉토리 + EOCD 기록 (스트림은 닫지 않음) */
+  void finish() throws IOException {
+    long centralOffset = offset;
+    byte[] directory = central.toByteArray();
+    write(directory);
+    ByteArrayOutputStream end = new ByteArrayOutputStream(22);
+    int32(end, END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+    int16(end, 0);
+    int16(end, 0);
+    int16(end, centralEntries);
+    int16(end, centralEntries);
+    int32(end, directory.length);
+    int32(end, centralOffset);
+    int16(end, 0);
+    write(end.toByteArray());
+    out.flush();
+  }
+
+  /** 로컬 헤더 바이트 (데이터 디스크립터 사용 시 CRC / 크기는 0) */
+  static byte[] localHeader(Header header) {
+    boolean descriptor = (header.flags() & FLAG_DATA_DESCRIPTOR) != 0;
+    byte[] name = header.name().getBytes(StandardCharsets.UTF_8);
+    ByteArrayOutputStream local = new ByteArrayOutputStream(30 + name.length);
+    int32(local, LOCAL_HEADER_SIGNATURE);
+    int16(local, VERSION);
+    int16(local, header.flags());
+    int16(local, header.method());
+    int16(local, DOS_TIME);
+    int16(local, DOS_DATE);
+    int32(local, descriptor ? 0 : header.crc());
+    int32(local, descriptor ? 0 : header.compressedSize());
+    int32(local, descriptor ? 0 : header.size());
+    int16(local, name.length);
+    int16(local, 0);
+    local.writeBytes(name);
+    return local.toByteArray();
+  }
+
+  private static void int16(ByteArrayOutputStream out, int value) {
+    out.write(value & 0xff);
+    out.write((value >>> 8) & 0xff);
+  }
+
+  private static void int32(ByteArrayOutputStream out, long value) {
+    int16(out, (int) (value & 0xffff));
+    int16(out, (int) ((value >>> 16) & 0xffff));
+  }
+}
@@ -0,0 +1,60 @@
+package com.flow.util.fileDefence.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 압축 내부 엔트리 검사 JFR 이벤트 (엔트리 읽기 + 내부 파일 검증)
+ *
+ * <p>압축 해제 비용이 큰 엔트리(압축 폭탄 후보)를 찾는 용도이므로
+ * 선언 크기와 실제로 압축 해제한 바이트 수를 함께 기록한다.
+ */
+@Name("com.flow.upload.ArchiveEntry")
+@Label("Archive Entry Scan")
+@Description("압축 파일 내부 엔트리 검사 시간")
+@Category({"FileBlocker", "Upload"})
+@Threshold("1 ms")
+@StackTrace(false)
+public class ArchiveEntryEvent extends Event {
+
+  @Label("Entry Name")
+  private String entryName;
+
+  @Label("Depth")
+  private int depth;
+
+  @Label("Declared Size")
+  @Description("엔트리 헤더의 압축 해제 크기 (-1 이면 알 수 없음)")
+  @DataAmount
+  private long declaredSize;
+
+  @Label("Inflated Bytes")
+  @Description("검사를 위해 실제로 압축 해제한 바이트 수")
+  @DataAmount
+  private long inflatedBytes;
+
+  /** 시작 시각을 기록한 이벤트 생성 */
+  public static ArchiveEntryEvent start() {
+    ArchiveEntryEvent event = new ArchiveEntryEvent();
+    event.begin();
+    return event;
+  }
+
+  /** 종료 시각을 기록하고 임계값을 넘은 경우에만 필드를 채워 커밋 */
+  public void finish(String entryName, int depth, long declaredSize, long inflatedBytes) {
+    end();
+    if (shouldCommit()) {
+      this.entryName = entryName;
+      this.depth = depth;
+      this.declaredSize = declaredSize;
+      this.inflatedBytes = inflatedBytes;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.flow.util.fileDefence.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Tika MIME 감지 호출 JFR 이벤트
+ *
+ * <p>source: upload (2단계 업로드 파일), archive (3단계 압축 포맷 판별), archive-entry (압축 내부 파일)
+ */
+@Name("com.flow.upload.MimeDetection")
+@Label("MIME Detection")
+@Description("Apache Tika MIME 감지 시간")
+@Category({"FileBlocker", "Upload"})
+@Threshold("1 ms")
+@StackTrace(false)
+public class MimeDetectionEvent extends Event {
+
+  public static final String UPLOAD = "upload";
+  public static final String ARCHIVE = "archive";
+  public static final String ARCHIVE_ENTRY = "archive-entry";
+
+  @Label("Source")
+  private String source;
+
+  @Label("File Name")
+  private String fileName;
+
+  @Label("Bytes")
+  @Description("감지 대상 크기 (스트림은 파일 전체 크기)")
+  @DataAmount
+  private long bytes;
+
+  @Label("Detected MIME Type")
+  private String mimeType;
+
+  /** 시작 시각을 기록한 이벤트 생성 */
+  public static MimeDetectionEvent start() {
+    MimeDetectionEvent event = new MimeDetectionEvent();
+    event.begin();
+    return event;
+  }
+
+  /** 종료 시각을 기록하고 임계값을 넘은 경우에만 필드를 채워 커밋 */
+  public void finish(String source, String fileName, long bytes, String mimeType) {
+    end();
+    if (shouldCommit()) {
+      this.source = source;
+      this.fileName = fileName;
+      this.bytes = bytes;
+      this.mimeType = mimeType;
+      commit();
+    }
+  }
+}
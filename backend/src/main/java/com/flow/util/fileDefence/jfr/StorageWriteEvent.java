@@ -0,0 +1,54 @@
+package com.flow.util.fileDefence.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 업로드 파일 저장 JFR 이벤트 (디스크 기록 + chmod 644)
+ */
+@Name("com.flow.upload.StorageWrite")
+@Label("Storage Write")
+@Description("업로드 파일 디스크 저장 시간")
+@Category({"FileBlocker", "Upload"})
+@Threshold("1 ms")
+@StackTrace(false)
+public class StorageWriteEvent extends Event {
+
+  @Label("Space ID")
+  private long spaceId;
+
+  @Label("Path")
+  private String path;
+
+  @Label("Bytes")
+  @DataAmount
+  private long bytes;
+
+  @Label("Success")
+  private boolean success;
+
+  /** 시작 시각을 기록한 이벤트 생성 */
+  public static StorageWriteEvent start() {
+    StorageWriteEvent event = new StorageWriteEvent();
+    event.begin();
+    return event;
+  }
+
+  /** 종료 시각을 기록하고 임계값을 넘은 경우에만 필드를 채워 커밋 */
+  public void finish(Long spaceId, String path, long bytes, boolean success) {
+    end();
+    if (shouldCommit()) {
+      this.spaceId = spaceId == null ? 0 : spaceId;
+      this.path = path;
+      this.bytes = bytes;
+      this.success = success;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.flow.util.fileDefence.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 업로드 방어 단계 JFR 이벤트 (정책 조회, 1~4단계, 메타데이터 저장)
+ *
+ * <p>기본 임계값(1ms)보다 짧게 끝난 단계는 기록되지 않는다. (jfr/upload.jfc 에서 조정)
+ */
+@Name("com.flow.upload.Stage")
+@Label("Upload Stage")
+@Description("업로드 방어 단계 처리 시간")
+@Category({"FileBlocker", "Upload"})
+@Threshold("1 ms")
+@StackTrace(false)
+public class UploadStageEvent extends Event {
+
+  @Label("Stage")
+  private String stage;
+
+  @Label("Space ID")
+  private long spaceId;
+
+  @Label("Bytes")
+  @DataAmount
+  private long bytes;
+
+  @Label("Outcome")
+  @Description("pass / reject / error")
+  private String outcome;
+
+  @Label("Reject Reason")
+  private String reason;
+
+  /** 시작 시각을 기록한 이벤트 생성 */
+  public static UploadStageEvent start() {
+    UploadStageEvent event = new UploadStageEvent();
+    event.begin();
+    return event;
+  }
+
+  /** 종료 시각을 기록하고 임계값을 넘은 경우에만 필드를 채워 커밋 */
+  public void finish(String stage, Long spaceId, long bytes, String outcome, String reason) {
+    end();
+    if (shouldCommit()) {
+      this.stage = stage;
+      this.spaceId = spaceId == null ? 0 : spaceId;
+      this.bytes = bytes;
+      this.outcome = outcome;
+      this.reason = reason;
+      commit();
+    }
+  }
+}
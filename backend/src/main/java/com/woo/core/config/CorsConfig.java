@@ -29,7 +29,7 @@ public class CorsConfig implements WebMvcConfigurer {
         .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
         .allowedHeaders("*")
         .allowCredentials(true)
-        .exposedHeaders("Content-Disposition")
+        .exposedHeaders("Content-Disposition", "Server-Timing")
         .maxAge(3600);
     
     // Swagger UI CORS 설정
@@ -0,0 +1,71 @@
+package com.woo.core.config;
+
+import com.woo.core.config.ReadWriteRoutingDataSource.Route;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Primary / Replica DataSource 라우팅 설정
+ *
+ * <p>{@code spring.datasource.replica.url} 이 설정된 경우에만 활성화된다. (미설정 시 기존 단일 DataSource 그대로)
+ *
+ * <p>커넥션 풀 설정:
+ * <ul>
+ *   <li>primary: {@code spring.datasource.*} + {@code spring.datasource.hikari.*}</li>
+ *   <li>replica: {@code spring.datasource.replica.*} + {@code spring.datasource.replica.hikari.*}
+ *       (username / password 미지정 시 primary 와 동일)</li>
+ * </ul>
+ *
+ * <p>replica 는 비동기 복제이므로, 방금 쓴 데이터를 바로 읽어야 하는 조회는
+ * readOnly 가 아닌 트랜잭션 안에서 수행해야 한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.replica.hikari")
+  public HikariDataSource replicaDataSource(DataSourceProperties primaryProperties, Environment environment) {
+    DataSourceProperties properties = Binder.get(environment)
+        .bind("spring.datasource.replica", DataSourceProperties.class)
+        .get();
+    if (properties.getUsername() == null) {
+      properties.setUsername(primaryProperties.getUsername());
+      properties.setPassword(primaryProperties.getPassword());
+    }
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+    ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+    routingDataSource.setTargetDataSources(Map.of(
+        Route.PRIMARY, primaryDataSource,
+        Route.REPLICA, replicaDataSource));
+    routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+    routingDataSource.afterPropertiesSet();
+
+    // 트랜잭션 readOnly 플래그가 설정된 뒤(첫 SQL 실행 시) 커넥션을 얻도록 지연
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+}
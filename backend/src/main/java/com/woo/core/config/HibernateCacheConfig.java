@@ -0,0 +1,39 @@
+package com.woo.core.config;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.ehcache.config.Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Hibernate 2차 캐시용 JCache CacheManager 설정
+ *
+ * <p>캐시 영역/크기/TTL 은 {@code ehcache.xml} 에 정의한다.
+ *
+ * <p>CacheManager 를 애플리케이션 컨텍스트마다 새로 만들어 Hibernate 에 직접 전달한다.
+ * (JCache 기본 조회는 같은 URI 의 CacheManager 를 JVM 전체에서 공유하므로,
+ * 테스트처럼 서로 다른 DB 를 쓰는 컨텍스트가 한 JVM 에 있으면 캐시가 섞인다)
+ */
+@org.springframework.context.annotation.Configuration
+public class HibernateCacheConfig {
+
+  @Bean(destroyMethod = "close")
+  public CacheManager hibernateCacheManager() throws URISyntaxException {
+    EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+        EhcacheCachingProvider.class.getName());
+    Configuration configuration = new XmlConfiguration(getClass().getResource("/ehcache.xml"));
+    return provider.getCacheManager(new URI("urn:file-blocker:hibernate:" + UUID.randomUUID()), configuration);
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+    return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+  }
+}
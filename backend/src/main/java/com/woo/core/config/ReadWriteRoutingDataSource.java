@@ -0,0 +1,23 @@
+package com.woo.core.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 readOnly 여부로 primary / replica 를 선택하는 DataSource
+ *
+ * <p>{@code @Transactional(readOnly = true)} 로 시작된 트랜잭션 → REPLICA, 그 외(쓰기, 트랜잭션 없음) → PRIMARY.
+ *
+ * <p>트랜잭션 시작 시점에는 readOnly 플래그가 아직 동기화되지 않으므로
+ * 반드시 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸서
+ * 첫 SQL 실행 시점에 커넥션을 얻도록 해야 한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  public enum Route { PRIMARY, REPLICA }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+  }
+}
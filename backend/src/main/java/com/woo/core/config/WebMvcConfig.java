@@ -0,0 +1,31 @@
+package com.woo.core.config;
+
+import com.woo.core.logging.SpaceMdcInterceptor;
+import com.woo.core.logging.loggingInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 인터셉터 등록
+ *
+ * <p>API 요청마다 공간 ID 를 MDC 에 기록하고 구조화 접근 로그(ACCESS_LOG)를 남긴다.
+ * (접근 로그가 공간 ID 를 읽으므로 SpaceMdcInterceptor 를 먼저 등록)
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+  private final SpaceMdcInterceptor spaceMdcInterceptor;
+  private final loggingInterceptor loggingInterceptor;
+
+  public WebMvcConfig(SpaceMdcInterceptor spaceMdcInterceptor, loggingInterceptor loggingInterceptor) {
+    this.spaceMdcInterceptor = spaceMdcInterceptor;
+    this.loggingInterceptor = loggingInterceptor;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(spaceMdcInterceptor).addPathPatterns("/api/**");
+    registry.addInterceptor(loggingInterceptor).addPathPatterns("/api/**");
+  }
+}
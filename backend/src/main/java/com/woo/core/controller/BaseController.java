@@ -1,14 +1,13 @@
 package com.woo.core.controller;
 
+import com.woo.core.mapper.BaseMapper;
 import com.woo.core.response.BaseResponse;
 import com.woo.core.service.BaseService;
 import com.woo.core.util.common.Identifiable;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -21,7 +20,7 @@ import org.springframework.web.bind.annotation.*;
  * 공통 로직(create, update, delete, soft delete, get, search)을 제공하여 중복 코드를 제거한다
  *
  * <p>{@code E}는 JPA Entity 클래스, {@code D}는 Identifiable을 구현한 DTO 클래스
- * ModelMapper를 활용하여 Entity ↔ DTO 간 변환을 처리
+ * 도메인별 {@link BaseMapper}(MapStruct 생성 구현체)로 Entity ↔ DTO 간 변환을 처리
  *
  * <p>기본 제공 엔드포인트:
  * <ul>
@@ -33,11 +32,7 @@ import org.springframework.web.bind.annotation.*;
  *   <li>GET /search - 검색 조건 + 페이징 조회 (응답: Page&lt;DTO&gt;)</li>
  * </ul>
  *
- * <p>상속 시 필수 구현 메서드:
- * <ul>
- *   <li>{@link #getDtoClass()} - DTO 클래스 타입 반환</li>
- *   <li>{@link #getEntityClass()} - Entity 클래스 타입 반환</li>
- * </ul>
+ * <p>상속 시 생성자에서 도메인 Service 와 도메인 Mapper({@link BaseMapper} 구현)를 전달한다.
  *
  * <p>DTO 요구사항:
  * <ul>
@@ -52,7 +47,7 @@ import org.springframework.web.bind.annotation.*;
 public abstract class BaseController<E, D extends Identifiable> {
 
   protected final BaseService<E> service;
-  protected final ModelMapper modelMapper;
+  protected final BaseMapper<E, D> mapper;
 
   @PostMapping
   public ResponseEntity<BaseResponse<D>> create(@RequestBody D dto) {
@@ -65,7 +60,7 @@ public abstract class BaseController<E, D extends Identifiable> {
   @PutMapping("/{id}")
   public ResponseEntity<BaseResponse<D>> update(@PathVariable Long id, @RequestBody D dto) {
     E existing = service.findById(id);
-    modelMapper.map(dto, existing);
+    mapper.updateEntity(dto, existing);
     E updated = service.update(existing);
     D updatedDto = toDto(updated);
     return successResponse(updatedDto, "수정 완료");
@@ -80,6 +75,9 @@ public abstract class BaseController<E, D extends Identifiable> {
   @PatchMapping("/soft-delete/{id}")
   public ResponseEntity<BaseResponse<Void>> isDelete(@PathVariable Long id) {
     E entity = service.findById(id);
+    if (entity == null) {
+      return ResponseEntity.badRequest().body(BaseResponse.error("ENTITY_NOT_FOUND", "요청한 데이터를 찾을 수 없습니다."));
+    }
     service.softDelete(entity);
     return successResponse(null, "삭제 완료");
   }
@@ -102,19 +100,15 @@ public abstract class BaseController<E, D extends Identifiable> {
   }
 
   protected D toDto(E entity) {
-    return modelMapper.map(entity, getDtoClass());
+    return mapper.toDto(entity);
   }
 
   protected E toEntity(D dto) {
-    return modelMapper.map(dto, getEntityClass());
+    return mapper.toEntity(dto);
   }
 
   protected List<D> toDtoList(List<E> entities) {
-    List<D> dtos = new ArrayList<>();
-    for (E entity : entities) {
-      dtos.add(toDto(entity));
-    }
-    return dtos;
+    return mapper.toDtoList(entities);
   }
 
   protected Page<D> toDtoPage(Page<E> entityPage) {
@@ -129,9 +123,5 @@ public abstract class BaseController<E, D extends Identifiable> {
   protected <T> ResponseEntity<BaseResponse<T>> successResponse(T data, String message) {
     return BaseResponse.successResponse(data, message);
   }
-
-  protected abstract Class<D> getDtoClass();
-
-  protected abstract Class<E> getEntityClass();
 }
 
@@ -0,0 +1,141 @@
+package com.woo.core.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.PatternMatchUtils;
+
+/**
+ * 계층별(Controller / Service / Repository) 메서드 지연시간·예외 메트릭 (Micrometer)
+ *
+ * <p>메서드마다 Timer(app.layer.calls)와 예외 종류별 Counter(app.layer.errors)를 기록하며,
+ * /actuator/prometheus 로 노출된다. 출력은 하지 않는다.
+ * 백분위는 히스토그램 버킷(1ms ~ 10s)으로 Prometheus 에서 계산한다. (histogram_quantile)
+ * layer-metrics.percentiles 는 히스토그램을 쓰지 않는 Registry 용 클라이언트 측 백분위.
+ *
+ * <p>대상 선택은 "클래스#메서드" 이름에 대한 패턴(*)으로 한다. (예: {@code UploadedFileRepository#*})
+ * layer-metrics.include 가 비어 있으면 모든 메서드, exclude 에 걸리면 제외.
+ * 판정 결과와 Meter 는 (프록시 클래스, 메서드) 별로 한 번만 만들어 두고 재사용한다.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "layer-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class LayerMetricsAspect {
+
+  public static final String TIMER_NAME = "app.layer.calls";
+  public static final String ERROR_COUNTER_NAME = "app.layer.errors";
+
+  /** 제외된 메서드 표시 (Map 에 null 을 넣을 수 없으므로) */
+  private static final MethodMeters UNTRACKED = new MethodMeters(null, null);
+
+  private final MeterRegistry meterRegistry;
+  private final String[] includes;
+  private final String[] excludes;
+  private final boolean histogram;
+  private final double[] percentiles;
+
+  private final ClassValue<Map<Method, MethodMeters>> metersByProxy = new ClassValue<>() {
+    @Override
+    protected Map<Method, MethodMeters> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  public LayerMetricsAspect(
+      MeterRegistry meterRegistry,
+      @Value("${layer-metrics.include:}") String[] includes,
+      @Value("${layer-metrics.exclude:}") String[] excludes,
+      @Value("${layer-metrics.histogram:true}") boolean histogram,
+      @Value("${layer-metrics.percentiles:}") double[] percentiles) {
+    this.meterRegistry = meterRegistry;
+    this.includes = includes;
+    this.excludes = excludes;
+    this.histogram = histogram;
+    this.percentiles = percentiles;
+  }
+
+  @Around("execution(* com.flow.api..controller..*(..))")
+  public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+    return timeExecution(joinPoint, "controller");
+  }
+
+  @Around("execution(* com.flow.api..service..*(..))")
+  public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+    return timeExecution(joinPoint, "service");
+  }
+
+  @Around("execution(* com.flow.api..repository..*(..))")
+  public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+    return timeExecution(joinPoint, "repository");
+  }
+
+  private Object timeExecution(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    MethodMeters meters = metersByProxy.get(joinPoint.getThis().getClass())
+        .computeIfAbsent(method, key -> register(joinPoint, key, layer));
+    if (meters == UNTRACKED) {
+      return joinPoint.proceed();
+    }
+
+    long start = System.nanoTime();
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable e) {
+      // 예외는 드물므로 예외 종류별 Counter 는 발생 시 조회
+      meterRegistry.counter(ERROR_COUNTER_NAME, "layer", layer, "class", meters.className(),
+          "method", method.getName(), "exception", e.getClass().getSimpleName()).increment();
+      throw e;
+    } finally {
+      meters.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private MethodMeters register(ProceedingJoinPoint joinPoint, Method method, String layer) {
+    String className = ownerName(joinPoint);
+    String name = className + "#" + method.getName();
+    if ((includes.length > 0 && !PatternMatchUtils.simpleMatch(includes, name))
+        || PatternMatchUtils.simpleMatch(excludes, name)) {
+      return UNTRACKED;
+    }
+
+    Timer.Builder timer = Timer.builder(TIMER_NAME)
+        .description("계층별 메서드 실행 시간")
+        .tags("layer", layer, "class", className, "method", method.getName())
+        .minimumExpectedValue(Duration.ofMillis(1))
+        .maximumExpectedValue(Duration.ofSeconds(10))
+        .publishPercentileHistogram(histogram);
+    if (percentiles.length > 0) {
+      timer.publishPercentiles(percentiles);
+    }
+    return new MethodMeters(className, timer.register(meterRegistry));
+  }
+
+  /** Spring Data 리포지토리는 구현체(SimpleJpaRepository)가 아닌 선언한 인터페이스 이름을 사용 */
+  static String ownerName(ProceedingJoinPoint joinPoint) {
+    Class<?> target = AopUtils.getTargetClass(joinPoint.getTarget());
+    if (!target.getName().startsWith("com.flow.")) {
+      for (Class<?> type : joinPoint.getThis().getClass().getInterfaces()) {
+        if (type.getName().startsWith("com.flow.")) {
+          return type.getSimpleName();
+        }
+      }
+    }
+    return ClassUtils.getUserClass(target).getSimpleName();
+  }
+
+  private record MethodMeters(String className, Timer timer) {
+  }
+}
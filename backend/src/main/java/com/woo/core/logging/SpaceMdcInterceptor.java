@@ -0,0 +1,53 @@
+package com.woo.core.logging;
+
+import com.woo.core.logging.stream.LogEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청의 공간 ID(spaceId)를 MDC 에 기록
+ *
+ * <p>요청 처리 중 남긴 로그에 공간 ID 가 붙어 로그 스트림의 공간 필터에 사용된다.
+ * DispatcherServlet 이 멀티파트를 해석한 뒤 호출되므로 쿼리 파라미터뿐 아니라
+ * 폼 / 멀티파트 필드(업로드의 spaceId)와 경로 변수(/space/{spaceId})도 확인한다.
+ * 비동기 요청은 재디스패치마다 다시 호출되어 각 디스패치 스레드에 기록된다.
+ */
+@Component
+public class SpaceMdcInterceptor implements AsyncHandlerInterceptor {
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    String spaceId = resolveSpaceId(request);
+    if (spaceId != null) {
+      MDC.put(LogEvent.MDC_SPACE_ID, spaceId);
+    }
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    MDC.remove(LogEvent.MDC_SPACE_ID);
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    MDC.remove(LogEvent.MDC_SPACE_ID);
+  }
+
+  private static String resolveSpaceId(HttpServletRequest request) {
+    String spaceId = request.getParameter(LogEvent.MDC_SPACE_ID);
+    if (spaceId == null || spaceId.isBlank()) {
+      Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+      spaceId = variables instanceof Map<?, ?> map && map.get(LogEvent.MDC_SPACE_ID) instanceof String value
+          ? value : null;
+    }
+    return spaceId == null || spaceId.isBlank() ? null : spaceId.trim();
+  }
+}
@@ -0,0 +1,75 @@
+package com.woo.core.logging;
+
+import com.woo.core.logging.trace.Span;
+import com.woo.core.logging.trace.TraceRecorder;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Controller / Service / Repository 메서드 호출을 요청 구간 트리에 추가 (TraceRecorder)
+ *
+ * <p>기록 중인 요청이 없으면 ThreadLocal 조회 한 번으로 끝난다.
+ * 구간 이름("계층 클래스#메서드")은 (프록시 클래스, 메서드) 별로 한 번만 만든다.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "trace.enabled", havingValue = "true", matchIfMissing = true)
+public class TraceAspect {
+
+  private final TraceRecorder traceRecorder;
+
+  private final ClassValue<Map<Method, String>> namesByProxy = new ClassValue<>() {
+    @Override
+    protected Map<Method, String> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  public TraceAspect(TraceRecorder traceRecorder) {
+    this.traceRecorder = traceRecorder;
+  }
+
+  @Around("execution(* com.flow.api..controller..*(..))")
+  public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+    return trace(joinPoint, "controller");
+  }
+
+  /** UploadPipelineMetrics 는 단계 이름으로 직접 구간을 남기므로 제외 */
+  @Around("execution(* com.flow.api..service..*(..))"
+      + " && !within(com.flow.api.service.impl.UploadPipelineMetrics)")
+  public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+    return trace(joinPoint, "service");
+  }
+
+  @Around("execution(* com.flow.api..repository..*(..))")
+  public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+    return trace(joinPoint, "repository");
+  }
+
+  private Object trace(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+    if (!traceRecorder.isActive()) {
+      return joinPoint.proceed();
+    }
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    String name = namesByProxy.get(joinPoint.getThis().getClass())
+        .computeIfAbsent(method, key -> layer + " " + LayerMetricsAspect.ownerName(joinPoint) + "#" + key.getName());
+
+    Span span = traceRecorder.enter(name);
+    Throwable error = null;
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable e) {
+      error = e;
+      throw e;
+    } finally {
+      traceRecorder.exit(span, error);
+    }
+  }
+}
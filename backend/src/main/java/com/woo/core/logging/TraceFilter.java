@@ -0,0 +1,99 @@
+package com.woo.core.logging;
+
+import com.woo.core.logging.trace.Span;
+import com.woo.core.logging.trace.TraceRecorder;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * API 요청마다 구간 트리 기록 (TraceRecorder)
+ *
+ * <p>엔드포인트는 매핑된 URL 패턴으로 묶는다. (경로 변수 값마다 따로 집계되지 않음)
+ * 진단 API 자체와 SSE 스트림은 기록하지 않는다.
+ *
+ * <p>비동기 요청(내보내기 / 생성형 파일 다운로드 등 StreamingResponseBody)은 첫 디스패치가 스트리밍 전에
+ * 끝나므로, AsyncListener 로 비동기 처리가 끝난 시점(응답 전송 완료)에 기록한다.
+ */
+@Component
+@ConditionalOnProperty(name = "trace.enabled", havingValue = "true", matchIfMissing = true)
+public class TraceFilter extends OncePerRequestFilter {
+
+  private final TraceRecorder traceRecorder;
+
+  public TraceFilter(TraceRecorder traceRecorder) {
+    this.traceRecorder = traceRecorder;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String uri = request.getRequestURI();
+    return !uri.startsWith("/api/") || uri.startsWith("/api/diagnostics/") || uri.equals("/api/logs/stream");
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    Span root = traceRecorder.begin(request.getMethod() + " " + request.getRequestURI());
+    Throwable error = null;
+    try {
+      chain.doFilter(request, response);
+    } catch (IOException | ServletException | RuntimeException e) {
+      error = e;
+      throw e;
+    } finally {
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      String endpoint = request.getMethod() + " " + (pattern == null ? "UNMATCHED" : pattern);
+      if (error == null && request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(
+            new CompletionListener(traceRecorder.detach(root), endpoint, request.getRequestURI(), response));
+      } else {
+        traceRecorder.end(root, endpoint, request.getRequestURI(), response.getStatus(), error);
+      }
+    }
+  }
+
+  /** 비동기 처리 완료 시 기록 (오류 / 타임아웃 후에도 onComplete 가 호출됨) */
+  private final class CompletionListener implements AsyncListener {
+
+    private final TraceRecorder.Detached detached;
+    private final String endpoint;
+    private final String uri;
+    private final HttpServletResponse response;
+    private volatile Throwable error;
+
+    private CompletionListener(
+        TraceRecorder.Detached detached, String endpoint, String uri, HttpServletResponse response) {
+      this.detached = detached;
+      this.endpoint = endpoint;
+      this.uri = uri;
+      this.response = response;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      traceRecorder.end(detached, endpoint, uri, response.getStatus(), error);
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      error = event.getThrowable();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.woo.core.logging.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 상시 JFR 녹화 (최근 구간만 디스크에 보관)
+ *
+ * <p>JDK 기본 설정(default.jfc) 위에 {@code jfr.recording.settings} 프로파일(jfr/upload.jfc)을 덮어써서
+ * 녹화를 시작하고, 최근 {@code max-age} / {@code max-size} 만큼만 보관한다.
+ * {@link #dump()} 로 현재까지의 녹화를 파일로 떨어뜨려 JDK Mission Control 등으로 분석한다.
+ *
+ * <p>커스텀 이벤트는 임계값 미만이면 커밋 전에 버려지므로, 정상 요청에서의 비용은 시각 측정 두 번 정도이다.
+ */
+@Slf4j
+@Component
+public class JfrRecorder {
+
+  private static final String RECORDING_NAME = "file-blocker";
+
+  private final ResourceLoader resourceLoader;
+
+  @Value("${jfr.recording.enabled:true}")
+  private boolean enabled;
+
+  @Value("${jfr.recording.settings:classpath:jfr/upload.jfc}")
+  private String settingsLocation;
+
+  @Value("${jfr.recording.max-age:15m}")
+  private Duration maxAge;
+
+  @Value("${jfr.recording.max-size:100MB}")
+  private DataSize maxSize;
+
+  private volatile Recording recording;
+
+  public JfrRecorder(ResourceLoader resourceLoader) {
+    this.resourceLoader = resourceLoader;
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    if (!FlightRecorder.isAvailable()) {
+      log.warn("이 JVM 에서는 JFR 을 사용할 수 없어 상시 녹화를 시작하지 않습니다.");
+      return;
+    }
+    try {
+      Recording started = new Recording(loadSettings());
+      started.setName(RECORDING_NAME);
+      started.setToDisk(true);
+      started.setMaxAge(maxAge);
+      started.setMaxSize(maxSize.toBytes());
+      started.start();
+      recording = started;
+      log.info("JFR 상시 녹화 시작 (settings=default + {}, maxAge={}, maxSize={})", settingsLocation, maxAge, maxSize);
+    } catch (IOException | ParseException e) {
+      log.warn("JFR 녹화 프로파일을 읽을 수 없어 상시 녹화를 시작하지 않습니다: {}", e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    Recording current = recording;
+    recording = null;
+    if (current != null) {
+      current.close();
+    }
+  }
+
+  public boolean isRecording() {
+    Recording current = recording;
+    return current != null && current.getState() == RecordingState.RUNNING;
+  }
+
+  /**
+   * 현재까지의 녹화를 임시 파일로 덤프 (호출한 쪽에서 전송 후 삭제)
+   *
+   * @return .jfr 파일 경로
+   * @throws IllegalStateException 녹화 중이 아닌 경우
+   */
+  public Path dump() throws IOException {
+    Recording current = recording;
+    if (current == null || current.getState() != RecordingState.RUNNING) {
+      throw new IllegalStateException("JFR 녹화가 실행 중이 아닙니다. (jfr.recording.enabled)");
+    }
+    Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+    try {
+      current.dump(file);
+      return file;
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+  }
+
+  /** default.jfc 설정에 프로파일 설정을 덮어쓴 이벤트 설정 */
+  private Map<String, String> loadSettings() throws IOException, ParseException {
+    Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+    Resource resource = resourceLoader.getResource(settingsLocation);
+    try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+      settings.putAll(Configuration.create(reader).getSettings());
+    }
+    return settings;
+  }
+}
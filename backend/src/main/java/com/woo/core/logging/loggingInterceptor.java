@@ -1,77 +1,121 @@
 package com.woo.core.logging;
 
+import com.woo.core.logging.stream.LogEvent;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+/**
+ * 구조화 접근 로그 (요청당 JSON 한 줄)
+ *
+ * <p>요청 스레드에서는 JSON 문자열만 만들어 ACCESS_LOG 로거에 넘기고,
+ * 파일 기록은 logback-spring.xml 의 AsyncAppender 작업 스레드가 버퍼에 모아서 수행한다.
+ * (큐가 가득 차면 기다리지 않고 버림)
+ *
+ * <p>샘플링: 4xx/5xx, 예외, access-log.slow-threshold-ms 이상 걸린 요청은 항상 기록하고,
+ * 그 외 성공 요청은 access-log.success-sample-rate 비율만 기록한다. (기록된 줄의 sampleRate 필드로 역산)
+ *
+ * <pre>
+ * {"ts":"2025-01-01T00:00:00.123Z","method":"GET","uri":"/api/uploaded-files/list","status":200,
+ *  "durationMs":3.412,"controller":"UploadedFileController#getFiles","spaceId":"1","sampleRate":1.0}
+ * </pre>
+ */
 @Component
 public class loggingInterceptor implements HandlerInterceptor {
 
-  private static final DateTimeFormatter FORMATTER =
-      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+  private static final Logger accessLog = LoggerFactory.getLogger("ACCESS_LOG");
 
-  private static final String START_TIME_ATTR = "startTime";
+  private static final String START_NANOS_ATTR = loggingInterceptor.class.getName() + ".startNanos";
+  private static final String SPACE_ID_ATTR = loggingInterceptor.class.getName() + ".spaceId";
+
+  @Value("${access-log.success-sample-rate:1.0}")
+  private double successSampleRate;
+
+  @Value("${access-log.slow-threshold-ms:1000}")
+  private long slowThresholdMs;
 
   @Override
   public boolean preHandle(
       HttpServletRequest request, HttpServletResponse response, Object handler) {
-    long startTime = System.currentTimeMillis();
-    request.setAttribute(START_TIME_ATTR, startTime);
+    // 비동기 요청(SSE/스트리밍)은 재디스패치 때 다시 호출되므로 최초 디스패치 값 유지
+    // (공간 ID 도 최초 디스패치에서 SpaceMdcInterceptor 가 기록한 값을 보관)
+    if (request.getAttribute(START_NANOS_ATTR) == null) {
+      request.setAttribute(START_NANOS_ATTR, System.nanoTime());
+      request.setAttribute(SPACE_ID_ATTR, MDC.get(LogEvent.MDC_SPACE_ID));
+    }
     return true;
   }
 
   @Override
   public void afterCompletion(
       HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
-    long endTime = System.currentTimeMillis();
-    long startTime = (Long) request.getAttribute(START_TIME_ATTR);
-    long duration = endTime - startTime;
-
-    String time = LocalDateTime.now().format(FORMATTER);
-    String uri = request.getRequestURI();
-    String method = request.getMethod();
-    String query = request.getQueryString() != null ? "?" + request.getQueryString() : "";
+    Object startNanos = request.getAttribute(START_NANOS_ATTR);
+    if (!(startNanos instanceof Long start) || !accessLog.isInfoEnabled()) {
+      return;
+    }
+    long durationNanos = System.nanoTime() - start;
     int status = response.getStatus();
-    String userAgent = request.getHeader("User-Agent");
 
-    // 핸들러 정보 추출 (컨트롤러, 메서드)
-    String controllerInfo = "";
-    if (handler instanceof HandlerMethod handlerMethod) {
-      String controllerName = handlerMethod.getBeanType().getSimpleName(); // 예: AuthController
-      String methodName = handlerMethod.getMethod().getName(); // 예: login
-      controllerInfo = controllerName + "#" + methodName;
-    } else {
-      controllerInfo = handler.toString(); // fallback
+    boolean alwaysLogged = status >= 400 || ex != null
+        || durationNanos >= TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    if (!alwaysLogged && successSampleRate < 1.0
+        && ThreadLocalRandom.current().nextDouble() >= successSampleRate) {
+      return;
     }
 
-    System.out.println(
-        "["
-            + time
-            + "] [API 호출] "
-            + method
-            + " "
-            + uri
-            + query
-            + " (처리시간: "
-            + duration
-            + "ms"
-            + ", 상태코드: "
-            + status
-            + ", 컨트롤러: "
-            + controllerInfo
-            + ", User-Agent: "
-            + userAgent
-            + ")");
+    // 핸들러 정보 추출 (컨트롤러, 메서드)
+    String controller = handler instanceof HandlerMethod handlerMethod
+        ? handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName()
+        : null;
 
+    StringBuilder json = new StringBuilder(256);
+    json.append("{\"ts\":\"").append(Instant.now()).append('"');
+    field(json, "method", request.getMethod());
+    field(json, "uri", request.getRequestURI());
+    json.append(",\"status\":").append(status);
+    json.append(",\"durationMs\":").append(durationNanos / 1000 / 1000.0);
+    field(json, "controller", controller);
+    field(json, "spaceId", (String) request.getAttribute(SPACE_ID_ATTR));
     if (ex != null) {
-      System.err.println(
-          "[" + time + "] [예외 발생] " + ex.getClass().getSimpleName() + ": " + ex.getMessage());
-      ex.printStackTrace();
+      field(json, "error", ex.getClass().getSimpleName() + ": " + ex.getMessage());
     }
+    json.append(",\"sampleRate\":").append(alwaysLogged ? 1.0 : successSampleRate);
+    json.append('}');
+    accessLog.info(json.toString());
   }
-}
 
+  /** 문자열 필드 추가 (null 이면 생략, JSON 이스케이프) */
+  private static void field(StringBuilder json, String name, String value) {
+    if (value == null) {
+      return;
+    }
+    json.append(",\"").append(name).append("\":\"");
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"' -> json.append("\\\"");
+        case '\\' -> json.append("\\\\");
+        case '\n' -> json.append("\\n");
+        case '\r' -> json.append("\\r");
+        case '\t' -> json.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            json.append(String.format("\\u%04x", (int) c));
+          } else {
+            json.append(c);
+          }
+        }
+      }
+    }
+    json.append('"');
+  }
+}
@@ -0,0 +1,54 @@
+package com.woo.core.logging.stream;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * SSE 로 전달하는 로그 한 건
+ *
+ * <p>Logback 이벤트는 재사용/지연 포맷될 수 있으므로 Appender 에서 필요한 값만 복사해 둔다.
+ */
+@Getter
+@AllArgsConstructor
+public class LogEvent {
+
+  /** MDC 의 공간 ID 키 (SpaceMdcInterceptor 가 요청 파라미터 / 폼 필드 / 경로 변수 spaceId 로 채움) */
+  public static final String MDC_SPACE_ID = "spaceId";
+
+  private final long timestamp;
+  private final String level;
+  private final String logger;
+  private final String thread;
+  private final String message;
+  private final Long spaceId;
+
+  @JsonIgnore
+  private final int levelInt;
+
+  static LogEvent from(ILoggingEvent event) {
+    String spaceId = event.getMDCPropertyMap().get(MDC_SPACE_ID);
+    Level level = event.getLevel();
+    return new LogEvent(
+        event.getTimeStamp(),
+        level.toString(),
+        event.getLoggerName(),
+        event.getThreadName(),
+        event.getFormattedMessage(),
+        parseSpaceId(spaceId),
+        level.toInt());
+  }
+
+  private static Long parseSpaceId(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Long.valueOf(value);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.woo.core.logging.stream;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 로그 이벤트 링 버퍼 (다중 생산자 / 단일 소비자, lock-free)
+ *
+ * <p>생산자(로그를 남기는 애플리케이션 스레드)는 시퀀스를 CAS 로 하나 받아 슬롯에 기록만 하고 끝난다.
+ * 버퍼가 가득 차도 기다리지 않고 가장 오래된 이벤트를 덮어쓰며,
+ * 소비자(LogStreamHub 디스패처)가 뒤처지면 덮어쓰인 구간을 건너뛰고 그 수를 overrun 으로 센다.
+ */
+class LogRingBuffer {
+
+  private static final class Slot {
+    private final long sequence;
+    private final LogEvent event;
+
+    private Slot(long sequence, LogEvent event) {
+      this.sequence = sequence;
+      this.event = event;
+    }
+  }
+
+  private final AtomicReferenceArray<Slot> slots;
+  private final int mask;
+  private final AtomicLong next = new AtomicLong();
+  private final AtomicLong overrun = new AtomicLong();
+
+  // 소비자 전용 (디스패처 스레드 하나만 접근)
+  private long cursor;
+
+  /**
+   * @param capacity 슬롯 수 (2의 거듭제곱으로 올림)
+   */
+  LogRingBuffer(int capacity) {
+    int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+    this.slots = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  /** 이벤트 기록 (대기 없음) */
+  void publish(LogEvent event) {
+    long sequence = next.getAndIncrement();
+    slots.lazySet((int) (sequence & mask), new Slot(sequence, event));
+  }
+
+  /**
+   * 기록된 이벤트를 순서대로 최대 max 건 전달
+   *
+   * @return 전달한 건수
+   */
+  int drain(Consumer<LogEvent> consumer, int max) {
+    int drained = 0;
+    while (drained < max) {
+      Slot slot = slots.get((int) (cursor & mask));
+      if (slot == null || slot.sequence < cursor) {
+        break; // 아직 기록되지 않음
+      }
+      if (slot.sequence > cursor) {
+        // 생산자가 한 바퀴 앞서 덮어씀 → 남아 있는 가장 오래된 위치로 이동
+        long oldest = Math.max(cursor + 1, next.get() - slots.length());
+        overrun.addAndGet(oldest - cursor);
+        cursor = oldest;
+        continue;
+      }
+      consumer.accept(slot.event);
+      cursor++;
+      drained++;
+    }
+    return drained;
+  }
+
+  int capacity() {
+    return slots.length();
+  }
+
+  long overrun() {
+    return overrun.get();
+  }
+}
@@ -0,0 +1,34 @@
+package com.woo.core.logging.stream;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+
+/**
+ * 로그 이벤트를 링 버퍼에 기록하는 Logback Appender
+ *
+ * <p>로그를 남긴 스레드에서는 이벤트 복사 + 슬롯 기록만 수행하고,
+ * SSE 전송은 LogStreamHub 의 디스패처/전송 스레드가 맡는다.
+ * (AppenderBase 와 달리 doAppend 에 락이 없으므로 로그를 남기는 스레드끼리 경합하지 않는다.)
+ */
+class LogStreamAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+  static final String NAME = "LOG_STREAM";
+
+  // 전송 경로에서 남긴 로그가 다시 전송되지 않도록 제외
+  private static final String SELF_PACKAGE = LogStreamAppender.class.getPackageName();
+
+  private final LogRingBuffer ringBuffer;
+
+  LogStreamAppender(LogRingBuffer ringBuffer) {
+    this.ringBuffer = ringBuffer;
+    setName(NAME);
+  }
+
+  @Override
+  protected void append(ILoggingEvent event) {
+    if (event.getLoggerName().startsWith(SELF_PACKAGE)) {
+      return;
+    }
+    ringBuffer.publish(LogEvent.from(event));
+  }
+}
@@ -0,0 +1,228 @@
+package com.woo.core.logging.stream;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 로그 실시간 전송 (Logback → 링 버퍼 → SSE 구독자)
+ *
+ * <p>구성:
+ * <ul>
+ *   <li>LogStreamAppender - 루트 로거에 붙어 이벤트를 링 버퍼에 기록 (로그를 남긴 스레드는 대기하지 않음)</li>
+ *   <li>디스패처 스레드 1개 - 링 버퍼를 읽어 레벨/공간 필터를 통과한 이벤트를 구독자별 큐에 분배</li>
+ *   <li>전송 스레드 (구독자당 최대 1개) - 구독자 큐를 최대 log.stream.max-batch 건씩 묶어 SSE 프레임 하나로 전송</li>
+ * </ul>
+ *
+ * <p>느린 브라우저는 자기 전송 스레드만 붙잡고, 구독자 큐가 차면 오래된 이벤트부터 버려진다.
+ * 버린 건수는 다음 전송 때 {@code dropped} 이벤트로 알린다.
+ *
+ * <p>구독자 수는 세마포어로 제한한다. 구독 시 자리를 먼저 확보하고,
+ * 구독자 목록에서 제거될 때(완료 / 타임아웃 / 오류 / 전송 실패) 한 번만 반환한다.
+ */
+@Component
+public class LogStreamHub {
+
+  private static final int DISPATCH_BATCH = 1024;
+
+  @Value("${log.stream.buffer-size:8192}")
+  private int bufferSize;
+
+  @Value("${log.stream.subscriber-queue-size:1000}")
+  private int subscriberQueueSize;
+
+  @Value("${log.stream.max-batch:200}")
+  private int maxBatch;
+
+  @Value("${log.stream.max-subscribers:20}")
+  private int maxSubscribers;
+
+  @Value("${log.stream.flush-interval-ms:100}")
+  private long flushIntervalMs;
+
+  private final List<LogSubscriber> subscribers = new CopyOnWriteArrayList<>();
+  private final AtomicLong rejectedSchedules = new AtomicLong();
+
+  private Semaphore subscriberSlots;
+  private LogRingBuffer ringBuffer;
+  private LogStreamAppender appender;
+  private ThreadPoolExecutor senders;
+  private Thread dispatcher;
+  private volatile boolean running;
+
+  @PostConstruct
+  public void start() {
+    subscriberSlots = new Semaphore(maxSubscribers);
+    ringBuffer = new LogRingBuffer(bufferSize);
+
+    LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    appender = new LogStreamAppender(ringBuffer);
+    appender.setContext(context);
+    appender.start();
+    context.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(appender);
+
+    AtomicInteger senderIds = new AtomicInteger();
+    // 구독자당 전송 작업은 최대 1개이므로 스레드 수는 구독자 수를 넘지 않음
+    senders = new ThreadPoolExecutor(0, maxSubscribers, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+      Thread thread = new Thread(runnable, "log-stream-sender-" + senderIds.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    running = true;
+    dispatcher = new Thread(this::dispatchLoop, "log-stream-dispatcher");
+    dispatcher.setDaemon(true);
+    dispatcher.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+    LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    context.getLogger(Logger.ROOT_LOGGER_NAME).detachAppender(appender);
+    appender.stop();
+    LockSupport.unpark(dispatcher);
+    senders.shutdownNow();
+    subscribers.forEach(subscriber -> subscriber.emitter().complete());
+    subscribers.clear();
+  }
+
+  /**
+   * 구독 시작
+   *
+   * @param level 최소 레벨 (TRACE / DEBUG / INFO / WARN / ERROR, 생략 시 DEBUG)
+   * @param spaceId 공간 ID (생략 시 전체, 지정하면 해당 공간 요청 처리 중 남긴 로그만)
+   * @throws IllegalArgumentException 알 수 없는 레벨이거나 구독자 수 초과
+   */
+  public SseEmitter subscribe(String level, Long spaceId) {
+    Level minLevel = level == null || level.isBlank() ? Level.DEBUG : Level.toLevel(level.trim(), null);
+    if (minLevel == null) {
+      throw new IllegalArgumentException("지원하지 않는 로그 레벨입니다: " + level);
+    }
+    // 확인과 등록 사이에 다른 구독이 끼어들지 않도록 자리를 먼저 확보
+    if (!subscriberSlots.tryAcquire()) {
+      throw new IllegalArgumentException(
+          String.format("로그 스트림 구독자는 최대 %d명까지 가능합니다.", maxSubscribers));
+    }
+
+    SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
+    LogSubscriber subscriber = new LogSubscriber(emitter, minLevel.toInt(), spaceId, subscriberQueueSize);
+    emitter.onCompletion(() -> unsubscribe(subscriber));
+    emitter.onTimeout(() -> unsubscribe(subscriber));
+    emitter.onError(e -> unsubscribe(subscriber));
+
+    // 초기 연결 메시지
+    try {
+      emitter.send(SseEmitter.event()
+          .name("connected")
+          .data("Connected to log stream at " + LocalDateTime.now()));
+    } catch (IOException e) {
+      subscriberSlots.release();
+      emitter.complete();
+      return emitter;
+    }
+    subscribers.add(subscriber);
+    return emitter;
+  }
+
+  // 여러 콜백이 함께 호출되어도 목록에서 실제로 제거한 쪽만 자리를 반환
+  private void unsubscribe(LogSubscriber subscriber) {
+    if (subscribers.remove(subscriber)) {
+      subscriberSlots.release();
+    }
+  }
+
+  public int getSubscriberCount() {
+    return subscribers.size();
+  }
+
+  /** 링 버퍼가 가득 차 디스패처가 읽기 전에 덮어쓰인 이벤트 수 */
+  public long getOverrunCount() {
+    return ringBuffer.overrun();
+  }
+
+  /** 전송 스레드가 모두 사용 중이라 다음 주기로 미룬 전송 횟수 (종료 중 거부는 제외) */
+  public long getRejectedScheduleCount() {
+    return rejectedSchedules.get();
+  }
+
+  // ========== 디스패처 / 전송 ==========
+
+  private void dispatchLoop() {
+    while (running) {
+      int drained = ringBuffer.drain(this::route, DISPATCH_BATCH);
+      for (LogSubscriber subscriber : subscribers) {
+        if (subscriber.hasPending()) {
+          schedule(subscriber);
+        }
+      }
+      if (drained < DISPATCH_BATCH) {
+        // 새 이벤트가 없으면 잠시 대기 → 그 사이 쌓인 이벤트는 다음 프레임에 묶여 전송됨
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+      }
+    }
+  }
+
+  private void route(LogEvent event) {
+    for (LogSubscriber subscriber : subscribers) {
+      if (subscriber.accepts(event)) {
+        subscriber.offer(event);
+      }
+    }
+  }
+
+  private void schedule(LogSubscriber subscriber) {
+    if (subscriber.scheduled.compareAndSet(false, true)) {
+      try {
+        senders.execute(() -> flush(subscriber));
+      } catch (RejectedExecutionException e) {
+        subscriber.scheduled.set(false);
+        if (running) {
+          // 종료 중이 아니면 전송 스레드가 모두 사용 중 (해지된 구독자의 전송이 아직 진행 중) → 다음 주기에 다시 시도
+          rejectedSchedules.incrementAndGet();
+        }
+      }
+    }
+  }
+
+  private void flush(LogSubscriber subscriber) {
+    try {
+      while (running) {
+        long dropped = subscriber.takeDropped();
+        if (dropped > 0) {
+          subscriber.emitter().send(SseEmitter.event().name("dropped").data(dropped));
+        }
+        List<LogEvent> batch = subscriber.poll(maxBatch);
+        if (batch.isEmpty()) {
+          break;
+        }
+        subscriber.emitter().send(SseEmitter.event().name("log").data(batch, MediaType.APPLICATION_JSON));
+      }
+    } catch (IOException | IllegalStateException e) {
+      // 연결 끊김 / 이미 완료된 emitter
+      unsubscribe(subscriber);
+      subscriber.emitter().completeWithError(e);
+    } finally {
+      subscriber.scheduled.set(false);
+    }
+  }
+}
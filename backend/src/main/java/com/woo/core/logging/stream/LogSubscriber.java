@@ -0,0 +1,82 @@
+package com.woo.core.logging.stream;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 구독자 한 명
+ *
+ * <p>디스패처가 필터(레벨/공간)를 통과한 이벤트를 구독자 큐에 넣고, 전송 스레드가 묶어서 보낸다.
+ * 큐가 가득 차면 가장 오래된 이벤트를 버리고 그 수를 다음 전송 때 알린다.
+ * (큐 락은 넣기/꺼내기 동안만 잡고 네트워크 전송 중에는 잡지 않는다.)
+ */
+class LogSubscriber {
+
+  private final SseEmitter emitter;
+  private final int minLevel;
+  private final Long spaceId;
+  private final int capacity;
+
+  private final ArrayDeque<LogEvent> queue;
+  private long dropped;
+
+  /** 전송 작업이 예약/실행 중 (구독자당 전송 스레드 하나만 사용) */
+  final AtomicBoolean scheduled = new AtomicBoolean();
+
+  LogSubscriber(SseEmitter emitter, int minLevel, Long spaceId, int capacity) {
+    this.emitter = emitter;
+    this.minLevel = minLevel;
+    this.spaceId = spaceId;
+    this.capacity = capacity;
+    this.queue = new ArrayDeque<>(Math.min(capacity, 256));
+  }
+
+  SseEmitter emitter() {
+    return emitter;
+  }
+
+  boolean accepts(LogEvent event) {
+    return event.getLevelInt() >= minLevel
+        && (spaceId == null || spaceId.equals(event.getSpaceId()));
+  }
+
+  /** 이벤트 추가 (가득 차면 가장 오래된 이벤트 삭제) */
+  void offer(LogEvent event) {
+    synchronized (queue) {
+      if (queue.size() == capacity) {
+        queue.pollFirst();
+        dropped++;
+      }
+      queue.addLast(event);
+    }
+  }
+
+  boolean hasPending() {
+    synchronized (queue) {
+      return !queue.isEmpty() || dropped > 0;
+    }
+  }
+
+  /** 최대 max 건 꺼냄 */
+  List<LogEvent> poll(int max) {
+    synchronized (queue) {
+      List<LogEvent> batch = new ArrayList<>(Math.min(max, queue.size()));
+      while (batch.size() < max && !queue.isEmpty()) {
+        batch.add(queue.pollFirst());
+      }
+      return batch;
+    }
+  }
+
+  /** 마지막 전송 이후 버린 이벤트 수 (조회 후 0 으로) */
+  long takeDropped() {
+    synchronized (queue) {
+      long count = dropped;
+      dropped = 0;
+      return count;
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.woo.core.logging.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 요청 링 (다중 생산자, lock-free)
+ *
+ * <p>시퀀스를 하나 받아 슬롯에 기록만 하며, 가득 차면 가장 오래된 요청을 덮어쓴다.
+ */
+class RecentTraces {
+
+  private record Slot(long sequence, TraceRecord trace) {
+  }
+
+  private final AtomicReferenceArray<Slot> slots;
+  private final int mask;
+  private final AtomicLong next = new AtomicLong();
+
+  /**
+   * @param capacity 슬롯 수 (2의 거듭제곱으로 올림)
+   */
+  RecentTraces(int capacity) {
+    int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+    this.slots = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  void add(TraceRecord trace) {
+    long sequence = next.getAndIncrement();
+    slots.set((int) (sequence & mask), new Slot(sequence, trace));
+  }
+
+  /** 최신순 최대 limit 건 (읽는 중 덮어쓰인 슬롯은 건너뜀) */
+  List<TraceRecord> snapshot(int limit) {
+    List<TraceRecord> traces = new ArrayList<>(Math.min(limit, slots.length()));
+    long last = next.get() - 1;
+    for (long sequence = last; sequence >= 0 && sequence > last - slots.length() && traces.size() < limit;
+        sequence--) {
+      Slot slot = slots.get((int) (sequence & mask));
+      if (slot != null && slot.sequence() == sequence) {
+        traces.add(slot.trace());
+      }
+    }
+    return traces;
+  }
+
+  int capacity() {
+    return slots.length();
+  }
+}
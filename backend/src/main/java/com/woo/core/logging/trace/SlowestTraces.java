@@ -0,0 +1,60 @@
+package com.woo.core.logging.trace;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 가장 느린 요청 K 개 (lock-free)
+ *
+ * <p>새 요청이 현재 K 개 중 가장 빠른 것보다 느리면 그 슬롯을 CAS 로 교체한다.
+ * 다른 스레드가 먼저 바꿨으면 다시 최솟값을 찾는다. 대부분의 요청은 최솟값 비교에서 바로 끝난다.
+ */
+class SlowestTraces {
+
+  private final AtomicReferenceArray<TraceRecord> slots;
+
+  SlowestTraces(int capacity) {
+    this.slots = new AtomicReferenceArray<>(capacity);
+  }
+
+  void offer(TraceRecord trace) {
+    long duration = trace.durationNanos();
+    while (true) {
+      int fastestIndex = -1;
+      TraceRecord fastest = null;
+      for (int i = 0; i < slots.length(); i++) {
+        TraceRecord current = slots.get(i);
+        if (current == null) {
+          fastestIndex = i;
+          fastest = null;
+          break;
+        }
+        if (fastestIndex < 0 || current.durationNanos() < fastest.durationNanos()) {
+          fastestIndex = i;
+          fastest = current;
+        }
+      }
+      if (fastest != null && duration <= fastest.durationNanos()) {
+        return;
+      }
+      if (slots.compareAndSet(fastestIndex, fastest, trace)) {
+        return;
+      }
+    }
+  }
+
+  /** 느린 순 목록 */
+  List<TraceRecord> snapshot() {
+    List<TraceRecord> traces = new ArrayList<>(slots.length());
+    for (int i = 0; i < slots.length(); i++) {
+      TraceRecord trace = slots.get(i);
+      if (trace != null) {
+        traces.add(trace);
+      }
+    }
+    traces.sort(Comparator.comparingLong(TraceRecord::durationNanos).reversed());
+    return traces;
+  }
+}
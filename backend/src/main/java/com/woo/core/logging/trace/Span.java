@@ -0,0 +1,58 @@
+package com.woo.core.logging.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 처리 중 한 구간 (Controller / Service / Repository 메서드, 업로드 검증 단계)
+ *
+ * <p>요청 스레드에서만 만들고 수정하며, 요청이 끝나 {@link TraceRecord} 로 저장된 뒤에는 바뀌지 않는다.
+ */
+public final class Span {
+
+  private final String name;
+  private final long startNanos;
+  private long endNanos;
+  private String error;
+  private List<Span> children;
+
+  Span(String name, long startNanos) {
+    this.name = name;
+    this.startNanos = startNanos;
+  }
+
+  void addChild(Span child) {
+    if (children == null) {
+      children = new ArrayList<>(4);
+    }
+    children.add(child);
+  }
+
+  void end(long endNanos, Throwable error) {
+    this.endNanos = endNanos;
+    if (error != null) {
+      this.error = error.getClass().getSimpleName();
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getStartNanos() {
+    return startNanos;
+  }
+
+  public long getDurationNanos() {
+    return endNanos - startNanos;
+  }
+
+  /** 예외로 끝났으면 예외 클래스 이름 */
+  public String getError() {
+    return error;
+  }
+
+  public List<Span> getChildren() {
+    return children == null ? List.of() : children;
+  }
+}
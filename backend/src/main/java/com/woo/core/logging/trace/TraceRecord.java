@@ -0,0 +1,23 @@
+package com.woo.core.logging.trace;
+
+import java.time.Instant;
+
+/**
+ * 완료된 요청 하나의 구간 트리
+ *
+ * @param endpoint "메서드 URL패턴" (예: {@code POST /api/uploaded-files/upload})
+ * @param root 요청 전체 구간 (자식: 계층별 메서드 호출)
+ * @param droppedSpans trace.max-spans 를 넘어 기록하지 않은 구간 수
+ */
+public record TraceRecord(
+    String endpoint,
+    String uri,
+    int status,
+    Instant startedAt,
+    Span root,
+    int droppedSpans) {
+
+  public long durationNanos() {
+    return root.getDurationNanos();
+  }
+}
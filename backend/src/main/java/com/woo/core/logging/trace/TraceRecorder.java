@@ -0,0 +1,221 @@
+package com.woo.core.logging.trace;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 구간 기록기 (외부 트레이싱 없이 느린 요청의 단계별 시간 확인)
+ *
+ * <p>요청 스레드의 ThreadLocal 에 구간 스택을 두고, TraceFilter 가 요청 전체를, TraceAspect 가
+ * Controller / Service / Repository 메서드를, 업로드 검증 단계가 각 단계를 구간으로 남긴다.
+ * 요청이 끝나면:
+ * <ul>
+ *   <li>엔드포인트별 가장 느린 {@code trace.top-k} 개 ({@link SlowestTraces})</li>
+ *   <li>{@code trace.recent-sample-rate} 비율로 표본 추출한 최근 요청 링 ({@link RecentTraces})</li>
+ * </ul>
+ * 에 저장한다. 두 구조 모두 고정 크기이고 락 없이 갱신된다.
+ *
+ * <p>진행 중인 요청이 없는 스레드(스케줄러, 배치 등)에서는 {@link #enter} 가 바로 null 을 반환한다.
+ *
+ * <p>비동기 요청(StreamingResponseBody 등)은 첫 디스패치가 끝날 때 {@link #detach} 로 스레드에서 떼어 두고,
+ * 비동기 처리가 끝나면 {@link #end(Detached, String, String, int, Throwable)} 로 저장한다.
+ * (응답 전송까지 포함한 시간, 작업 스레드의 구간은 기록하지 않음)
+ */
+@Component
+public class TraceRecorder {
+
+  private static final String OTHER_ENDPOINT = "OTHER";
+
+  private final ThreadLocal<ActiveTrace> current = new ThreadLocal<>();
+  private final Map<String, SlowestTraces> slowestByEndpoint = new ConcurrentHashMap<>();
+  private final RecentTraces recent;
+
+  private final int topK;
+  private final double recentSampleRate;
+  private final int maxSpans;
+  private final int maxEndpoints;
+
+  public TraceRecorder(
+      @Value("${trace.top-k:10}") int topK,
+      @Value("${trace.recent-size:256}") int recentSize,
+      @Value("${trace.recent-sample-rate:0.1}") double recentSampleRate,
+      @Value("${trace.max-spans:200}") int maxSpans,
+      @Value("${trace.max-endpoints:200}") int maxEndpoints) {
+    this.topK = topK;
+    this.recent = new RecentTraces(recentSize);
+    this.recentSampleRate = recentSampleRate;
+    this.maxSpans = maxSpans;
+    this.maxEndpoints = maxEndpoints;
+  }
+
+  /**
+   * 요청 시작 (현재 스레드에 구간 트리 생성)
+   *
+   * @return 요청 전체 구간 (이미 진행 중인 요청이 있으면 null)
+   */
+  public Span begin(String name) {
+    if (current.get() != null) {
+      return null;
+    }
+    ActiveTrace trace = new ActiveTrace(new Span(name, System.nanoTime()), Instant.now());
+    current.set(trace);
+    return trace.root;
+  }
+
+  /**
+   * 요청 종료 후 저장
+   *
+   * @param endpoint "메서드 URL패턴" (엔드포인트별 Top-K 기준)
+   */
+  public void end(Span root, String endpoint, String uri, int status, Throwable error) {
+    ActiveTrace trace = current.get();
+    if (root == null || trace == null || trace.root != root) {
+      return;
+    }
+    current.remove();
+    record(trace, endpoint, uri, status, error);
+  }
+
+  /**
+   * 비동기 요청의 첫 디스패치 종료 (저장하지 않고 현재 스레드에서 분리)
+   *
+   * @return 분리한 요청 기록 (root 가 현재 요청이 아니면 null)
+   */
+  public Detached detach(Span root) {
+    ActiveTrace trace = current.get();
+    if (root == null || trace == null || trace.root != root) {
+      return null;
+    }
+    current.remove();
+    return new Detached(trace);
+  }
+
+  /** 비동기 처리 완료 후 저장 (어느 스레드에서 호출해도 됨) */
+  public void end(Detached detached, String endpoint, String uri, int status, Throwable error) {
+    if (detached != null) {
+      record(detached.trace, endpoint, uri, status, error);
+    }
+  }
+
+  private void record(ActiveTrace trace, String endpoint, String uri, int status, Throwable error) {
+    Span root = trace.root;
+    root.end(System.nanoTime(), error);
+
+    TraceRecord record = new TraceRecord(endpoint, uri, status, trace.startedAt, root, trace.dropped);
+    slowest(endpoint).offer(record);
+    if (recentSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < recentSampleRate) {
+      recent.add(record);
+    }
+  }
+
+  /**
+   * 구간 시작
+   *
+   * @return 시작한 구간 (진행 중인 요청이 없거나 trace.max-spans 를 넘으면 null)
+   */
+  public Span enter(String name) {
+    ActiveTrace trace = current.get();
+    if (trace == null) {
+      return null;
+    }
+    if (trace.spanCount >= maxSpans) {
+      trace.dropped++;
+      return null;
+    }
+    Span span = new Span(name, System.nanoTime());
+    trace.stack.peek().addChild(span);
+    trace.stack.push(span);
+    trace.spanCount++;
+    return span;
+  }
+
+  /** 구간 종료 ({@link #enter} 가 null 을 반환했으면 아무것도 하지 않음) */
+  public void exit(Span span, Throwable error) {
+    if (span == null) {
+      return;
+    }
+    span.end(System.nanoTime(), error);
+    ActiveTrace trace = current.get();
+    if (trace != null && trace.stack.peek() == span) {
+      trace.stack.pop();
+    }
+  }
+
+  /** 현재 스레드에서 요청을 기록 중인지 */
+  public boolean isActive() {
+    return current.get() != null;
+  }
+
+  /**
+   * 엔드포인트별 가장 느린 요청 (느린 엔드포인트 순, 각 목록은 느린 순)
+   *
+   * @param endpoint 지정하면 해당 엔드포인트만
+   */
+  public Map<String, List<TraceRecord>> getSlowest(String endpoint) {
+    Map<String, List<TraceRecord>> result = new LinkedHashMap<>();
+    slowestByEndpoint.entrySet().stream()
+        .filter(entry -> endpoint == null || entry.getKey().equals(endpoint))
+        .map(entry -> Map.entry(entry.getKey(), entry.getValue().snapshot()))
+        .filter(entry -> !entry.getValue().isEmpty())
+        .sorted(Comparator.comparingLong(
+            (Map.Entry<String, List<TraceRecord>> entry) -> entry.getValue().get(0).durationNanos()).reversed())
+        .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+    return result;
+  }
+
+  /** 표본 추출된 최근 요청 (최신순) */
+  public List<TraceRecord> getRecent(int limit) {
+    return recent.snapshot(limit);
+  }
+
+  public int getRecentCapacity() {
+    return recent.capacity();
+  }
+
+  /** 엔드포인트별 가장 느린 요청 기록 초기화 (최근 요청 링은 유지) */
+  public void resetSlowest() {
+    slowestByEndpoint.clear();
+  }
+
+  private SlowestTraces slowest(String endpoint) {
+    SlowestTraces traces = slowestByEndpoint.get(endpoint);
+    if (traces != null) {
+      return traces;
+    }
+    // 엔드포인트 수 제한 (패턴 기준이므로 보통 넘지 않음)
+    String key = slowestByEndpoint.size() >= maxEndpoints ? OTHER_ENDPOINT : endpoint;
+    return slowestByEndpoint.computeIfAbsent(key, ignored -> new SlowestTraces(topK));
+  }
+
+  /** 첫 디스패치가 끝나고 비동기 처리 완료를 기다리는 요청 */
+  public static final class Detached {
+    private final ActiveTrace trace;
+
+    private Detached(ActiveTrace trace) {
+      this.trace = trace;
+    }
+  }
+
+  /** 진행 중인 요청 (요청 스레드 전용) */
+  private static final class ActiveTrace {
+    private final Span root;
+    private final Instant startedAt;
+    private final ArrayDeque<Span> stack = new ArrayDeque<>();
+    private int spanCount;
+    private int dropped;
+
+    private ActiveTrace(Span root, Instant startedAt) {
+      this.root = root;
+      this.startedAt = startedAt;
+      this.stack.push(root);
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.woo.core.mapper;
+
+import java.util.List;
+import org.mapstruct.MappingTarget;
+
+/**
+ * 공통 Entity ↔ DTO 매퍼 인터페이스 - 도메인별 MapStruct 매퍼에서 확장
+ *
+ * <p>구현체는 컴파일 시 MapStruct 가 getter/setter 호출 코드로 생성한다. (런타임 리플렉션 없음)
+ * 매핑 규칙은 {@link BaseMapperConfig} 를 따른다.
+ *
+ * @param <E> Entity 타입
+ * @param <D> DTO 타입
+ */
+public interface BaseMapper<E, D> {
+
+  D toDto(E entity);
+
+  E toEntity(D dto);
+
+  List<D> toDtoList(List<E> entities);
+
+  /**
+   * DTO 값으로 기존 엔티티 수정 (DTO 의 null 필드는 무시)
+   */
+  void updateEntity(D dto, @MappingTarget E entity);
+}
@@ -0,0 +1,29 @@
+package com.woo.core.mapper;
+
+import org.mapstruct.Builder;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.NullValueCheckStrategy;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * 공통 MapStruct 매핑 규칙 (기존 ModelMapper 설정과 동일한 동작)
+ *
+ * <ul>
+ *   <li>이름이 같은 속성만 매핑, 상대편에 없는 속성은 무시 (ModelMapper STRICT)</li>
+ *   <li>null 값은 복사하지 않음 → 엔티티 기본값(isDeleted = false 등) 유지 (ModelMapper skipNull)</li>
+ *   <li>빌더 대신 기본 생성자 + setter 사용 ({@code @Builder.Default} 값 유지)</li>
+ *   <li>Spring Bean 으로 등록</li>
+ * </ul>
+ */
+@MapperConfig(
+    componentModel = MappingConstants.ComponentModel.SPRING,
+    builder = @Builder(disableBuilder = true),
+    unmappedTargetPolicy = ReportingPolicy.IGNORE,
+    unmappedSourcePolicy = ReportingPolicy.IGNORE,
+    nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS,
+    nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE
+)
+public interface BaseMapperConfig {
+}
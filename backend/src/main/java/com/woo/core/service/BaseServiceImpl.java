@@ -1,5 +1,6 @@
 package com.woo.core.service;
 
+import com.woo.core.domain.BaseEntity;
 import com.woo.core.repository.BaseRepository;
 import com.woo.core.util.search.SearchCondition;
 import java.util.List;
@@ -60,16 +61,17 @@ public abstract class BaseServiceImpl<T> implements BaseService<T> {
   }
 
 
+  /**
+   * 단건 Soft Delete (isDeleted = true 로 저장)
+   *
+   * <p>여러 건은 도메인 Repository 의 {@code UPDATE ... WHERE id = ANY(?)} 일괄 메서드를 사용한다.
+   */
   @Override
   public void softDelete(T entity) {
-    try {
-      java.lang.reflect.Field isDeleteField = entity.getClass().getDeclaredField("isDelete");
-      isDeleteField.setAccessible(true);
-      isDeleteField.set(entity, true);
-      repository.save(entity);
-    } catch (NoSuchFieldException | IllegalAccessException e) {
-      throw new RuntimeException("Entity does not have isDelete field or cannot access it", e);
+    if (!(entity instanceof BaseEntity baseEntity)) {
+      throw new IllegalArgumentException("Soft Delete 대상 엔티티가 없거나 BaseEntity 가 아닙니다.");
     }
+    baseEntity.setIsDeleted(true);
+    repository.save(entity);
   }
 }
-
@@ -0,0 +1,135 @@
+package com.woo.core.util.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woo.core.response.BaseResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 대용량 내보내기 응답 생성 (NDJSON / CSV 스트리밍)
+ *
+ * <p>Service 가 Repository {@code Stream<T>} 에서 읽은 행을 하나씩 넘기면 바로 응답에 기록한다.
+ * 전체 목록을 메모리에 올리지 않으므로 건수와 관계없이 메모리 사용량이 일정하고,
+ * 조회가 끝나기 전에 첫 행이 전송된다.
+ *
+ * <ul>
+ *   <li>ndjson (기본) - 한 줄에 JSON 객체 하나 ({@code application/x-ndjson})</li>
+ *   <li>csv - 첫 줄 헤더, 값에 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감쌈</li>
+ * </ul>
+ *
+ * <p>CSV 는 스프레드시트에서 열리므로 {@code = + - @} (및 탭/CR)로 시작하는 문자열 값은 앞에 {@code '} 를 붙여
+ * 수식으로 실행되지 않게 한다. (숫자 값은 그대로)
+ * 그 외 형식은 행을 조회하지 않고 400 ({@code EXPORT_FORMAT_INVALID}) 으로 응답한다.
+ */
+public final class StreamingExport {
+
+  public static final MediaType NDJSON = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+  public static final MediaType CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+  private static final String FORMAT_NDJSON = "ndjson";
+  private static final String FORMAT_CSV = "csv";
+
+  // 첫 행은 즉시, 이후에는 이 행 수마다 flush (버퍼가 차면 그 전에도 전송됨)
+  private static final int FLUSH_EVERY_ROWS = 500;
+
+  private StreamingExport() {
+  }
+
+  /**
+   * 내보내기 응답 생성
+   *
+   * @param filename 확장자 제외 파일명
+   * @param format ndjson 또는 csv (대소문자 무시)
+   * @param objectMapper NDJSON 직렬화용
+   * @param csvColumns CSV 헤더
+   * @param csvRow 행 → CSV 값 (csvColumns 순서)
+   * @param producer 행을 하나씩 전달하는 조회 (Service 의 export 메서드)
+   * @return 스트리밍 응답 (지원하지 않는 형식이면 행을 조회하지 않고 BaseResponse 오류 본문으로 400)
+   */
+  public static <T> ResponseEntity<StreamingResponseBody> response(
+      String filename,
+      String format,
+      ObjectMapper objectMapper,
+      String[] csvColumns,
+      Function<T, Object[]> csvRow,
+      Consumer<Consumer<T>> producer) {
+    boolean csv = FORMAT_CSV.equalsIgnoreCase(format);
+    if (!csv && !FORMAT_NDJSON.equalsIgnoreCase(format)) {
+      // 반환 타입이 StreamingResponseBody 라야 스트리밍 핸들러가 처리하므로 오류 본문도 같은 방식으로 기록
+      BaseResponse<Void> error = BaseResponse.error("EXPORT_FORMAT_INVALID",
+          String.format("지원하지 않는 내보내기 형식입니다: %s (%s, %s)", format, FORMAT_NDJSON, FORMAT_CSV));
+      return ResponseEntity.badRequest()
+          .contentType(MediaType.APPLICATION_JSON)
+          .body(outputStream -> objectMapper.writeValue(outputStream, error));
+    }
+
+    StreamingResponseBody body = outputStream -> {
+      Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+      if (csv) {
+        writeCsvLine(writer, csvColumns);
+      }
+      long[] rows = {0};
+      producer.accept(row -> {
+        try {
+          if (csv) {
+            writeCsvLine(writer, csvRow.apply(row));
+          } else {
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+          }
+          if (rows[0]++ % FLUSH_EVERY_ROWS == 0) {
+            writer.flush();
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      writer.flush();
+    };
+
+    return ResponseEntity.ok()
+        .contentType(csv ? CSV : NDJSON)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"" + filename + (csv ? ".csv" : ".ndjson") + "\"")
+        .body(body);
+  }
+
+  private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writer.write(escapeCsv(values[i]));
+    }
+    writer.write('\n');
+  }
+
+  private static String escapeCsv(Object value) {
+    if (value == null) {
+      return "";
+    }
+    String text = value.toString();
+    if (!(value instanceof Number) && !text.isEmpty() && isFormulaStart(text.charAt(0))) {
+      text = "'" + text;
+    }
+    if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+      return text;
+    }
+    return '"' + text.replace("\"", "\"\"") + '"';
+  }
+
+  // 스프레드시트가 수식으로 해석하는 첫 글자 (CSV injection)
+  private static boolean isFormulaStart(char c) {
+    return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+  }
+}
@@ -0,0 +1,371 @@
+package com.woo.core.util.log;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 로그 파일 tail (끝에서부터 블록 단위 역방향 탐색)
+ *
+ * <p>파일 전체를 읽지 않고 끝에서 8KB 블록씩 거슬러 올라가며 줄바꿈을 세므로,
+ * 로그 크기와 관계없이 요청한 줄 수만큼만 읽는다.
+ * 응답의 offset / fileKey 를 다음 요청에 넘기면 그 이후 추가된 줄만 읽는다. (폴링용)
+ *
+ * <p>롤링 정책이 로그를 {@code app.log.yyyy-MM-dd.i[.gz]} 로 옮기면 fileKey 가 바뀌므로,
+ * 가장 최근 롤링 파일에서 offset 이후 남은 부분을 먼저 읽고 새 파일을 처음부터 이어 읽는다.
+ * 남은 부분이 MAX_CHUNK_BYTES 를 넘으면 롤링 파일의 위치 / fileKey 를 반환해 다음 요청에서 이어 읽는다.
+ */
+public final class LogTailReader {
+
+  private static final int BLOCK_SIZE = 8192;
+
+  /** 한 번에 반환하는 최대 바이트 (오래 폴링하지 않았거나 줄이 매우 긴 경우 보호) */
+  public static final int MAX_CHUNK_BYTES = 1024 * 1024;
+
+  private LogTailReader() {
+  }
+
+  @Getter
+  @Builder
+  public static class Chunk {
+    private final String content;
+    private final int lineCount;
+    /** 다음 요청에 넘길 위치 (현재 로그 파일의 마지막 완성된 줄 다음 바이트, 롤링 파일을 다 읽지 못했으면 롤링 파일 기준) */
+    private final long offset;
+    /** 현재 로그 파일 식별자 (롤링되면 바뀜, 롤링 파일을 다 읽지 못했으면 롤링 파일 식별자) */
+    private final String fileKey;
+    /** 이전 요청 이후 로그 파일이 롤링됨 */
+    private final boolean rotated;
+    /** MAX_CHUNK_BYTES 제한으로 아직 읽지 않은 줄이 남음 */
+    private final boolean hasMore;
+  }
+
+  /**
+   * 최근 N줄 조회
+   *
+   * <p>현재 파일의 줄 수가 부족하면 (롤링 직후) 가장 최근 롤링 파일의 끝부분을 앞에 붙인다.
+   */
+  public static Chunk tail(Path logFile, int lines) throws IOException {
+    if (!Files.exists(logFile)) {
+      return empty();
+    }
+    String fileKey = fileKey(logFile);
+    try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+      long end = lastLineEnd(channel, channel.size());
+      long start = tailStart(channel, end, lines, MAX_CHUNK_BYTES);
+      byte[] current = read(channel, start, end);
+      int found = countLines(current);
+
+      byte[] previous = new byte[0];
+      if (found < lines && start == 0) {
+        Path rotated = latestRotated(logFile);
+        if (rotated != null) {
+          previous = tailOfRotated(rotated, lines - found, MAX_CHUNK_BYTES - current.length);
+        }
+      }
+      String content = new String(previous, StandardCharsets.UTF_8) + new String(current, StandardCharsets.UTF_8);
+      return Chunk.builder()
+          .content(content)
+          .lineCount(countLines(previous) + found)
+          .offset(end)
+          .fileKey(fileKey)
+          .build();
+    }
+  }
+
+  /**
+   * offset 이후 추가된 줄 조회
+   *
+   * @param offset 이전 응답의 offset
+   * @param fileKey 이전 응답의 fileKey (다르면 롤링된 것으로 보고 이전 파일의 나머지부터 읽음)
+   */
+  public static Chunk readFrom(Path logFile, long offset, String fileKey) throws IOException {
+    if (!Files.exists(logFile)) {
+      return empty();
+    }
+    String currentKey = fileKey(logFile);
+    try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (currentKey.equals(fileKey) && offset >= 0 && offset <= size) {
+        long end = forwardEnd(channel, offset, size);
+        byte[] appended = read(channel, offset, end);
+        return Chunk.builder()
+            .content(new String(appended, StandardCharsets.UTF_8))
+            .lineCount(countLines(appended))
+            .offset(end)
+            .fileKey(currentKey)
+            .hasMore(end < size)
+            .build();
+      }
+
+      // 롤링됨: 이전 파일(가장 최근 롤링 파일)의 offset 이후 + 새 파일 처음부터
+      byte[] previous = new byte[0];
+      Path rotated = latestRotated(logFile);
+      if (rotated != null && offset > 0) {
+        Rest rest = restOfRotated(rotated, offset);
+        previous = rest.bytes();
+        if (!rest.drained()) {
+          // 이전 파일이 남음: 새 파일로 넘어가지 않고 이전 파일 기준 위치를 반환
+          return Chunk.builder()
+              .content(new String(previous, StandardCharsets.UTF_8))
+              .lineCount(countLines(previous))
+              .offset(offset + previous.length)
+              .fileKey(fileKey(rotated))
+              .rotated(true)
+              .hasMore(true)
+              .build();
+        }
+      }
+      long end = forwardEnd(channel, 0, Math.min(size, MAX_CHUNK_BYTES - previous.length));
+      byte[] current = read(channel, 0, end);
+      return Chunk.builder()
+          .content(new String(previous, StandardCharsets.UTF_8) + new String(current, StandardCharsets.UTF_8))
+          .lineCount(countLines(previous) + countLines(current))
+          .offset(end)
+          .fileKey(currentKey)
+          .rotated(true)
+          .hasMore(end < size)
+          .build();
+    }
+  }
+
+  private static Chunk empty() {
+    return Chunk.builder().content("").offset(0).build();
+  }
+
+  /**
+   * 파일 식별자 (Linux/macOS: dev + inode, 그 외: 생성 시각)
+   *
+   * <p>롤링은 파일 이름을 바꾸므로 같은 경로라도 식별자가 달라진다.
+   */
+  static String fileKey(Path file) throws IOException {
+    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    Object key = attributes.fileKey();
+    return key != null ? key.toString() : String.valueOf(attributes.creationTime().toMillis());
+  }
+
+  // ========== 역방향 탐색 ==========
+
+  /**
+   * end 이전 마지막 줄바꿈 다음 위치 (기록 중인 마지막 줄은 제외)
+   *
+   * <p>파일에 완성된 줄이 없으면 0, MAX_CHUNK_BYTES 안에 줄바꿈이 없으면 end 를 그대로 반환한다. (한 줄이 매우 긴 경우)
+   */
+  private static long lastLineEnd(FileChannel channel, long end) throws IOException {
+    long limit = Math.max(0, end - MAX_CHUNK_BYTES);
+    ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+    long position = end;
+    while (position > limit) {
+      int length = (int) Math.min(BLOCK_SIZE, position - limit);
+      position -= length;
+      readBlock(channel, buffer, position, length);
+      for (int i = length - 1; i >= 0; i--) {
+        if (buffer.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+    }
+    return limit == 0 ? 0 : end;
+  }
+
+  /**
+   * [start, end) 에 최대 lines 줄이 들어가도록 하는 start (end 는 줄의 끝, 최대 maxBytes 까지만 거슬러 올라감)
+   */
+  private static long tailStart(FileChannel channel, long end, int lines, int maxBytes) throws IOException {
+    long limit = Math.max(0, end - maxBytes);
+    ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+    int newlines = 0;
+    long position = end;
+    while (position > limit) {
+      int length = (int) Math.min(BLOCK_SIZE, position - limit);
+      position -= length;
+      readBlock(channel, buffer, position, length);
+      for (int i = length - 1; i >= 0; i--) {
+        long absolute = position + i;
+        // 마지막 줄의 끝 줄바꿈은 세지 않음
+        if (absolute != end - 1 && buffer.get(i) == '\n' && ++newlines == lines) {
+          return absolute + 1;
+        }
+      }
+    }
+    return limit == 0 ? 0 : lineStartAfter(channel, limit, end);
+  }
+
+  /** limit 이후 첫 줄의 시작 (잘린 줄 제외) */
+  private static long lineStartAfter(FileChannel channel, long limit, long end) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+    for (long position = limit; position < end; position += BLOCK_SIZE) {
+      int length = (int) Math.min(BLOCK_SIZE, end - position);
+      readBlock(channel, buffer, position, length);
+      for (int i = 0; i < length; i++) {
+        if (buffer.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+    }
+    return limit;
+  }
+
+  /** offset 부터 읽을 끝 위치 (MAX_CHUNK_BYTES 이내의 마지막 완성된 줄까지) */
+  private static long forwardEnd(FileChannel channel, long offset, long size) throws IOException {
+    long end = Math.min(size, offset + MAX_CHUNK_BYTES);
+    long lineEnd = lastLineEnd(channel, end);
+    return lineEnd > offset ? lineEnd : (end - offset == MAX_CHUNK_BYTES ? end : offset);
+  }
+
+  private static void readBlock(FileChannel channel, ByteBuffer buffer, long position, int length) throws IOException {
+    buffer.clear().limit(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        break;
+      }
+    }
+  }
+
+  private static byte[] read(FileChannel channel, long start, long end) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+    readBlock(channel, buffer, start, buffer.capacity());
+    return buffer.array();
+  }
+
+  // ========== 롤링 파일 ==========
+
+  /** 가장 최근에 롤링된 파일 (app.log.* 중 수정 시각이 가장 늦은 것) */
+  static Path latestRotated(Path logFile) throws IOException {
+    Path directory = logFile.toAbsolutePath().getParent();
+    String prefix = logFile.getFileName() + ".";
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .filter(file -> file.getFileName().toString().startsWith(prefix))
+          .filter(Files::isRegularFile)
+          .max(Comparator.comparing(LogTailReader::lastModified))
+          .orElse(null);
+    }
+  }
+
+  private static FileTime lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file);
+    } catch (IOException e) {
+      return FileTime.fromMillis(0);
+    }
+  }
+
+  private static boolean isCompressed(Path file) {
+    return file.getFileName().toString().endsWith(".gz");
+  }
+
+  /** 롤링 파일의 마지막 lines 줄 (압축 파일은 순차로 풀면서 마지막 줄만 유지) */
+  private static byte[] tailOfRotated(Path rotated, int lines, int maxBytes) throws IOException {
+    if (maxBytes <= 0) {
+      return new byte[0];
+    }
+    if (!isCompressed(rotated)) {
+      try (FileChannel channel = FileChannel.open(rotated, StandardOpenOption.READ)) {
+        long end = channel.size();
+        return read(channel, tailStart(channel, end, lines, maxBytes), end);
+      }
+    }
+    Deque<byte[]> lastLines = new ArrayDeque<>(lines);
+    try (InputStream in = new BufferedInputStream(new GZIPInputStream(Files.newInputStream(rotated)))) {
+      ByteArrayOutputStream line = new ByteArrayOutputStream();
+      int b;
+      while ((b = in.read()) != -1) {
+        line.write(b);
+        if (b == '\n') {
+          if (lastLines.size() == lines) {
+            lastLines.removeFirst();
+          }
+          lastLines.addLast(line.toByteArray());
+          line.reset();
+        }
+      }
+    }
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    List<byte[]> kept = List.copyOf(lastLines);
+    int total = 0;
+    int from = kept.size();
+    while (from > 0 && total + kept.get(from - 1).length <= maxBytes) {
+      total += kept.get(--from).length;
+    }
+    for (int i = from; i < kept.size(); i++) {
+      result.write(kept.get(i));
+    }
+    return result.toByteArray();
+  }
+
+  /** 롤링 파일에서 읽은 부분 (drained: 파일 끝까지 읽음) */
+  private record Rest(byte[] bytes, boolean drained) {
+  }
+
+  /**
+   * 롤링 파일의 offset 이후 최대 MAX_CHUNK_BYTES (롤링 전 파일과 내용이 같으므로 이전 offset 을 그대로 사용)
+   *
+   * <p>끝까지 읽지 못하면 마지막 완성된 줄까지만 반환한다. (한 줄이 MAX_CHUNK_BYTES 를 넘으면 그대로)
+   */
+  private static Rest restOfRotated(Path rotated, long offset) throws IOException {
+    byte[] bytes;
+    boolean drained;
+    if (!isCompressed(rotated)) {
+      try (FileChannel channel = FileChannel.open(rotated, StandardOpenOption.READ)) {
+        long size = channel.size();
+        if (offset >= size) {
+          return new Rest(new byte[0], true);
+        }
+        long end = Math.min(size, offset + MAX_CHUNK_BYTES);
+        bytes = read(channel, offset, end);
+        drained = end == size;
+      }
+    } else {
+      try (InputStream in = new GZIPInputStream(Files.newInputStream(rotated))) {
+        in.skipNBytes(offset);
+        bytes = in.readNBytes(MAX_CHUNK_BYTES);
+        drained = in.read() == -1;
+      } catch (EOFException e) {
+        return new Rest(new byte[0], true);
+      }
+    }
+    if (!drained) {
+      int lineEnd = bytes.length;
+      while (lineEnd > 0 && bytes[lineEnd - 1] != '\n') {
+        lineEnd--;
+      }
+      if (lineEnd > 0) {
+        bytes = Arrays.copyOf(bytes, lineEnd);
+      }
+    }
+    return new Rest(bytes, drained);
+  }
+
+  private static int countLines(byte[] bytes) {
+    int count = 0;
+    for (byte b : bytes) {
+      if (b == '\n') {
+        count++;
+      }
+    }
+    if (bytes.length > 0 && bytes[bytes.length - 1] != '\n') {
+      count++;
+    }
+    return count;
+  }
+}
@@ -0,0 +1,131 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woo.core.logging.loggingInterceptor;
+import com.woo.core.logging.stream.LogEvent;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 구조화 접근 로그 (ACCESS_LOG) 검증
+ *
+ * <p>성공 요청 샘플링 비율이 0 이어도 4xx 요청은 항상 기록되고,
+ * 각 줄은 method/uri/status/durationMs/controller/spaceId 필드를 가진 JSON 이어야 한다.
+ * 공간 ID 는 쿼리 파라미터뿐 아니라 멀티파트 폼 필드와 경로 변수에서도 MDC 에 기록된다.
+ */
+@SpringBootTest(properties = "access-log.success-sample-rate=0")
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class AccessLogTests {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private final Logger accessLogger = (Logger) LoggerFactory.getLogger("ACCESS_LOG");
+  private final ListAppender<ILoggingEvent> captured = new ListAppender<>();
+
+  @BeforeEach
+  void capture() {
+    captured.start();
+    accessLogger.addAppender(captured);
+  }
+
+  @AfterEach
+  void release() {
+    accessLogger.detachAppender(captured);
+  }
+
+  @Test
+  void logsFailuresEvenWhenSuccessesAreSampledOut() throws Exception {
+    mockMvc.perform(get("/api/uploaded-files/count?spaceId=7"))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/api/uploaded-files/search-by-name?spaceId=7&q= "))
+        .andExpect(status().isBadRequest());
+
+    List<JsonNode> lines = lines();
+    assertThat(lines).hasSize(1);
+    JsonNode line = lines.get(0);
+    assertThat(line.get("method").asText()).isEqualTo("GET");
+    assertThat(line.get("uri").asText()).isEqualTo("/api/uploaded-files/search-by-name");
+    assertThat(line.get("status").asInt()).isEqualTo(400);
+    assertThat(line.get("durationMs").asDouble()).isGreaterThanOrEqualTo(0);
+    assertThat(line.get("controller").asText()).isEqualTo("UploadedFileController#searchFiles");
+    assertThat(line.get("spaceId").asText()).isEqualTo("7");
+    assertThat(line.get("sampleRate").asDouble()).isEqualTo(1.0);
+    assertThat(line.has("ts")).isTrue();
+  }
+
+  @Test
+  void tagsSpaceIdFromMultipartFormFieldAndPathVariable() throws Exception {
+    // 프론트엔드 업로드처럼 spaceId 를 쿼리가 아닌 멀티파트 폼 필드로 전송 (빈 파일이라 400)
+    mockMvc.perform(multipart("/api/uploaded-files/upload")
+            .file(new MockMultipartFile("file", "empty.txt", "text/plain", new byte[0]))
+            .param("spaceId", "11"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get("/api/audit-logs/space/{spaceId}?limit=0", 12))
+        .andExpect(status().isBadRequest());
+
+    List<JsonNode> lines = lines();
+    assertThat(lines).hasSize(2);
+    assertThat(lines.get(0).get("uri").asText()).isEqualTo("/api/uploaded-files/upload");
+    assertThat(lines.get(0).get("spaceId").asText()).isEqualTo("11");
+    assertThat(lines.get(1).get("uri").asText()).isEqualTo("/api/audit-logs/space/12");
+    assertThat(lines.get(1).get("spaceId").asText()).isEqualTo("12");
+    // 요청 중 남긴 로그 이벤트에도 공간 ID 가 붙어 로그 스트림 공간 필터에 걸림
+    assertThat(captured.list).extracting(event -> event.getMDCPropertyMap().get(LogEvent.MDC_SPACE_ID))
+        .containsExactly("11", "12");
+  }
+
+  @Test
+  void logsEverySuccessAtFullSampleRateAndEscapesValues() throws Exception {
+    loggingInterceptor interceptor = new loggingInterceptor();
+    ReflectionTestUtils.setField(interceptor, "successSampleRate", 1.0);
+    ReflectionTestUtils.setField(interceptor, "slowThresholdMs", 1000L);
+
+    for (int i = 0; i < 20; i++) {
+      MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/\"quoted\"\\" + i);
+      MockHttpServletResponse response = new MockHttpServletResponse();
+      interceptor.preHandle(request, response, null);
+      interceptor.afterCompletion(request, response, null, null);
+    }
+
+    List<JsonNode> lines = lines();
+    assertThat(lines).hasSize(20);
+    assertThat(lines.get(3).get("uri").asText()).isEqualTo("/api/files/\"quoted\"\\3");
+    assertThat(lines.get(3).get("status").asInt()).isEqualTo(200);
+    assertThat(lines.get(3).has("controller")).isFalse();
+  }
+
+  private List<JsonNode> lines() throws Exception {
+    List<JsonNode> lines = new ArrayList<>();
+    for (ILoggingEvent event : captured.list) {
+      lines.add(objectMapper.readTree(event.getFormattedMessage()));
+    }
+    return lines;
+  }
+}
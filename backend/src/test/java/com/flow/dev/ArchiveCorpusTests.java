@@ -0,0 +1,175 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.flow.api.controller.GeneratedTestFileController;
+import com.flow.util.fileDefence.UploadRejectedException;
+import com.flow.util.fileDefence.UploadRejectedException.Reason;
+import com.flow.util.fileDefence.ZipValidator;
+import com.flow.util.fileDefence.corpus.ArchiveCorpus;
+import com.flow.util.fileDefence.corpus.ArchiveCorpus.Summary;
+import com.flow.util.fileDefence.corpus.CorpusCase;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.apache.tika.Tika;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * 적대적 압축 파일 코퍼스 생성 / ZipValidator 차단 검증
+ *
+ * <p>생성 결과는 시드별로 항상 같아야 하고, 폭탄 케이스는 헤더 값과 관계없이
+ * 시간 예산 안에 차단(ZIP_BOMB)되거나 풀지 않고 끝나야 한다.
+ * HTTP 다운로드는 생성 크기 상한(generatedBytes)을 넘는 파라미터를 거부해야 한다.
+ */
+class ArchiveCorpusTests {
+
+  /** 1 vCPU CI 기준 여유를 둔 폭탄 케이스 처리 시간 예산 */
+  private static final Duration BOMB_BUDGET = Duration.ofSeconds(3);
+
+  private static final String PASS = "pass";
+
+  /**
+   * 케이스별 기대 결과 (차단 사유 태그)
+   *
+   * <p>ZipValidator 는 중첩 압축 파일을 풀지 않고 깊이만 확인하므로 recursive-fanout 은 첫 단계만 풀고 통과한다.
+   */
+  private static final Map<String, String> EXPECTED = Map.of(
+      "many-entries", PASS,
+      "too-many-entries", Reason.COUNT.tag(),
+      "streamed-entries", PASS,
+      "nested", PASS,
+      "mixed-formats", PASS,
+      "recursive-fanout", PASS,
+      "overlap-bomb", Reason.ZIP_BOMB.tag(),
+      "falsified-size", Reason.ZIP_BOMB.tag(),
+      "encrypted", Reason.ARCHIVE_UNREADABLE.tag());
+
+  @TempDir
+  Path directory;
+
+  private final ZipValidator zipValidator =
+      new ZipValidator(Set.of("bat", "cmd", "com", "cpl", "exe", "js", "scr"), new Tika());
+
+  @Test
+  void generationIsDeterministic() throws Exception {
+    for (CorpusCase corpusCase : ArchiveCorpus.defaultCases()) {
+      assertThat(ArchiveCorpus.generate(corpusCase))
+          .as(corpusCase.name())
+          .isEqualTo(ArchiveCorpus.generate(corpusCase));
+    }
+    CorpusCase manyEntries = ArchiveCorpus.find("many-entries").orElseThrow();
+    assertThat(ArchiveCorpus.generate(manyEntries.with(null, null, null, 42L)))
+        .isNotEqualTo(ArchiveCorpus.generate(manyEntries));
+  }
+
+  @Test
+  void validatorOutcomePerCase() throws Exception {
+    assertThat(EXPECTED.keySet()).containsExactlyInAnyOrderElementsOf(
+        ArchiveCorpus.defaultCases().stream().map(CorpusCase::name).toList());
+    for (CorpusCase corpusCase : ArchiveCorpus.defaultCases()) {
+      MockMultipartFile upload = new MockMultipartFile("file", corpusCase.fileName(),
+          "application/octet-stream", ArchiveCorpus.generate(corpusCase));
+      String expected = EXPECTED.get(corpusCase.name());
+      Runnable validate = () -> zipValidator.validateZipFile(upload, 0);
+      if (expected.equals(PASS)) {
+        assertThatCode(validate::run).as(corpusCase.name()).doesNotThrowAnyException();
+        continue;
+      }
+      UploadRejectedException rejected = corpusCase.isBomb()
+          ? assertTimeoutPreemptively(BOMB_BUDGET,
+              () -> catchThrowableOfType(UploadRejectedException.class, validate::run), corpusCase.name())
+          : catchThrowableOfType(UploadRejectedException.class, validate::run);
+      assertThat(rejected).as(corpusCase.name()).isNotNull();
+      assertThat(rejected.getReason().tag()).as(corpusCase.name()).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void httpDownloadIsCappedByGeneratedBytes() throws Exception {
+    long maxBytes = 16L * 1024 * 1024;
+    for (CorpusCase corpusCase : ArchiveCorpus.defaultCases()) {
+      assertThat(corpusCase.generatedBytes()).as(corpusCase.name()).isLessThanOrEqualTo(maxBytes)
+          .isGreaterThanOrEqualTo(ArchiveCorpus.generate(corpusCase).length);
+    }
+
+    MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new GeneratedTestFileController(maxBytes)).build();
+    mockMvc.perform(get("/api/test-files/generated/many-entries")).andExpect(status().isOk());
+    mockMvc.perform(get("/api/test-files/generated/many-entries?entryBytes=1073741824"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get("/api/test-files/generated/nested?entries=1000&depth=16&entryBytes=65536"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get("/api/test-files/generated/recursive-fanout?depth=8"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get("/api/test-files/generated/unknown")).andExpect(status().isNotFound());
+  }
+
+  @Test
+  void bombsStayWithinTimeBudgetWhenScaledUp() {
+    // 헤더에는 1KB, 실제로는 엔트리당 256MB (총 4GB) - 선언 크기만 보면 통과하는 입력
+    CorpusCase falsified = ArchiveCorpus.find("falsified-size").orElseThrow()
+        .with(16, null, 256L * 1024 * 1024, null);
+    UploadRejectedException rejected = assertTimeoutPreemptively(BOMB_BUDGET.multipliedBy(2), () -> {
+      MockMultipartFile upload = new MockMultipartFile("file", falsified.fileName(), "application/zip",
+          ArchiveCorpus.generate(falsified));
+      return catchThrowableOfType(UploadRejectedException.class, () -> zipValidator.validateZipFile(upload, 0));
+    });
+    assertThat(rejected.getReason()).isEqualTo(Reason.ZIP_BOMB);
+  }
+
+  @Test
+  void overlapBombSharesKernelThroughCentralDirectory() throws Exception {
+    CorpusCase overlap = ArchiveCorpus.find("overlap-bomb").orElseThrow().with(8, null, 1024L * 1024, null);
+    Path file = directory.resolve(overlap.fileName());
+    Summary summary;
+    try (var out = Files.newOutputStream(file)) {
+      summary = ArchiveCorpus.generate(overlap, out);
+    }
+    assertThat(Files.size(file)).isLessThan(16 * 1024);
+
+    // 중앙 디렉토리 기준: 엔트리마다 커널이 다시 풀리고 CRC 도 맞아야 함 (ZipFile 은 CRC 불일치 시 예외)
+    List<Long> sizes = new ArrayList<>();
+    try (ZipFile zip = new ZipFile(file.toFile())) {
+      for (ZipEntry entry : Collections.list(zip.entries())) {
+        try (InputStream in = zip.getInputStream(entry)) {
+          ByteArrayOutputStream content = new ByteArrayOutputStream();
+          in.transferTo(content);
+          assertThat((long) content.size()).isEqualTo(entry.getSize());
+          sizes.add(entry.getSize());
+        }
+      }
+    }
+    assertThat(sizes).hasSize(8).allMatch(size -> size >= 1024 * 1024);
+    assertThat(sizes.stream().mapToLong(Long::longValue).sum()).isEqualTo(summary.inflatedBytes());
+  }
+
+  @Test
+  void falsifiedSizeDeclaresSmallEntries() throws Exception {
+    CorpusCase falsified = ArchiveCorpus.find("falsified-size").orElseThrow().with(2, null, 4L * 1024 * 1024, null);
+    Path file = directory.resolve(falsified.fileName());
+    Files.write(file, ArchiveCorpus.generate(falsified));
+    try (ZipFile zip = new ZipFile(file.toFile())) {
+      assertThat(Collections.list(zip.entries()))
+          .extracting(ZipEntry::getSize)
+          .containsOnly(ArchiveCorpus.FALSIFIED_DECLARED_SIZE);
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.api.domain.BlockedExtension;
+import com.flow.api.domain.data.SpaceCreationResponse;
+import com.flow.api.service.BlockedExtensionService;
+import com.flow.api.service.SpaceService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 감사 로그 (/api/audit-logs) 검증
+ *
+ * <p>공간 생성, 확장자 추가, 업로드 성공/거부가 기록되어야 하고,
+ * recent 는 저장 전에도 메모리 링에서 바로 보이며, space / since 는 배치 저장 후 DB 에서 조회되어야 한다.
+ */
+@SpringBootTest(properties = {
+    "file.upload.directory=${java.io.tmpdir}/audit-log-tests",
+    "audit-log.max-delay-ms=20"
+})
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class AuditLogTests {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private SpaceService spaceService;
+
+  @Autowired
+  private BlockedExtensionService blockedExtensionService;
+
+  @Test
+  void recordsSpaceExtensionAndUploadEvents() throws Exception {
+    LocalDateTime start = LocalDateTime.now().minusSeconds(1);
+    SpaceCreationResponse space = TestSpaces.create(spaceService, "audit");
+    Long spaceId = space.getSpace().getSpaceId();
+    blockedExtensionService.create(BlockedExtension.builder()
+        .spaceId(spaceId)
+        .extension("php")
+        .isFixed(false)
+        .isDeleted(false)
+        .createdBy(space.getAdminMember().getMemberId())
+        .build());
+    upload(spaceId, "1-normal/document.txt", "document.txt");
+    upload(spaceId, "2-blocked-ext/hack.php", "hack.php");
+
+    // 메모리 링: 저장 완료를 기다리지 않고 최신순으로 조회
+    List<JsonNode> recent = forSpace(data("/api/audit-logs/recent?limit=500"), spaceId);
+    assertThat(recent).extracting(node -> node.get("action").asText())
+        .containsExactly("FILE_REJECTED", "FILE_UPLOADED", "EXTENSION_ADDED", "SPACE_CREATED");
+    assertThat(recent.get(0).get("reason").asText()).isEqualTo("blocked_extension");
+    assertThat(recent.get(0).get("target").asText()).isEqualTo("hack.php");
+    assertThat(recent.get(3).get("actorId").asLong()).isEqualTo(space.getAdminMember().getMemberId());
+
+    // DB: 배치 저장 후 공간별 / 시각 기준 조회
+    JsonNode bySpace = awaitSize("/api/audit-logs/space/" + spaceId + "?limit=10", 4);
+    assertThat(bySpace.get(0).get("action").asText()).isEqualTo("FILE_REJECTED");
+    assertThat(bySpace.get(0).get("auditId").isNumber()).isTrue();
+    assertThat(bySpace.get(2).get("target").asText()).isEqualTo("php");
+
+    List<JsonNode> since = forSpace(data("/api/audit-logs/since?since=" + start + "&limit=500"), spaceId);
+    assertThat(since).extracting(node -> node.get("action").asText())
+        .containsExactly("SPACE_CREATED", "EXTENSION_ADDED", "FILE_UPLOADED", "FILE_REJECTED");
+
+    assertThat(data("/api/audit-logs/space/" + spaceId + "?limit=2")).hasSize(2);
+  }
+
+  @Test
+  void rejectsUnboundedQueries() throws Exception {
+    mockMvc.perform(get("/api/audit-logs/recent?limit=0")).andExpect(status().isBadRequest());
+    mockMvc.perform(get("/api/audit-logs/recent?limit=501")).andExpect(status().isBadRequest());
+    mockMvc.perform(get("/api/audit-logs/space/1?limit=1000")).andExpect(status().isBadRequest());
+    mockMvc.perform(get("/api/audit-logs/since?limit=10")).andExpect(status().isBadRequest());
+  }
+
+  private void upload(Long spaceId, String resource, String filename) throws Exception {
+    byte[] content;
+    try (InputStream in = getClass().getResourceAsStream("/test-files/" + resource)) {
+      content = in.readAllBytes();
+    }
+    mockMvc.perform(multipart("/api/uploaded-files/upload?spaceId=" + spaceId)
+        .file(new MockMultipartFile("file", filename, "application/octet-stream", content)));
+  }
+
+  private JsonNode data(String uri) throws Exception {
+    String body = mockMvc.perform(get(uri))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    return objectMapper.readTree(body).get("data");
+  }
+
+  private JsonNode awaitSize(String uri, int size) throws Exception {
+    long deadline = System.currentTimeMillis() + 5_000;
+    JsonNode logs = data(uri);
+    while (logs.size() < size && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+      logs = data(uri);
+    }
+    assertThat(logs).hasSize(size);
+    return logs;
+  }
+
+  private static List<JsonNode> forSpace(JsonNode logs, Long spaceId) {
+    List<JsonNode> result = new ArrayList<>();
+    logs.forEach(node -> {
+      if (node.path("spaceId").asLong() == spaceId) {
+        result.add(node);
+      }
+    });
+    return result;
+  }
+}
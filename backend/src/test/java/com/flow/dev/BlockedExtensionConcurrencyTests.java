@@ -0,0 +1,181 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.flow.api.domain.BlockedExtension;
+import com.flow.api.domain.data.SpaceCreationResponse;
+import com.flow.api.service.BlockedExtensionService;
+import com.flow.api.service.SpaceService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 차단 확장자 동시 변경 검증
+ *
+ * <p>토글/등록이 단일 문장으로 처리되므로 동시 요청에서도 토글이 유실되지 않고,
+ * 같은 확장자 동시 등록은 유니크 제약 예외 없이 한 건만 성공해야 한다.
+ * 서로 다른 확장자를 동시에 등록(단건 / 일괄)해도 커스텀 확장자는 200개를 넘지 않아야 한다.
+ */
+@SpringBootTest
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class BlockedExtensionConcurrencyTests {
+
+  private static final int THREADS = 8;
+
+  @Autowired
+  private SpaceService spaceService;
+
+  @Autowired
+  private BlockedExtensionService blockedExtensionService;
+
+  @Test
+  void concurrentTogglesAreNotLost() throws Exception {
+    Long spaceId = createSpace().getSpace().getSpaceId();
+    int togglesPerThread = 25;
+
+    // 고정 확장자는 비활성화(isDeleted = true) 상태로 생성됨
+    runConcurrently(() -> {
+      for (int i = 0; i < togglesPerThread; i++) {
+        blockedExtensionService.toggleFixedExtension(spaceId, "exe");
+      }
+      return null;
+    });
+
+    // 총 200번(짝수) 반전 → 초기 상태 그대로
+    assertThat(fixedExtension(spaceId, "exe").getIsDeleted()).isTrue();
+
+    blockedExtensionService.toggleFixedExtension(spaceId, "exe");
+    assertThat(fixedExtension(spaceId, "exe").getIsDeleted()).isFalse();
+  }
+
+  @Test
+  void concurrentCreatesOfSameExtensionSucceedOnce() throws Exception {
+    SpaceCreationResponse space = createSpace();
+    Long spaceId = space.getSpace().getSpaceId();
+    Long memberId = space.getAdminMember().getMemberId();
+    AtomicInteger rejected = new AtomicInteger();
+
+    List<BlockedExtension> created = runConcurrently(() -> {
+      try {
+        return blockedExtensionService.create(BlockedExtension.builder()
+            .spaceId(spaceId)
+            .extension("php")
+            .isFixed(false)
+            .createdBy(memberId)
+            .updatedBy(memberId)
+            .build());
+      } catch (IllegalArgumentException e) {
+        rejected.incrementAndGet();
+        return null;
+      }
+    });
+
+    assertThat(created).filteredOn(extension -> extension != null).hasSize(1);
+    assertThat(rejected).hasValue(THREADS - 1);
+    assertThat(blockedExtensionService.countCustomExtensions(spaceId)).isEqualTo(1L);
+  }
+
+  @Test
+  void concurrentCreatesAndImportsStayWithinLimit() throws Exception {
+    SpaceCreationResponse space = createSpace();
+    Long spaceId = space.getSpace().getSpaceId();
+    Long memberId = space.getAdminMember().getMemberId();
+    List<String> initial = new ArrayList<>();
+    for (int i = 0; i < 190; i++) {
+      initial.add("ext" + i);
+    }
+    blockedExtensionService.importCustomExtensions(spaceId, memberId, initial);
+
+    // 스레드마다 서로 다른 확장자 단건 1개 + 일괄 4개 (합계 40개, 남은 자리 10개)
+    AtomicInteger thread = new AtomicInteger();
+    runConcurrently(() -> {
+      int index = thread.getAndIncrement();
+      try {
+        blockedExtensionService.create(BlockedExtension.builder()
+            .spaceId(spaceId)
+            .extension("single" + index)
+            .isFixed(false)
+            .createdBy(memberId)
+            .updatedBy(memberId)
+            .build());
+      } catch (IllegalArgumentException e) {
+        // 제한 초과
+      }
+      blockedExtensionService.importCustomExtensions(spaceId, memberId,
+          List.of("bulk" + index + "a", "bulk" + index + "b", "bulk" + index + "c", "bulk" + index + "d"));
+      return null;
+    });
+
+    assertThat(blockedExtensionService.countCustomExtensions(spaceId)).isEqualTo(200L);
+  }
+
+  @Test
+  void createIsRejectedAtCustomExtensionLimit() {
+    SpaceCreationResponse space = createSpace();
+    Long spaceId = space.getSpace().getSpaceId();
+    Long memberId = space.getAdminMember().getMemberId();
+
+    List<String> extensions = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      extensions.add("ext" + i);
+    }
+    blockedExtensionService.importCustomExtensions(spaceId, memberId, extensions);
+
+    assertThatThrownBy(() -> blockedExtensionService.create(BlockedExtension.builder()
+        .spaceId(spaceId)
+        .extension("php")
+        .isFixed(false)
+        .createdBy(memberId)
+        .updatedBy(memberId)
+        .build()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("최대 200개");
+    assertThat(blockedExtensionService.countCustomExtensions(spaceId)).isEqualTo(200L);
+  }
+
+  private <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<T>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return task.call();
+        }));
+      }
+      start.countDown();
+
+      List<T> results = new ArrayList<>();
+      for (Future<T> future : futures) {
+        results.add(future.get(60, TimeUnit.SECONDS));
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private BlockedExtension fixedExtension(Long spaceId, String extension) {
+    return blockedExtensionService.getFixedExtensions(spaceId).stream()
+        .filter(fixed -> fixed.getExtension().equals(extension))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private SpaceCreationResponse createSpace() {
+    return TestSpaces.create(spaceService, "concurrency");
+  }
+}
@@ -0,0 +1,69 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flow.api.domain.data.ExtensionImportResult;
+import com.flow.api.domain.data.ExtensionImportResult.Status;
+import com.flow.api.domain.data.SpaceCreationResponse;
+import com.flow.api.domain.BlockedExtension;
+import com.flow.api.repository.BlockedExtensionRepository;
+import com.flow.api.service.BlockedExtensionService;
+import com.flow.api.service.SpaceService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 커스텀 확장자 일괄 등록/내보내기 검증
+ *
+ * <p>단일 upsert 문장으로 신규 등록, 삭제 복구, 중복/고정/형식 오류를 항목별로 구분하는지 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class CustomExtensionImportTests {
+
+  @Autowired
+  private SpaceService spaceService;
+
+  @Autowired
+  private BlockedExtensionService blockedExtensionService;
+
+  @Autowired
+  private BlockedExtensionRepository blockedExtensionRepository;
+
+  @Test
+  void importClassifiesEachItemAndExportReturnsActiveExtensions() {
+    SpaceCreationResponse space = TestSpaces.create(spaceService, "import");
+    Long spaceId = space.getSpace().getSpaceId();
+    Long memberId = space.getAdminMember().getMemberId();
+
+    ExtensionImportResult first = blockedExtensionService.importCustomExtensions(
+        spaceId, memberId, List.of("php", ".SH", "php", "exe", "bad ext"));
+
+    assertThat(first.getItems()).extracting(ExtensionImportResult.Item::getStatus)
+        .containsExactly(Status.CREATED, Status.CREATED, Status.DUPLICATE, Status.FIXED_EXTENSION, Status.INVALID);
+
+    BlockedExtension sh = blockedExtensionService.getCustomExtensions(spaceId).stream()
+        .filter(extension -> extension.getExtension().equals("sh"))
+        .findFirst()
+        .orElseThrow();
+    // 삭제된(is_deleted = true) 커스텀 확장자 상태 만들기
+    sh.setIsDeleted(true);
+    blockedExtensionRepository.save(sh);
+
+    ExtensionImportResult second = blockedExtensionService.importCustomExtensions(
+        spaceId, memberId, List.of("sh", "php", "ps1"));
+
+    assertThat(second.getItems()).extracting(ExtensionImportResult.Item::getStatus)
+        .containsExactly(Status.REACTIVATED, Status.ALREADY_EXISTS, Status.CREATED);
+    assertThat(second.getCreatedCount()).isEqualTo(1);
+    assertThat(second.getReactivatedCount()).isEqualTo(1);
+
+    List<String> exported = new ArrayList<>();
+    blockedExtensionService.exportCustomExtensions(spaceId, extension -> exported.add(extension.getExtension()));
+    assertThat(exported).containsExactly("php", "ps1", "sh");
+  }
+}
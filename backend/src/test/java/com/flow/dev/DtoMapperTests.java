@@ -0,0 +1,75 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flow.api.domain.BlockedExtension;
+import com.flow.api.domain.Member;
+import com.flow.api.domain.data.BlockedExtensionDto;
+import com.flow.api.domain.data.MemberDto;
+import com.flow.api.mapper.BlockedExtensionMapper;
+import com.flow.api.mapper.BlockedExtensionMapperImpl;
+import com.flow.api.mapper.MemberMapper;
+import com.flow.api.mapper.MemberMapperImpl;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MapStruct 매퍼 검증
+ *
+ * <p>기존 ModelMapper(STRICT, skipNull) 와 같게 이름이 같은 속성만 복사하고,
+ * DTO 의 null 값은 엔티티 기본값/기존 값을 덮어쓰지 않아야 한다.
+ */
+class DtoMapperTests {
+
+  private final BlockedExtensionMapper blockedExtensionMapper = new BlockedExtensionMapperImpl();
+  private final MemberMapper memberMapper = new MemberMapperImpl();
+
+  @Test
+  void toDtoCopiesMatchingProperties() {
+    BlockedExtension entity = BlockedExtension.builder()
+        .blockedId(3L)
+        .spaceId(1L)
+        .extension("php")
+        .isFixed(false)
+        .isDeleted(false)
+        .build();
+
+    List<BlockedExtensionDto> dtos = blockedExtensionMapper.toDtoList(List.of(entity));
+
+    assertThat(dtos).singleElement().satisfies(dto -> {
+      assertThat(dto.getId()).isEqualTo(3L);
+      assertThat(dto.getExtension()).isEqualTo("php");
+      assertThat(dto.getIsFixed()).isFalse();
+      assertThat(dto.getIsBlocked()).isNull();
+    });
+  }
+
+  @Test
+  void toEntityKeepsDefaultsForNullFields() {
+    BlockedExtension entity = blockedExtensionMapper.toEntity(BlockedExtensionDto.builder()
+        .spaceId(1L)
+        .extension("sh")
+        .build());
+
+    assertThat(entity.getExtension()).isEqualTo("sh");
+    assertThat(entity.getIsDeleted()).isFalse();
+  }
+
+  @Test
+  void updateEntityIgnoresNullFields() {
+    Member member = Member.builder()
+        .memberId(7L)
+        .username("admin")
+        .password("secret")
+        .spaceId(1L)
+        .role(Member.MemberRole.ADMIN)
+        .build();
+
+    memberMapper.updateEntity(MemberDto.builder().username("renamed").build(), member);
+
+    assertThat(member.getUsername()).isEqualTo("renamed");
+    assertThat(member.getPassword()).isEqualTo("secret");
+    assertThat(member.getRole()).isEqualTo(Member.MemberRole.ADMIN);
+    assertThat(memberMapper.toDto(member).getSpaceName()).isNull();
+  }
+}
@@ -0,0 +1,154 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.flow.api.domain.UploadedFile;
+import com.flow.api.domain.data.UploadedFileDto;
+import com.flow.api.repository.UploadedFileRepository;
+import com.flow.api.service.UploadedFileService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 파일명 검색 (pg_trgm) 검증
+ *
+ * <p>init.sql 과 같은 trigram 인덱스를 만든 뒤, 부분/접두 일치와 관련도 정렬,
+ * 확장자/업로더 조건, LIKE 특수문자 이스케이프, 페이지 나눔을 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class FileNameSearchTests {
+
+  private static final Long SPACE_ID = 11L;
+
+  @Autowired
+  private UploadedFileService uploadedFileService;
+
+  @Autowired
+  private UploadedFileRepository uploadedFileRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void createTrigramIndex() {
+    jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+    jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_uploaded_file_name_trgm ON uploaded_file "
+        + "USING gin (lower(original_name) gin_trgm_ops) WHERE is_deleted = false");
+  }
+
+  @Test
+  void searchesByContainsAndPrefixWithRankingAndFilters() {
+    List<UploadedFile> files = new ArrayList<>();
+    for (String name : List.of("Report.txt", "Reporting_Tool.xlsx", "annual-REPORT.pdf",
+        "my report.txt", "summary.txt", "100%_done.txt", "100 done.txt")) {
+      files.add(metadata(SPACE_ID, name));
+    }
+    files.add(metadata(SPACE_ID + 1, "report.txt"));
+    uploadedFileRepository.saveAll(files);
+    UploadedFile deleted = uploadedFileRepository.save(metadata(SPACE_ID, "report-old.txt"));
+    uploadedFileService.softDeleteFiles(SPACE_ID, List.of(deleted.getFileId()));
+    // 업로더 조건 확인용 (Auditing 은 항상 1번 멤버로 기록)
+    jdbcTemplate.update("UPDATE uploaded_file SET created_by = 2 WHERE original_name = 'my report.txt'");
+
+    Page<UploadedFileDto> contains = uploadedFileService.searchFiles(SPACE_ID, "REPORT.TXT", false, null, null, 0, 20);
+    assertThat(contains.getContent()).extracting(UploadedFileDto::getOriginalName)
+        .containsExactly("Report.txt", "my report.txt");
+
+    Page<UploadedFileDto> ranked = uploadedFileService.searchFiles(SPACE_ID, "report", false, null, null, 0, 20);
+    assertThat(ranked.getTotalElements()).isEqualTo(4);
+    assertThat(ranked.getContent()).extracting(UploadedFileDto::getOriginalName)
+        .startsWith("Report.txt", "Reporting_Tool.xlsx")
+        .containsExactlyInAnyOrder("Report.txt", "Reporting_Tool.xlsx", "annual-REPORT.pdf", "my report.txt");
+
+    Page<UploadedFileDto> prefix = uploadedFileService.searchFiles(SPACE_ID, "report", true, null, null, 0, 20);
+    assertThat(prefix.getContent()).extracting(UploadedFileDto::getOriginalName)
+        .containsExactly("Report.txt", "Reporting_Tool.xlsx");
+
+    assertThat(uploadedFileService.searchFiles(SPACE_ID, "report", false, "TXT", null, 0, 20).getContent())
+        .extracting(UploadedFileDto::getOriginalName)
+        .containsExactly("Report.txt", "my report.txt");
+    assertThat(uploadedFileService.searchFiles(SPACE_ID, "report", false, null, 2L, 0, 20).getContent())
+        .extracting(UploadedFileDto::getOriginalName)
+        .containsExactly("my report.txt");
+
+    // %, _ 는 와일드카드가 아닌 문자로 비교
+    assertThat(uploadedFileService.searchFiles(SPACE_ID, "100%_", false, null, null, 0, 20).getContent())
+        .extracting(UploadedFileDto::getOriginalName)
+        .containsExactly("100%_done.txt");
+
+    Page<UploadedFileDto> secondPage = uploadedFileService.searchFiles(SPACE_ID, "report", false, null, null, 1, 3);
+    assertThat(secondPage.getTotalElements()).isEqualTo(4);
+    assertThat(secondPage.getTotalPages()).isEqualTo(2);
+    assertThat(secondPage.getContent()).hasSize(1);
+    assertThat(secondPage.getContent().get(0).getUploaderName()).isNotNull();
+  }
+
+  @Test
+  void shortQueryIsSearchedAsPrefix() {
+    Long spaceId = SPACE_ID + 2;
+    uploadedFileRepository.saveAll(List.of(metadata(spaceId, "AB-notes.txt"), metadata(spaceId, "lab.txt")));
+
+    // 3자 미만 부분 일치는 trigram 인덱스를 쓰지 못하므로 접두 일치로 검색
+    assertThat(uploadedFileService.searchFiles(spaceId, "ab", false, null, null, 0, 20).getContent())
+        .extracting(UploadedFileDto::getOriginalName)
+        .containsExactly("AB-notes.txt");
+    assertThat(uploadedFileService.searchFiles(spaceId, "lab", false, null, null, 0, 20).getContent())
+        .extracting(UploadedFileDto::getOriginalName)
+        .containsExactly("lab.txt");
+  }
+
+  @Test
+  void containsSearchUsesTrigramIndex() {
+    String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+      try (Statement statement = connection.createStatement()) {
+        // 행이 적으면 순차 스캔이 더 싸므로 인덱스 사용 가능 여부만 확인
+        statement.execute("SET enable_seqscan = off");
+        StringBuilder lines = new StringBuilder();
+        try (ResultSet rs = statement.executeQuery("EXPLAIN SELECT * FROM uploaded_file "
+            + "WHERE is_deleted = false AND lower(original_name) LIKE '%port%'")) {
+          while (rs.next()) {
+            lines.append(rs.getString(1)).append('\n');
+          }
+        } finally {
+          statement.execute("RESET enable_seqscan");
+        }
+        return lines.toString();
+      }
+    });
+    assertThat(plan).contains("idx_uploaded_file_name_trgm");
+  }
+
+  @Test
+  void rejectsBlankQueryAndOversizedPage() {
+    assertThatThrownBy(() -> uploadedFileService.searchFiles(SPACE_ID, " ", false, null, null, 0, 20))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> uploadedFileService.searchFiles(SPACE_ID, "report", false, null, null, 0, 101))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private UploadedFile metadata(Long spaceId, String originalName) {
+    String storedName = UUID.randomUUID() + ".txt";
+    return UploadedFile.builder()
+        .spaceId(spaceId)
+        .originalName(originalName)
+        .storedName(storedName)
+        .extension(originalName.substring(originalName.lastIndexOf('.') + 1).toLowerCase())
+        .fileSize(12L)
+        .mimeType("text/plain")
+        .filePath("/tmp/" + storedName)
+        .build();
+  }
+}
@@ -0,0 +1,97 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.flow.api.service.SpaceService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * 업로드 JFR 이벤트 / 녹화 덤프 (/api/diagnostics/jfr) 검증
+ *
+ * <p>압축 파일 업로드 한 번으로 단계, Tika 감지, 압축 엔트리, 저장 이벤트가 모두 남고
+ * 덤프한 녹화 파일에서 읽을 수 있어야 한다. (테스트 프로파일은 임계값 0)
+ * 환경 변수 / 시스템 프로퍼티 / JVM 인자 이벤트는 덤프에 남지 않아야 한다.
+ */
+@SpringBootTest(properties = {
+    "file.upload.directory=${java.io.tmpdir}/jfr-recording-tests",
+    "jfr.recording.settings=classpath:jfr/upload-all.jfc",
+    "jfr.dump.enabled=true"
+})
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class JfrRecordingTests {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private SpaceService spaceService;
+
+  @Test
+  void dumpContainsUploadPipelineEvents() throws Exception {
+    Long spaceId = TestSpaces.create(spaceService, "jfr").getSpace().getSpaceId();
+    byte[] content;
+    try (InputStream in = getClass().getResourceAsStream("/test-files/4-archive/normal.zip")) {
+      content = in.readAllBytes();
+    }
+    mockMvc.perform(multipart("/api/uploaded-files/upload?spaceId=" + spaceId)
+            .file(new MockMultipartFile("file", "normal.zip", "application/zip", content)))
+        .andExpect(status().isOk());
+
+    MvcResult started = mockMvc.perform(get("/api/diagnostics/jfr")).andReturn();
+    byte[] recording = mockMvc.perform(asyncDispatch(started))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsByteArray();
+    Path file = Files.createTempFile("jfr-recording-tests-", ".jfr");
+    List<RecordedEvent> events;
+    try {
+      Files.write(file, recording);
+      events = RecordingFile.readAllEvents(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+
+    List<RecordedEvent> stages = events(events, "com.flow.upload.Stage").stream()
+        .filter(event -> event.getLong("spaceId") == spaceId)
+        .toList();
+    assertThat(stages.stream().map(event -> event.getString("stage")).collect(Collectors.toSet()))
+        .contains("policy", "extension", "mime", "archive", "store", "persist");
+    assertThat(stages).allMatch(event -> "pass".equals(event.getString("outcome")));
+
+    assertThat(events(events, "com.flow.upload.ArchiveEntry"))
+        .filteredOn(event -> event.getString("entryName").equals("temp_normal/readme.txt"))
+        .first()
+        .satisfies(event -> assertThat(event.getLong("inflatedBytes")).isEqualTo(24));
+    assertThat(events(events, "com.flow.upload.MimeDetection").stream()
+        .map(event -> event.getString("source")).collect(Collectors.toSet()))
+        .contains("upload", "archive", "archive-entry");
+    assertThat(events(events, "com.flow.upload.StorageWrite"))
+        .anyMatch(event -> event.getLong("spaceId") == spaceId && event.getBoolean("success")
+            && event.getLong("bytes") == content.length);
+    assertThat(events).noneMatch(event -> List.of(
+            "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation")
+        .contains(event.getEventType().getName()));
+  }
+
+  private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+    return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+  }
+}
@@ -0,0 +1,81 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.woo.core.logging.LayerMetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 계층별 메서드 메트릭 (LayerMetricsAspect) 검증
+ *
+ * <p>Controller / Service / Repository 호출마다 Timer 가 기록되고, 예외는 종류별 Counter 로 집계되며,
+ * exclude 패턴에 걸린 메서드는 기록되지 않고, 결과가 /actuator/prometheus 로 노출되어야 한다.
+ */
+@SpringBootTest(properties = "layer-metrics.exclude=UploadedFileRepository#countBy*")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class LayerMetricsTests {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void recordsLatencyPerLayerAndErrorsByException() throws Exception {
+    mockMvc.perform(get("/api/uploaded-files/list?spaceId=3")).andExpect(status().isOk());
+    mockMvc.perform(get("/api/uploaded-files/search-by-name?spaceId=3&q= "))
+        .andExpect(status().isBadRequest());
+
+    assertThat(timer("controller", "UploadedFileController", "getFiles").count()).isEqualTo(1);
+    assertThat(timer("service", "UploadedFileServiceImpl", "getFilesBySpaceWithUploader").count()).isEqualTo(1);
+    assertThat(meterRegistry.find(LayerMetricsAspect.TIMER_NAME)
+        .tags("layer", "repository", "class", "UploadedFileRepository").timers()).isNotEmpty();
+
+    assertThat(meterRegistry.get(LayerMetricsAspect.ERROR_COUNTER_NAME)
+        .tags("layer", "service", "class", "UploadedFileServiceImpl", "method", "searchFiles",
+            "exception", "IllegalArgumentException")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void skipsExcludedMethods() throws Exception {
+    mockMvc.perform(get("/api/uploaded-files/count?spaceId=3")).andExpect(status().isOk());
+
+    assertThat(timer("controller", "UploadedFileController", "countFiles").count()).isGreaterThanOrEqualTo(1);
+    assertThat(meterRegistry.find(LayerMetricsAspect.TIMER_NAME)
+        .tags("class", "UploadedFileRepository").timers())
+        .noneMatch(timer -> timer.getId().getTag("method").startsWith("countBy"));
+  }
+
+  @Test
+  void exposesHistogramThroughPrometheusEndpoint() throws Exception {
+    mockMvc.perform(get("/api/uploaded-files/list?spaceId=4")).andExpect(status().isOk());
+
+    String body = mockMvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    assertThat(body)
+        .contains("app_layer_calls_seconds_bucket{")
+        .contains("class=\"UploadedFileController\"")
+        .contains("app_layer_calls_seconds_count{");
+  }
+
+  private Timer timer(String layer, String className, String method) {
+    return meterRegistry.get(LayerMetricsAspect.TIMER_NAME)
+        .tags("layer", layer, "class", className, "method", method)
+        .timer();
+  }
+}
@@ -0,0 +1,258 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woo.core.logging.stream.LogStreamHub;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 로그 스트림 (Logback → 링 버퍼 → SSE) 검증
+ *
+ * <p>레벨/공간 필터는 서버에서 적용되고, 이벤트는 프레임 단위로 묶여 전송되며,
+ * 읽지 않는 구독자가 있어도 로그를 남기는 스레드는 막히지 않아야 한다.
+ * 동시에 구독해도 구독자 수는 log.stream.max-subscribers 를 넘지 않아야 한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "log.stream.flush-interval-ms=50"
+})
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class LogStreamTests {
+
+  private static final Logger log = LoggerFactory.getLogger("com.flow.dev.LogStreamTests");
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private LogStreamHub logStreamHub;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  void filtersByLevelAndSpaceAndBatchesFrames() throws Exception {
+    SseClient client = connect("/api/logs/stream?level=INFO&spaceId=5");
+
+    MDC.put("spaceId", "5");
+    log.debug("space5-debug");
+    log.info("space5-info");
+    log.warn("space5-warn");
+    MDC.put("spaceId", "6");
+    log.info("space6-info");
+    MDC.remove("spaceId");
+    log.error("no-space-error");
+
+    MDC.put("spaceId", "5");
+    for (int i = 0; i < 300; i++) {
+      log.info("burst-{}", i);
+    }
+    MDC.remove("spaceId");
+
+    List<String> messages = new ArrayList<>();
+    int frames = 0;
+    while (!messages.contains("burst-299")) {
+      JsonNode frame = client.nextLogFrame();
+      assertThat(frame.size()).isLessThanOrEqualTo(200);
+      frame.forEach(event -> messages.add(event.get("message").asText()));
+      frames++;
+    }
+
+    assertThat(messages.subList(0, 2)).containsExactly("space5-info", "space5-warn");
+    assertThat(messages).hasSize(302).doesNotContain("space5-debug", "space6-info", "no-space-error");
+    assertThat(frames).isLessThan(302 / 2);
+    client.close();
+  }
+
+  @Test
+  void stalledSubscriberDoesNotBlockLoggingThreads() throws Exception {
+    // 응답을 전혀 읽지 않는 클라이언트 (소켓 버퍼가 가득 차면 서버 쓰기가 막힘)
+    Socket stalled = new Socket("localhost", port);
+    stalled.setReceiveBufferSize(4096);
+    OutputStream out = stalled.getOutputStream();
+    out.write(("GET /api/logs/stream HTTP/1.1\r\nHost: localhost\r\nAccept: text/event-stream\r\n\r\n")
+        .getBytes(StandardCharsets.US_ASCII));
+    out.flush();
+    SseClient healthy = connect("/api/logs/stream?level=WARN");
+    waitForSubscribers(2);
+
+    // 콘솔/파일 출력은 잠시 떼어 놓고 스트림 경로만 측정
+    ch.qos.logback.classic.Logger root = ((LoggerContext) LoggerFactory.getILoggerFactory())
+        .getLogger(Logger.ROOT_LOGGER_NAME);
+    Appender<ILoggingEvent> console = root.getAppender("CONSOLE");
+    Appender<ILoggingEvent> file = root.getAppender("FILE");
+    root.detachAppender("CONSOLE");
+    root.detachAppender("FILE");
+    long elapsed;
+    try {
+      String payload = "x".repeat(1024);
+      long start = System.nanoTime();
+      for (int i = 0; i < 20_000; i++) {
+        log.info("stalled-{} {}", i, payload);
+      }
+      log.warn("after-burst");
+      elapsed = System.nanoTime() - start;
+    } finally {
+      if (console != null) {
+        root.addAppender(console);
+      }
+      if (file != null) {
+        root.addAppender(file);
+      }
+    }
+
+    assertThat(TimeUnit.NANOSECONDS.toMillis(elapsed)).isLessThan(5_000);
+    // 막힌 구독자와 관계없이 다른 구독자는 계속 받음
+    List<String> messages = new ArrayList<>();
+    while (!messages.contains("after-burst")) {
+      healthy.nextLogFrame().forEach(event -> messages.add(event.get("message").asText()));
+    }
+    assertThat(messages).noneMatch(message -> message.startsWith("stalled-"));
+
+    healthy.close();
+    stalled.close();
+  }
+
+  @Test
+  void concurrentSubscribesNeverExceedMaxSubscribers() throws Exception {
+    LogStreamHub hub = new LogStreamHub();
+    ReflectionTestUtils.setField(hub, "bufferSize", 64);
+    ReflectionTestUtils.setField(hub, "subscriberQueueSize", 16);
+    ReflectionTestUtils.setField(hub, "maxBatch", 16);
+    ReflectionTestUtils.setField(hub, "maxSubscribers", 5);
+    ReflectionTestUtils.setField(hub, "flushIntervalMs", 50L);
+    hub.start();
+
+    int attempts = 50;
+    ExecutorService executor = Executors.newFixedThreadPool(attempts);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger accepted = new AtomicInteger();
+    AtomicInteger rejected = new AtomicInteger();
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < attempts; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          try {
+            hub.subscribe("INFO", null);
+            accepted.incrementAndGet();
+          } catch (IllegalArgumentException e) {
+            rejected.incrementAndGet();
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+
+      assertThat(accepted).hasValue(5);
+      assertThat(rejected).hasValue(attempts - 5);
+      assertThat(hub.getSubscriberCount()).isEqualTo(5);
+    } finally {
+      executor.shutdownNow();
+      hub.stop();
+    }
+  }
+
+  private void waitForSubscribers(int count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (logStreamHub.getSubscriberCount() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+    }
+    assertThat(logStreamHub.getSubscriberCount()).isGreaterThanOrEqualTo(count);
+  }
+
+  private SseClient connect(String path) throws Exception {
+    HttpClient http = HttpClient.newHttpClient();
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+        .header("Accept", "text/event-stream")
+        .build();
+    HttpResponse<Stream<String>> response = http.send(request, HttpResponse.BodyHandlers.ofLines());
+    assertThat(response.statusCode()).isEqualTo(200);
+    SseClient client = new SseClient(response.body());
+    client.awaitEvent("connected");
+    return client;
+  }
+
+  /** SSE 응답을 별도 스레드에서 읽어 (event, data) 쌍으로 전달 */
+  private class SseClient {
+
+    private final BlockingQueue<String[]> events = new LinkedBlockingQueue<>();
+    private final Stream<String> lines;
+
+    SseClient(Stream<String> lines) {
+      this.lines = lines;
+      Thread reader = new Thread(() -> {
+        String name = "message";
+        StringBuilder data = new StringBuilder();
+        try {
+          for (String line : (Iterable<String>) lines::iterator) {
+            if (line.startsWith("event:")) {
+              name = line.substring(6).trim();
+            } else if (line.startsWith("data:")) {
+              data.append(line.substring(5));
+            } else if (line.isEmpty() && data.length() > 0) {
+              events.add(new String[] {name, data.toString()});
+              name = "message";
+              data.setLength(0);
+            }
+          }
+        } catch (RuntimeException e) {
+          // 연결 종료
+        }
+      }, "sse-test-reader");
+      reader.setDaemon(true);
+      reader.start();
+    }
+
+    String awaitEvent(String name) throws InterruptedException {
+      while (true) {
+        String[] event = events.poll(10, TimeUnit.SECONDS);
+        assertThat(event).as("SSE event '%s'", name).isNotNull();
+        if (event[0].equals(name)) {
+          return event[1];
+        }
+      }
+    }
+
+    JsonNode nextLogFrame() throws Exception {
+      return objectMapper.readTree(awaitEvent("log"));
+    }
+
+    void close() {
+      lines.close();
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.woo.core.util.log.LogTailReader;
+import com.woo.core.util.log.LogTailReader.Chunk;
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 로그 tail (역방향 탐색 / 증분 조회 / 롤링) 검증
+ */
+class LogTailReaderTests {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void tailReadsOnlyLastLinesOfLargeFile() throws Exception {
+    Path log = directory.resolve("app.log");
+    try (BufferedWriter writer = Files.newBufferedWriter(log)) {
+      for (int i = 1; i <= 200_000; i++) {
+        writer.write("2025-01-01 00:00:00 [main] DEBUG com.flow.Test - 로그 " + i + "\n");
+      }
+    }
+
+    Chunk chunk = LogTailReader.tail(log, 3);
+
+    assertThat(chunk.getContent()).isEqualTo(
+        "2025-01-01 00:00:00 [main] DEBUG com.flow.Test - 로그 199998\n"
+            + "2025-01-01 00:00:00 [main] DEBUG com.flow.Test - 로그 199999\n"
+            + "2025-01-01 00:00:00 [main] DEBUG com.flow.Test - 로그 200000\n");
+    assertThat(chunk.getLineCount()).isEqualTo(3);
+    assertThat(chunk.getOffset()).isEqualTo(Files.size(log));
+    assertThat(chunk.getFileKey()).isNotBlank();
+  }
+
+  @Test
+  void readFromReturnsOnlyCompletedLinesAfterOffset() throws Exception {
+    Path log = directory.resolve("app.log");
+    Files.writeString(log, "a\nb\n");
+    Chunk first = LogTailReader.tail(log, 100);
+    assertThat(first.getContent()).isEqualTo("a\nb\n");
+
+    // 기록 중인 줄(줄바꿈 전)은 다음 조회로 미룸
+    append(log, "c\nd");
+    Chunk second = LogTailReader.readFrom(log, first.getOffset(), first.getFileKey());
+    assertThat(second.getContent()).isEqualTo("c\n");
+    assertThat(second.isRotated()).isFalse();
+
+    append(log, "-end\n");
+    Chunk third = LogTailReader.readFrom(log, second.getOffset(), second.getFileKey());
+    assertThat(third.getContent()).isEqualTo("d-end\n");
+
+    Chunk idle = LogTailReader.readFrom(log, third.getOffset(), third.getFileKey());
+    assertThat(idle.getContent()).isEmpty();
+    assertThat(idle.getOffset()).isEqualTo(third.getOffset());
+  }
+
+  @Test
+  void readFromContinuesAcrossPlainRotation() throws Exception {
+    Path log = directory.resolve("app.log");
+    Files.writeString(log, "old-1\n");
+    Chunk first = LogTailReader.tail(log, 100);
+
+    append(log, "old-2\n");
+    Files.move(log, directory.resolve("app.log.2025-01-01.0"));
+    Files.writeString(log, "new-1\n");
+
+    Chunk next = LogTailReader.readFrom(log, first.getOffset(), first.getFileKey());
+
+    assertThat(next.isRotated()).isTrue();
+    assertThat(next.getContent()).isEqualTo("old-2\nnew-1\n");
+    assertThat(next.getFileKey()).isNotEqualTo(first.getFileKey());
+    assertThat(LogTailReader.readFrom(log, next.getOffset(), next.getFileKey()).getContent()).isEmpty();
+  }
+
+  @Test
+  void readFromDrainsLargeRotatedRemainderBeforeNewFile() throws Exception {
+    Path log = directory.resolve("app.log");
+    Files.writeString(log, "old-0\n");
+    Chunk first = LogTailReader.tail(log, 100);
+
+    StringBuilder old = new StringBuilder();
+    for (int i = 1; old.length() < LogTailReader.MAX_CHUNK_BYTES * 3 / 2; i++) {
+      old.append("old-").append(i).append(" ").append("x".repeat(100)).append('\n');
+    }
+    append(log, old.toString());
+    Path rotated = directory.resolve("app.log.2025-01-01.0.gz");
+    gzip(rotated, Files.readString(log));
+    // 새 파일이 지운 파일의 inode 를 재사용하지 않도록 새 파일을 만든 뒤 삭제
+    Path discarded = Files.move(log, directory.resolve("discarded"));
+    Files.writeString(log, "new-1\n");
+    Files.delete(discarded);
+
+    // 롤링 파일의 나머지가 MAX_CHUNK_BYTES 를 넘으면 롤링 파일 기준 위치로 이어 읽음
+    Chunk partial = LogTailReader.readFrom(log, first.getOffset(), first.getFileKey());
+    assertThat(partial.isRotated()).isTrue();
+    assertThat(partial.isHasMore()).isTrue();
+    assertThat(partial.getContent()).doesNotContain("new-1").endsWith("\n");
+
+    Chunk rest = LogTailReader.readFrom(log, partial.getOffset(), partial.getFileKey());
+    assertThat(partial.getContent() + rest.getContent()).isEqualTo(old + "new-1\n");
+    assertThat(rest.getFileKey()).isEqualTo(LogTailReader.tail(log, 1).getFileKey());
+    assertThat(LogTailReader.readFrom(log, rest.getOffset(), rest.getFileKey()).getContent()).isEmpty();
+  }
+
+  @Test
+  void rotatedGzipFileIsUsedForTailAndIncrementalRead() throws Exception {
+    Path log = directory.resolve("app.log");
+    Files.writeString(log, "old-1\nold-2\n");
+    Chunk first = LogTailReader.tail(log, 100);
+
+    append(log, "old-3\n");
+    Path older = directory.resolve("app.log.2024-12-31.0.gz");
+    gzip(older, "ancient\n");
+    Files.setLastModifiedTime(older, FileTime.fromMillis(0));
+    gzip(directory.resolve("app.log.2025-01-01.0.gz"), Files.readString(log));
+    Files.delete(log);
+    Files.writeString(log, "new-1\n");
+
+    Chunk next = LogTailReader.readFrom(log, first.getOffset(), first.getFileKey());
+    assertThat(next.isRotated()).isTrue();
+    assertThat(next.getContent()).isEqualTo("old-3\nnew-1\n");
+
+    // 롤링 직후 현재 파일 줄 수가 부족하면 이전 파일 끝부분을 앞에 붙임
+    Chunk tail = LogTailReader.tail(log, 3);
+    assertThat(tail.getContent()).isEqualTo("old-2\nold-3\nnew-1\n");
+    assertThat(tail.getLineCount()).isEqualTo(3);
+  }
+
+  @Test
+  void missingFileReturnsEmptyChunk() throws Exception {
+    Chunk chunk = LogTailReader.tail(directory.resolve("app.log"), 10);
+
+    assertThat(chunk.getContent()).isEmpty();
+    assertThat(chunk.getOffset()).isZero();
+  }
+
+  private static void append(Path log, String text) throws Exception {
+    Files.writeString(log, text, StandardOpenOption.APPEND);
+  }
+
+  private static void gzip(Path target, String text) throws Exception {
+    try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(target))) {
+      out.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.flow.api.domain.Space;
+import com.flow.api.domain.data.SpaceCreationResponse;
+import com.flow.api.service.SpaceService;
+import com.flow.api.service.UploadedFileService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.nio.charset.StandardCharsets;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * Primary / Replica 라우팅 검증
+ *
+ * <p>서로 다른 임베디드 PostgreSQL 두 개를 primary, replica 로 사용한다. (복제 없음)
+ * readOnly 조회는 replica 에만 있는 행을, 쓰기는 primary 에만 반영되어야 한다.
+ */
+@SpringBootTest(properties = "spring.datasource.replica.url=jdbc:postgresql://localhost/replica")
+@AutoConfigureEmbeddedDatabase(beanName = "primaryDataSource",
+    provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@AutoConfigureEmbeddedDatabase(beanName = "replicaDataSource",
+    provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class ReadWriteRoutingTests {
+
+  private static final long REPLICA_SPACE_ID = 900_000L;
+
+  @Autowired
+  private SpaceService spaceService;
+
+  @Autowired
+  private UploadedFileService uploadedFileService;
+
+  @Autowired
+  @Qualifier("primaryDataSource")
+  private DataSource primaryDataSource;
+
+  @Autowired
+  @Qualifier("replicaDataSource")
+  private DataSource replicaDataSource;
+
+  @BeforeEach
+  void prepareReplica() {
+    // 복제 대신 replica 에 필요한 테이블과 replica 전용 데이터를 직접 준비
+    JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+    replica.execute("CREATE TABLE IF NOT EXISTS space ("
+        + "space_id BIGINT PRIMARY KEY, space_name VARCHAR(255) NOT NULL, description TEXT, "
+        + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, "
+        + "created_by BIGINT, updated_by BIGINT, is_deleted BOOLEAN NOT NULL)");
+    replica.execute("CREATE TABLE IF NOT EXISTS blocked_extension ("
+        + "blocked_id BIGINT PRIMARY KEY, space_id BIGINT NOT NULL, extension VARCHAR(20) NOT NULL, "
+        + "is_fixed BOOLEAN NOT NULL, created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, "
+        + "created_by BIGINT, updated_by BIGINT, is_deleted BOOLEAN NOT NULL)");
+    replica.update("DELETE FROM blocked_extension");
+    replica.update("DELETE FROM space");
+    replica.update("INSERT INTO space VALUES (?, 'replica-only', null, now(), now(), null, null, false)",
+        REPLICA_SPACE_ID);
+    replica.update("INSERT INTO blocked_extension VALUES (1, ?, 'php', false, now(), now(), null, null, false)",
+        REPLICA_SPACE_ID);
+  }
+
+  @Test
+  void readOnlyTransactionsUseReplicaAndWritesUsePrimary() {
+    SpaceCreationResponse created = TestSpaces.create(spaceService, "routing");
+
+    // 쓰기 → primary
+    Integer primaryCount = new JdbcTemplate(primaryDataSource).queryForObject(
+        "SELECT count(*) FROM space WHERE space_id = ?", Integer.class, created.getSpace().getSpaceId());
+    assertThat(primaryCount).isEqualTo(1);
+
+    // readOnly 조회 → replica
+    assertThat(spaceService.getAllSpaces()).extracting(Space::getSpaceName).containsExactly("replica-only");
+  }
+
+  @Test
+  void uploadPolicyLoadUsesReplica() {
+    MockMultipartFile file = new MockMultipartFile(
+        "file", "script.php", "text/plain", "<?php echo 1; ?>".getBytes(StandardCharsets.UTF_8));
+
+    // php 차단 정책은 replica 에만 존재
+    assertThatThrownBy(() -> uploadedFileService.uploadFile(REPLICA_SPACE_ID, file))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("php");
+  }
+}
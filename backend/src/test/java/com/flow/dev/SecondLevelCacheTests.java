@@ -0,0 +1,183 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flow.api.controller.CacheStatsController;
+import com.flow.api.domain.BlockedExtension;
+import com.flow.api.domain.Member;
+import com.flow.api.domain.Space;
+import com.flow.api.domain.data.CacheRegionStatsDto;
+import com.flow.api.domain.data.SpaceCreationResponse;
+import com.flow.api.service.BlockedExtensionService;
+import com.flow.api.service.MemberService;
+import com.flow.api.service.SoftDeletePurgeService;
+import com.flow.api.service.SpaceService;
+import com.flow.api.service.UploadedFileService;
+import com.woo.core.response.BaseResponse;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Space / Member 2차 캐시 및 쿼리 캐시 검증
+ *
+ * <p>반복 조회는 DB 대신 캐시에서 응답하고, 수정/삭제 후에는 바뀐 값이 보여야 한다.
+ * 다른 테이블만 바꾸는 native 문장(파일 일괄 삭제 등)은 Space / Member 캐시를 비우지 않아야 한다.
+ * 통계 수집이 꺼져 있으면 캐시 통계 조회는 0 대신 CACHE_STATS_DISABLED 로 응답해야 한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class SecondLevelCacheTests {
+
+  @Autowired
+  private SpaceService spaceService;
+
+  @Autowired
+  private MemberService memberService;
+
+  @Autowired
+  private UploadedFileService uploadedFileService;
+
+  @Autowired
+  private SoftDeletePurgeService softDeletePurgeService;
+
+  @Autowired
+  private BlockedExtensionService blockedExtensionService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private CacheStatsController cacheStatsController;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  void repeatedEntityLookupsHitSecondLevelCache() {
+    SpaceCreationResponse created = createSpace();
+    Long spaceId = created.getSpace().getSpaceId();
+    Long memberId = created.getAdminMember().getMemberId();
+    statistics.clear();
+
+    spaceService.findById(spaceId);
+    spaceService.findById(spaceId);
+    memberService.findById(memberId);
+    memberService.findById(memberId);
+
+    assertThat(statistics.getCacheRegionStatistics("space").getHitCount()).isGreaterThanOrEqualTo(2);
+    assertThat(statistics.getCacheRegionStatistics("member").getHitCount()).isGreaterThanOrEqualTo(2);
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
+  @Test
+  void queryCacheIsInvalidatedOnUpdateAndSoftDelete() {
+    Long spaceId = createSpace().getSpace().getSpaceId();
+
+    spaceService.getAllSpaces();
+    statistics.clear();
+    spaceService.getAllSpaces();
+    assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+    // 수정 → 쿼리 캐시 무효화, 엔티티 캐시 갱신
+    Space space = spaceService.findById(spaceId);
+    space.setSpaceName("renamed-" + System.nanoTime());
+    spaceService.update(space);
+    assertThat(spaceService.getAllSpaces())
+        .filteredOn(found -> found.getSpaceId().equals(spaceId))
+        .extracting(Space::getSpaceName)
+        .containsExactly(space.getSpaceName());
+    assertThat(spaceService.findById(spaceId).getSpaceName()).isEqualTo(space.getSpaceName());
+
+    // Soft Delete (is_deleted = true) → 목록에서 제외
+    Space deleted = spaceService.findById(spaceId);
+    deleted.setIsDeleted(true);
+    spaceService.update(deleted);
+    assertThat(spaceService.getAllSpaces()).extracting(Space::getSpaceId).doesNotContain(spaceId);
+  }
+
+  @Test
+  void memberListQueryCacheIsInvalidatedWhenMemberAdded() {
+    SpaceCreationResponse created = createSpace();
+    Long spaceId = created.getSpace().getSpaceId();
+
+    assertThat(memberService.getMembersBySpace(spaceId)).hasSize(1);
+    statistics.clear();
+    assertThat(memberService.getMembersBySpace(spaceId)).hasSize(1);
+    assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+    memberService.create(Member.builder()
+        .username("member-" + System.nanoTime())
+        .password("1234")
+        .spaceId(spaceId)
+        .build());
+    assertThat(memberService.getMembersBySpace(spaceId)).hasSize(2);
+  }
+
+  @Test
+  void bulkFileSoftDeleteKeepsSpaceCache() {
+    Long spaceId = createSpace().getSpace().getSpaceId();
+    spaceService.findById(spaceId);
+    statistics.clear();
+
+    uploadedFileService.softDeleteFiles(spaceId, List.of(-1L));
+    uploadedFileService.softDeleteFilesBySpace(spaceId, "txt", null);
+    softDeletePurgeService.purgeCustomExtensions();
+
+    spaceService.findById(spaceId);
+    assertThat(statistics.getCacheRegionStatistics("space").getHitCount()).isEqualTo(1);
+    assertThat(statistics.getCacheRegionStatistics("space").getMissCount()).isZero();
+  }
+
+  @Test
+  void customExtensionCreateKeepsSpaceCache() {
+    SpaceCreationResponse created = createSpace();
+    Long spaceId = created.getSpace().getSpaceId();
+    Long memberId = created.getAdminMember().getMemberId();
+    spaceService.findById(spaceId);
+    statistics.clear();
+
+    // 인기도 카운터 증가(native UPSERT)가 함께 실행됨
+    blockedExtensionService.create(BlockedExtension.builder()
+        .spaceId(spaceId)
+        .extension("php")
+        .isFixed(false)
+        .createdBy(memberId)
+        .updatedBy(memberId)
+        .build());
+
+    spaceService.findById(spaceId);
+    assertThat(statistics.getCacheRegionStatistics("space").getHitCount()).isEqualTo(1);
+    assertThat(statistics.getCacheRegionStatistics("space").getMissCount()).isZero();
+  }
+
+  @Test
+  void cacheStatsAreRejectedWhenStatisticsDisabled() {
+    assertThat(cacheStatsController.getCacheStats().getStatusCode().value()).isEqualTo(200);
+
+    // generate_statistics=false 이면 모두 0 인 통계 대신 오류
+    statistics.setStatisticsEnabled(false);
+    try {
+      ResponseEntity<BaseResponse<List<CacheRegionStatsDto>>> response = cacheStatsController.getCacheStats();
+      assertThat(response.getStatusCode().value()).isEqualTo(409);
+      assertThat(response.getBody().getErrorCode()).isEqualTo("CACHE_STATS_DISABLED");
+    } finally {
+      statistics.setStatisticsEnabled(true);
+    }
+  }
+
+  private SpaceCreationResponse createSpace() {
+    return TestSpaces.create(spaceService, "cache");
+  }
+}
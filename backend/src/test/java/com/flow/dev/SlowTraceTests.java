@@ -0,0 +1,167 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.api.service.SpaceService;
+import com.woo.core.logging.TraceFilter;
+import com.woo.core.logging.trace.Span;
+import com.woo.core.logging.trace.TraceRecord;
+import com.woo.core.logging.trace.TraceRecorder;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 느린 요청 구간 트리 (/api/diagnostics/traces) 검증
+ *
+ * <p>업로드 요청은 Controller -> Service -> 검증 단계 / Repository 구간 트리로 기록되어야 하고,
+ * 엔드포인트별로 가장 느린 K 개만 남으며, 최근 요청 링은 가득 차면 오래된 요청부터 덮어써야 한다.
+ * 비동기 요청은 첫 디스패치가 아니라 비동기 처리가 끝난 시점에 기록되어야 한다.
+ */
+@SpringBootTest(properties = {
+    "file.upload.directory=${java.io.tmpdir}/slow-trace-tests",
+    "trace.recent-sample-rate=1.0"
+})
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class SlowTraceTests {
+
+  private static final String UPLOAD_ENDPOINT = "POST /api/uploaded-files/upload";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private SpaceService spaceService;
+
+  @Test
+  void uploadIsRecordedAsSpanTree() throws Exception {
+    Long spaceId = TestSpaces.create(spaceService, "trace").getSpace().getSpaceId();
+    byte[] content;
+    try (InputStream in = getClass().getResourceAsStream("/test-files/1-normal/document.txt")) {
+      content = in.readAllBytes();
+    }
+    mockMvc.perform(multipart("/api/uploaded-files/upload?spaceId=" + spaceId)
+            .file(new MockMultipartFile("file", "document.txt", "text/plain", content)))
+        .andExpect(status().isOk());
+
+    JsonNode slowest = data("/api/diagnostics/traces/slowest?endpoint={endpoint}", UPLOAD_ENDPOINT);
+    assertThat(slowest.fieldNames()).toIterable().containsExactly(UPLOAD_ENDPOINT);
+    JsonNode trace = slowest.get(UPLOAD_ENDPOINT).get(0);
+    assertThat(trace.get("status").asInt()).isEqualTo(200);
+    assertThat(trace.get("uri").asText()).isEqualTo("/api/uploaded-files/upload");
+
+    JsonNode controller = child(trace.get("root"), "controller UploadedFileController#uploadFile");
+    JsonNode service = child(controller, "service UploadedFileServiceImpl#uploadFile");
+    assertThat(names(service)).contains("stage policy", "stage extension", "stage mime", "stage store",
+        "stage persist");
+    assertThat(trace.get("root").findValuesAsText("name")).anyMatch(name -> name.startsWith("repository "));
+    assertThat(controller.get("durationMs").asDouble())
+        .isLessThanOrEqualTo(trace.get("durationMs").asDouble());
+
+    JsonNode recent = data("/api/diagnostics/traces/recent?limit=256");
+    assertThat(recent).anyMatch(node -> node.get("endpoint").asText().equals(UPLOAD_ENDPOINT));
+    mockMvc.perform(get("/api/diagnostics/traces/recent?limit=0")).andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void keepsSlowestPerEndpointAndOverwritesOldestRecent() throws Exception {
+    TraceRecorder recorder = new TraceRecorder(2, 4, 1.0, 200, 200);
+    record(recorder, "GET /a", 30);
+    record(recorder, "GET /a", 1);
+    record(recorder, "GET /a", 60);
+    record(recorder, "GET /a", 10);
+    record(recorder, "GET /b", 1);
+
+    List<TraceRecord> slowestA = recorder.getSlowest("GET /a").get("GET /a");
+    assertThat(slowestA).extracting(TraceRecord::uri).containsExactly("/a/60", "/a/30");
+    assertThat(recorder.getSlowest(null).keySet()).containsExactly("GET /a", "GET /b");
+
+    assertThat(recorder.getRecent(10)).extracting(TraceRecord::uri)
+        .containsExactly("/b/1", "/a/10", "/a/60", "/a/1");
+
+    recorder.resetSlowest();
+    assertThat(recorder.getSlowest(null)).isEmpty();
+    assertThat(recorder.getRecent(10)).hasSize(4);
+  }
+
+  @Test
+  void asyncRequestIsRecordedWhenStreamingCompletes() throws Exception {
+    TraceRecorder recorder = new TraceRecorder(2, 4, 1.0, 200, 200);
+    TraceFilter filter = new TraceFilter(recorder);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/export");
+    request.setAsyncSupported(true);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // 첫 디스패치는 비동기 시작 후 바로 반환 (StreamingResponseBody 와 같은 흐름)
+    filter.doFilter(request, response, (req, res) -> {
+      req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/export");
+      req.startAsync();
+    });
+    assertThat(recorder.isActive()).isFalse();
+    assertThat(recorder.getSlowest(null)).isEmpty();
+
+    Thread.sleep(50);
+    request.getAsyncContext().complete();
+
+    List<TraceRecord> slowest = recorder.getSlowest("GET /api/export").get("GET /api/export");
+    assertThat(slowest).hasSize(1);
+    assertThat(slowest.get(0).status()).isEqualTo(200);
+    assertThat(slowest.get(0).durationNanos()).isGreaterThanOrEqualTo(50_000_000L);
+  }
+
+  @Test
+  void jfrDumpIsNotExposedByDefault() throws Exception {
+    // jfr.dump.enabled 기본값(false) 에서는 트레이스 엔드포인트만 등록되어야 한다
+    mockMvc.perform(get("/api/diagnostics/jfr")).andExpect(status().isNotFound());
+    mockMvc.perform(get("/api/diagnostics/traces/recent")).andExpect(status().isOk());
+  }
+
+  private static void record(TraceRecorder recorder, String endpoint, long sleepMillis) throws Exception {
+    Span root = recorder.begin(endpoint);
+    Span child = recorder.enter("child");
+    Thread.sleep(sleepMillis);
+    recorder.exit(child, null);
+    recorder.end(root, endpoint, endpoint.substring(4) + "/" + sleepMillis, 200, null);
+  }
+
+  private JsonNode data(String uri, Object... uriVariables) throws Exception {
+    String body = mockMvc.perform(get(uri, uriVariables))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    return objectMapper.readTree(body).get("data");
+  }
+
+  private static JsonNode child(JsonNode span, String name) {
+    for (JsonNode child : span.get("children")) {
+      if (child.get("name").asText().equals(name)) {
+        return child;
+      }
+    }
+    throw new AssertionError(name + " not found in " + names(span));
+  }
+
+  private static List<String> names(JsonNode span) {
+    List<String> names = new ArrayList<>();
+    span.get("children").forEach(child -> names.add(child.get("name").asText()));
+    return names;
+  }
+}
@@ -0,0 +1,163 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.flow.api.domain.AuditLog.Action;
+import com.flow.api.domain.BlockedExtension;
+import com.flow.api.domain.UploadedFile;
+import com.flow.api.domain.data.AuditLogDto;
+import com.flow.api.domain.data.SpaceCreationResponse;
+import com.flow.api.repository.BlockedExtensionRepository;
+import com.flow.api.repository.UploadedFileRepository;
+import com.flow.api.service.AuditLogService;
+import com.flow.api.service.BlockedExtensionService;
+import com.flow.api.service.SoftDeletePurgeService;
+import com.flow.api.service.SpaceService;
+import com.flow.api.service.UploadedFileService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 일괄 Soft Delete / purge 검증
+ *
+ * <p>ID 목록 / 조건 일괄 삭제는 대상 공간의 행만 한 문장으로 삭제 처리하고,
+ * purge 는 삭제된 행과 저장 파일을 배치 단위로 모두 정리해야 한다.
+ */
+@SpringBootTest(properties = {
+    "purge.deleted-retention-days=0",
+    "purge.batch-size=2"
+})
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class SoftDeletePurgeTests {
+
+  @Autowired
+  private UploadedFileService uploadedFileService;
+
+  @Autowired
+  private UploadedFileRepository uploadedFileRepository;
+
+  @Autowired
+  private SpaceService spaceService;
+
+  @Autowired
+  private BlockedExtensionService blockedExtensionService;
+
+  @Autowired
+  private BlockedExtensionRepository blockedExtensionRepository;
+
+  @Autowired
+  private SoftDeletePurgeService softDeletePurgeService;
+
+  @Autowired
+  private AuditLogService auditLogService;
+
+  @Test
+  void bulkSoftDeleteThenPurgeRemovesRowsAndStoredFiles() throws Exception {
+    List<UploadedFile> files = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      files.add(uploadedFileRepository.save(metadata(1L, i < 3 ? "txt" : "pdf")));
+    }
+    UploadedFile otherSpace = uploadedFileRepository.save(metadata(2L, "txt"));
+
+    int byIds = uploadedFileService.softDeleteFiles(1L, List.of(
+        files.get(0).getFileId(), files.get(1).getFileId(), otherSpace.getFileId()));
+    int byFilter = uploadedFileService.softDeleteFilesBySpace(1L, "PDF", null);
+
+    assertThat(byIds).isEqualTo(2);
+    assertThat(byFilter).isEqualTo(2);
+    assertThat(uploadedFileService.findById(otherSpace.getFileId()).getIsDeleted()).isFalse();
+
+    // 단건 Soft Delete (BaseServiceImpl)
+    uploadedFileService.softDelete(uploadedFileService.findById(files.get(2).getFileId()));
+    assertThat(uploadedFileService.findById(files.get(2).getFileId()).getIsDeleted()).isTrue();
+
+    Thread.sleep(10);
+    int purged = softDeletePurgeService.purgeUploadedFiles();
+
+    assertThat(purged).isEqualTo(5);
+    for (UploadedFile file : files) {
+      assertThat(uploadedFileRepository.findById(file.getFileId())).isEmpty();
+      assertThat(Path.of(file.getFilePath())).doesNotExist();
+    }
+    assertThat(Path.of(otherSpace.getFilePath())).exists();
+  }
+
+  @Test
+  void bulkSoftDeleteSkipsFixedExtensionsAndPurgesOnlyCustomRows() throws Exception {
+    SpaceCreationResponse space = TestSpaces.create(spaceService, "purge");
+    Long spaceId = space.getSpace().getSpaceId();
+    blockedExtensionService.importCustomExtensions(
+        spaceId, space.getAdminMember().getMemberId(), List.of("php", "sh", "ps1"));
+
+    List<BlockedExtension> custom = blockedExtensionService.getCustomExtensions(spaceId);
+    BlockedExtension fixed = blockedExtensionService.getFixedExtensions(spaceId).get(0);
+
+    int deleted = blockedExtensionService.softDeleteCustomExtensions(spaceId, List.of(
+        custom.get(0).getBlockedId(), fixed.getBlockedId()));
+    assertThat(deleted).isEqualTo(1);
+    assertThat(blockedExtensionService.softDeleteAllCustomExtensions(spaceId)).isEqualTo(2);
+    assertThat(blockedExtensionService.getCustomExtensions(spaceId)).isEmpty();
+    assertThat(blockedExtensionRepository.findById(fixed.getBlockedId()).orElseThrow().getIsDeleted())
+        .isEqualTo(fixed.getIsDeleted());
+
+    Thread.sleep(10);
+    softDeletePurgeService.purgeCustomExtensions();
+
+    assertThat(blockedExtensionRepository.findBySpaceIdAndIsFixedOrderByExtensionAsc(spaceId, false)).isEmpty();
+    assertThat(blockedExtensionRepository.findById(fixed.getBlockedId())).isPresent();
+  }
+
+  @Test
+  void singleSoftDeleteRecordsRemovalAndRejectsFixedExtensions() throws Exception {
+    SpaceCreationResponse space = TestSpaces.create(spaceService, "soft-delete");
+    Long spaceId = space.getSpace().getSpaceId();
+    BlockedExtension custom = blockedExtensionService.create(BlockedExtension.builder()
+        .spaceId(spaceId)
+        .extension("php")
+        .createdBy(space.getAdminMember().getMemberId())
+        .build());
+    BlockedExtension fixed = blockedExtensionService.getFixedExtensions(spaceId).get(0);
+
+    // PATCH /soft-delete/{id} 경로 (BaseController → service.softDelete)
+    blockedExtensionService.softDelete(blockedExtensionService.findById(custom.getBlockedId()));
+    assertThatThrownBy(() -> blockedExtensionService.softDelete(blockedExtensionService.findById(fixed.getBlockedId())))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    assertThat(blockedExtensionRepository.findById(custom.getBlockedId()).orElseThrow().getIsDeleted()).isTrue();
+    assertThat(blockedExtensionRepository.findById(fixed.getBlockedId()).orElseThrow().getIsDeleted())
+        .isEqualTo(fixed.getIsDeleted());
+
+    // 감사 로그는 별도 스레드가 모아서 저장
+    long deadline = System.currentTimeMillis() + 5_000;
+    List<AuditLogDto> logs = auditLogService.getLogsBySpace(spaceId, 10);
+    while (logs.stream().noneMatch(log -> log.getAction() == Action.EXTENSION_REMOVED)
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+      logs = auditLogService.getLogsBySpace(spaceId, 10);
+    }
+    assertThat(logs).filteredOn(log -> log.getAction() == Action.EXTENSION_REMOVED)
+        .singleElement()
+        .satisfies(log -> assertThat(log.getTarget()).isEqualTo("php"));
+  }
+
+  private UploadedFile metadata(Long spaceId, String extension) throws Exception {
+    Path stored = Files.createTempFile("purge-", "." + extension);
+    return UploadedFile.builder()
+        .spaceId(spaceId)
+        .originalName("document." + extension)
+        .storedName(UUID.randomUUID() + "." + extension)
+        .extension(extension)
+        .fileSize(12L)
+        .mimeType("text/plain")
+        .filePath(stored.toString())
+        .build();
+  }
+}
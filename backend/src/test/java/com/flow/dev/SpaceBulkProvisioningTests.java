@@ -0,0 +1,189 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flow.api.domain.Member;
+import com.flow.api.domain.Space;
+import com.flow.api.domain.data.SpaceCreationRequest;
+import com.flow.api.domain.data.SpaceCreationResponse;
+import com.flow.api.domain.data.SpaceProvisionResult;
+import com.flow.api.domain.data.SpaceProvisionResult.Item;
+import com.flow.api.domain.data.SpaceProvisionResult.Status;
+import com.flow.api.repository.MemberRepository;
+import com.flow.api.service.AuditLogService;
+import com.flow.api.service.BlockedExtensionService;
+import com.flow.api.service.SpaceService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Space 일괄 생성 검증
+ *
+ * <p>요청 크기와 무관하게 고정된 문장 수로 Space / Admin / 고정 확장자를 만들고,
+ * 중복/검증 실패 항목은 항목별 상태로 구분해야 한다.
+ * 같은 이름을 동시에 요청해도 요청 전체가 실패하거나 같은 이름이 두 번 생성되지 않아야 한다.
+ */
+// 감사 로그 배치 저장이 측정 구간(일괄 생성 직후)에 끼어들지 않도록 모으는 시간을 늘림
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "audit-log.max-batch-size=1000",
+    "audit-log.max-delay-ms=1000"
+})
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class SpaceBulkProvisioningTests {
+
+  private static final int TENANTS = 300;
+
+  @Autowired
+  private SpaceService spaceService;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  @Autowired
+  private BlockedExtensionService blockedExtensionService;
+
+  @Autowired
+  private AuditLogService auditLogService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void provisionsTenantsInConstantStatementsAndReportsEachItem() throws Exception {
+    String suffix = "-" + System.nanoTime();
+    SpaceCreationResponse existing = spaceService.createSpaceWithAdmin(request("existing" + suffix, "owner" + suffix));
+    // 감사 로그는 별도 스레드가 모아서 저장하므로, 측정 구간에 섞이지 않게 저장될 때까지 대기
+    awaitAuditLog(existing.getSpace().getSpaceId());
+    // 쿼리 캐시에 기존 목록 적재 → 일괄 생성 후 무효화 여부 확인
+    int spacesBefore = spaceService.getAllSpaces().size();
+
+    List<SpaceCreationRequest> requests = new ArrayList<>();
+    for (int i = 0; i < TENANTS; i++) {
+      requests.add(request("team-" + i + suffix, "admin-" + i + suffix));
+    }
+    requests.add(request("team-0" + suffix, "other" + suffix));                 // 요청 내 Space명 중복
+    requests.add(request("existing" + suffix, "another" + suffix));             // 기존 Space명
+    requests.add(request("fresh" + suffix, "owner" + suffix));                  // 기존 사용자명
+    requests.add(request(" ", "blank" + suffix));                               // 필수값 누락
+
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    SpaceProvisionResult result = spaceService.provisionSpaces(requests);
+
+    // 이름 선점 잠금 1 + 중복 확인 1 + ID 할당 1 + INSERT 1
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    assertThat(result.getCreatedCount()).isEqualTo(TENANTS);
+    assertThat(result.getRejectedCount()).isEqualTo(4);
+    assertThat(result.getItems().subList(TENANTS, TENANTS + 4)).extracting(Item::getStatus)
+        .containsExactly(Status.DUPLICATE, Status.SPACE_NAME_EXISTS, Status.USERNAME_EXISTS, Status.INVALID);
+
+    Item first = result.getItems().get(0);
+    assertThat(first.getStatus()).isEqualTo(Status.CREATED);
+    assertThat(result.getItems().subList(0, TENANTS)).extracting(Item::getSpaceId).doesNotHaveDuplicates();
+
+    List<Space> spaces = spaceService.getAllSpaces();
+    assertThat(spaces).hasSize(spacesBefore + TENANTS);
+    Space created = spaceService.findById(first.getSpaceId());
+    assertThat(created.getCreatedBy()).isEqualTo(first.getAdminMemberId());
+
+    List<Member> members = memberRepository.findBySpaceIdAndIsDeletedFalse(first.getSpaceId());
+    assertThat(members).singleElement().satisfies(member -> {
+      assertThat(member.getMemberId()).isEqualTo(first.getAdminMemberId());
+      assertThat(member.getRole()).isEqualTo(Member.MemberRole.ADMIN);
+    });
+    assertThat(blockedExtensionService.getFixedExtensions(first.getSpaceId())).hasSize(7)
+        .allSatisfy(extension -> assertThat(extension.getIsDeleted()).isTrue());
+
+    // 일괄 할당한 ID 와 Hibernate pooled 할당 ID 가 겹치지 않아야 함
+    SpaceCreationResponse after = spaceService.createSpaceWithAdmin(request("after" + suffix, "after" + suffix));
+    assertThat(after.getSpace().getSpaceId()).isNotIn(
+        result.getItems().stream().map(Item::getSpaceId).toList());
+    assertThat(existing.getSpace().getSpaceId()).isNotEqualTo(after.getSpace().getSpaceId());
+  }
+
+  @Test
+  void concurrentRequestsForSameNamesRejectPerItem() throws Exception {
+    String suffix = "-" + System.nanoTime();
+    List<SpaceCreationRequest> requests = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      requests.add(request("race-" + i + suffix, "racer-" + i + suffix));
+    }
+
+    // 일괄 생성 2건 + 단건 생성 1건이 같은 이름을 동시에 선점 시도
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<SpaceProvisionResult>> batches = new ArrayList<>();
+      for (int i = 0; i < 2; i++) {
+        batches.add(executor.submit(() -> {
+          start.await();
+          return spaceService.provisionSpaces(requests);
+        }));
+      }
+      Future<Long> single = executor.submit(() -> {
+        start.await();
+        try {
+          return spaceService.createSpaceWithAdmin(request("race-7" + suffix, "racer-7" + suffix))
+              .getSpace().getSpaceId();
+        } catch (IllegalArgumentException e) {
+          return null;
+        }
+      });
+      start.countDown();
+
+      List<Item> items = new ArrayList<>();
+      for (Future<SpaceProvisionResult> batch : batches) {
+        items.addAll(batch.get(30, TimeUnit.SECONDS).getItems());
+      }
+      List<Long> createdSpaceIds = new ArrayList<>(items.stream()
+          .filter(item -> item.getStatus() == Status.CREATED).map(Item::getSpaceId).toList());
+      Long singleSpaceId = single.get(30, TimeUnit.SECONDS);
+      if (singleSpaceId != null) {
+        createdSpaceIds.add(singleSpaceId);
+      }
+      assertThat(createdSpaceIds).hasSize(requests.size());
+      assertThat(items).filteredOn(item -> item.getStatus() != Status.CREATED).extracting(Item::getStatus)
+          .containsOnly(Status.SPACE_NAME_EXISTS);
+      for (Long spaceId : createdSpaceIds) {
+        awaitAuditLog(spaceId);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(spaceService.getAllSpaces()).extracting(Space::getSpaceName)
+        .filteredOn(name -> name.endsWith(suffix))
+        .hasSize(requests.size())
+        .doesNotHaveDuplicates();
+  }
+
+  private void awaitAuditLog(Long spaceId) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (auditLogService.getLogsBySpace(spaceId, 1).isEmpty() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+    }
+  }
+
+  private SpaceCreationRequest request(String spaceName, String username) {
+    return SpaceCreationRequest.builder()
+        .spaceName(spaceName)
+        .description("bulk provisioning test")
+        .adminUsername(username)
+        .adminPassword("1234")
+        .build();
+  }
+}
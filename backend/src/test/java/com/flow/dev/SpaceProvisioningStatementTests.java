@@ -0,0 +1,87 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flow.api.domain.data.SpaceCreationRequest;
+import com.flow.api.domain.data.SpaceCreationResponse;
+import com.flow.api.service.SpaceService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Space 생성 시 발생하는 JDBC 문장 수 검증
+ *
+ * <p>SEQUENCE(pooled) ID 할당 + hibernate.jdbc.batch_size 적용 후,
+ * 고정 확장자 7개는 행마다 왕복하지 않고 하나의 배치로 INSERT 되어야 한다.
+ *
+ * <p>시퀀스 블록 경계가 측정 구간에 걸리지 않도록 다른 테스트와 컨텍스트(DB)를 공유하지 않는다.
+ * (audit-log.max-delay-ms 를 따로 지정해 별도 컨텍스트로 뜨고, 워밍업 감사 로그도 빨리 저장됨)
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "audit-log.max-delay-ms=20"
+})
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class SpaceProvisioningStatementTests {
+
+  @Autowired
+  private SpaceService spaceService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void createSpaceWithAdminBatchesFixedExtensionInserts() throws Exception {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    // 처음 두 번은 시퀀스 블록 할당(nextval)이 포함되므로 측정에서 제외
+    // (pooled 옵티마이저는 초기값 1을 받은 뒤 두 번째 ID에서 블록 상한을 가져온다)
+    Long first = spaceService.createSpaceWithAdmin(request("warmup")).getSpace().getSpaceId();
+    Long second = spaceService.createSpaceWithAdmin(request("warmup")).getSpace().getSpaceId();
+    // 워밍업의 감사 로그(비동기 배치 INSERT)가 측정 구간에 섞이지 않도록 저장될 때까지 대기
+    awaitAuditLogs(first, second);
+    statistics.clear();
+
+    SpaceCreationResponse response = spaceService.createSpaceWithAdmin(request("measured"));
+
+    assertThat(response.getFixedExtensionsCount()).isEqualTo(7);
+    // Space 1 + Admin 1 + 고정 확장자 7
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(9);
+    // 이름 선점 잠금 1 + 중복 확인 SELECT 2 + Space INSERT 1 + Member INSERT 1 + 고정 확장자 배치 INSERT 1
+    // + Space createdBy UPDATE 1
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(7);
+  }
+
+  private void awaitAuditLogs(Long... spaceIds) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    for (Long spaceId : spaceIds) {
+      while (auditLogCount(spaceId) == 0 && System.currentTimeMillis() < deadline) {
+        Thread.sleep(20);
+      }
+      assertThat(auditLogCount(spaceId)).isPositive();
+    }
+  }
+
+  private long auditLogCount(Long spaceId) {
+    return jdbcTemplate.queryForObject("SELECT count(*) FROM audit_log WHERE space_id = ?", Long.class, spaceId);
+  }
+
+  private SpaceCreationRequest request(String prefix) {
+    String suffix = prefix + "-" + System.nanoTime();
+    return SpaceCreationRequest.builder()
+        .spaceName("space-" + suffix)
+        .description("statement count test")
+        .adminUsername("admin-" + suffix)
+        .adminPassword("1234")
+        .build();
+  }
+}
@@ -0,0 +1,196 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.api.domain.UploadedFile;
+import com.flow.api.service.BlockedExtensionService;
+import com.flow.api.domain.data.SpaceCreationResponse;
+import com.flow.api.repository.UploadedFileRepository;
+import com.flow.api.service.SpaceService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * NDJSON / CSV 스트리밍 내보내기 검증
+ *
+ * <p>DB 커서 배치 크기(500)보다 많은 행도 모두 한 줄씩 기록되고,
+ * CSV 는 쉼표/따옴표가 들어간 값을 올바르게 감싸고 수식으로 시작하는 값은 ' 를 붙여야 하며,
+ * 지원하지 않는 형식은 400 (BaseResponse 오류) 으로 거부해야 한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class StreamingExportTests {
+
+  private static final int FILES = 1200;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private SpaceService spaceService;
+
+  @Autowired
+  private UploadedFileRepository uploadedFileRepository;
+
+  @Autowired
+  private BlockedExtensionService blockedExtensionService;
+
+  @Test
+  void exportsFilesAsNdjsonAndCsv() throws Exception {
+    Long spaceId = createSpace().getSpace().getSpaceId();
+    List<UploadedFile> files = new ArrayList<>();
+    for (int i = 0; i < FILES; i++) {
+      String name = switch (i) {
+        case 0 -> "report, \"final\".txt";
+        case 1 -> "=HYPERLINK(\"x\").txt";
+        default -> "document-" + i + ".txt";
+      };
+      files.add(metadata(spaceId, name));
+    }
+    uploadedFileRepository.saveAll(files);
+
+    String[] ndjson = export("/api/uploaded-files/export?spaceId=" + spaceId).split("\n");
+    assertThat(ndjson).hasSize(FILES);
+    JsonNode first = objectMapper.readTree(ndjson[0]);
+    assertThat(first.get("spaceId").asLong()).isEqualTo(spaceId);
+    assertThat(first.has("uploaderName")).isTrue();
+
+    String[] csv = export("/api/uploaded-files/export?spaceId=" + spaceId + "&format=csv").split("\n");
+    assertThat(csv).hasSize(FILES + 1);
+    assertThat(csv[0]).isEqualTo("fileId,originalName,extension,fileSize,mimeType,createdAt,uploaderName");
+    assertThat(csv).anySatisfy(line -> assertThat(line).contains(",\"report, \"\"final\"\".txt\",txt,"));
+    // CSV injection: 수식 시작 문자 앞에 ' (NDJSON 은 원본 그대로)
+    assertThat(csv).anySatisfy(line -> assertThat(line).contains(",\"'=HYPERLINK(\"\"x\"\").txt\",txt,"));
+    assertThat(ndjson).anySatisfy(line -> assertThat(line).contains("\"originalName\":\"=HYPERLINK(\\\"x\\\").txt\""));
+  }
+
+  @Test
+  void exportsMembersWithoutPasswords() throws Exception {
+    SpaceCreationResponse space = createSpace();
+
+    String ndjson = export("/api/members/export?spaceId=" + space.getSpace().getSpaceId());
+    JsonNode admin = objectMapper.readTree(ndjson.trim());
+    assertThat(admin.get("username").asText()).isEqualTo(space.getAdminMember().getUsername());
+    assertThat(admin.has("password")).isFalse();
+
+    String csv = export("/api/members/export?spaceId=" + space.getSpace().getSpaceId() + "&format=csv");
+    assertThat(csv).isEqualTo("memberId,username,role,spaceId\n"
+        + space.getAdminMember().getMemberId() + "," + space.getAdminMember().getUsername() + ",ADMIN,"
+        + space.getSpace().getSpaceId() + "\n");
+  }
+
+  @Test
+  void exportsCustomExtensionsThroughStreamingExport() throws Exception {
+    SpaceCreationResponse space = createSpace();
+    Long spaceId = space.getSpace().getSpaceId();
+    blockedExtensionService.importCustomExtensions(
+        spaceId, space.getAdminMember().getMemberId(), List.of("sh", "php", "-x"));
+
+    String[] ndjson = export("/api/blocked-extensions/export?spaceId=" + spaceId).split("\n");
+    assertThat(ndjson).extracting(line -> objectMapper.readTree(line).get("extension").asText())
+        .containsExactly("-x", "php", "sh");
+
+    String csv = export("/api/blocked-extensions/export?spaceId=" + spaceId + "&format=CSV");
+    assertThat(csv).isEqualTo("extension\n'-x\nphp\nsh\n");
+  }
+
+  @Test
+  void csvExportRoundTripsThroughCsvImport() throws Exception {
+    SpaceCreationResponse source = createSpace();
+    blockedExtensionService.importCustomExtensions(source.getSpace().getSpaceId(),
+        source.getAdminMember().getMemberId(), List.of("-foo", "+bar", "php"));
+    String csv = export("/api/blocked-extensions/export?spaceId=" + source.getSpace().getSpaceId() + "&format=csv");
+    assertThat(csv).contains("'-foo", "'+bar");
+
+    // 수식 방지 ' 는 가져올 때 떼어내야 같은 확장자로 등록된다
+    SpaceCreationResponse target = createSpace();
+    Long targetId = target.getSpace().getSpaceId();
+    mockMvc.perform(post("/api/blocked-extensions/import")
+            .param("spaceId", targetId.toString())
+            .param("memberId", target.getAdminMember().getMemberId().toString())
+            .contentType("text/csv")
+            .content(csv))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.createdCount").value(3))
+        .andExpect(jsonPath("$.data.rejectedCount").value(0));
+
+    assertThat(export("/api/blocked-extensions/export?spaceId=" + targetId + "&format=csv")).isEqualTo(csv);
+  }
+
+  @Test
+  void csvImportSkipsOnlyLeadingHeader() throws Exception {
+    SpaceCreationResponse space = createSpace();
+    Long spaceId = space.getSpace().getSpaceId();
+    // 첫 줄 헤더만 제외하고, 뒤에 나오는 extension 은 확장자로 등록
+    mockMvc.perform(post("/api/blocked-extensions/import")
+            .param("spaceId", spaceId.toString())
+            .param("memberId", space.getAdminMember().getMemberId().toString())
+            .contentType("text/csv")
+            .content("extension\nphp\nextension\n"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.requestedCount").value(2))
+        .andExpect(jsonPath("$.data.createdCount").value(2));
+
+    assertThat(export("/api/blocked-extensions/export?spaceId=" + spaceId + "&format=csv"))
+        .isEqualTo("extension\nextension\nphp\n");
+  }
+
+  @Test
+  void rejectsUnknownFormat() throws Exception {
+    for (String url : List.of("/api/blocked-extensions/export?spaceId=1&format=json",
+        "/api/uploaded-files/export?spaceId=1&format=xml",
+        "/api/members/export?spaceId=1&format=tsv")) {
+      // 상태 코드는 스트리밍 시작 전(첫 디스패치)에 정해짐
+      MvcResult started = mockMvc.perform(get(url))
+          .andExpect(request().asyncStarted())
+          .andExpect(status().isBadRequest())
+          .andReturn();
+      mockMvc.perform(asyncDispatch(started))
+          .andExpect(jsonPath("$.errorCode").value("EXPORT_FORMAT_INVALID"));
+    }
+  }
+
+  private String export(String url) throws Exception {
+    MvcResult started = mockMvc.perform(get(url)).andExpect(request().asyncStarted()).andReturn();
+    MvcResult result = mockMvc.perform(asyncDispatch(started)).andReturn();
+    return result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+  }
+
+  private SpaceCreationResponse createSpace() {
+    return TestSpaces.create(spaceService, "export");
+  }
+
+  private UploadedFile metadata(Long spaceId, String originalName) {
+    String storedName = UUID.randomUUID() + ".txt";
+    return UploadedFile.builder()
+        .spaceId(spaceId)
+        .originalName(originalName)
+        .storedName(storedName)
+        .extension("txt")
+        .fileSize(12L)
+        .mimeType("text/plain")
+        .filePath("/tmp/" + storedName)
+        .build();
+  }
+}
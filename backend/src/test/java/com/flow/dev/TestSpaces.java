@@ -0,0 +1,29 @@
+package com.flow.dev;
+
+import com.flow.api.domain.data.SpaceCreationRequest;
+import com.flow.api.domain.data.SpaceCreationResponse;
+import com.flow.api.service.SpaceService;
+
+/**
+ * 테스트용 Space + 관리자 생성
+ *
+ * <p>테스트 클래스끼리 컨텍스트(DB)를 공유하므로 공간명 / 사용자명에 nanoTime 을 붙여 겹치지 않게 한다.
+ */
+final class TestSpaces {
+
+  private TestSpaces() {
+  }
+
+  /**
+   * @param prefix 공간명 접두어 (공간명: prefix-{nanoTime}, 관리자: admin-{nanoTime})
+   */
+  static SpaceCreationResponse create(SpaceService spaceService, String prefix) {
+    String suffix = "-" + System.nanoTime();
+    return spaceService.createSpaceWithAdmin(SpaceCreationRequest.builder()
+        .spaceName(prefix + suffix)
+        .description(prefix + " test")
+        .adminUsername("admin" + suffix)
+        .adminPassword("1234")
+        .build());
+  }
+}
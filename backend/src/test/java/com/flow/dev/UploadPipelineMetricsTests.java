@@ -0,0 +1,113 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.flow.api.domain.BlockedExtension;
+import com.flow.api.repository.BlockedExtensionRepository;
+import com.flow.api.service.SpaceService;
+import com.flow.api.service.impl.UploadPipelineMetrics;
+import com.woo.core.util.timing.ServerTiming;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.io.InputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * 업로드 방어 단계별 메트릭 / Server-Timing 검증
+ *
+ * <p>통과한 업로드는 모든 단계의 시간이 기록되고, 차단된 업로드는 차단한 단계까지만 기록되며
+ * 차단 사유와 공간이 태그된 거부 Counter 가 증가해야 한다.
+ */
+@SpringBootTest(properties = "file.upload.directory=${java.io.tmpdir}/upload-pipeline-metrics-tests")
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class UploadPipelineMetricsTests {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private SpaceService spaceService;
+
+  @Autowired
+  private BlockedExtensionRepository blockedExtensionRepository;
+
+  private Long spaceId;
+
+  @BeforeEach
+  void createSpace() {
+    spaceId = TestSpaces.create(spaceService, "metrics").getSpace().getSpaceId();
+    blockedExtensionRepository.save(BlockedExtension.builder()
+        .spaceId(spaceId)
+        .extension("php")
+        .isFixed(false)
+        .isDeleted(false)
+        .build());
+  }
+
+  @Test
+  void acceptedUploadReportsEveryStage() throws Exception {
+    double storedBytes = bytes(UploadPipelineMetrics.STORE);
+
+    MvcResult result = upload("1-normal/document.txt", "document.txt");
+
+    assertThat(result.getResponse().getStatus()).isEqualTo(200);
+    assertThat(result.getResponse().getHeader(ServerTiming.HEADER))
+        .matches("policy;dur=[0-9.]+, extension;dur=[0-9.]+, mime;dur=[0-9.]+, "
+            + "store;dur=[0-9.]+, persist;dur=[0-9.]+, total;dur=[0-9.]+");
+    assertThat(meterRegistry.get(UploadPipelineMetrics.STAGE_TIMER)
+        .tags("stage", UploadPipelineMetrics.PERSIST, "outcome", "pass").timer().count()).isPositive();
+    assertThat(bytes(UploadPipelineMetrics.STORE) - storedBytes).isEqualTo(350);
+  }
+
+  @Test
+  void rejectedUploadsAreCountedByStageReasonAndSpace() throws Exception {
+    MvcResult blocked = upload("2-blocked-ext/hack.php", "hack.php");
+    MvcResult bomb = upload("4-archive/zipbomb.zip", "zipbomb.zip");
+
+    assertThat(blocked.getResponse().getStatus()).isEqualTo(400);
+    assertThat(blocked.getResponse().getHeader(ServerTiming.HEADER))
+        .startsWith("policy;dur=").contains("extension;dur=").doesNotContain("mime", "total");
+    assertThat(rejects(UploadPipelineMetrics.EXTENSION, "blocked_extension")).isEqualTo(1);
+
+    assertThat(bomb.getResponse().getStatus()).isEqualTo(400);
+    assertThat(bomb.getResponse().getHeader(ServerTiming.HEADER)).contains("archive;dur=");
+    assertThat(rejects(UploadPipelineMetrics.ARCHIVE, "zip_bomb")).isEqualTo(1);
+    assertThat(meterRegistry.get(UploadPipelineMetrics.STAGE_TIMER)
+        .tags("stage", UploadPipelineMetrics.ARCHIVE, "outcome", "reject").timer().count()).isPositive();
+  }
+
+  private MvcResult upload(String resource, String filename) throws Exception {
+    byte[] content;
+    try (InputStream in = getClass().getResourceAsStream("/test-files/" + resource)) {
+      content = in.readAllBytes();
+    }
+    return mockMvc.perform(multipart("/api/uploaded-files/upload")
+            .file(new MockMultipartFile("file", filename, "application/octet-stream", content))
+            .param("spaceId", spaceId.toString()))
+        .andReturn();
+  }
+
+  private double rejects(String stage, String reason) {
+    return meterRegistry.get(UploadPipelineMetrics.REJECTS)
+        .tags("stage", stage, "reason", reason, "space", spaceId.toString())
+        .counter().count();
+  }
+
+  private double bytes(String stage) {
+    var counter = meterRegistry.find(UploadPipelineMetrics.STAGE_BYTES).tags("stage", stage).counter();
+    return counter == null ? 0 : counter.count();
+  }
+}
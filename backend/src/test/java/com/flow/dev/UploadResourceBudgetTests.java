@@ -0,0 +1,176 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flow.api.domain.BlockedExtension;
+import com.flow.api.repository.BlockedExtensionRepository;
+import com.flow.api.service.SpaceService;
+import com.flow.api.service.UploadedFileService;
+import com.flow.api.service.impl.UploadPipelineMetrics;
+import com.flow.util.fileDefence.UploadRejectedException;
+import com.sun.management.ThreadMXBean;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * 업로드 단계별 할당 바이트 / CPU 시간 예산 검증 (perf/upload-budgets.properties)
+ *
+ * <p>고정 코퍼스의 파일마다 워밍업 후 여러 번 업로드하고, 업로드 1건당 단계별 평균
+ * (upload.stage.allocated / upload.stage.cpu, ThreadMXBean 스레드별 카운터)과 전체 값을 예산과 비교한다.
+ * 서비스를 테스트 스레드에서 직접 호출하므로 모든 단계가 같은 스레드에서 측정된다.
+ *
+ * <p>예산 파일에 없는 단계가 실행되거나, 예산이 있는 단계가 실행되지 않아도 실패한다.
+ * 실패 메시지에 측정값 전체를 예산 파일 형식으로 출력하므로 의도한 변경이면 보고 갱신한다.
+ */
+@SpringBootTest(properties = {
+    "file.upload.directory=${java.io.tmpdir}/upload-resource-budget-tests",
+    "file.upload.stage-resources.enabled=true"
+})
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class UploadResourceBudgetTests {
+
+  private static final List<String> CORPUS = List.of(
+      "1-normal/document.txt",
+      "1-normal/data.json",
+      "2-blocked-ext/hack.php",
+      "3-disguised/fake-image.jpg",
+      "4-archive/normal.zip");
+
+  private static final int WARMUP_UPLOADS = 20;
+  private static final int MEASURED_UPLOADS = 20;
+  private static final String TOTAL = "total";
+
+  private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  @Autowired
+  private UploadedFileService uploadedFileService;
+
+  @Autowired
+  private SpaceService spaceService;
+
+  @Autowired
+  private BlockedExtensionRepository blockedExtensionRepository;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void uploadStagesStayWithinBudget() throws Exception {
+    Properties budgets = new Properties();
+    try (InputStream in = getClass().getResourceAsStream("/perf/upload-budgets.properties")) {
+      budgets.load(in);
+    }
+    Long spaceId = createSpace();
+
+    // 키: 파일명.단계.allocated-bytes / 파일명.단계.cpu-micros (정렬된 순서로 비교 / 출력)
+    Map<String, Long> measured = new TreeMap<>();
+    for (String resource : CORPUS) {
+      String filename = resource.substring(resource.indexOf('/') + 1);
+      byte[] content;
+      try (InputStream in = getClass().getResourceAsStream("/test-files/" + resource)) {
+        content = in.readAllBytes();
+      }
+      for (int i = 0; i < WARMUP_UPLOADS; i++) {
+        upload(spaceId, filename, content);
+      }
+
+      Map<String, Usage> before = stageUsage();
+      long allocated = 0;
+      long cpuNanos = 0;
+      for (int i = 0; i < MEASURED_UPLOADS; i++) {
+        long allocatedStart = THREADS.getCurrentThreadAllocatedBytes();
+        long cpuStart = THREADS.getCurrentThreadCpuTime();
+        upload(spaceId, filename, content);
+        cpuNanos += THREADS.getCurrentThreadCpuTime() - cpuStart;
+        allocated += THREADS.getCurrentThreadAllocatedBytes() - allocatedStart;
+      }
+      stageUsage().forEach((stage, after) -> {
+        Usage delta = after.minus(before.getOrDefault(stage, Usage.NONE));
+        if (delta.count() > 0) {
+          put(measured, filename, stage, delta.allocatedBytes() / delta.count(), delta.cpuNanos() / delta.count());
+        }
+      });
+      put(measured, filename, TOTAL, allocated / MEASURED_UPLOADS, cpuNanos / MEASURED_UPLOADS);
+    }
+
+    List<String> violations = new ArrayList<>();
+    measured.forEach((key, value) -> {
+      String budget = budgets.getProperty(key);
+      if (budget == null) {
+        violations.add(key + ": 예산 없음 (측정 " + value + ")");
+      } else if (value > Long.parseLong(budget.trim())) {
+        violations.add(key + ": 측정 " + value + " > 예산 " + budget.trim());
+      }
+    });
+    budgets.stringPropertyNames().stream()
+        .filter(key -> !measured.containsKey(key))
+        .sorted()
+        .forEach(key -> violations.add(key + ": 예산은 있으나 실행되지 않은 단계"));
+
+    StringBuilder table = new StringBuilder();
+    measured.forEach((key, value) -> table.append('\n').append(key).append('=').append(value));
+    assertThat(violations).as("업로드 단계 예산 초과. 측정값:%s", table).isEmpty();
+  }
+
+  private void upload(Long spaceId, String filename, byte[] content) {
+    try {
+      uploadedFileService.uploadFile(spaceId,
+          new MockMultipartFile("file", filename, "application/octet-stream", content));
+    } catch (UploadRejectedException e) {
+      // 차단되는 코퍼스 파일은 차단까지의 단계만 측정
+    }
+  }
+
+  private Long createSpace() {
+    Long spaceId = TestSpaces.create(spaceService, "budget").getSpace().getSpaceId();
+    blockedExtensionRepository.save(BlockedExtension.builder()
+        .spaceId(spaceId)
+        .extension("php")
+        .isFixed(false)
+        .isDeleted(false)
+        .build());
+    return spaceId;
+  }
+
+  /** 단계별 누적값 (할당 DistributionSummary + CPU Timer) */
+  private Map<String, Usage> stageUsage() {
+    Map<String, Usage> usage = new TreeMap<>();
+    for (DistributionSummary summary : meterRegistry.find(UploadPipelineMetrics.STAGE_ALLOCATED).summaries()) {
+      String stage = summary.getId().getTag("stage");
+      Timer cpu = meterRegistry.get(UploadPipelineMetrics.STAGE_CPU).tags("stage", stage).timer();
+      usage.put(stage, new Usage(summary.count(), (long) summary.totalAmount(),
+          (long) cpu.totalTime(TimeUnit.NANOSECONDS)));
+    }
+    return usage;
+  }
+
+  private static void put(Map<String, Long> measured, String filename, String stage, long allocatedBytes,
+      long cpuNanos) {
+    measured.put(filename + "." + stage + ".allocated-bytes", allocatedBytes);
+    measured.put(filename + "." + stage + ".cpu-micros", TimeUnit.NANOSECONDS.toMicros(cpuNanos));
+  }
+
+  private record Usage(long count, long allocatedBytes, long cpuNanos) {
+
+    static final Usage NONE = new Usage(0, 0, 0);
+
+    Usage minus(Usage before) {
+      return new Usage(count - before.count(), allocatedBytes - before.allocatedBytes(),
+          cpuNanos - before.cpuNanos());
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.flow.api.domain.UploadedFile;
+import com.flow.api.repository.UploadedFileRepository;
+import com.flow.api.service.SpaceService;
+import com.flow.api.service.UploadedFileService;
+import com.flow.api.service.impl.UploadedFileBatchWriter;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 업로드 메타데이터 그룹 커밋 검증
+ *
+ * <p>동시에 들어온 저장 요청은 적은 수의 트랜잭션으로 묶여 커밋되고,
+ * 각 요청은 커밋 후 ID 가 할당된 결과를 받아야 한다.
+ * 대기 시간이 지나 예외를 받은 요청의 메타데이터는 뒤늦게 저장되지 않아야 한다.
+ * 메타데이터 저장에 실패한 업로드는 디스크에 저장한 파일도 남기지 않아야 한다.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "file.upload.group-commit.enabled=true",
+    "file.upload.group-commit.max-delay-ms=50",
+    "file.upload.directory=${java.io.tmpdir}/group-commit-tests"
+})
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class UploadedFileGroupCommitTests {
+
+  private static final int UPLOADS = 40;
+
+  @Autowired
+  private UploadedFileBatchWriter uploadedFileBatchWriter;
+
+  @Autowired
+  private UploadedFileRepository uploadedFileRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private SpaceService spaceService;
+
+  @Autowired
+  private UploadedFileService uploadedFileService;
+
+  @Value("${file.upload.directory}")
+  private String uploadDirectory;
+
+  @Test
+  void concurrentSavesAreGroupedIntoFewTransactions() throws Exception {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    ExecutorService executor = Executors.newFixedThreadPool(UPLOADS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<UploadedFile>> futures = new ArrayList<>();
+    try {
+      for (int i = 0; i < UPLOADS; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return uploadedFileBatchWriter.save(metadata());
+        }));
+      }
+      start.countDown();
+
+      List<Long> ids = new ArrayList<>();
+      for (Future<UploadedFile> future : futures) {
+        ids.add(future.get(30, TimeUnit.SECONDS).getFileId());
+      }
+
+      assertThat(ids).doesNotContainNull().doesNotHaveDuplicates();
+      assertThat(uploadedFileRepository.findAllById(ids)).hasSize(UPLOADS);
+      assertThat(statistics.getEntityInsertCount()).isEqualTo(UPLOADS);
+      // 건별 커밋이면 UPLOADS 번, 그룹 커밋이면 소수의 트랜잭션
+      assertThat(statistics.getSuccessfulTransactionCount()).isBetween(1L, (long) UPLOADS / 4);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void timedOutSaveIsNotCommittedLater() throws Exception {
+    // 배치를 300ms 동안 모으는 동안 요청은 1ms 만에 대기 시간 초과
+    UploadedFileBatchWriter writer =
+        new UploadedFileBatchWriter(uploadedFileRepository, transactionManager, true, 100, 300, 10, 1);
+    writer.start();
+    try {
+      UploadedFile file = metadata();
+      assertThatThrownBy(() -> writer.save(file))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("시간 초과");
+
+      Thread.sleep(600);
+      assertThat(jdbcTemplate.queryForObject(
+          "SELECT count(*) FROM uploaded_file WHERE stored_name = ?", Long.class, file.getStoredName()))
+          .isZero();
+    } finally {
+      writer.stop();
+    }
+  }
+
+  @Test
+  void failedPersistDeletesStoredFile() throws Exception {
+    Long spaceId = TestSpaces.create(spaceService, "group-commit").getSpace().getSpaceId();
+    // mime_type 은 varchar(100) 이라 검증 / 디스크 저장은 통과하고 배치 INSERT 에서만 실패
+    MockMultipartFile file = new MockMultipartFile("file", "persist-failure.txt",
+        "text/plain; x=" + "a".repeat(120), ("persist failure " + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+
+    assertThatThrownBy(() -> uploadedFileService.uploadFile(spaceId, file))
+        .isInstanceOf(RuntimeException.class);
+
+    // 임시 디렉토리는 실행 간에 남으므로 디렉토리가 비었는지 대신 이번 업로드 내용(UUID 포함)으로 확인
+    Path spacePath = Paths.get(uploadDirectory, spaceId.toString());
+    assertThat(spacePath).isDirectory();
+    byte[] content = file.getBytes();
+    try (Stream<Path> stored = Files.list(spacePath)) {
+      assertThat(stored).noneMatch(path -> sameContent(path, content));
+    }
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM uploaded_file WHERE original_name = ?", Long.class, file.getOriginalFilename()))
+        .isZero();
+  }
+
+  private static boolean sameContent(Path path, byte[] content) {
+    try {
+      return Arrays.equals(Files.readAllBytes(path), content);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private UploadedFile metadata() {
+    String storedName = UUID.randomUUID() + ".txt";
+    return UploadedFile.builder()
+        .spaceId(1L)
+        .originalName("document.txt")
+        .storedName(storedName)
+        .extension("txt")
+        .fileSize(12L)
+        .mimeType("text/plain")
+        .filePath("/tmp/" + storedName)
+        .build();
+  }
+}
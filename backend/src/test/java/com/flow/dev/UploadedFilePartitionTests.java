@@ -0,0 +1,153 @@
+package com.flow.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flow.api.domain.UploadedFile;
+import com.flow.api.domain.data.UploadedFileDto;
+import com.flow.api.repository.UploadedFileRepository;
+import com.flow.api.service.UploadedFilePartitionService;
+import com.flow.api.service.UploadedFileService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * uploaded_file 월 파티션 검증
+ *
+ * <p>Hibernate 가 만든 일반 테이블을 init.sql 과 같은 파티션 테이블로 교체한 뒤,
+ * 파티션 생성 / 보존 기간 하한 조회(프루닝) / 만료 파티션 삭제를 확인한다.
+ */
+@SpringBootTest(properties = {
+    "file.partition.premake-months=2",
+    "file.partition.retention-months=12"
+})
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class UploadedFilePartitionTests {
+
+  private static final Long SPACE_ID = 7L;
+
+  @Autowired
+  private UploadedFilePartitionService uploadedFilePartitionService;
+
+  @Autowired
+  private UploadedFileService uploadedFileService;
+
+  @Autowired
+  private UploadedFileRepository uploadedFileRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void convertToPartitionedTable() {
+    if (uploadedFilePartitionService.isPartitioned()) {
+      return;
+    }
+    jdbcTemplate.execute("CREATE TABLE uploaded_file_p (LIKE uploaded_file INCLUDING DEFAULTS) PARTITION BY RANGE (created_at)");
+    jdbcTemplate.execute("DROP TABLE uploaded_file");
+    jdbcTemplate.execute("ALTER TABLE uploaded_file_p RENAME TO uploaded_file");
+    jdbcTemplate.execute("ALTER TABLE uploaded_file ADD PRIMARY KEY (file_id, created_at)");
+    jdbcTemplate.execute("ALTER TABLE uploaded_file ADD CONSTRAINT uq_uploaded_file_stored_name UNIQUE (stored_name, created_at)");
+    jdbcTemplate.execute("CREATE TABLE uploaded_file_default PARTITION OF uploaded_file DEFAULT");
+  }
+
+  @Test
+  void monthlyPartitionsAreCreatedAheadAndReceiveRows() {
+    uploadedFilePartitionService.ensurePartitions();
+
+    YearMonth current = YearMonth.now();
+    assertThat(partitions()).contains(partitionName(current), partitionName(current.plusMonths(2)));
+
+    UploadedFile saved = uploadedFileRepository.save(metadata("/tmp/" + UUID.randomUUID()));
+    String partition = jdbcTemplate.queryForObject(
+        "SELECT tableoid::regclass::text FROM uploaded_file WHERE file_id = ?", String.class, saved.getFileId());
+    assertThat(partition).isEqualTo(partitionName(current));
+
+    List<UploadedFileDto> files = uploadedFileService.getFilesBySpaceWithUploader(SPACE_ID, null);
+    assertThat(files).extracting(UploadedFileDto::getFileId).contains(saved.getFileId());
+    assertThat(uploadedFileService.countFilesBySpace(SPACE_ID, LocalDateTime.now().plusDays(1))).isZero();
+  }
+
+  @Test
+  void expiredPartitionIsPrunedFromQueriesAndDroppedWithStoredFiles() throws Exception {
+    YearMonth expired = YearMonth.now().minusYears(2);
+    String expiredPartition = partitionName(expired);
+    jdbcTemplate.execute(String.format(
+        "CREATE TABLE %s PARTITION OF uploaded_file FOR VALUES FROM ('%s') TO ('%s')",
+        expiredPartition, expired.atDay(1), expired.plusMonths(1).atDay(1)));
+
+    Path storedFile = Files.createTempFile("partition-", ".txt");
+    // created_at 은 Auditing 이 현재 시각으로 채우므로 과거 행은 직접 INSERT
+    LocalDateTime createdAt = expired.atDay(10).atStartOfDay();
+    jdbcTemplate.update(
+        "INSERT INTO uploaded_file (file_id, space_id, original_name, stored_name, extension, file_size, file_path, "
+            + "created_at, updated_at, is_deleted) "
+            + "VALUES (nextval('uploaded_file_file_id_seq'), ?, 'old.txt', ?, 'txt', 12, ?, ?, ?, false)",
+        SPACE_ID, UUID.randomUUID() + ".txt", storedFile.toString(), createdAt, createdAt);
+
+    // 보존 기간 하한이 있는 조회는 만료 파티션을 읽지 않음
+    List<String> plan = jdbcTemplate.queryForList(
+        "EXPLAIN SELECT * FROM uploaded_file WHERE space_id = ? AND is_deleted = false AND created_at >= ?",
+        String.class, SPACE_ID, uploadedFilePartitionService.retainedSince());
+    assertThat(String.join("\n", plan)).doesNotContain(expiredPartition);
+
+    List<String> dropped = uploadedFilePartitionService.dropExpiredPartitions();
+
+    assertThat(dropped).contains(expiredPartition);
+    assertThat(partitions()).doesNotContain(expiredPartition);
+    assertThat(storedFile).doesNotExist();
+  }
+
+  @Test
+  void partitionLeftDetachedByFailedRunIsDroppedOnNextRun() throws Exception {
+    // DETACH 후 파일 삭제 / DROP 전에 실패해 분리된 채 남은 만료 파티션
+    YearMonth expired = YearMonth.now().minusYears(3);
+    String leftover = partitionName(expired);
+    jdbcTemplate.execute(String.format("CREATE TABLE %s (LIKE uploaded_file INCLUDING DEFAULTS)", leftover));
+    Path storedFile = Files.createTempFile("partition-leftover-", ".txt");
+    LocalDateTime createdAt = expired.atDay(3).atStartOfDay();
+    jdbcTemplate.update(
+        "INSERT INTO " + leftover + " (file_id, space_id, original_name, stored_name, extension, file_size, file_path, "
+            + "created_at, updated_at, is_deleted) "
+            + "VALUES (nextval('uploaded_file_file_id_seq'), ?, 'old.txt', ?, 'txt', 12, ?, ?, ?, false)",
+        SPACE_ID, UUID.randomUUID() + ".txt", storedFile.toString(), createdAt, createdAt);
+
+    List<String> dropped = uploadedFilePartitionService.dropExpiredPartitions();
+
+    assertThat(dropped).contains(leftover);
+    assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NULL", Boolean.class, leftover)).isTrue();
+    assertThat(storedFile).doesNotExist();
+  }
+
+  private List<String> partitions() {
+    return jdbcTemplate.queryForList(
+        "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+            + "WHERE i.inhparent = 'uploaded_file'::regclass",
+        String.class);
+  }
+
+  private static String partitionName(YearMonth month) {
+    return String.format("uploaded_file_y%04dm%02d", month.getYear(), month.getMonthValue());
+  }
+
+  private UploadedFile metadata(String filePath) {
+    return UploadedFile.builder()
+        .spaceId(SPACE_ID)
+        .originalName("document.txt")
+        .storedName(UUID.randomUUID() + ".txt")
+        .extension("txt")
+        .fileSize(12L)
+        .mimeType("text/plain")
+        .filePath(filePath)
+        .build();
+  }
+}
@@ -11,36 +11,69 @@ export default function LogsMonitorPage() {
   const logContainerRef = useRef(null);
   const intervalRef = useRef(null);
 
-  // 로그 파일 조회
+  // 다음 증분 조회 위치 (/api/logs/tail 응답의 offset / fileKey)
+  const tailRef = useRef(null);
+
+  // 자동으로 맨 아래로 스크롤
+  const scrollToBottom = () => {
+    setTimeout(() => {
+      if (logContainerRef.current) {
+        logContainerRef.current.scrollTop = logContainerRef.current.scrollHeight;
+      }
+    }, 100);
+  };
+
+  // 로그 파일 조회 (최근 N줄)
   const loadLogs = async () => {
     try {
       setLoading(true);
-      const { data } = await api.get(`/api/logs/file?lines=${logLines}`);
+      const { data } = await api.get(`/api/logs/tail?lines=${logLines}`);
       
       // BaseResponse에서 data 추출
-      setLogContent(data || '로그가 없습니다.');
-      
-      // 자동으로 맨 아래로 스크롤
-      setTimeout(() => {
-        if (logContainerRef.current) {
-          logContainerRef.current.scrollTop = logContainerRef.current.scrollHeight;
-        }
-      }, 100);
+      setLogContent(data?.content || '로그가 없습니다.');
+      tailRef.current = data ? { offset: data.offset, fileKey: data.fileKey } : null;
+      scrollToBottom();
       
     } catch (error) {
       console.error('로그 조회 실패:', error);
       const errorMsg = error.errorDetail || error.message || '로그 조회 실패';
       setLogContent(`로그 파일을 불러오는데 실패했습니다.\n\n${errorMsg}`);
+      tailRef.current = null;
     } finally {
       setLoading(false);
     }
   };
 
+  // 자동 새로고침: 이전 조회 이후 추가된 줄만 받아서 뒤에 붙임
+  const pollLogs = async () => {
+    if (!tailRef.current?.fileKey) {
+      return loadLogs();
+    }
+    try {
+      const { offset, fileKey } = tailRef.current;
+      const { data } = await api.get(
+        `/api/logs/tail?offset=${offset}&fileKey=${encodeURIComponent(fileKey)}`
+      );
+      tailRef.current = { offset: data.offset, fileKey: data.fileKey };
+      if (!data.content) {
+        return;
+      }
+      setLogContent((prev) => {
+        const base = prev === '로그가 없습니다.' ? '' : prev;
+        const lines = (base + data.content).split('\n');
+        return lines.slice(Math.max(0, lines.length - logLines - 1)).join('\n');
+      });
+      scrollToBottom();
+    } catch (error) {
+      console.error('로그 조회 실패:', error);
+    }
+  };
+
   // 자동 새로고침 설정
   useEffect(() => {
     if (autoRefresh) {
       loadLogs();
-      intervalRef.current = setInterval(loadLogs, 3000); // 3초마다 갱신
+      intervalRef.current = setInterval(pollLogs, 3000); // 3초마다 추가된 줄만 조회
     } else {
       if (intervalRef.current) {
         clearInterval(intervalRef.current);
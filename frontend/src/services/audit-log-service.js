@@ -5,7 +5,7 @@ export const auditLogService = {
    * 최근 감사 로그 조회
    */
   getRecentLogs: async (limit = 100) => {
-    const response = await api.get(`/audit-logs/recent?limit=${limit}`);
+    const response = await api.get(`/api/audit-logs/recent?limit=${limit}`);
     return response.data;
   },
 
@@ -13,7 +13,7 @@ export const auditLogService = {
    * 공간별 감사 로그 조회
    */
   getLogsBySpace: async (spaceId, limit = 100) => {
-    const response = await api.get(`/audit-logs/space/${spaceId}?limit=${limit}`);
+    const response = await api.get(`/api/audit-logs/space/${spaceId}?limit=${limit}`);
     return response.data;
   },
 
@@ -21,25 +21,33 @@ export const auditLogService = {
    * 시간 기준 감사 로그 조회
    */
   getLogsSince: async (since, limit = 100) => {
-    const response = await api.get(`/audit-logs/since?since=${since}&limit=${limit}`);
+    const response = await api.get(`/api/audit-logs/since?since=${encodeURIComponent(since)}&limit=${limit}`);
     return response.data;
   },
 
   /**
    * SSE 스트림 연결
+   * - 'log' 이벤트: 로그 이벤트 JSON 배열 (묶음 전송)
+   * - 'dropped' 이벤트: 전송이 밀려 버려진 건수
+   * @param {string} level 최소 레벨 (DEBUG / INFO / WARN / ERROR)
+   * @param {number} spaceId 공간 ID (해당 공간 요청의 로그만)
    */
-  connectToLogStream: () => {
+  connectToLogStream: (level = 'DEBUG', spaceId = null) => {
     const isLocal = window.location.hostname === 'localhost' || window.location.hostname === '127.0.0.1';
     const baseURL = import.meta.env.VITE_API_BASE_URL || 
       (isLocal ? 'http://localhost:8800' : 'https://hilton-roseolar-pauselessly.ngrok-free.dev');
-    return new EventSource(`${baseURL}/api/logs/stream`);
+    const params = new URLSearchParams({ level });
+    if (spaceId != null) {
+      params.append('spaceId', spaceId);
+    }
+    return new EventSource(`${baseURL}/api/logs/stream?${params}`);
   },
 
   /**
    * 로그 파일 내용 조회
    */
   getLogFile: async (lines = 100) => {
-    const response = await api.get(`/logs/file?lines=${lines}`);
+    const response = await api.get(`/api/logs/file?lines=${lines}`);
     return response.data;
   },
 };